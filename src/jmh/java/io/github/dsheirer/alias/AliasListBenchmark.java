@@ -0,0 +1,216 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.alias;
+
+import io.github.dsheirer.alias.id.talkgroup.Talkgroup;
+import io.github.dsheirer.alias.id.talkgroup.TalkgroupRange;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.identifier.IdentifierCollection;
+import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
+import io.github.dsheirer.protocol.Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alias lookup for a 50,000 alias playlist, similar to a large RadioReference import: 45,000 single talkgroup aliases
+ * and 5,000 talkgroup range aliases.  Lookups are an even mix of exact talkgroup matches, range matches and misses.
+ *
+ * The linear range scan benchmark repeats the lookup with the previous talkgroup range map scan for comparison, and
+ * the load benchmark measures building the alias list, including range overlap detection.  The audio segment
+ * benchmark resolves the streamable, recordable, priority and broadcast channel settings for a set of identifier
+ * collections, as is done for each audio segment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AliasListBenchmark
+{
+    private static final int TALKGROUP_ALIAS_COUNT = 45_000;
+    private static final int RANGE_ALIAS_COUNT = 5_000;
+    private static final int RANGE_START = 100_000;
+    private static final int RANGE_SPACING = 20;
+    private static final int RANGE_WIDTH = 10;
+    private static final int LOOKUP_COUNT = 1024;
+
+    private Alias[] mAliases;
+    private AliasList mAliasList;
+    private Map<TalkgroupRange,Alias> mRangeMap = new HashMap<>();
+    private Map<Integer,Alias> mTalkgroupMap = new HashMap<>();
+    private Identifier[] mIdentifiers = new Identifier[LOOKUP_COUNT];
+    private int[] mValues = new int[LOOKUP_COUNT];
+    private IdentifierCollection[] mIdentifierCollections = new IdentifierCollection[LOOKUP_COUNT / 4];
+
+    @Setup
+    public void setup()
+    {
+        mAliases = createAliases();
+        mAliasList = createAliasList();
+
+        for(Alias alias: mAliases)
+        {
+            if(alias.getAliasIdentifiers().get(0) instanceof TalkgroupRange range)
+            {
+                mRangeMap.put(range, alias);
+            }
+            else
+            {
+                mTalkgroupMap.put(((Talkgroup)alias.getAliasIdentifiers().get(0)).getValue(), alias);
+            }
+        }
+
+        Random random = new Random(1);
+
+        for(int x = 0; x < LOOKUP_COUNT; x++)
+        {
+            int value = switch(x % 3)
+            {
+                case 0 -> 1 + random.nextInt(TALKGROUP_ALIAS_COUNT);
+                case 1 -> RANGE_START + random.nextInt(RANGE_ALIAS_COUNT) * RANGE_SPACING + random.nextInt(RANGE_WIDTH);
+                default -> RANGE_START + random.nextInt(RANGE_ALIAS_COUNT) * RANGE_SPACING + RANGE_WIDTH +
+                    random.nextInt(RANGE_SPACING - RANGE_WIDTH);
+            };
+
+            mValues[x] = value;
+            mIdentifiers[x] = APCO25Talkgroup.create(value);
+        }
+
+        for(int x = 0; x < mIdentifierCollections.length; x++)
+        {
+            List<Identifier> identifiers = new ArrayList<>();
+
+            for(int y = 0; y < 4; y++)
+            {
+                identifiers.add(mIdentifiers[x * 4 + y]);
+            }
+
+            mIdentifierCollections[x] = new IdentifierCollection(identifiers);
+        }
+    }
+
+    private static Alias[] createAliases()
+    {
+        Alias[] aliases = new Alias[TALKGROUP_ALIAS_COUNT + RANGE_ALIAS_COUNT];
+
+        for(int x = 0; x < TALKGROUP_ALIAS_COUNT; x++)
+        {
+            aliases[x] = new Alias("Talkgroup " + (x + 1));
+            aliases[x].addAliasID(new Talkgroup(Protocol.APCO25, x + 1));
+        }
+
+        for(int x = 0; x < RANGE_ALIAS_COUNT; x++)
+        {
+            int min = RANGE_START + x * RANGE_SPACING;
+            Alias alias = new Alias("Range " + x);
+            alias.addAliasID(new TalkgroupRange(Protocol.APCO25, min, min + RANGE_WIDTH - 1));
+            aliases[TALKGROUP_ALIAS_COUNT + x] = alias;
+        }
+
+        return aliases;
+    }
+
+    private AliasList createAliasList()
+    {
+        AliasList aliasList = new AliasList("Benchmark");
+
+        for(Alias alias: mAliases)
+        {
+            aliasList.addAlias(alias);
+        }
+
+        return aliasList;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void getAliases(Blackhole blackhole)
+    {
+        for(Identifier identifier: mIdentifiers)
+        {
+            blackhole.consume(mAliasList.getAliases(identifier));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void linearRangeScan(Blackhole blackhole)
+    {
+        for(int value: mValues)
+        {
+            Alias alias = mTalkgroupMap.get(value);
+
+            if(alias == null)
+            {
+                for(Map.Entry<TalkgroupRange,Alias> entry: mRangeMap.entrySet())
+                {
+                    if(entry.getKey().contains(value))
+                    {
+                        alias = entry.getValue();
+                        break;
+                    }
+                }
+            }
+
+            blackhole.consume(alias);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT / 4)
+    public void audioSegment(Blackhole blackhole)
+    {
+        for(IdentifierCollection identifierCollection: mIdentifierCollections)
+        {
+            blackhole.consume(mAliasList.isStreamable(identifierCollection));
+            blackhole.consume(mAliasList.isRecordable(identifierCollection));
+            blackhole.consume(mAliasList.getAudioPlaybackPriority(identifierCollection));
+            blackhole.consume(mAliasList.getBroadcastChannels(identifierCollection));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public AliasList load()
+    {
+        return createAliasList();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares field extraction from newly received 96-bit TSBK messages, using the fields of a group voice channel grant,
+ * for the original bit at a time extraction, bit position arrays and precompiled field descriptors.  Each message is
+ * copied before parsing so that the word-aligned copy of the message bits is created for every message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryMessageBenchmark
+{
+    private static final int MESSAGE_COUNT = 1024;
+
+    private static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
+    private static final int[] FREQUENCY_BAND = {24, 25, 26, 27};
+    private static final int[] CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
+    private static final int[] GROUP_ADDRESS = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
+    private static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
+        74, 75, 76, 77, 78, 79};
+
+    private static final IntField SERVICE_OPTIONS_FIELD = IntField.range(16, 23);
+    private static final IntField FREQUENCY_BAND_FIELD = IntField.range(24, 27);
+    private static final IntField CHANNEL_NUMBER_FIELD = IntField.range(28, 39);
+    private static final IntField GROUP_ADDRESS_FIELD = IntField.range(40, 55);
+    private static final IntField SOURCE_ADDRESS_FIELD = IntField.range(56, 79);
+
+    private CorrectedBinaryMessage[] mMessages = new CorrectedBinaryMessage[MESSAGE_COUNT];
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(1);
+
+        for(int x = 0; x < MESSAGE_COUNT; x++)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(96);
+
+            for(int y = 0; y < 96; y++)
+            {
+                if(random.nextBoolean())
+                {
+                    message.set(y);
+                }
+            }
+
+            mMessages[x] = message;
+        }
+    }
+
+    /**
+     * Original bit at a time extraction
+     */
+    private static int getBitAtATime(BinaryMessage message, int[] bits)
+    {
+        int value = 0;
+
+        for(int index : bits)
+        {
+            value = Integer.rotateLeft(value, 1);
+
+            if(message.get(index))
+            {
+                value++;
+            }
+        }
+
+        return value;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long bitAtATime()
+    {
+        long accumulator = 0;
+
+        for(CorrectedBinaryMessage original : mMessages)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(original);
+            accumulator += getBitAtATime(message, SERVICE_OPTIONS);
+            accumulator += getBitAtATime(message, FREQUENCY_BAND);
+            accumulator += getBitAtATime(message, CHANNEL_NUMBER);
+            accumulator += getBitAtATime(message, GROUP_ADDRESS);
+            accumulator += getBitAtATime(message, SOURCE_ADDRESS);
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long bitPositionArrays()
+    {
+        long accumulator = 0;
+
+        for(CorrectedBinaryMessage original : mMessages)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(original);
+            accumulator += message.getInt(SERVICE_OPTIONS);
+            accumulator += message.getInt(FREQUENCY_BAND);
+            accumulator += message.getInt(CHANNEL_NUMBER);
+            accumulator += message.getInt(GROUP_ADDRESS);
+            accumulator += message.getInt(SOURCE_ADDRESS);
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long fieldDescriptors()
+    {
+        long accumulator = 0;
+
+        for(CorrectedBinaryMessage original : mMessages)
+        {
+            CorrectedBinaryMessage message = new CorrectedBinaryMessage(original);
+            accumulator += message.getInt(SERVICE_OPTIONS_FIELD);
+            accumulator += message.getInt(FREQUENCY_BAND_FIELD);
+            accumulator += message.getInt(CHANNEL_NUMBER_FIELD);
+            accumulator += message.getInt(GROUP_ADDRESS_FIELD);
+            accumulator += message.getInt(SOURCE_ADDRESS_FIELD);
+        }
+
+        return accumulator;
+    }
+}
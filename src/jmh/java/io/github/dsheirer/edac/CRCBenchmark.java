@@ -0,0 +1,167 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares CRC-CCITT calculation and single-bit error location for 80-bit messages using the original per-bit
+ * checksum table and linear syndrome search against the table-driven CRC engine and syndrome lookup table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CRCBenchmark
+{
+    private static final int MESSAGE_COUNT = 1024;
+
+    private CRCEngine mEngine = new CRCEngine(16, 0x1021, 0, false, 0);
+    private CRCSyndromeTable mSyndromeTable = mEngine.getSyndromeTable(80, 1);
+    private long[] mChecksums = mEngine.getSyndromes(80, true);
+    private BinaryMessage[] mMessages = new BinaryMessage[MESSAGE_COUNT];
+    private byte[][] mPacked = new byte[MESSAGE_COUNT][];
+    private long[] mResiduals = new long[MESSAGE_COUNT];
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(1);
+
+        for(int x = 0; x < MESSAGE_COUNT; x++)
+        {
+            BinaryMessage message = new BinaryMessage(96);
+
+            for(int y = 0; y < 80; y++)
+            {
+                if(random.nextBoolean())
+                {
+                    message.set(y);
+                }
+            }
+
+            message.load(80, 16, mEngine.calculate(message, 0, 80));
+            message.flip(random.nextInt(96));
+            mMessages[x] = message;
+            mPacked[x] = message.toByteArray();
+            mResiduals[x] = mEngine.calculate(message, 0, 80) ^ message.getInt(80, 95);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long perBitTable()
+    {
+        long accumulator = 0;
+
+        for(BinaryMessage message : mMessages)
+        {
+            long calculated = 0;
+
+            for(int i = message.nextSetBit(0); i >= 0 && i < 80; i = message.nextSetBit(i + 1))
+            {
+                calculated ^= mChecksums[i];
+            }
+
+            accumulator += calculated;
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long engineBitSet()
+    {
+        long accumulator = 0;
+
+        for(BinaryMessage message : mMessages)
+        {
+            accumulator += mEngine.calculate(message, 0, 80);
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long enginePacked()
+    {
+        long accumulator = 0;
+
+        for(byte[] packed : mPacked)
+        {
+            accumulator += mEngine.calculate(packed, 0, 80);
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long linearSyndromeSearch()
+    {
+        long accumulator = 0;
+
+        for(long residual : mResiduals)
+        {
+            for(int x = 0; x < mChecksums.length; x++)
+            {
+                if(mChecksums[x] == residual)
+                {
+                    accumulator += x;
+                    break;
+                }
+            }
+        }
+
+        return accumulator;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public long syndromeTableLookup()
+    {
+        long accumulator = 0;
+
+        for(long residual : mResiduals)
+        {
+            accumulator += mSyndromeTable.getBitError(residual);
+        }
+
+        return accumulator;
+    }
+}
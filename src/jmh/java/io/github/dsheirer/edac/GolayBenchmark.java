@@ -0,0 +1,239 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Golay(24,12,8) decoding throughput of the original iterative bit-flipping decoder against the syndrome
+ * table decoder, per codeword from a binary message and in bulk from a packed bit array.
+ *
+ * The error rate parameter is the probability of each codeword containing errors.  Errored codewords contain 1 - 3
+ * bit errors, which represents the noisy control channel case where most codewords require correction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GolayBenchmark
+{
+    private static final int CODEWORD_COUNT = 1024;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double mErrorRate;
+
+    private int[] mCodewords = new int[CODEWORD_COUNT];
+    private byte[] mPacked;
+    private int[] mDecoded = new int[CODEWORD_COUNT];
+    private CorrectedBinaryMessage mMessage = new CorrectedBinaryMessage(24);
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(1);
+        BinaryMessage packed = new BinaryMessage(CODEWORD_COUNT * 24);
+
+        for(int x = 0; x < CODEWORD_COUNT; x++)
+        {
+            int codeword = encode(random.nextInt(4096));
+
+            if(random.nextDouble() < mErrorRate)
+            {
+                int errorCount = 1 + random.nextInt(3);
+                int errors = 0;
+
+                while(Integer.bitCount(errors) < errorCount)
+                {
+                    errors |= 1 << random.nextInt(24);
+                }
+
+                codeword ^= errors;
+            }
+
+            mCodewords[x] = codeword;
+            packed.load(x * 24, 24, codeword);
+        }
+
+        mPacked = packed.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODEWORD_COUNT)
+    public int legacy()
+    {
+        int result = 0;
+
+        for(int codeword : mCodewords)
+        {
+            mMessage.load(0, 24, codeword);
+            result += LegacyGolay24.checkAndCorrect(mMessage, 0);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODEWORD_COUNT)
+    public int table()
+    {
+        int result = 0;
+
+        for(int codeword : mCodewords)
+        {
+            mMessage.load(0, 24, codeword);
+            result += Golay24.checkAndCorrect(mMessage, 0);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODEWORD_COUNT)
+    public int bulk()
+    {
+        return Golay24.decode(mPacked, 0, CODEWORD_COUNT, mDecoded);
+    }
+
+    /**
+     * Encodes the 12-bit data value as a 24-bit codeword
+     */
+    private static int encode(int data)
+    {
+        int checksum = 0;
+
+        for(int x = 0; x < 12; x++)
+        {
+            if((data & (1 << (11 - x))) != 0)
+            {
+                checksum ^= Golay24.CHECKSUMS[x];
+            }
+        }
+
+        int codeword = (data << 11) | checksum;
+        return (codeword << 1) | (Integer.bitCount(codeword) & 1);
+    }
+
+    /**
+     * Original iterative Golay24 decoder, retained for comparison.
+     */
+    public static class LegacyGolay24
+    {
+        public static int checkAndCorrect(CorrectedBinaryMessage message, int startIndex)
+        {
+            boolean parityError = message.cardinality() % 2 != 0;
+
+            int syndrome = getSyndrome(message, startIndex);
+
+            if(syndrome == 0)
+            {
+                if(parityError)
+                {
+                    message.flip(startIndex + 23);
+                    message.incrementCorrectedBitCount(1);
+                    return 1;
+                }
+
+                return 0;
+            }
+
+            int original = message.getInt(0, 22);
+            int index = -1;
+            int syndromeWeight = 3;
+
+            while(index < 23)
+            {
+                if(index != -1)
+                {
+                    if(index > 0)
+                    {
+                        message.flip(index - 1);
+                    }
+
+                    message.flip(index);
+
+                    syndromeWeight = 2;
+                }
+
+                syndrome = getSyndrome(message, startIndex);
+
+                if(syndrome > 0)
+                {
+                    for(int i = 0; i < 23; i++)
+                    {
+                        if(Integer.bitCount(syndrome) <= syndromeWeight)
+                        {
+                            message.xor(12, 11, syndrome);
+                            message.rotateRight(i, startIndex, startIndex + 22);
+
+                            int corrected = message.getInt(0, 22);
+
+                            if(Integer.bitCount(original ^ corrected) > 3)
+                            {
+                                return 2;
+                            }
+
+                            return 1;
+                        }
+                        else
+                        {
+                            message.rotateLeft(startIndex, startIndex + 22);
+                            syndrome = getSyndrome(message, startIndex);
+                        }
+                    }
+
+                    index++;
+                }
+            }
+
+            return 2;
+        }
+
+        private static int getSyndrome(BinaryMessage message, int startIndex)
+        {
+            int calculated = 0;
+
+            for(int i = message.nextSetBit(startIndex); i >= startIndex && i < startIndex + 12;
+                i = message.nextSetBit(i + 1))
+            {
+                calculated ^= Golay24.CHECKSUMS[i - startIndex];
+            }
+
+            return calculated ^ message.getInt(startIndex + 12, startIndex + 22);
+        }
+    }
+}
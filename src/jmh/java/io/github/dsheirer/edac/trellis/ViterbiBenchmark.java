@@ -0,0 +1,114 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac.trellis;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original path/node object Viterbi decoder against the primitive array decoder for a 196-bit (49
+ * symbol) trellis coded block with random bit errors.  Run with the GC profiler (-prof gc) to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViterbiBenchmark
+{
+    private static final int SYMBOL_COUNT = 49;
+
+    @Param({"P25_1_2", "P25_3_4", "DMR_3_4"})
+    public String mDecoderType;
+
+    private ViterbiDecoder mDecoder;
+    private int[] mSymbols = new int[SYMBOL_COUNT];
+    private int[] mInputValues = new int[SYMBOL_COUNT];
+    private BinaryMessage mEncodedMessage = new BinaryMessage(SYMBOL_COUNT * 4);
+
+    @Setup
+    public void setup()
+    {
+        switch(mDecoderType)
+        {
+            case "P25_1_2":
+                mDecoder = new ViterbiDecoder_1_2_P25();
+                break;
+            case "P25_3_4":
+                mDecoder = new ViterbiDecoder_3_4_P25();
+                break;
+            default:
+                mDecoder = new ViterbiDecoder_3_4_DMR();
+                break;
+        }
+
+        Random random = new Random(1);
+        int[][] transitions = mDecoder.getTransitionMatrix();
+        int state = 0;
+
+        for(int x = 0; x < SYMBOL_COUNT; x++)
+        {
+            int input = x < SYMBOL_COUNT - 1 ? random.nextInt(mDecoder.getInputValueCount()) : 0;
+            mSymbols[x] = transitions[state][input];
+            state = input;
+
+            //Roughly one bit error in every 8 symbols
+            if(random.nextInt(8) == 0)
+            {
+                mSymbols[x] ^= 1 << random.nextInt(4);
+            }
+
+            mEncodedMessage.load(x * 4, 4, mSymbols[x]);
+        }
+    }
+
+    @Benchmark
+    public Path paths()
+    {
+        return mDecoder.decode(mSymbols);
+    }
+
+    @Benchmark
+    public int arrays()
+    {
+        return mDecoder.decode(mSymbols, SYMBOL_COUNT, mInputValues);
+    }
+
+    @Benchmark
+    public CorrectedBinaryMessage message()
+    {
+        return mDecoder.decodeMessage(mEncodedMessage);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.util;
+
+import io.github.dsheirer.sample.Listener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares producer to dispatcher thread handoff throughput for each of the dispatcher wait strategies, where the
+ * BLOCKING strategy is the original linked blocking queue implementation.
+ *
+ * Each operation hands off a batch of elements and waits for the dispatcher thread to deliver the batch to the
+ * listener.  Run with the GC profiler (-prof gc) to compare per-element allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatcherBenchmark
+{
+    private static final int BATCH_SIZE = 256;
+    private static final Object POISON_PILL = new Object();
+    private static final Object ELEMENT = new Object();
+
+    @Param({"BLOCKING", "SPIN", "YIELD", "PARK"})
+    public WaitStrategy mWaitStrategy;
+
+    private Dispatcher<Object> mDispatcher;
+    private final AtomicLong mDelivered = new AtomicLong();
+    private long mExpected;
+
+    @Setup
+    public void setup()
+    {
+        mDispatcher = new Dispatcher<>(1024, "benchmark dispatcher", POISON_PILL, mWaitStrategy);
+        mDispatcher.setListener(new CountingListener());
+        mDispatcher.start();
+    }
+
+    @TearDown
+    public void teardown()
+    {
+        mDispatcher.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long handoff()
+    {
+        for(int x = 0; x < BATCH_SIZE; x++)
+        {
+            mDispatcher.receive(ELEMENT);
+        }
+
+        mExpected += BATCH_SIZE;
+
+        while(mDelivered.get() < mExpected)
+        {
+            Thread.onSpinWait();
+        }
+
+        return mExpected;
+    }
+
+    /**
+     * Counts delivered elements
+     */
+    public class CountingListener implements Listener<Object>
+    {
+        @Override
+        public void receive(Object element)
+        {
+            mDelivered.lazySet(mDelivered.get() + 1);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import io.github.dsheirer.alias.id.status.UserStatusID;
 import io.github.dsheirer.alias.id.talkgroup.Talkgroup;
 import io.github.dsheirer.alias.id.talkgroup.TalkgroupRange;
 import io.github.dsheirer.alias.id.tone.TonesID;
+import io.github.dsheirer.identifier.Form;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.IdentifierCollection;
 import io.github.dsheirer.identifier.esn.ESNIdentifier;
@@ -46,6 +47,7 @@ import io.github.dsheirer.identifier.tone.ToneIdentifier;
 import io.github.dsheirer.identifier.tone.ToneSequence;
 import io.github.dsheirer.protocol.Protocol;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +62,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * List of aliases that share the same alias list name and provides convenient methods for looking up alias
@@ -68,6 +72,7 @@ import java.util.TreeMap;
 public class AliasList
 {
     private final static Logger mLog = LoggerFactory.getLogger(AliasList.class);
+    private static final int MAXIMUM_RESOLVED_CACHE_SIZE = 10_000;
     private Map<Protocol,TalkgroupAliasList> mTalkgroupProtocolMap = new EnumMap<>(Protocol.class);
     private Map<Protocol,RadioAliasList> mRadioProtocolMap = new EnumMap<>(Protocol.class);
     private Map<String,Alias> mESNMap = new HashMap<>();
@@ -77,6 +82,10 @@ public class AliasList
     private boolean mHasAliasActions = false;
     private String mName;
     private ObservableList<Alias> mAliases = FXCollections.observableArrayList(Alias.extractor());
+    private Map<ResolvedKey,ResolvedAliases> mResolvedCache = new ConcurrentHashMap<>();
+    private AtomicLong mResolvedCacheGeneration = new AtomicLong();
+    private AtomicLong mResolvedCacheHitCount = new AtomicLong();
+    private AtomicLong mResolvedCacheMissCount = new AtomicLong();
 
     /**
      * List of aliases where all aliases share the same list name.  Contains
@@ -87,6 +96,9 @@ public class AliasList
     public AliasList(String name)
     {
         mName = name;
+
+        //Alias property changes (e.g. record or stream settings) are reported as list updates via the extractor
+        mAliases.addListener((ListChangeListener<Alias>)change -> invalidateResolvedAliases());
     }
 
     /**
@@ -116,6 +128,8 @@ public class AliasList
         {
             mAliases.add(alias);
         }
+
+        invalidateResolvedAliases();
     }
 
     /**
@@ -280,6 +294,7 @@ public class AliasList
         mToneSequenceMap.values().removeAll(collection);
 
         validate();
+        invalidateResolvedAliases();
     }
 
     /**
@@ -485,14 +500,9 @@ public class AliasList
     {
         for(Identifier identifier: identifierCollection.getIdentifiers())
         {
-            List<Alias> aliases = getAliases(identifier);
-
-            for(Alias alias: aliases)
+            if(getResolvedAliases(identifier).isStreamable())
             {
-                if(alias != null && alias.isStreamable())
-                {
-                    return true;
-                }
+                return true;
             }
         }
 
@@ -508,14 +518,9 @@ public class AliasList
     {
         for(Identifier identifier: identifierCollection.getIdentifiers())
         {
-            List<Alias> aliases = getAliases(identifier);
-
-            for(Alias alias: aliases)
+            if(getResolvedAliases(identifier).isRecordable())
             {
-                if(alias != null && alias.isRecordable())
-                {
-                    return true;
-                }
+                return true;
             }
         }
 
@@ -543,14 +548,11 @@ public class AliasList
 
         for(Identifier identifier: identifierCollection.getIdentifiers())
         {
-            List<Alias> aliases = getAliases(identifier);
+            int resolvedPriority = getResolvedAliases(identifier).getPlaybackPriority();
 
-            for(Alias alias: aliases)
+            if(resolvedPriority < priority)
             {
-                if(alias != null && alias.getPlaybackPriority() < priority)
-                {
-                    priority = alias.getPlaybackPriority();
-                }
+                priority = resolvedPriority;
             }
         }
 
@@ -568,24 +570,175 @@ public class AliasList
 
         for(Identifier identifier: identifierCollection.getIdentifiers())
         {
-            List<Alias> aliases = getAliases(identifier);
+            for(BroadcastChannel broadcastChannel: getResolvedAliases(identifier).getBroadcastChannels())
+            {
+                if(!channels.contains(broadcastChannel))
+                {
+                    channels.add(broadcastChannel);
+                }
+            }
+        }
+
+        return channels;
+    }
+
+    /**
+     * Returns the resolved alias settings for the identifier.  Talkgroup and radio identifiers are cached by protocol
+     * and value until the contents of this alias list change.  Other identifier forms are resolved on each request.
+     * @param identifier to resolve
+     * @return resolved alias settings
+     */
+    private ResolvedAliases getResolvedAliases(Identifier identifier)
+    {
+        if(identifier == null || (identifier.getForm() != Form.TALKGROUP && identifier.getForm() != Form.RADIO))
+        {
+            return new ResolvedAliases(getAliases(identifier), 0);
+        }
+
+        //Capture the generation before resolving so that a concurrent alias list change invalidates this entry
+        long generation = mResolvedCacheGeneration.get();
+        ResolvedKey key = new ResolvedKey(identifier.getProtocol(), identifier.getForm(), identifier.getValue());
+        ResolvedAliases resolved = mResolvedCache.get(key);
+
+        if(resolved != null && resolved.getGeneration() == generation)
+        {
+            mResolvedCacheHitCount.incrementAndGet();
+            return resolved;
+        }
+
+        mResolvedCacheMissCount.incrementAndGet();
+        resolved = new ResolvedAliases(getAliases(identifier), generation);
+
+        if(mResolvedCache.size() >= MAXIMUM_RESOLVED_CACHE_SIZE)
+        {
+            mResolvedCache.clear();
+        }
+
+        mResolvedCache.put(key, resolved);
+        return resolved;
+    }
+
+    /**
+     * Discards all cached alias resolutions.  Invoked whenever an alias is added, removed, updated or changed.
+     */
+    private void invalidateResolvedAliases()
+    {
+        mResolvedCacheGeneration.incrementAndGet();
+        mResolvedCache.clear();
+    }
+
+    /**
+     * Number of identifier alias resolutions that were served from the resolved alias cache
+     */
+    public long getResolvedCacheHitCount()
+    {
+        return mResolvedCacheHitCount.get();
+    }
+
+    /**
+     * Number of identifier alias resolutions that required an alias lookup
+     */
+    public long getResolvedCacheMissCount()
+    {
+        return mResolvedCacheMissCount.get();
+    }
+
+    /**
+     * Ratio of cached alias resolutions to all cacheable alias resolutions, or 0.0 when there have been none.
+     */
+    public double getResolvedCacheHitRate()
+    {
+        long hits = getResolvedCacheHitCount();
+        long total = hits + getResolvedCacheMissCount();
+        return total > 0 ? (double)hits / total : 0.0;
+    }
+
+    /**
+     * Resolved alias cache key
+     */
+    private record ResolvedKey(Protocol protocol, Form form, Object value)
+    {
+    }
+
+    /**
+     * Alias settings resolved for a single identifier
+     */
+    private static class ResolvedAliases
+    {
+        private long mGeneration;
+        private boolean mStreamable;
+        private boolean mRecordable;
+        private int mPlaybackPriority = Priority.DEFAULT_PRIORITY;
+        private List<BroadcastChannel> mBroadcastChannels = Collections.emptyList();
+
+        /**
+         * Constructs an instance
+         * @param aliases that match the identifier
+         * @param generation of the resolved alias cache when the aliases were looked up
+         */
+        public ResolvedAliases(List<Alias> aliases, long generation)
+        {
+            mGeneration = generation;
 
             for(Alias alias: aliases)
             {
-                if(alias != null && alias.isStreamable())
+                if(alias != null)
                 {
-                    for(BroadcastChannel broadcastChannel: alias.getBroadcastChannels())
+                    if(alias.isRecordable())
+                    {
+                        mRecordable = true;
+                    }
+
+                    if(alias.getPlaybackPriority() < mPlaybackPriority)
                     {
-                        if(!channels.contains(broadcastChannel))
+                        mPlaybackPriority = alias.getPlaybackPriority();
+                    }
+
+                    if(alias.isStreamable())
+                    {
+                        mStreamable = true;
+
+                        for(BroadcastChannel broadcastChannel: alias.getBroadcastChannels())
                         {
-                            channels.add(broadcastChannel);
+                            if(mBroadcastChannels.isEmpty())
+                            {
+                                mBroadcastChannels = new ArrayList<>();
+                            }
+
+                            if(!mBroadcastChannels.contains(broadcastChannel))
+                            {
+                                mBroadcastChannels.add(broadcastChannel);
+                            }
                         }
                     }
                 }
             }
         }
 
-        return channels;
+        public long getGeneration()
+        {
+            return mGeneration;
+        }
+
+        public boolean isStreamable()
+        {
+            return mStreamable;
+        }
+
+        public boolean isRecordable()
+        {
+            return mRecordable;
+        }
+
+        public int getPlaybackPriority()
+        {
+            return mPlaybackPriority;
+        }
+
+        public List<BroadcastChannel> getBroadcastChannels()
+        {
+            return mBroadcastChannels;
+        }
     }
 
     /**
@@ -594,7 +747,7 @@ public class AliasList
     public class TalkgroupAliasList
     {
         private Map<Integer,Alias> mTalkgroupAliasMap = new TreeMap<>();
-        private Map<TalkgroupRange, Alias> mTalkgroupRangeAliasMap = new HashMap<>();
+        private AliasRangeIndex<TalkgroupRange> mTalkgroupRangeIndex = new AliasRangeIndex<>();
 
         public TalkgroupAliasList()
         {
@@ -610,15 +763,7 @@ public class AliasList
                 return mapValue;
             }
 
-            for(Map.Entry<TalkgroupRange, Alias> entry : mTalkgroupRangeAliasMap.entrySet())
-            {
-                if(entry.getKey().contains(value))
-                {
-                    return entry.getValue();
-                }
-            }
-
-            return null;
+            return mTalkgroupRangeIndex.getAlias(value);
         }
 
         public void add(Talkgroup talkgroup, Alias alias)
@@ -648,16 +793,14 @@ public class AliasList
         public void add(TalkgroupRange talkgroupRange, Alias alias)
         {
             //Log warning if the new talkgroup range overlaps with any existing ranges
-            for(Map.Entry<TalkgroupRange,Alias> entry: mTalkgroupRangeAliasMap.entrySet())
+            List<TalkgroupRange> overlaps = mTalkgroupRangeIndex.add(talkgroupRange, talkgroupRange.getMinTalkgroup(),
+                talkgroupRange.getMaxTalkgroup(), alias);
+
+            for(TalkgroupRange overlap: overlaps)
             {
-                if(talkgroupRange.overlaps(entry.getKey()) && !entry.getValue().equals(alias))
-                {
-                    talkgroupRange.setOverlap(true);
-                    entry.getKey().setOverlap(true);
-                }
+                talkgroupRange.setOverlap(true);
+                overlap.setOverlap(true);
             }
-
-            mTalkgroupRangeAliasMap.put(talkgroupRange, alias);
         }
 
         /**
@@ -666,7 +809,7 @@ public class AliasList
         public void remove(Alias alias)
         {
             mTalkgroupAliasMap.values().removeAll(Collections.singleton(alias));
-            mTalkgroupRangeAliasMap.values().removeAll(Collections.singleton(alias));
+            mTalkgroupRangeIndex.remove(alias);
         }
     }
 
@@ -676,7 +819,7 @@ public class AliasList
     public class RadioAliasList
     {
         private Map<Integer,Alias> mRadioAliasMap = new TreeMap<>();
-        private Map<RadioRange, Alias> mRadioRangeAliasMap = new HashMap<>();
+        private AliasRangeIndex<RadioRange> mRadioRangeIndex = new AliasRangeIndex<>();
 
         public RadioAliasList()
         {
@@ -692,15 +835,7 @@ public class AliasList
                 return mapValue;
             }
 
-            for(Map.Entry<RadioRange, Alias> entry : mRadioRangeAliasMap.entrySet())
-            {
-                if(entry.getKey().contains(value))
-                {
-                    return entry.getValue();
-                }
-            }
-
-            return null;
+            return mRadioRangeIndex.getAlias(value);
         }
 
         public void add(Radio radio, Alias alias)
@@ -730,16 +865,14 @@ public class AliasList
         public void add(RadioRange radioRange, Alias alias)
         {
             //Log warning if the new range overlaps with any existing ranges
-            for(Map.Entry<RadioRange,Alias> entry: mRadioRangeAliasMap.entrySet())
+            List<RadioRange> overlaps = mRadioRangeIndex.add(radioRange, radioRange.getMinRadio(),
+                radioRange.getMaxRadio(), alias);
+
+            for(RadioRange overlap: overlaps)
             {
-                if(radioRange.overlaps(entry.getKey()) && !entry.getValue().equals(alias))
-                {
-                    radioRange.setOverlap(true);
-                    entry.getKey().setOverlap(true);
-                }
+                radioRange.setOverlap(true);
+                overlap.setOverlap(true);
             }
-
-            mRadioRangeAliasMap.put(radioRange, alias);
         }
 
         /**
@@ -748,7 +881,7 @@ public class AliasList
         public void remove(Alias alias)
         {
             mRadioAliasMap.values().removeAll(Collections.singleton(alias));
-            mRadioRangeAliasMap.values().removeAll(Collections.singleton(alias));
+            mRadioRangeIndex.remove(alias);
         }
     }
 }
@@ -0,0 +1,383 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.alias;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interval index of value ranges (e.g. talkgroup or radio ranges) to aliases.
+ *
+ * Ranges are held in an immutable snapshot that is sorted by range start, with a max-tree over the range ends, so that
+ * the range that contains a value is found with a binary search and a tree descent instead of a scan of every range.
+ * Ranges may overlap.  When more than one range contains a value, the range with the highest start value (i.e. the
+ * most specific range for nested ranges) is matched, and the most recently added range breaks a tie.
+ *
+ * Added ranges are staged and merged into the snapshot in batches so that loading a large alias list doesn't rebuild
+ * the index for each range.  Lookups do not lock once the staged ranges are merged, so the index can be shared
+ * across decoder threads while the alias list is edited.
+ *
+ * Range start and end values are captured when the range is added.  Edited ranges must be removed and added again,
+ * which the alias list does for each alias update.
+ *
+ * @param <R> range type
+ */
+public class AliasRangeIndex<R>
+{
+    private static final int MINIMUM_MERGE_THRESHOLD = 64;
+
+    private final Map<R,Entry<R>> mEntryMap = new IdentityHashMap<>();
+    private final List<Entry<R>> mStaged = new ArrayList<>();
+    private Snapshot<R> mIndexed = new Snapshot<>(Collections.emptyList());
+    private volatile Snapshot<R> mCurrent = mIndexed;
+    private long mSequence = 0;
+
+    /**
+     * Constructs an instance
+     */
+    public AliasRangeIndex()
+    {
+    }
+
+    /**
+     * Adds the range to the index, replacing the alias when the same range instance is already indexed.
+     *
+     * @param range to add
+     * @param min value of the range, inclusive
+     * @param max value of the range, inclusive
+     * @param alias for the range
+     * @return existing ranges that overlap the range and that are assigned to a different alias
+     */
+    public synchronized List<R> add(R range, int min, int max, Alias alias)
+    {
+        if(mEntryMap.containsKey(range))
+        {
+            removeEntries(Collections.singletonList(mEntryMap.get(range)));
+        }
+
+        List<R> overlaps = new ArrayList<>();
+
+        for(Entry<R> entry: mIndexed.getOverlaps(min, max))
+        {
+            if(!entry.mAlias.equals(alias))
+            {
+                overlaps.add(entry.mRange);
+            }
+        }
+
+        for(Entry<R> entry: mStaged)
+        {
+            if(entry.mMin <= max && min <= entry.mMax && !entry.mAlias.equals(alias))
+            {
+                overlaps.add(entry.mRange);
+            }
+        }
+
+        Entry<R> entry = new Entry<>(range, min, max, alias, mSequence++);
+        mEntryMap.put(range, entry);
+        mStaged.add(entry);
+        mCurrent = null;
+
+        if(mStaged.size() > MINIMUM_MERGE_THRESHOLD + (int)Math.sqrt(mIndexed.size()))
+        {
+            merge();
+        }
+
+        return overlaps;
+    }
+
+    /**
+     * Removes all ranges that are assigned to the alias
+     */
+    public synchronized void remove(Alias alias)
+    {
+        List<Entry<R>> toRemove = new ArrayList<>();
+
+        for(Entry<R> entry: mEntryMap.values())
+        {
+            if(entry.mAlias.equals(alias))
+            {
+                toRemove.add(entry);
+            }
+        }
+
+        if(!toRemove.isEmpty())
+        {
+            removeEntries(toRemove);
+        }
+    }
+
+    /**
+     * Alias for the range that contains the value
+     * @param value to lookup
+     * @return alias or null if no range contains the value
+     */
+    public Alias getAlias(int value)
+    {
+        Snapshot<R> snapshot = mCurrent;
+
+        if(snapshot == null)
+        {
+            snapshot = publish();
+        }
+
+        return snapshot.getAlias(value);
+    }
+
+    /**
+     * Number of ranges in the index
+     */
+    public synchronized int size()
+    {
+        return mEntryMap.size();
+    }
+
+    /**
+     * Merges any staged ranges and returns the current snapshot.
+     */
+    private synchronized Snapshot<R> publish()
+    {
+        if(!mStaged.isEmpty())
+        {
+            merge();
+        }
+
+        mCurrent = mIndexed;
+        return mIndexed;
+    }
+
+    /**
+     * Merges the staged ranges into a new indexed snapshot.
+     */
+    private void merge()
+    {
+        mStaged.sort(Entry::compareTo);
+
+        List<Entry<R>> indexed = mIndexed.mEntries;
+        List<Entry<R>> merged = new ArrayList<>(indexed.size() + mStaged.size());
+        int x = 0;
+        int y = 0;
+
+        while(x < indexed.size() || y < mStaged.size())
+        {
+            if(y >= mStaged.size() || (x < indexed.size() && indexed.get(x).compareTo(mStaged.get(y)) <= 0))
+            {
+                merged.add(indexed.get(x++));
+            }
+            else
+            {
+                merged.add(mStaged.get(y++));
+            }
+        }
+
+        mStaged.clear();
+        mIndexed = new Snapshot<>(merged);
+    }
+
+    /**
+     * Removes the entries from the index and publishes a new snapshot.
+     */
+    private void removeEntries(List<Entry<R>> entries)
+    {
+        for(Entry<R> entry: entries)
+        {
+            mEntryMap.remove(entry.mRange);
+            entry.mRemoved = true;
+        }
+
+        mStaged.removeIf(entry -> entry.mRemoved);
+
+        List<Entry<R>> retained = new ArrayList<>(mIndexed.size());
+
+        for(Entry<R> entry: mIndexed.mEntries)
+        {
+            if(!entry.mRemoved)
+            {
+                retained.add(entry);
+            }
+        }
+
+        mIndexed = new Snapshot<>(retained);
+        mCurrent = mStaged.isEmpty() ? mIndexed : null;
+    }
+
+    /**
+     * Indexed range
+     */
+    private static class Entry<R> implements Comparable<Entry<R>>
+    {
+        private final R mRange;
+        private final int mMin;
+        private final int mMax;
+        private final Alias mAlias;
+        private final long mSequence;
+        private boolean mRemoved = false;
+
+        public Entry(R range, int min, int max, Alias alias, long sequence)
+        {
+            mRange = range;
+            mMin = min;
+            mMax = max;
+            mAlias = alias;
+            mSequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry<R> other)
+        {
+            int comparison = Integer.compare(mMin, other.mMin);
+            return comparison != 0 ? comparison : Long.compare(mSequence, other.mSequence);
+        }
+    }
+
+    /**
+     * Immutable set of ranges sorted by range start, with an array-based max-tree of the range ends.  Leaf node
+     * (capacity + i) holds the end of range i and each parent holds the largest end of its two children.
+     */
+    private static class Snapshot<R>
+    {
+        private final List<Entry<R>> mEntries;
+        private final int[] mMins;
+        private final int[] mMaxTree;
+        private final int mCapacity;
+
+        public Snapshot(List<Entry<R>> sortedEntries)
+        {
+            mEntries = sortedEntries;
+            mMins = new int[sortedEntries.size()];
+
+            int capacity = 1;
+            while(capacity < sortedEntries.size())
+            {
+                capacity <<= 1;
+            }
+
+            mCapacity = capacity;
+            mMaxTree = new int[capacity * 2];
+            Arrays.fill(mMaxTree, Integer.MIN_VALUE);
+
+            for(int x = 0; x < sortedEntries.size(); x++)
+            {
+                mMins[x] = sortedEntries.get(x).mMin;
+                mMaxTree[capacity + x] = sortedEntries.get(x).mMax;
+            }
+
+            for(int x = capacity - 1; x > 0; x--)
+            {
+                mMaxTree[x] = Math.max(mMaxTree[2 * x], mMaxTree[2 * x + 1]);
+            }
+        }
+
+        public int size()
+        {
+            return mEntries.size();
+        }
+
+        /**
+         * Alias of the range with the highest start value that contains the value, or null.
+         */
+        public Alias getAlias(int value)
+        {
+            int index = findLast(1, 0, mCapacity, upperBound(value), value);
+            return index >= 0 ? mEntries.get(index).mAlias : null;
+        }
+
+        /**
+         * Ranges that overlap the min to max range
+         */
+        public List<Entry<R>> getOverlaps(int min, int max)
+        {
+            List<Entry<R>> overlaps = new ArrayList<>();
+            collect(1, 0, mCapacity, upperBound(max), min, overlaps);
+            return overlaps;
+        }
+
+        /**
+         * Number of ranges with a start value less than or equal to the value.
+         */
+        private int upperBound(int value)
+        {
+            int low = 0;
+            int high = mMins.length;
+
+            while(low < high)
+            {
+                int mid = (low + high) >>> 1;
+
+                if(mMins[mid] <= value)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Highest range index less than the limit with a range end greater than or equal to the value, or -1.
+         * @param node of the max tree covering range indices low (inclusive) to high (exclusive)
+         */
+        private int findLast(int node, int low, int high, int limit, int value)
+        {
+            if(low >= limit || mMaxTree[node] < value)
+            {
+                return -1;
+            }
+
+            if(high - low == 1)
+            {
+                return low;
+            }
+
+            int mid = (low + high) >>> 1;
+            int index = findLast(2 * node + 1, mid, high, limit, value);
+            return index >= 0 ? index : findLast(2 * node, low, mid, limit, value);
+        }
+
+        /**
+         * Collects all ranges with an index less than the limit and a range end greater than or equal to the value.
+         */
+        private void collect(int node, int low, int high, int limit, int value, List<Entry<R>> entries)
+        {
+            if(low >= limit || mMaxTree[node] < value)
+            {
+                return;
+            }
+
+            if(high - low == 1)
+            {
+                entries.add(mEntries.get(low));
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            collect(2 * node, low, mid, limit, value, entries);
+            collect(2 * node + 1, mid, high, limit, value, entries);
+        }
+    }
+}
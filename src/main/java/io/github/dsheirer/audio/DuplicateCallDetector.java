@@ -113,7 +113,7 @@ public class DuplicateCallDetector implements Listener<AudioSegment>
         {
             if(mMonitoring.compareAndSet(false, true))
             {
-                mProcessorFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(() -> process(),
+                mProcessorFuture = ThreadPool.AUDIO.scheduleAtFixedRate(() -> process(),
                     0, 25, TimeUnit.MILLISECONDS);
             }
         }
@@ -124,7 +124,7 @@ public abstract class AudioStreamingBroadcaster<T extends BroadcastConfiguration
         {
             if(mRecordingQueueProcessorFuture == null)
             {
-                mRecordingQueueProcessorFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(mRecordingQueueProcessor,
+                mRecordingQueueProcessorFuture = ThreadPool.NETWORK.scheduleAtFixedRate(mRecordingQueueProcessor,
                     0, PROCESSOR_RUN_INTERVAL_MS, TimeUnit.MILLISECONDS);
             }
         }
@@ -140,7 +140,7 @@ public class ThumbDv implements AutoCloseable
                         mLog.info("Creating Serial Port Reader");
                         final Runnable r = new SerialPortReader(mSerialPort.getInputStream());
                         mLog.info("Starting Serial Port Reader");
-                        mSerialPortReaderHandle = ThreadPool.SCHEDULED.scheduleAtFixedRate(r, 0,
+                        mSerialPortReaderHandle = ThreadPool.AUDIO.scheduleAtFixedRate(r, 0,
                                 5, TimeUnit.MILLISECONDS);
 
                         mStarted = true;
@@ -245,7 +245,7 @@ public class ThumbDv implements AutoCloseable
             {
                 mLog.info("Audio vocoder parameters configured for " + mAudioProtocol);
                 //Start the audio frame decode processor
-                mAudioDecodeProcessorHandle = ThreadPool.SCHEDULED.scheduleAtFixedRate(new AudioDecodeProcessor(), 0,
+                mAudioDecodeProcessorHandle = ThreadPool.AUDIO.scheduleAtFixedRate(new AudioDecodeProcessor(), 0,
                         10, TimeUnit.MILLISECONDS);
             }
         }
@@ -25,6 +25,7 @@ import io.github.dsheirer.edac.CRC;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.math3.util.FastMath;
 
+import java.util.Arrays;
 import java.util.BitSet;
 
 public class BinaryMessage extends BitSet
@@ -58,6 +59,14 @@ public class BinaryMessage extends BitSet
      */
     private CRC mCRC;
 
+    /**
+     * Word-aligned copy of the message bits, in bitset word order, that supports extracting contiguous bit ranges
+     * with a few word operations instead of one bit at a time.  The copy is created on first use, is kept in sync by
+     * single-bit updates and is recreated on first use after any bulk update.
+     */
+    private transient long[] mWords;
+    private transient boolean mWordsValid = false;
+
     public BinaryMessage(int size)
     {
         super(size);
@@ -433,6 +442,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
+        if(isContiguous(bits))
+        {
+            return (int)extractBits(bits[0], bits.length);
+        }
+
         int value = 0;
 
         for(int index : bits)
@@ -465,6 +479,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
+        if(isContiguous(bits))
+        {
+            return (int)extractBits(bits[0] + offset, bits.length);
+        }
+
         int value = 0;
 
         for(int index : bits)
@@ -480,6 +499,29 @@ public class BinaryMessage extends BitSet
         return value;
     }
 
+    /**
+     * Returns the integer value of the contiguous field
+     *
+     * @param field - field descriptor
+     * @return - integer value of the field
+     */
+    public int getInt(IntField field)
+    {
+        return (int)extractBits(field.offset(), field.width());
+    }
+
+    /**
+     * Returns the integer value of the contiguous field
+     *
+     * @param field - field descriptor
+     * @param offset to apply to the field offset
+     * @return - integer value of the field
+     */
+    public int getInt(IntField field, int offset)
+    {
+        return (int)extractBits(field.offset() + offset, field.width());
+    }
+
     public void setInt(int value, int[] indices)
     {
         for(int x = 0; x < indices.length; x++)
@@ -673,6 +715,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
+        if(isContiguous(bits))
+        {
+            return extractBits(bits[0], bits.length);
+        }
+
         long value = 0;
 
         for(int index : bits)
@@ -705,6 +752,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
+        if(isContiguous(bits))
+        {
+            return extractBits(bits[0] + offset, bits.length);
+        }
+
         long value = 0;
 
         for(int index : bits)
@@ -802,6 +854,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
+        if(start <= end && end - start < 32)
+        {
+            return (int)extractBits(start, end - start + 1);
+        }
+
         int value = 0;
 
         if(start < end)
@@ -872,6 +929,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
+        if(start <= end && end - start < 64)
+        {
+            return extractBits(start, end - start + 1);
+        }
+
         long value = 0;
 
         if(start < end)
@@ -902,6 +964,214 @@ public class BinaryMessage extends BitSet
         return value;
     }
 
+    /**
+     * Extracts the contiguous bit range from the word-aligned copy of the message bits.
+     *
+     * @param start - index of the MSB of the value
+     * @param width - number of bits, 1 - 64
+     * @return - value of the bit range
+     */
+    private long extractBits(int start, int width)
+    {
+        if(start < 0)
+        {
+            throw new IndexOutOfBoundsException("bitIndex < 0: " + start);
+        }
+
+        long[] words = getWords();
+        int index = start >>> 6;
+
+        if(index >= words.length)
+        {
+            return 0;
+        }
+
+        int shift = start & 0x3F;
+        long value = words[index] >>> shift;
+
+        if(shift != 0 && index + 1 < words.length)
+        {
+            value |= words[index + 1] << (64 - shift);
+        }
+
+        //Bitset words are least significant bit first, so reverse the range to place the start bit as the MSB
+        return Long.reverse(value) >>> (64 - width);
+    }
+
+    /**
+     * Word-aligned copy of the message bits, recreated if any bulk update occurred since the last use.
+     */
+    private long[] getWords()
+    {
+        if(!mWordsValid)
+        {
+            long[] words = toLongArray();
+            int wordCount = Math.max(words.length, (mSize + 63) >>> 6);
+
+            if(mWords == null || mWords.length < wordCount)
+            {
+                mWords = words.length == wordCount ? words : Arrays.copyOf(words, wordCount);
+            }
+            else
+            {
+                System.arraycopy(words, 0, mWords, 0, words.length);
+                Arrays.fill(mWords, words.length, mWords.length, 0);
+            }
+
+            mWordsValid = true;
+        }
+
+        return mWords;
+    }
+
+    /**
+     * Indicates if the bit positions are a contiguous ascending range.
+     */
+    private static boolean isContiguous(int[] bits)
+    {
+        if(bits.length == 0)
+        {
+            return false;
+        }
+
+        int start = bits[0];
+
+        for(int x = 1; x < bits.length; x++)
+        {
+            if(bits[x] != start + x)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void set(int bitIndex)
+    {
+        super.set(bitIndex);
+
+        if(mWordsValid)
+        {
+            if((bitIndex >>> 6) < mWords.length)
+            {
+                mWords[bitIndex >>> 6] |= 1l << bitIndex;
+            }
+            else
+            {
+                mWordsValid = false;
+            }
+        }
+    }
+
+    @Override
+    public void set(int bitIndex, boolean value)
+    {
+        if(value)
+        {
+            set(bitIndex);
+        }
+        else
+        {
+            clear(bitIndex);
+        }
+    }
+
+    @Override
+    public void clear(int bitIndex)
+    {
+        super.clear(bitIndex);
+
+        if(mWordsValid && (bitIndex >>> 6) < mWords.length)
+        {
+            mWords[bitIndex >>> 6] &= ~(1l << bitIndex);
+        }
+    }
+
+    @Override
+    public void flip(int bitIndex)
+    {
+        super.flip(bitIndex);
+
+        if(mWordsValid)
+        {
+            if((bitIndex >>> 6) < mWords.length)
+            {
+                mWords[bitIndex >>> 6] ^= 1l << bitIndex;
+            }
+            else
+            {
+                mWordsValid = false;
+            }
+        }
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex)
+    {
+        super.set(fromIndex, toIndex);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex, boolean value)
+    {
+        super.set(fromIndex, toIndex, value);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex)
+    {
+        super.clear(fromIndex, toIndex);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void flip(int fromIndex, int toIndex)
+    {
+        super.flip(fromIndex, toIndex);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void and(BitSet set)
+    {
+        super.and(set);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void or(BitSet set)
+    {
+        super.or(set);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void xor(BitSet set)
+    {
+        super.xor(set);
+        mWordsValid = false;
+    }
+
+    @Override
+    public void andNot(BitSet set)
+    {
+        super.andNot(set);
+        mWordsValid = false;
+    }
+
+    @Override
+    public Object clone()
+    {
+        BinaryMessage clone = (BinaryMessage)super.clone();
+        clone.mWords = null;
+        clone.mWordsValid = false;
+        return clone;
+    }
+
     /**
      * Creates a buffer of size=width and fills the buffer with the fill value
      *
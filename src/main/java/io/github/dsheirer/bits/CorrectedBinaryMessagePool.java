@@ -0,0 +1,263 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import io.github.dsheirer.protocol.Protocol;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of message bit buffers for a message framer.  Framers borrow a buffer for each detected data unit or burst
+ * and recycle buffers that are not retained downstream (e.g. buffers that are deinterleaved into a new message, or
+ * bursts that are discarded) so that the next data unit can reuse them.
+ *
+ * Recycling is disabled by default and borrowing always creates a new message.  When enabled, recycled messages are
+ * held in a bounded bucket per message size.  The pool is not thread safe and is intended to be used by the single
+ * thread that drives the owning framer.  Allocation counts are accumulated per protocol across all pools.
+ */
+public class CorrectedBinaryMessagePool
+{
+    private static final int MAXIMUM_BUCKET_COUNT = 8;
+    private static final Map<Protocol,AllocationCounter> ALLOCATION_COUNTERS = new EnumMap<>(Protocol.class);
+
+    static
+    {
+        for(Protocol protocol: Protocol.values())
+        {
+            ALLOCATION_COUNTERS.put(protocol, new AllocationCounter());
+        }
+    }
+
+    private final AllocationCounter mAllocationCounter;
+    private final int mMaximumPerSize;
+    private final List<Bucket> mBuckets = new ArrayList<>(MAXIMUM_BUCKET_COUNT);
+    private boolean mRecyclingEnabled = false;
+
+    /**
+     * Constructs an instance
+     * @param protocol for accumulating allocation counts
+     * @param maximumPerSize number of recycled messages to retain for each message size
+     */
+    public CorrectedBinaryMessagePool(Protocol protocol, int maximumPerSize)
+    {
+        if(maximumPerSize < 1)
+        {
+            throw new IllegalArgumentException("Maximum per size must be positive");
+        }
+
+        mAllocationCounter = getAllocationCounter(protocol);
+        mMaximumPerSize = maximumPerSize;
+    }
+
+    /**
+     * Enables or disables message recycling.  Disabling recycling releases any retained messages.
+     *
+     * Note: only enable recycling when the owning framer's listener does not retain the framer's messages beyond the
+     * listener's receive call.
+     *
+     * @param enabled true to reuse recycled messages
+     */
+    public void setRecyclingEnabled(boolean enabled)
+    {
+        mRecyclingEnabled = enabled;
+
+        if(!enabled)
+        {
+            for(Bucket bucket: mBuckets)
+            {
+                bucket.mMessages.clear();
+            }
+        }
+    }
+
+    /**
+     * Indicates if message recycling is enabled.
+     */
+    public boolean isRecyclingEnabled()
+    {
+        return mRecyclingEnabled;
+    }
+
+    /**
+     * Borrows an empty message with the pointer at zero and no corrected bits, reusing a recycled message of the
+     * same size when one is available.
+     * @param size of the message
+     * @return message
+     */
+    public CorrectedBinaryMessage getMessage(int size)
+    {
+        if(mRecyclingEnabled)
+        {
+            Bucket bucket = getBucket(size);
+
+            if(bucket != null && !bucket.mMessages.isEmpty())
+            {
+                mAllocationCounter.mReusedCount.incrementAndGet();
+                return bucket.mMessages.pop();
+            }
+        }
+
+        mAllocationCounter.mAllocatedCount.incrementAndGet();
+        return new CorrectedBinaryMessage(size);
+    }
+
+    /**
+     * Returns the message to the pool for reuse.  The caller must not retain any references to the message or hand
+     * it to any component that does.  Messages are discarded when recycling is disabled or the bucket is full.
+     * @param message to recycle, ignored if null
+     */
+    public void recycle(CorrectedBinaryMessage message)
+    {
+        if(message == null || !mRecyclingEnabled)
+        {
+            return;
+        }
+
+        Bucket bucket = getBucket(message.size());
+
+        if(bucket == null && mBuckets.size() < MAXIMUM_BUCKET_COUNT)
+        {
+            bucket = new Bucket(message.size(), mMaximumPerSize);
+            mBuckets.add(bucket);
+        }
+
+        if(bucket != null && bucket.mMessages.size() < mMaximumPerSize)
+        {
+            message.clear();
+            message.setCorrectedBitCount(0);
+            message.setCRC(null);
+            bucket.mMessages.push(message);
+            mAllocationCounter.mRecycledCount.incrementAndGet();
+        }
+        else
+        {
+            mAllocationCounter.mDiscardedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Number of recycled messages currently available for reuse
+     */
+    public int getAvailableCount()
+    {
+        int count = 0;
+
+        for(Bucket bucket: mBuckets)
+        {
+            count += bucket.mMessages.size();
+        }
+
+        return count;
+    }
+
+    /**
+     * Bucket for the message size or null if there is no bucket for the size.
+     */
+    private Bucket getBucket(int size)
+    {
+        for(Bucket bucket: mBuckets)
+        {
+            if(bucket.mSize == size)
+            {
+                return bucket;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Accumulated message allocation counts for all framer message pools for the protocol.
+     */
+    public static AllocationCounter getAllocationCounter(Protocol protocol)
+    {
+        return ALLOCATION_COUNTERS.get(protocol);
+    }
+
+    /**
+     * Recycled messages of a single message size.
+     */
+    private static class Bucket
+    {
+        private final int mSize;
+        private final ArrayDeque<CorrectedBinaryMessage> mMessages;
+
+        private Bucket(int size, int capacity)
+        {
+            mSize = size;
+            mMessages = new ArrayDeque<>(capacity);
+        }
+    }
+
+    /**
+     * Message allocation counts for a protocol.
+     */
+    public static class AllocationCounter
+    {
+        private final AtomicLong mAllocatedCount = new AtomicLong();
+        private final AtomicLong mReusedCount = new AtomicLong();
+        private final AtomicLong mRecycledCount = new AtomicLong();
+        private final AtomicLong mDiscardedCount = new AtomicLong();
+
+        /**
+         * Number of messages that were created because no recycled message was available
+         */
+        public long getAllocatedCount()
+        {
+            return mAllocatedCount.get();
+        }
+
+        /**
+         * Number of message requests that were served with a recycled message
+         */
+        public long getReusedCount()
+        {
+            return mReusedCount.get();
+        }
+
+        /**
+         * Number of messages that were returned to a pool
+         */
+        public long getRecycledCount()
+        {
+            return mRecycledCount.get();
+        }
+
+        /**
+         * Number of recycled messages that were discarded because the pool was full
+         */
+        public long getDiscardedCount()
+        {
+            return mDiscardedCount.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Allocated:" + getAllocatedCount() + " Reused:" + getReusedCount() +
+                " Recycled:" + getRecycledCount() + " Discarded:" + getDiscardedCount();
+        }
+    }
+}
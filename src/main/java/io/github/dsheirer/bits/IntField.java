@@ -0,0 +1,57 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+/**
+ * Contiguous bit field descriptor for extracting integer field values from a binary message with a single word-aligned
+ * read, instead of one bit at a time from an array of bit positions.
+ *
+ * @param offset of the most significant bit of the field
+ * @param width of the field in bits, 1 - 32
+ */
+public record IntField(int offset, int width)
+{
+    public IntField
+    {
+        if(offset < 0 || width < 1 || width > 32)
+        {
+            throw new IllegalArgumentException("Invalid field offset [" + offset + "] or width [" + width + "]");
+        }
+    }
+
+    /**
+     * Creates a field for the bit positions from start to end, inclusive.
+     * @param start bit position of the most significant bit
+     * @param end bit position of the least significant bit
+     * @return field
+     */
+    public static IntField range(int start, int end)
+    {
+        return new IntField(start, end - start + 1);
+    }
+
+    /**
+     * Bit position of the least significant bit of the field
+     */
+    public int end()
+    {
+        return offset + width - 1;
+    }
+}
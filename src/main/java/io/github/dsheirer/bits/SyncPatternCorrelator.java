@@ -0,0 +1,206 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+
+/**
+ * Multi-pattern sync correlator.  Maintains a shift register of the most recent dibits and compares the register
+ * against all configured sync patterns (e.g. normal and PLL phase-rotated variants) using 64-bit XOR and population
+ * count, where each pattern has its own maximum allowable bit error count.
+ *
+ * Patterns are evaluated in the order that they were added and the first pattern that matches within its bit error
+ * threshold is reported, so callers should add the preferred (normal) pattern variants first.
+ *
+ * Supports streaming one dibit at a time, scanning a packed dibit buffer for the next sync match, and explicitly
+ * testing an externally assembled sync value.
+ */
+public class SyncPatternCorrelator
+{
+    public static final int NO_MATCH = -1;
+
+    private final long mMask;
+    private long[] mPatterns = new long[0];
+    private int[] mMaximumBitErrors = new int[0];
+    private long mValue;
+    private int mBitErrorCount;
+    private int mMatchedPattern = NO_MATCH;
+
+    /**
+     * Constructs an instance
+     * @param syncBitLength length of the sync patterns in bits, 2 - 64
+     */
+    public SyncPatternCorrelator(int syncBitLength)
+    {
+        Validate.inclusiveBetween(2, 64, syncBitLength, "Sync bit length must be in range 2 - 64");
+        mMask = syncBitLength == 64 ? -1L : (1L << syncBitLength) - 1;
+    }
+
+    /**
+     * Adds a sync pattern
+     * @param pattern to match
+     * @param maximumBitErrors allowed for a pattern match
+     * @return index of the pattern that is reported when the pattern is matched
+     */
+    public int add(long pattern, int maximumBitErrors)
+    {
+        int index = mPatterns.length;
+        mPatterns = Arrays.copyOf(mPatterns, index + 1);
+        mPatterns[index] = pattern & mMask;
+        mMaximumBitErrors = Arrays.copyOf(mMaximumBitErrors, index + 1);
+        mMaximumBitErrors[index] = maximumBitErrors;
+        return index;
+    }
+
+    /**
+     * Number of configured patterns
+     */
+    public int getPatternCount()
+    {
+        return mPatterns.length;
+    }
+
+    /**
+     * Current value of the shift register
+     */
+    public long getValue()
+    {
+        return mValue;
+    }
+
+    /**
+     * Loads the shift register with the value
+     */
+    public void setValue(long value)
+    {
+        mValue = value & mMask;
+    }
+
+    /**
+     * Number of bit errors for the most recent pattern match.
+     */
+    public int getBitErrorCount()
+    {
+        return mBitErrorCount;
+    }
+
+    /**
+     * Number of bit errors between the current shift register value and the pattern at the specified index.
+     */
+    public int getBitErrorCount(int patternIndex)
+    {
+        return Long.bitCount(mValue ^ mPatterns[patternIndex]);
+    }
+
+    /**
+     * Clears the shift register
+     */
+    public void reset()
+    {
+        mValue = 0;
+        mBitErrorCount = 0;
+        mMatchedPattern = NO_MATCH;
+    }
+
+    /**
+     * Shifts the dibit into the shift register and tests for a sync pattern match.
+     * @param dibit value 0-3 as defined by Dibit.getValue()
+     * @return index of the matching pattern or NO_MATCH
+     */
+    public int receive(int dibit)
+    {
+        mValue = ((mValue << 2) | dibit) & mMask;
+        return match(mValue);
+    }
+
+    /**
+     * Scans the buffer for the next sync pattern match, shifting each dibit into the shift register.  Scanning stops
+     * at the dibit that completes a pattern match so that the caller can process the match and resume scanning from
+     * the following dibit.  Use getMatchedPattern() and getBitErrorCount() to access the match details.
+     *
+     * @param buffer containing dibits
+     * @param offset to the first dibit to scan
+     * @param length number of dibits to scan
+     * @return buffer index of the dibit that completes a pattern match or NO_MATCH if the dibits were scanned without
+     * a match
+     */
+    public int search(DibitBuffer buffer, int offset, int length)
+    {
+        final long[] patterns = mPatterns;
+        final int[] maximumBitErrors = mMaximumBitErrors;
+        final long mask = mMask;
+        final int end = offset + length;
+        long value = mValue;
+
+        for(int x = offset; x < end; x++)
+        {
+            value = ((value << 2) | buffer.get(x)) & mask;
+
+            for(int y = 0; y < patterns.length; y++)
+            {
+                int bitErrors = Long.bitCount(value ^ patterns[y]);
+
+                if(bitErrors <= maximumBitErrors[y])
+                {
+                    mValue = value;
+                    mBitErrorCount = bitErrors;
+                    mMatchedPattern = y;
+                    return x;
+                }
+            }
+        }
+
+        mValue = value;
+        return NO_MATCH;
+    }
+
+    /**
+     * Tests the value against each of the sync patterns without altering the shift register.
+     * @param value to test
+     * @return index of the first pattern that matches within its maximum bit error count, or NO_MATCH
+     */
+    public int match(long value)
+    {
+        for(int x = 0; x < mPatterns.length; x++)
+        {
+            int bitErrors = Long.bitCount(value ^ mPatterns[x]);
+
+            if(bitErrors <= mMaximumBitErrors[x])
+            {
+                mBitErrorCount = bitErrors;
+                mMatchedPattern = x;
+                return x;
+            }
+        }
+
+        return NO_MATCH;
+    }
+
+    /**
+     * Index of the most recently matched pattern
+     */
+    public int getMatchedPattern()
+    {
+        return mMatchedPattern;
+    }
+}
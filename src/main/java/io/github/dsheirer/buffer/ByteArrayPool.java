@@ -0,0 +1,131 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of reusable byte arrays that back the native buffers created from tuner sample transfers.
+ *
+ * Arrays are borrowed by the sample producer thread and are returned by whichever consumer thread releases the final
+ * user count on the native buffer.  The pool is sized for a single array length.  When the requested length changes,
+ * the pooled arrays are discarded.  When the pool is empty, a new array is created (a pool miss) and that array joins
+ * the pool when it is recycled, up to the maximum pool size.
+ */
+public class ByteArrayPool
+{
+    private final ArrayBlockingQueue<byte[]> mArrays;
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private volatile int mArrayLength;
+    private volatile boolean mDisposed = false;
+
+    /**
+     * Constructs an instance
+     * @param maximumCount number of arrays to retain in the pool
+     */
+    public ByteArrayPool(int maximumCount)
+    {
+        if(maximumCount < 1)
+        {
+            throw new IllegalArgumentException("Maximum count must be positive");
+        }
+
+        mArrays = new ArrayBlockingQueue<>(maximumCount);
+    }
+
+    /**
+     * Borrows an array from the pool, or creates a new array if the pool is empty.
+     * @param length of the array
+     * @return array with undefined contents
+     */
+    public byte[] get(int length)
+    {
+        if(length != mArrayLength)
+        {
+            mArrayLength = length;
+            mArrays.clear();
+        }
+
+        byte[] array = mArrays.poll();
+
+        if(array == null || array.length != length)
+        {
+            mMissCount.incrementAndGet();
+            return new byte[length];
+        }
+
+        mHitCount.incrementAndGet();
+        return array;
+    }
+
+    /**
+     * Returns the array to the pool.  Arrays are discarded if the pool is full, has been disposed, or the array
+     * length doesn't match the current array length.
+     */
+    public void recycle(byte[] array)
+    {
+        if(!mDisposed && array.length == mArrayLength)
+        {
+            mArrays.offer(array);
+        }
+    }
+
+    /**
+     * Number of arrays currently available in the pool
+     */
+    public int getAvailableCount()
+    {
+        return mArrays.size();
+    }
+
+    /**
+     * Number of array requests that were served from the pool
+     */
+    public long getHitCount()
+    {
+        return mHitCount.get();
+    }
+
+    /**
+     * Number of array requests that required a new array to be created
+     */
+    public long getMissCount()
+    {
+        return mMissCount.get();
+    }
+
+    /**
+     * Releases all pooled arrays and prevents any outstanding arrays from rejoining the pool.
+     */
+    public void dispose()
+    {
+        mDisposed = true;
+        mArrays.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Byte array pool - available [" + getAvailableCount() + "] hits [" + getHitCount() + "] misses [" +
+            getMissCount() + "]";
+    }
+}
@@ -19,6 +19,10 @@
 
 package io.github.dsheirer.buffer;
 
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -26,16 +30,88 @@ import java.nio.ByteBuffer;
  */
 public class ByteNativeBufferFactory implements INativeBufferFactory
 {
-    private static final float DC_FILTER_GAIN = 0.007f; //Normalizes DC over period of ~142 (1 / .007) buffers
+    static final float DC_FILTER_GAIN = 0.007f; //Normalizes DC over period of ~142 (1 / .007) buffers
+    private static final int BUFFER_POOL_SIZE = 64;
+    private volatile ByteArrayPool mBufferPool;
+    private volatile DirectNativeBufferFactory mDirectFactory;
+    private ByteSampleConverter mConverter;
     private float mAverageDc = 0.0f;
 
+    /**
+     * Constructs an instance
+     */
+    public ByteNativeBufferFactory()
+    {
+        mConverter = ByteSampleConverter.getInstance(CalibrationManager.getInstance()
+                .getImplementation(CalibrationType.BYTE_SAMPLE_CONVERTER));
+    }
+
     @Override
     public INativeBuffer getBuffer(ByteBuffer samples, long timestamp)
     {
-        byte[] copy = new byte[samples.capacity()];
+        DirectNativeBufferFactory directFactory = mDirectFactory;
+
+        if(directFactory != null)
+        {
+            return directFactory.getBuffer(samples, timestamp);
+        }
+
+        ByteArrayPool pool = mBufferPool;
+        byte[] copy = pool != null ? pool.get(samples.capacity()) : new byte[samples.capacity()];
         samples.get(copy);
         calculateDc(copy);
-        return new ByteNativeBuffer(copy, timestamp, mAverageDc);
+        return new ByteNativeBuffer(copy, timestamp, mAverageDc, pool, mConverter);
+    }
+
+    @Override
+    public void setBufferPoolingEnabled(boolean enabled)
+    {
+        if(enabled && mBufferPool == null)
+        {
+            mBufferPool = new ByteArrayPool(BUFFER_POOL_SIZE);
+        }
+        else if(!enabled && mBufferPool != null)
+        {
+            mBufferPool.dispose();
+            mBufferPool = null;
+        }
+    }
+
+    @Override
+    public void setDirectConversionEnabled(boolean enabled)
+    {
+        if(enabled && mDirectFactory == null)
+        {
+            mDirectFactory = new DirectNativeBufferFactory(false, DC_FILTER_GAIN, mConverter);
+        }
+        else if(!enabled && mDirectFactory != null)
+        {
+            mDirectFactory.dispose();
+            mDirectFactory = null;
+        }
+    }
+
+    @Override
+    public String getBufferPoolMetrics()
+    {
+        DirectNativeBufferFactory directFactory = mDirectFactory;
+
+        if(directFactory != null)
+        {
+            return directFactory.getBufferPoolMetrics();
+        }
+
+        ByteArrayPool pool = mBufferPool;
+        return pool != null ? pool.toString() : null;
+    }
+
+    /**
+     * Sample array pool used by this factory
+     * @return pool or null if pooling is not enabled.
+     */
+    public ByteArrayPool getBufferPool()
+    {
+        return mBufferPool;
     }
 
     /**
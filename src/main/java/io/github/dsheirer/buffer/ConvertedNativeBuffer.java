@@ -0,0 +1,237 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Native buffer whose raw samples have already been converted to non-interleaved complex sample fragments, so that
+ * the conversion (and DC removal) is performed once and the converted samples can be shared with multiple channels.
+ *
+ * Converted buffers are issued by a ConvertedNativeBufferPool and are reference counted.  The fragment arrays are
+ * reused once all users have released the buffer, so consumers must treat the fragment arrays as read-only and must
+ * not retain them after releasing their user count.
+ *
+ * The interleaved form of the samples is created from the fragments on first request after each load, into interleaved
+ * arrays that are pooled with the buffer, and is shared by all consumers of the interleaved iterator.  The same
+ * read-only and retention rules apply to the interleaved arrays.
+ */
+public class ConvertedNativeBuffer implements INativeBuffer, IReferenceCountedBuffer
+{
+    public static final int FRAGMENT_SIZE = 2048;
+
+    private final ConvertedNativeBufferPool mPool;
+    private final List<ComplexSamples> mFragments;
+    private final int mSampleCount;
+    private final AtomicInteger mUserCount = new AtomicInteger();
+    private final List<InterleavedComplexSamples> mInterleavedFragments = new ArrayList<>();
+    private final List<InterleavedComplexSamples> mInterleavedFragmentsView =
+        Collections.unmodifiableList(mInterleavedFragments);
+    private float[][] mInterleavedArrays;
+    private boolean mInterleaved;
+    private long mTimestamp;
+
+    /**
+     * Constructs an instance
+     * @param pool that owns this buffer
+     * @param sampleCount number of complex samples
+     */
+    ConvertedNativeBuffer(ConvertedNativeBufferPool pool, int sampleCount)
+    {
+        mPool = pool;
+        mSampleCount = sampleCount;
+
+        List<ComplexSamples> fragments = new ArrayList<>();
+
+        for(int offset = 0; offset < sampleCount; offset += FRAGMENT_SIZE)
+        {
+            int length = Math.min(FRAGMENT_SIZE, sampleCount - offset);
+            fragments.add(new ComplexSamples(new float[length], new float[length]));
+        }
+
+        mFragments = Collections.unmodifiableList(fragments);
+    }
+
+    /**
+     * Converts the native buffer samples into this buffer's fragments.
+     * @param nativeBuffer to convert
+     */
+    void load(INativeBuffer nativeBuffer)
+    {
+        if(nativeBuffer.sampleCount() != mSampleCount)
+        {
+            throw new IllegalArgumentException("Native buffer sample count [" + nativeBuffer.sampleCount() +
+                "] does not match converted buffer sample count [" + mSampleCount + "]");
+        }
+
+        nativeBuffer.convert(mFragments);
+        setTimestamp(nativeBuffer.getTimestamp());
+    }
+
+    /**
+     * Fragment arrays for loading converted samples directly into this buffer.
+     */
+    List<ComplexSamples> getFragments()
+    {
+        return mFragments;
+    }
+
+    /**
+     * Sets the timestamp for samples that were loaded directly into the fragment arrays and invalidates the
+     * interleaved form of the previously loaded samples.
+     */
+    void setTimestamp(long timestamp)
+    {
+        synchronized(mInterleavedFragments)
+        {
+            mTimestamp = timestamp;
+            mInterleaved = false;
+        }
+    }
+
+    /**
+     * Sets the user count when this buffer is issued from the pool.
+     */
+    void setUserCount(int count)
+    {
+        mUserCount.set(count);
+    }
+
+    @Override
+    public void incrementUserCount()
+    {
+        mUserCount.incrementAndGet();
+    }
+
+    @Override
+    public void decrementUserCount()
+    {
+        if(mUserCount.decrementAndGet() == 0)
+        {
+            mPool.recycle(this);
+        }
+    }
+
+    /**
+     * Current user count for this buffer
+     */
+    public int getUserCount()
+    {
+        return mUserCount.get();
+    }
+
+    @Override
+    public Iterator<ComplexSamples> iterator()
+    {
+        return mFragments.iterator();
+    }
+
+    @Override
+    public Iterator<InterleavedComplexSamples> iteratorInterleaved()
+    {
+        return getInterleavedFragments().iterator();
+    }
+
+    /**
+     * Interleaved form of the converted fragments.  The fragments are interleaved once per load into the pooled
+     * interleaved arrays, so that each consumer of the interleaved iterator doesn't allocate and interleave its own
+     * copy of the samples.
+     */
+    private List<InterleavedComplexSamples> getInterleavedFragments()
+    {
+        synchronized(mInterleavedFragments)
+        {
+            if(!mInterleaved)
+            {
+                if(mInterleavedArrays == null)
+                {
+                    mInterleavedArrays = new float[mFragments.size()][];
+
+                    for(int x = 0; x < mFragments.size(); x++)
+                    {
+                        mInterleavedArrays[x] = new float[mFragments.get(x).i().length * 2];
+                    }
+                }
+
+                mInterleavedFragments.clear();
+
+                for(int x = 0; x < mFragments.size(); x++)
+                {
+                    ComplexSamples fragment = mFragments.get(x);
+                    float[] i = fragment.i();
+                    float[] q = fragment.q();
+                    float[] interleaved = mInterleavedArrays[x];
+
+                    for(int y = 0; y < i.length; y++)
+                    {
+                        interleaved[2 * y] = i[y];
+                        interleaved[2 * y + 1] = q[y];
+                    }
+
+                    mInterleavedFragments.add(new InterleavedComplexSamples(interleaved, mTimestamp));
+                }
+
+                mInterleaved = true;
+            }
+
+            return mInterleavedFragmentsView;
+        }
+    }
+
+    /**
+     * Copies the converted fragments into the target fragments.
+     */
+    @Override
+    public void convert(List<ComplexSamples> fragments)
+    {
+        if(fragments.size() != mFragments.size())
+        {
+            INativeBuffer.super.convert(fragments);
+            return;
+        }
+
+        for(int x = 0; x < mFragments.size(); x++)
+        {
+            ComplexSamples source = mFragments.get(x);
+            ComplexSamples target = fragments.get(x);
+            System.arraycopy(source.i(), 0, target.i(), 0, source.i().length);
+            System.arraycopy(source.q(), 0, target.q(), 0, source.q().length);
+        }
+    }
+
+    @Override
+    public int sampleCount()
+    {
+        return mSampleCount;
+    }
+
+    @Override
+    public long getTimestamp()
+    {
+        return mTimestamp;
+    }
+}
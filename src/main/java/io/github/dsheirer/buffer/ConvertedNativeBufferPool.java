@@ -0,0 +1,151 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of reusable converted native buffers.  Buffers are borrowed by the sample producer thread and are
+ * returned by whichever consumer thread releases the final user count.
+ *
+ * The pool is sized for a single sample count.  Recycled buffers with a different sample count (e.g. after a tuner
+ * sample rate change) are discarded.  When the pool is empty, a new buffer is created (a pool miss) and that buffer
+ * joins the pool when it is recycled, up to the maximum pool size.
+ */
+public class ConvertedNativeBufferPool
+{
+    private final ArrayBlockingQueue<ConvertedNativeBuffer> mBuffers;
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private volatile int mSampleCount;
+    private volatile boolean mDisposed = false;
+
+    /**
+     * Constructs an instance
+     * @param maximumCount number of buffers to retain in the pool
+     */
+    public ConvertedNativeBufferPool(int maximumCount)
+    {
+        if(maximumCount < 1)
+        {
+            throw new IllegalArgumentException("Maximum count must be positive");
+        }
+
+        mBuffers = new ArrayBlockingQueue<>(maximumCount);
+    }
+
+    /**
+     * Borrows a buffer from the pool and converts the native buffer samples into it.  The buffer is issued with a
+     * user count of one that represents the borrower's hold on the buffer.
+     *
+     * @param nativeBuffer to convert
+     * @return converted buffer
+     */
+    public ConvertedNativeBuffer convert(INativeBuffer nativeBuffer)
+    {
+        ConvertedNativeBuffer buffer = getBuffer(nativeBuffer.sampleCount());
+        buffer.load(nativeBuffer);
+        return buffer;
+    }
+
+    /**
+     * Borrows an empty buffer from the pool for the sample count.  The buffer is issued with a user count of one that
+     * represents the borrower's hold on the buffer and the borrower is responsible for loading the fragment arrays.
+     *
+     * @param sampleCount number of complex samples
+     * @return buffer with undefined fragment contents
+     */
+    ConvertedNativeBuffer getBuffer(int sampleCount)
+    {
+        if(sampleCount != mSampleCount)
+        {
+            mSampleCount = sampleCount;
+            mBuffers.clear();
+        }
+
+        ConvertedNativeBuffer buffer = mBuffers.poll();
+
+        if(buffer == null || buffer.sampleCount() != sampleCount)
+        {
+            mMissCount.incrementAndGet();
+            buffer = new ConvertedNativeBuffer(this, sampleCount);
+        }
+        else
+        {
+            mHitCount.incrementAndGet();
+        }
+
+        buffer.setUserCount(1);
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool.  Buffers are discarded if the pool is full, has been disposed, or the buffer
+     * sample count doesn't match the current sample count.
+     */
+    void recycle(ConvertedNativeBuffer buffer)
+    {
+        if(!mDisposed && buffer.sampleCount() == mSampleCount)
+        {
+            mBuffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Number of buffers currently available in the pool
+     */
+    public int getAvailableCount()
+    {
+        return mBuffers.size();
+    }
+
+    /**
+     * Number of buffer requests that were served from the pool
+     */
+    public long getHitCount()
+    {
+        return mHitCount.get();
+    }
+
+    /**
+     * Number of buffer requests that required a new buffer to be created
+     */
+    public long getMissCount()
+    {
+        return mMissCount.get();
+    }
+
+    /**
+     * Releases all pooled buffers and prevents any outstanding buffers from rejoining the pool.
+     */
+    public void dispose()
+    {
+        mDisposed = true;
+        mBuffers.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Converted buffer pool - available [" + getAvailableCount() + "] hits [" + getHitCount() + "] misses [" +
+            getMissCount() + "]";
+    }
+}
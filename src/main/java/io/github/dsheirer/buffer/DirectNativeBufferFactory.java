@@ -0,0 +1,84 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.buffer.direct.DirectSampleConverter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Factory for creating converted native buffers directly from the (direct) byte buffer of a USB transfer.
+ *
+ * The raw 8-bit samples are converted to float samples straight from the transfer buffer into pooled, reference
+ * counted converted native buffers, avoiding the intermediate copy into a heap byte array.  Since the conversion is
+ * complete when getBuffer() returns, the transfer buffer can be resubmitted as soon as the buffer is dispatched and
+ * the converted samples are never read from a transfer buffer that the USB stack may be overwriting.
+ *
+ * Buffers are issued with a user count of one that the caller must release once the buffer has been dispatched.
+ */
+public class DirectNativeBufferFactory implements INativeBufferFactory
+{
+    private static final int BUFFER_POOL_SIZE = 64;
+    private final ConvertedNativeBufferPool mPool = new ConvertedNativeBufferPool(BUFFER_POOL_SIZE);
+    private final DirectSampleConverter mConverter;
+
+    /**
+     * Constructs an instance
+     * @param signed true for signed 8-bit samples or false for unsigned 8-bit samples.
+     * @param dcFilterGain for the running DC average, normalizing DC over a period of (1 / gain) buffers.
+     * @param converter to convert the samples, optimal scalar vs vector SIMD
+     */
+    public DirectNativeBufferFactory(boolean signed, float dcFilterGain, ByteSampleConverter converter)
+    {
+        mConverter = new DirectSampleConverter(signed, dcFilterGain, converter);
+    }
+
+    @Override
+    public INativeBuffer getBuffer(ByteBuffer samples, long timestamp)
+    {
+        ConvertedNativeBuffer buffer = mPool.getBuffer(samples.capacity() / 2);
+        mConverter.convert(samples, buffer.getFragments());
+        buffer.setTimestamp(timestamp);
+        return buffer;
+    }
+
+    @Override
+    public String getBufferPoolMetrics()
+    {
+        return mPool.toString();
+    }
+
+    /**
+     * Converted buffer pool, for metrics.
+     */
+    public ConvertedNativeBufferPool getPool()
+    {
+        return mPool;
+    }
+
+    /**
+     * Disposes the buffer pool
+     */
+    public void dispose()
+    {
+        mPool.dispose();
+    }
+}
@@ -23,6 +23,7 @@ import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * A buffer of raw samples copied from native (ie outside of the JVM) memory into the JVM heap and
@@ -50,4 +51,47 @@ public interface INativeBuffer
      * @return millis since epoch
      */
     long getTimestamp();
+
+    /**
+     * Converts the raw samples to complex samples, overwriting the I and Q arrays of the supplied fragments in order.
+     * The total length of the fragments must equal the sample count of this buffer.
+     *
+     * The default implementation copies the samples produced by iterator().  Implementations can override this method
+     * to convert directly into the fragment arrays.
+     *
+     * @param fragments to receive the converted samples
+     */
+    default void convert(List<ComplexSamples> fragments)
+    {
+        Iterator<ComplexSamples> iterator = iterator();
+        int fragmentIndex = 0;
+        int fragmentOffset = 0;
+
+        while(iterator.hasNext())
+        {
+            ComplexSamples samples = iterator.next();
+            int samplesOffset = 0;
+
+            while(samplesOffset < samples.i().length)
+            {
+                if(fragmentIndex >= fragments.size())
+                {
+                    throw new IllegalArgumentException("Fragments are too small for the buffer sample count");
+                }
+
+                ComplexSamples fragment = fragments.get(fragmentIndex);
+                int length = Math.min(samples.i().length - samplesOffset, fragment.i().length - fragmentOffset);
+                System.arraycopy(samples.i(), samplesOffset, fragment.i(), fragmentOffset, length);
+                System.arraycopy(samples.q(), samplesOffset, fragment.q(), fragmentOffset, length);
+                samplesOffset += length;
+                fragmentOffset += length;
+
+                if(fragmentOffset == fragment.i().length)
+                {
+                    fragmentIndex++;
+                    fragmentOffset = 0;
+                }
+            }
+        }
+    }
 }
@@ -36,4 +36,41 @@ public interface INativeBufferFactory
      * @return instance
      */
     INativeBuffer getBuffer(ByteBuffer samples, long timestamp);
+
+    /**
+     * Enables or disables pooling of the sample arrays that back the native buffers created by this factory.  When
+     * enabled, created buffers carry a user count of one that the caller must release once the buffer has been
+     * dispatched, and the sample array is recycled when all users have released the buffer.
+     *
+     * Note: factories that don't support pooling ignore this setting.
+     *
+     * @param enabled true to enable pooling
+     */
+    default void setBufferPoolingEnabled(boolean enabled)
+    {
+        //No-op by default
+    }
+
+    /**
+     * Enables or disables direct conversion of the raw samples from the USB transfer byte buffer into float samples,
+     * instead of copying the raw samples into a heap array for conversion by each consumer.  When enabled, created
+     * buffers carry a user count of one that the caller must release once the buffer has been dispatched.
+     *
+     * Note: factories that don't support direct conversion ignore this setting.
+     *
+     * @param enabled true to enable direct conversion
+     */
+    default void setDirectConversionEnabled(boolean enabled)
+    {
+        //No-op by default
+    }
+
+    /**
+     * Buffer pool hit and miss metrics for logging.
+     * @return metrics or null if the factory doesn't use a buffer pool.
+     */
+    default String getBufferPoolMetrics()
+    {
+        return null;
+    }
 }
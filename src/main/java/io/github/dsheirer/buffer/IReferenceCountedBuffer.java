@@ -0,0 +1,64 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+/**
+ * Buffer that is shared across multiple consumers and recycled once all consumers have released it.
+ *
+ * Each consumer that retains the buffer beyond the scope of the receive() call (e.g. queues it for processing on
+ * another thread) must register a user count before the receive() call returns and must release that user count
+ * when it has finished with the buffer.
+ */
+public interface IReferenceCountedBuffer
+{
+    /**
+     * Registers an additional user of this buffer.
+     */
+    void incrementUserCount();
+
+    /**
+     * Releases a user's hold on this buffer.  The buffer is recycled when the user count reaches zero.
+     */
+    void decrementUserCount();
+
+    /**
+     * Registers a user count against the buffer if the buffer is reference counted.
+     * @param buffer to register a user count against
+     */
+    static void increment(Object buffer)
+    {
+        if(buffer instanceof IReferenceCountedBuffer referenceCountedBuffer)
+        {
+            referenceCountedBuffer.incrementUserCount();
+        }
+    }
+
+    /**
+     * Releases a user count against the buffer if the buffer is reference counted.
+     * @param buffer to release a user count against
+     */
+    static void decrement(Object buffer)
+    {
+        if(buffer instanceof IReferenceCountedBuffer referenceCountedBuffer)
+        {
+            referenceCountedBuffer.decrementUserCount();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.sample.Listener;
+
+/**
+ * Converts each incoming native buffer to complex samples exactly once and hands the converted (reference counted)
+ * buffer to the downstream listener, so that multiple channels can share the converted samples instead of each
+ * channel converting the raw native samples independently.
+ *
+ * The converter releases its own hold on each converted buffer after the downstream listener returns, so the
+ * downstream listener (and its listeners) must register a user count for any buffer that is retained.
+ */
+public class NativeBufferConverter implements Listener<INativeBuffer>
+{
+    private final ConvertedNativeBufferPool mPool;
+    private final Listener<INativeBuffer> mListener;
+
+    /**
+     * Constructs an instance
+     * @param poolSize maximum number of converted buffers to retain for reuse
+     * @param listener to receive converted buffers
+     */
+    public NativeBufferConverter(int poolSize, Listener<INativeBuffer> listener)
+    {
+        mPool = new ConvertedNativeBufferPool(poolSize);
+        mListener = listener;
+    }
+
+    @Override
+    public void receive(INativeBuffer nativeBuffer)
+    {
+        //Buffers that were converted at the source (e.g. direct conversion from USB transfers) are passed through
+        if(nativeBuffer instanceof ConvertedNativeBuffer)
+        {
+            mListener.receive(nativeBuffer);
+            return;
+        }
+
+        ConvertedNativeBuffer converted = mPool.convert(nativeBuffer);
+
+        try
+        {
+            mListener.receive(converted);
+        }
+        finally
+        {
+            converted.decrementUserCount();
+        }
+    }
+
+    /**
+     * Converted buffer pool, for metrics.
+     */
+    public ConvertedNativeBufferPool getPool()
+    {
+        return mPool;
+    }
+
+    /**
+     * Disposes the buffer pool
+     */
+    public void dispose()
+    {
+        mPool.dispose();
+    }
+}
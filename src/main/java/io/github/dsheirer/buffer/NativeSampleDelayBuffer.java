@@ -42,6 +42,9 @@ import java.util.concurrent.LinkedTransferQueue;
  * delayed buffers.  Any listeners that are added to this class are expected to implement a non-blocking receive method
  * so as not to delay the stream of sample buffers.  Channel listeners are expected to implement buffer queue processing
  * on another thread.
+ *
+ * Reference counted buffers are held by this delay buffer for as long as they remain in the delay queue.  Listeners
+ * that queue buffers for processing on another thread must register their own user count for each buffer.
  */
 public class NativeSampleDelayBuffer implements Listener<INativeBuffer>
 {
@@ -68,7 +71,7 @@ public class NativeSampleDelayBuffer implements Listener<INativeBuffer>
     /**
      * Prepares this instance for disposal by releasing all stored sample buffers.
      */
-    public void dispose()
+    public synchronized void dispose()
     {
         clearBuffer();
         mBroadcaster.clear();
@@ -87,6 +90,7 @@ public class NativeSampleDelayBuffer implements Listener<INativeBuffer>
     {
         for(int x = 0; x < mDelayBuffer.length; x++)
         {
+            IReferenceCountedBuffer.decrement(mDelayBuffer[x]);
             mDelayBuffer[x] = null;
         }
 
@@ -118,7 +122,10 @@ public class NativeSampleDelayBuffer implements Listener<INativeBuffer>
 
         mBroadcaster.receive(samples);
 
-        //Store the new buffer in the delay queue and increment the pointer
+        //Store the new buffer in the delay queue (releasing the hold on the buffer that it replaces) and increment
+        //the pointer
+        IReferenceCountedBuffer.increment(samples);
+        IReferenceCountedBuffer.decrement(mDelayBuffer[mDelayBufferPointer]);
         mDelayBuffer[mDelayBufferPointer++] = samples;
 
         //Wrap the delay buffer pointer as needed
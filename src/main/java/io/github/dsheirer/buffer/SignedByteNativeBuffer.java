@@ -19,16 +19,22 @@
 
 package io.github.dsheirer.buffer;
 
+import io.github.dsheirer.buffer.bytes.ByteInterleavedSamplesIterator;
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.buffer.bytes.ByteSamplesIterator;
 import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+import io.github.dsheirer.vector.calibrate.Implementation;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Native buffer sample array wrapper class that provides access to a stream of either interleaved or
  * non-interleaved complex sample buffers converted from the raw byte sample array.
  */
-public class SignedByteNativeBuffer implements INativeBuffer
+public class SignedByteNativeBuffer implements INativeBuffer, IReferenceCountedBuffer
 {
     private static final int FRAGMENT_SIZE = 2048;
     private final static float[] LOOKUP_VALUES;
@@ -47,6 +53,9 @@ public class SignedByteNativeBuffer implements INativeBuffer
     }
 
     private byte[] mSamples;
+    private ByteArrayPool mPool;
+    private ByteSampleConverter mConverter;
+    private final AtomicInteger mUserCount = new AtomicInteger(1);
     private long mTimestamp;
     private float mIAverageDc;
     private float mQAverageDc;
@@ -59,6 +68,24 @@ public class SignedByteNativeBuffer implements INativeBuffer
      * @param qAverageDc of the sample stream
      */
     public SignedByteNativeBuffer(byte[] samples, long timestamp, float iAverageDc, float qAverageDc)
+    {
+        this(samples, timestamp, iAverageDc, qAverageDc, null, ByteSampleConverter.getInstance(Implementation.SCALAR));
+    }
+
+    /**
+     * Constructs an instance with a sample array that was borrowed from the pool.  The buffer is created with a user
+     * count of one that represents the creator's hold on the buffer.  The sample array is returned to the pool when
+     * all users have released the buffer.
+     *
+     * @param samples to process
+     * @param timestamp of the samples
+     * @param iAverageDc of the sample stream
+     * @param qAverageDc of the sample stream
+     * @param pool that owns the samples array, or null if the array is not pooled
+     * @param converter to convert the samples, optimal scalar vs vector SIMD
+     */
+    public SignedByteNativeBuffer(byte[] samples, long timestamp, float iAverageDc, float qAverageDc, ByteArrayPool pool,
+                                  ByteSampleConverter converter)
     {
         //Ensure we're an even multiple of the fragment size.  Typically, this will be 64k or 128k
         if(samples.length % FRAGMENT_SIZE != 0)
@@ -70,6 +97,30 @@ public class SignedByteNativeBuffer implements INativeBuffer
         mTimestamp = timestamp;
         mIAverageDc = iAverageDc;
         mQAverageDc = qAverageDc;
+        mPool = pool;
+        mConverter = converter;
+    }
+
+    /**
+     * Registers an additional user of this buffer.
+     */
+    @Override
+    public void incrementUserCount()
+    {
+        mUserCount.incrementAndGet();
+    }
+
+    /**
+     * Releases a user's hold on this buffer.  The sample array is returned to the pool (if pooled) when the user
+     * count reaches zero.
+     */
+    @Override
+    public void decrementUserCount()
+    {
+        if(mUserCount.decrementAndGet() == 0 && mPool != null)
+        {
+            mPool.recycle(mSamples);
+        }
     }
 
     @Override
@@ -87,75 +138,33 @@ public class SignedByteNativeBuffer implements INativeBuffer
     @Override
     public Iterator<ComplexSamples> iterator()
     {
-        return new ComplexSamplesIterator();
+        return new ByteSamplesIterator(mSamples, mConverter, true, mIAverageDc, mQAverageDc, mTimestamp);
     }
 
     @Override
     public Iterator<InterleavedComplexSamples> iteratorInterleaved()
     {
-        return new InterleavedComplexSamplesIterator();
+        return new ByteInterleavedSamplesIterator(mSamples, mConverter, true, mIAverageDc, mQAverageDc, mTimestamp);
     }
 
     /**
-     * Iterator of complex samples over the native byte buffer array
+     * Converts the raw samples directly into the fragment arrays without intermediate buffers.
      */
-    private class ComplexSamplesIterator implements Iterator<ComplexSamples>
+    @Override
+    public void convert(List<ComplexSamples> fragments)
     {
-        private int mSamplesPointer = 0;
-
-        @Override
-        public boolean hasNext()
-        {
-            return mSamplesPointer < mSamples.length;
-        }
+        int samplesOffset = 0;
 
-        @Override
-        public ComplexSamples next()
+        for(ComplexSamples fragment: fragments)
         {
-            float[] i = new float[FRAGMENT_SIZE];
-            float[] q = new float[FRAGMENT_SIZE];
-            int samplesOffset = mSamplesPointer;
+            float[] i = fragment.i();
+            float[] q = fragment.q();
 
             for(int pointer = 0; pointer < i.length; pointer++)
             {
                 i[pointer] = LOOKUP_VALUES[(0xFF & mSamples[samplesOffset++])] - mIAverageDc;
                 q[pointer] = LOOKUP_VALUES[(0xFF & mSamples[samplesOffset++])] - mQAverageDc;
             }
-
-            mSamplesPointer = samplesOffset;
-            return new ComplexSamples(i, q);
-        }
-    }
-
-    /**
-     * Iterator of interleaved complex samples over the native byte buffer array.
-     */
-    private class InterleavedComplexSamplesIterator implements Iterator<InterleavedComplexSamples>
-    {
-        private int mSamplesPointer = 0;
-
-        @Override
-        public boolean hasNext()
-        {
-            return mSamplesPointer < mSamples.length;
-        }
-
-        @Override
-        public InterleavedComplexSamples next()
-        {
-            float[] converted = new float[FRAGMENT_SIZE * 2];
-
-            int samplesOffset = mSamplesPointer;
-
-            for(int pointer = 0; pointer < converted.length; pointer += 2)
-            {
-                converted[pointer] = LOOKUP_VALUES[(0xFF & mSamples[samplesOffset++])] - mIAverageDc;
-                converted[pointer + 1] = LOOKUP_VALUES[(0xFF & mSamples[samplesOffset++])] - mQAverageDc;
-            }
-
-            mSamplesPointer = samplesOffset;
-
-            return new InterleavedComplexSamples(converted, mTimestamp);
         }
     }
 }
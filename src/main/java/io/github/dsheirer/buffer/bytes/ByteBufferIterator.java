@@ -0,0 +1,88 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * Base complex samples iterator for raw 8-bit interleaved I/Q sample buffers, either unsigned (offset binary, e.g.
+ * RTL-SDR) or signed (e.g. HackRF).  Converted samples are scaled to the range -1.0 to 1.0 and the average DC offset
+ * is removed from each of the inphase and quadrature samples by the (scalar or vector) byte sample converter.
+ *
+ * @param <T> either ComplexSamples or InterleavedComplexSamples
+ */
+public abstract class ByteBufferIterator<T> implements Iterator<T>
+{
+    public static final int FRAGMENT_SIZE = 2048;
+
+    protected ByteBuffer mSamples;
+    protected ByteSampleConverter mConverter;
+    protected int mSamplesPointer = 0;
+    protected boolean mSigned;
+    protected float mIAverageDc;
+    protected float mQAverageDc;
+    protected long mTimestamp;
+
+    /**
+     * Constructs an instance
+     * @param samples of interleaved 8-bit I/Q values
+     * @param converter to convert the samples
+     * @param signed true for signed 8-bit samples or false for unsigned (offset binary) samples
+     * @param iAverageDc to remove from each inphase sample
+     * @param qAverageDc to remove from each quadrature sample
+     * @param timestamp of the buffer
+     */
+    public ByteBufferIterator(byte[] samples, ByteSampleConverter converter, boolean signed, float iAverageDc,
+                              float qAverageDc, long timestamp)
+    {
+        int requiredInterval = FRAGMENT_SIZE * 2; //requires 2 bytes per complex sample
+
+        if(samples.length % requiredInterval != 0)
+        {
+            throw new IllegalArgumentException("Samples byte array length [" + samples.length +
+                    "] must be an integer multiple of " + requiredInterval);
+        }
+
+        mSamples = ByteBuffer.wrap(samples);
+        mConverter = converter;
+        mSigned = signed;
+        mIAverageDc = iAverageDc;
+        mQAverageDc = qAverageDc;
+        mTimestamp = timestamp;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return mSamplesPointer < mSamples.capacity();
+    }
+
+    /**
+     * Checks for iteration past the end of the sample buffer.
+     */
+    protected void checkNext()
+    {
+        if(mSamplesPointer >= mSamples.capacity())
+        {
+            throw new IllegalStateException("End of buffer exceeded");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+
+/**
+ * Interleaved complex samples iterator for 8-bit sample buffers.
+ */
+public class ByteInterleavedSamplesIterator extends ByteBufferIterator<InterleavedComplexSamples>
+{
+    /**
+     * Constructs an instance
+     * @param samples of interleaved 8-bit I/Q values
+     * @param converter to convert the samples
+     * @param signed true for signed 8-bit samples or false for unsigned samples
+     * @param iAverageDc to remove from each inphase sample
+     * @param qAverageDc to remove from each quadrature sample
+     * @param timestamp of the buffer
+     */
+    public ByteInterleavedSamplesIterator(byte[] samples, ByteSampleConverter converter, boolean signed,
+                                          float iAverageDc, float qAverageDc, long timestamp)
+    {
+        super(samples, converter, signed, iAverageDc, qAverageDc, timestamp);
+    }
+
+    @Override
+    public InterleavedComplexSamples next()
+    {
+        checkNext();
+
+        float[] converted = new float[FRAGMENT_SIZE * 2];
+        mConverter.convertInterleaved(mSamples, mSamplesPointer, converted, FRAGMENT_SIZE, mSigned, mIAverageDc,
+                mQAverageDc);
+        mSamplesPointer += FRAGMENT_SIZE * 2;
+
+        return new InterleavedComplexSamples(converted, mTimestamp);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import io.github.dsheirer.vector.calibrate.Implementation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts raw 8-bit interleaved I/Q samples, either unsigned (offset binary, e.g. RTL-SDR) or signed (e.g. HackRF),
+ * into float samples scaled to the range -1.0 to 1.0 with the average DC offset removed from each of the inphase and
+ * quadrature samples.  Each sample is converted as (sample - 127) / 128 - DC for unsigned samples, or as
+ * sample / 128 - DC for signed samples, so that all implementations produce identical results.
+ *
+ * The samples are read from a byte buffer by absolute index so that the same conversion serves both heap byte array
+ * native buffers (wrapped) and direct USB transfer buffers.  Implementations are stateless and thread-safe.
+ */
+public abstract class ByteSampleConverter
+{
+    protected static final float SCALE = 1.0f / 128.0f;
+
+    private static final ByteSampleConverter SCALAR = new ByteSampleConverterScalar();
+    private static final ByteSampleConverter VECTOR_64 = new ByteSampleConverterVector64Bits();
+    private static final ByteSampleConverter VECTOR_128 = new ByteSampleConverterVector128Bits();
+    private static final ByteSampleConverter VECTOR_256 = new ByteSampleConverterVector256Bits();
+    private static final ByteSampleConverter VECTOR_512 = new ByteSampleConverterVector512Bits();
+
+    /**
+     * Converter for the specified implementation.
+     * @param implementation optimal, scalar vs vector SIMD
+     * @return converter, defaulting to the scalar converter for uncalibrated or scalar implementations.
+     */
+    public static ByteSampleConverter getInstance(Implementation implementation)
+    {
+        return switch(implementation)
+        {
+            case VECTOR_SIMD_512 -> VECTOR_512;
+            case VECTOR_SIMD_256 -> VECTOR_256;
+            case VECTOR_SIMD_128 -> VECTOR_128;
+            case VECTOR_SIMD_64 -> VECTOR_64;
+            default -> SCALAR;
+        };
+    }
+
+    /**
+     * Converts the raw samples into non-interleaved inphase and quadrature sample arrays.
+     * @param samples containing interleaved 8-bit I/Q values
+     * @param offset to the first I/Q byte pair in the samples buffer
+     * @param i array to receive the inphase samples, starting at index 0
+     * @param q array to receive the quadrature samples, starting at index 0
+     * @param length number of complex samples to convert
+     * @param signed true for signed 8-bit samples or false for unsigned samples
+     * @param iAverageDc to remove from each inphase sample
+     * @param qAverageDc to remove from each quadrature sample
+     */
+    public abstract void convert(ByteBuffer samples, int offset, float[] i, float[] q, int length, boolean signed,
+                                 float iAverageDc, float qAverageDc);
+
+    /**
+     * Converts the raw samples into an interleaved I/Q sample array.
+     * @param samples containing interleaved 8-bit I/Q values
+     * @param offset to the first I/Q byte pair in the samples buffer
+     * @param converted array to receive the interleaved samples, starting at index 0
+     * @param length number of complex samples to convert
+     * @param signed true for signed 8-bit samples or false for unsigned samples
+     * @param iAverageDc to remove from each inphase sample
+     * @param qAverageDc to remove from each quadrature sample
+     */
+    public abstract void convertInterleaved(ByteBuffer samples, int offset, float[] converted, int length,
+                                            boolean signed, float iAverageDc, float qAverageDc);
+
+    /**
+     * Converts a single raw sample value, for use with the remaining samples that don't fill a vector.
+     */
+    protected static float convertSample(byte sample, boolean signed, float averageDc)
+    {
+        return (signed ? sample : (sample & 0xFF) - 127) * SCALE - averageDc;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scalar lookup table implementation of the 8-bit sample converter.
+ */
+public class ByteSampleConverterScalar extends ByteSampleConverter
+{
+    private static final float[] LOOKUP_UNSIGNED = new float[256];
+    private static final float[] LOOKUP_SIGNED = new float[256];
+
+    //Creates static lookup tables that convert the 8-bit unsigned (0 - 255) or signed (-128 - 127) values into
+    //scaled float values of -1.0 to 0 to 1.0, indexed by the unsigned byte value
+    static
+    {
+        for(int x = 0; x < 256; x++)
+        {
+            LOOKUP_UNSIGNED[x] = (float)(x - 127) / 128.0f;
+            LOOKUP_SIGNED[x] = (float)((byte)x) / 128.0f;
+        }
+    }
+
+    @Override
+    public void convert(ByteBuffer samples, int offset, float[] i, float[] q, int length, boolean signed,
+                        float iAverageDc, float qAverageDc)
+    {
+        float[] lookup = signed ? LOOKUP_SIGNED : LOOKUP_UNSIGNED;
+
+        if(samples.hasArray())
+        {
+            byte[] array = samples.array();
+            int samplesOffset = samples.arrayOffset() + offset;
+
+            for(int pointer = 0; pointer < length; pointer++)
+            {
+                i[pointer] = lookup[(0xFF & array[samplesOffset++])] - iAverageDc;
+                q[pointer] = lookup[(0xFF & array[samplesOffset++])] - qAverageDc;
+            }
+        }
+        else
+        {
+            int samplesOffset = offset;
+
+            for(int pointer = 0; pointer < length; pointer++)
+            {
+                i[pointer] = lookup[(0xFF & samples.get(samplesOffset++))] - iAverageDc;
+                q[pointer] = lookup[(0xFF & samples.get(samplesOffset++))] - qAverageDc;
+            }
+        }
+    }
+
+    @Override
+    public void convertInterleaved(ByteBuffer samples, int offset, float[] converted, int length, boolean signed,
+                                   float iAverageDc, float qAverageDc)
+    {
+        float[] lookup = signed ? LOOKUP_SIGNED : LOOKUP_UNSIGNED;
+        int convertedLength = length * 2;
+
+        if(samples.hasArray())
+        {
+            byte[] array = samples.array();
+            int samplesOffset = samples.arrayOffset() + offset;
+
+            for(int pointer = 0; pointer < convertedLength; pointer += 2)
+            {
+                converted[pointer] = lookup[(0xFF & array[samplesOffset++])] - iAverageDc;
+                converted[pointer + 1] = lookup[(0xFF & array[samplesOffset++])] - qAverageDc;
+            }
+        }
+        else
+        {
+            int samplesOffset = offset;
+
+            for(int pointer = 0; pointer < convertedLength; pointer += 2)
+            {
+                converted[pointer] = lookup[(0xFF & samples.get(samplesOffset++))] - iAverageDc;
+                converted[pointer + 1] = lookup[(0xFF & samples.get(samplesOffset++))] - qAverageDc;
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 128-bit SIMD vector implementation of the 8-bit sample converter.
+ *
+ * Non-interleaved: each I/Q byte pair is loaded as a little-endian short with the inphase sample in the low byte and
+ * the quadrature sample in the high byte.  The samples are separated with lane-wise shifts and each short vector is
+ * expanded into two float vectors.
+ *
+ * Interleaved: each byte vector is expanded into four float vectors that retain the interleaved I/Q sample order.
+ * Unsigned samples are re-biased to signed values by flipping the most significant bit prior to expansion.
+ *
+ * Heap (array backed) byte buffers are loaded from the backing array, which is faster than loading through the
+ * byte buffer.
+ */
+public class ByteSampleConverterVector128Bits extends ByteSampleConverter
+{
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_128;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_128;
+    private static final VectorMask<Float> QUADRATURE_LANES = VectorMask.fromLong(FLOAT_SPECIES, 0xAAAAAAAAAAAAAAAAL);
+
+    @Override
+    public void convert(ByteBuffer samples, int offset, float[] i, float[] q, int length, boolean signed,
+                        float iAverageDc, float qAverageDc)
+    {
+        byte[] array = samples.hasArray() ? samples.array() : null;
+        int arrayOffset = samples.hasArray() ? samples.arrayOffset() : 0;
+        int samplesOffset = offset;
+        int pointer = 0;
+        ShortVector raw, iRaw, qRaw;
+
+        for(; pointer < SHORT_SPECIES.loopBound(length); pointer += SHORT_SPECIES.length())
+        {
+            if(array != null)
+            {
+                raw = ShortVector.fromByteArray(SHORT_SPECIES, array, arrayOffset + samplesOffset,
+                        ByteOrder.LITTLE_ENDIAN);
+            }
+            else
+            {
+                raw = ShortVector.fromByteBuffer(SHORT_SPECIES, samples, samplesOffset, ByteOrder.LITTLE_ENDIAN);
+            }
+
+            samplesOffset += SHORT_SPECIES.vectorByteSize();
+
+            if(signed)
+            {
+                iRaw = raw.lanewise(VectorOperators.LSHL, 8).lanewise(VectorOperators.ASHR, 8);
+                qRaw = raw.lanewise(VectorOperators.ASHR, 8);
+            }
+            else
+            {
+                iRaw = raw.and((short)0xFF).sub((short)127);
+                qRaw = raw.lanewise(VectorOperators.LSHR, 8).sub((short)127);
+            }
+
+            for(int part = 0; part < 2; part++)
+            {
+                ((FloatVector)iRaw.convertShape(VectorOperators.S2F, FLOAT_SPECIES, part))
+                        .mul(SCALE).sub(iAverageDc).intoArray(i, pointer + (part * FLOAT_SPECIES.length()));
+                ((FloatVector)qRaw.convertShape(VectorOperators.S2F, FLOAT_SPECIES, part))
+                        .mul(SCALE).sub(qAverageDc).intoArray(q, pointer + (part * FLOAT_SPECIES.length()));
+            }
+        }
+
+        for(; pointer < length; pointer++)
+        {
+            i[pointer] = convertSample(samples.get(samplesOffset++), signed, iAverageDc);
+            q[pointer] = convertSample(samples.get(samplesOffset++), signed, qAverageDc);
+        }
+    }
+
+    @Override
+    public void convertInterleaved(ByteBuffer samples, int offset, float[] converted, int length, boolean signed,
+                                   float iAverageDc, float qAverageDc)
+    {
+        int convertedLength = length * 2;
+        int samplesOffset = offset;
+        int pointer = 0;
+
+        //Unsigned samples flipped to signed are offset by -128 and require a +1 bias to match the 127 offset
+        float bias = signed ? 0.0f : 1.0f;
+        FloatVector dcVector = FloatVector.broadcast(FLOAT_SPECIES, iAverageDc).blend(qAverageDc, QUADRATURE_LANES);
+        byte[] array = samples.hasArray() ? samples.array() : null;
+        int arrayOffset = samples.hasArray() ? samples.arrayOffset() : 0;
+        ByteVector raw;
+
+        for(; pointer < BYTE_SPECIES.loopBound(convertedLength); pointer += BYTE_SPECIES.length())
+        {
+            if(array != null)
+            {
+                raw = ByteVector.fromArray(BYTE_SPECIES, array, arrayOffset + samplesOffset);
+            }
+            else
+            {
+                raw = ByteVector.fromByteBuffer(BYTE_SPECIES, samples, samplesOffset, ByteOrder.LITTLE_ENDIAN);
+            }
+
+            samplesOffset += BYTE_SPECIES.length();
+
+            if(!signed)
+            {
+                raw = raw.lanewise(VectorOperators.XOR, (byte)0x80);
+            }
+
+            for(int part = 0; part < 4; part++)
+            {
+                ((FloatVector)raw.convertShape(VectorOperators.B2F, FLOAT_SPECIES, part))
+                        .add(bias).mul(SCALE).sub(dcVector)
+                        .intoArray(converted, pointer + (part * FLOAT_SPECIES.length()));
+            }
+        }
+
+        for(; pointer < convertedLength; pointer += 2)
+        {
+            converted[pointer] = convertSample(samples.get(samplesOffset++), signed, iAverageDc);
+            converted[pointer + 1] = convertSample(samples.get(samplesOffset++), signed, qAverageDc);
+        }
+    }
+}
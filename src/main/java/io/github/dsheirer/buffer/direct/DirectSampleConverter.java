@@ -0,0 +1,166 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.direct;
+
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Sample converter that reads interleaved 8-bit I/Q samples directly from a (direct) USB transfer byte buffer and
+ * writes scaled, DC-corrected float samples into non-interleaved complex sample fragments, without first copying the
+ * raw samples into a heap byte array.
+ *
+ * The converted samples match the heap byte array native buffers exactly.  The running DC average is updated from the
+ * transfer buffer before the samples are converted, using the same rule as the byte array buffer factories: a single
+ * average across both inphase and quadrature samples for unsigned samples (ByteNativeBufferFactory) and separate
+ * inphase and quadrature averages for signed samples (SignedByteNativeBufferFactory).  Each sample is converted as
+ * (sample - 127) / 128 - DC for unsigned samples, or sample / 128 - DC for signed samples, by the same (scalar or
+ * vector) byte sample converter that is used by the byte array native buffer iterators.
+ */
+public class DirectSampleConverter
+{
+    private static final int SCRATCH_SIZE = 4096;
+
+    private final boolean mSigned;
+    private final float mDcFilterGain;
+    private final ByteSampleConverter mConverter;
+    private final byte[] mScratch = new byte[SCRATCH_SIZE];
+    private float mIAverageDc = 0.0f;
+    private float mQAverageDc = 0.0f;
+
+    /**
+     * Constructs an instance
+     * @param signed true for signed 8-bit samples or false for unsigned (offset binary) 8-bit samples.
+     * @param dcFilterGain for the running DC average, normalizing DC over a period of (1 / gain) buffers.
+     * @param converter to convert the samples, optimal scalar vs vector SIMD
+     */
+    public DirectSampleConverter(boolean signed, float dcFilterGain, ByteSampleConverter converter)
+    {
+        mSigned = signed;
+        mDcFilterGain = dcFilterGain;
+        mConverter = converter;
+    }
+
+    /**
+     * Indicates if the raw samples are signed 8-bit values.
+     */
+    public boolean isSigned()
+    {
+        return mSigned;
+    }
+
+    /**
+     * Converts the raw byte samples into the fragments.  The byte buffer is accessed by absolute index and its position
+     * is not modified.
+     *
+     * @param samples containing interleaved 8-bit I/Q samples
+     * @param fragments to receive the converted samples, with a combined length of half of the byte buffer capacity.
+     */
+    public void convert(ByteBuffer samples, List<ComplexSamples> fragments)
+    {
+        calculateDc(samples);
+
+        int offset = 0;
+
+        for(ComplexSamples fragment: fragments)
+        {
+            int length = fragment.i().length;
+            mConverter.convert(samples, offset, fragment.i(), fragment.q(), length, mSigned, mIAverageDc, mQAverageDc);
+            offset += length * 2;
+        }
+    }
+
+    /**
+     * Updates the running DC average(s) from the samples in the transfer buffer.  The raw samples are summed in
+     * cache-resident blocks, since per-byte access to a direct byte buffer is slow.
+     * @param samples containing DC offset
+     */
+    private void calculateDc(ByteBuffer samples)
+    {
+        int length = samples.capacity();
+
+        if(length < 2)
+        {
+            return;
+        }
+
+        int mask = mSigned ? 0xFFFFFFFF : 0xFF;
+        long iSum = 0;
+        long qSum = 0;
+
+        for(int offset = 0; offset < length; offset += SCRATCH_SIZE)
+        {
+            int blockLength = Math.min(SCRATCH_SIZE, length - offset);
+            samples.get(offset, mScratch, 0, blockLength);
+
+            for(int x = 0; x < blockLength - 1; x += 2)
+            {
+                iSum += (mScratch[x] & mask);
+                qSum += (mScratch[x + 1] & mask);
+            }
+        }
+
+        if(mSigned)
+        {
+            //Same arithmetic as SignedByteNativeBufferFactory
+            double iDcAccumulator = iSum;
+            iDcAccumulator /= (length / 2);
+            iDcAccumulator /= 128.0f;
+            iDcAccumulator -= mIAverageDc;
+            mIAverageDc += (iDcAccumulator * mDcFilterGain);
+
+            double qDcAccumulator = qSum;
+            qDcAccumulator /= (length / 2);
+            qDcAccumulator /= 128.0f;
+            qDcAccumulator -= mQAverageDc;
+            mQAverageDc += (qDcAccumulator * mDcFilterGain);
+        }
+        else
+        {
+            //Same arithmetic as ByteNativeBufferFactory
+            double dcAccumulator = iSum + qSum;
+            dcAccumulator /= length;
+            dcAccumulator -= 127.0f;
+            dcAccumulator /= 128.0f;
+            dcAccumulator -= mIAverageDc;
+            mIAverageDc += (dcAccumulator * mDcFilterGain);
+            mQAverageDc = mIAverageDc;
+        }
+    }
+
+    /**
+     * Current inphase DC average
+     */
+    public float getIAverageDc()
+    {
+        return mIAverageDc;
+    }
+
+    /**
+     * Current quadrature DC average
+     */
+    public float getQAverageDc()
+    {
+        return mQAverageDc;
+    }
+}
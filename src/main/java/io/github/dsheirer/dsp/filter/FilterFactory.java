@@ -21,6 +21,13 @@ package io.github.dsheirer.dsp.filter;
 import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexDecimationFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.ScalarComplexDecimatingFIRFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFIRFilter128Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFIRFilter256Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFIRFilter512Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFIRFilter64Bit;
+import io.github.dsheirer.dsp.filter.fir.complex.VectorComplexDecimatingFIRFilterDefaultBit;
 import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
 import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
 import io.github.dsheirer.dsp.filter.fir.real.VectorRealFIRFilter128Bit;
@@ -1098,6 +1105,37 @@ public class FilterFactory
         }
     }
 
+    /**
+     * Constructs the optimal complex decimating FIR filter implementation using calibration data to select among scalar
+     * and vector implementation options.
+     * @param coefficients for the filter
+     * @param decimation rate, one or greater
+     * @return filter implementation
+     */
+    public static IComplexDecimationFilter getComplexDecimationFilter(float[] coefficients, int decimation)
+    {
+        Implementation implementation = CalibrationManager.getInstance()
+            .getImplementation(CalibrationType.FILTER_FIR_COMPLEX_DECIMATION);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_PREFERRED:
+                return new VectorComplexDecimatingFIRFilterDefaultBit(coefficients, decimation);
+            case VECTOR_SIMD_64:
+                return new VectorComplexDecimatingFIRFilter64Bit(coefficients, decimation);
+            case VECTOR_SIMD_128:
+                return new VectorComplexDecimatingFIRFilter128Bit(coefficients, decimation);
+            case VECTOR_SIMD_256:
+                return new VectorComplexDecimatingFIRFilter256Bit(coefficients, decimation);
+            case VECTOR_SIMD_512:
+                return new VectorComplexDecimatingFIRFilter512Bit(coefficients, decimation);
+            case UNCALIBRATED:
+            case SCALAR:
+            default:
+                return new ScalarComplexDecimatingFIRFilter(coefficients, decimation);
+        }
+    }
+
     /**
      * Constructs the optimal decimation filter implementation for filter length and window type
      * using calibration data to select among scalar and vector implementation options.
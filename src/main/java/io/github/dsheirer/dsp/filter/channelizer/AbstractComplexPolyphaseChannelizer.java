@@ -100,6 +100,10 @@ public abstract class AbstractComplexPolyphaseChannelizer implements Listener<In
     /**
      * Dispatches the processed channel samples to any registered polyphase channel outputs.
      *
+     * Recyclable channel results buffers must be held by the caller for the duration of this call.  Each channel
+     * output that queues the buffer registers its own user count, so that the buffer returns to the pool once every
+     * channel has finished with it.
+     *
      * @param channelResultsList a list of arrays of I/Q samples per channel
      */
     protected void dispatch(List<float[]> channelResultsList)
@@ -0,0 +1,117 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.buffer.IReferenceCountedBuffer;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reusable batch of polyphase channelizer results arrays that is owned by a channel results buffer pool.
+ *
+ * The buffer is preloaded with a fixed quantity of results arrays that the channelizer fills in place.  Each consumer
+ * that queues the buffer holds a user count against it and releases that count once it has finished reading the
+ * arrays, or when it discards the buffer.  When the user count reaches zero, the buffer is returned to the owning pool
+ * for reuse.
+ */
+public class ChannelResultsBuffer extends ArrayList<float[]> implements IReferenceCountedBuffer
+{
+    private final ChannelResultsBufferPool mPool;
+    private final AtomicInteger mUserCount = new AtomicInteger();
+
+    /**
+     * Constructs an instance
+     * @param pool that owns this buffer
+     * @param arrayCount number of results arrays in this buffer
+     * @param arrayLength of each results array
+     */
+    ChannelResultsBuffer(ChannelResultsBufferPool pool, int arrayCount, int arrayLength)
+    {
+        super(arrayCount);
+        mPool = pool;
+
+        for(int x = 0; x < arrayCount; x++)
+        {
+            add(new float[arrayLength]);
+        }
+    }
+
+    /**
+     * Length of each of the results arrays contained in this buffer
+     */
+    public int getArrayLength()
+    {
+        return isEmpty() ? 0 : get(0).length;
+    }
+
+    /**
+     * Sets the user count when this buffer is issued from the pool.
+     */
+    void setUserCount(int count)
+    {
+        mUserCount.set(count);
+    }
+
+    /**
+     * Registers an additional user of this buffer.  Each call must be balanced by a call to decrementUserCount() when
+     * the user is finished with the buffer.
+     */
+    @Override
+    public void incrementUserCount()
+    {
+        mUserCount.incrementAndGet();
+    }
+
+    /**
+     * Releases a user's hold on this buffer.  The buffer is returned to the pool when the user count reaches zero.
+     */
+    @Override
+    public void decrementUserCount()
+    {
+        if(mUserCount.decrementAndGet() == 0)
+        {
+            mPool.recycle(this);
+        }
+    }
+
+    /**
+     * Current user count for this buffer
+     */
+    public int getUserCount()
+    {
+        return mUserCount.get();
+    }
+
+    /**
+     * Disable element equality comparisons inherited from ArrayList since these buffers are identity objects that are
+     * pooled and compared against dispatcher poison pill values.
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return System.identityHashCode(this);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of reusable channel results buffers for the polyphase channelizer.  Buffers are borrowed by the
+ * channelizer producer thread and are returned by whichever consumer thread releases the final user count.
+ *
+ * The pool is backed by an array-based queue so that borrowing and returning buffers does not allocate.  When the pool
+ * is empty, a new buffer is created (a pool miss) and that buffer joins the pool when it is recycled, up to the
+ * maximum pool size.
+ */
+public class ChannelResultsBufferPool
+{
+    private final ArrayBlockingQueue<ChannelResultsBuffer> mBuffers;
+    private final int mArrayCount;
+    private final int mArrayLength;
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private volatile boolean mDisposed = false;
+
+    /**
+     * Constructs an instance
+     * @param preallocatedCount number of buffers to create up front
+     * @param maximumCount number of buffers to retain in the pool
+     * @param arrayCount number of results arrays per buffer
+     * @param arrayLength of each results array
+     */
+    public ChannelResultsBufferPool(int preallocatedCount, int maximumCount, int arrayCount, int arrayLength)
+    {
+        if(maximumCount < 1 || preallocatedCount > maximumCount)
+        {
+            throw new IllegalArgumentException("Maximum count must be positive and greater than or equal to the " +
+                "preallocated count");
+        }
+
+        mBuffers = new ArrayBlockingQueue<>(maximumCount);
+        mArrayCount = arrayCount;
+        mArrayLength = arrayLength;
+
+        for(int x = 0; x < preallocatedCount; x++)
+        {
+            mBuffers.offer(new ChannelResultsBuffer(this, mArrayCount, mArrayLength));
+        }
+    }
+
+    /**
+     * Borrows a buffer from the pool, or creates a new buffer if the pool is empty.  The buffer is issued with a user
+     * count of one that represents the borrower's hold on the buffer.
+     */
+    public ChannelResultsBuffer getBuffer()
+    {
+        ChannelResultsBuffer buffer = mBuffers.poll();
+
+        if(buffer == null)
+        {
+            mMissCount.incrementAndGet();
+            buffer = new ChannelResultsBuffer(this, mArrayCount, mArrayLength);
+        }
+        else
+        {
+            mHitCount.incrementAndGet();
+        }
+
+        buffer.setUserCount(1);
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool.  Buffers are discarded if the pool is full or has been disposed.
+     */
+    void recycle(ChannelResultsBuffer buffer)
+    {
+        if(!mDisposed && buffer.size() == mArrayCount && buffer.getArrayLength() == mArrayLength)
+        {
+            mBuffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Number of buffers currently available in the pool
+     */
+    public int getAvailableCount()
+    {
+        return mBuffers.size();
+    }
+
+    /**
+     * Number of buffer requests that were served from the pool
+     */
+    public long getHitCount()
+    {
+        return mHitCount.get();
+    }
+
+    /**
+     * Number of buffer requests that required a new buffer to be created
+     */
+    public long getMissCount()
+    {
+        return mMissCount.get();
+    }
+
+    /**
+     * Releases all pooled buffers and prevents any outstanding buffers from rejoining the pool.
+     */
+    public void dispose()
+    {
+        mDisposed = true;
+        mBuffers.clear();
+    }
+}
@@ -23,7 +23,6 @@ import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
 import io.github.dsheirer.util.Dispatcher;
 import org.apache.commons.math3.util.FastMath;
-import org.jtransforms.fft.FloatFFT_1D;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +47,10 @@ import java.util.List;
  *
  * Instead of using an array of channel filters as described in the Harris text, this filter and the sample buffer
  * are arranged as a contiguous array to maximize Java's ability to leverage native processor Single Instruction
- * Multiple Data (SIMD) intrinsics (since Java 8).  The filter process is broken into four steps:
+ * Multiple Data (SIMD) intrinsics (since Java 8).  The filter process is broken into three steps:
  *
- *   -Multiply the inline array of samples and filter coefficients
- *   -Accumulate the results for each sub-channel
+ *   -Multiply the inline array of samples and filter coefficients and accumulate the results for each sub-channel
+ *    using the scalar or vector filter implementation selected via calibration
  *   -Rearrange the sub-channel results to correctly order the sub-channels
  *   -Perform IFFT
  *
@@ -70,9 +69,17 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      */
     private static final int PROCESSED_CHANNEL_RESULTS_THRESHOLD = 1024;
 
+    /**
+     * Number of channel results buffers to create when the buffer pool is created and the maximum number of buffers
+     * to retain in the pool when buffer recycling is enabled.
+     */
+    private static final int BUFFER_POOL_PREALLOCATED_COUNT = 2;
+    private static final int BUFFER_POOL_MAXIMUM_COUNT = 8;
+
     //Sized at 152 buffers a second where max = 5 seconds
     private IFFTProcessorDispatcher mIFFTProcessorDispatcher = new IFFTProcessorDispatcher(5 * 152);
-    private FloatFFT_1D mFFT;
+    private ParallelIFFTProcessor mIFFTProcessor;
+    private int mIFFTWorkerCount = 1;
     private float[] mInlineSamples;
     private float[] mInlineFilter;
     private boolean mTopBlockIndicator = true;
@@ -82,6 +89,12 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     private int mSamplesPerBlock;
     private int mTapsPerChannel;
     private List<float[]> mProcessedChannelResultsList = new ArrayList<>();
+    private IPolyphaseChannelizerFilter mPolyphaseFilter;
+    private float[] mFilterAccumulator;
+    private boolean mBufferRecyclingEnabled = false;
+    private ChannelResultsBufferPool mBufferPool;
+    private ChannelResultsBuffer mCurrentBuffer;
+    private int mCurrentBufferPointer;
 
     /**
      * Creates a NMDPFB channelizer instance.
@@ -132,6 +145,11 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      */
     public void start()
     {
+        if(mBufferRecyclingEnabled)
+        {
+            createBufferPool();
+        }
+
         mIFFTProcessorDispatcher.start();
     }
 
@@ -141,6 +159,107 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     public void stop()
     {
         mIFFTProcessorDispatcher.stop();
+        mIFFTProcessor.dispose();
+        disposeBufferPool();
+    }
+
+    /**
+     * Sets the number of threads used to perform the IFFT on each batch of channel results.  A value of one performs
+     * all IFFT processing on the IFFT dispatcher thread.  Larger values partition each batch across additional worker
+     * threads so that wideband channelizer throughput can scale with available processor cores.  Output order to the
+     * registered channels is preserved regardless of the worker count.
+     *
+     * Note: this setting should be applied while the channelizer is stopped.
+     *
+     * @param workerCount number of threads, including the IFFT dispatcher thread, to use for IFFT processing
+     */
+    public void setIFFTWorkerCount(int workerCount)
+    {
+        if(workerCount < 1)
+        {
+            throw new IllegalArgumentException("IFFT worker count must be one or more");
+        }
+
+        mIFFTWorkerCount = workerCount;
+        updateIFFTProcessor();
+    }
+
+    /**
+     * Number of threads used to perform the IFFT on each batch of channel results.
+     */
+    public int getIFFTWorkerCount()
+    {
+        return mIFFTWorkerCount;
+    }
+
+    /**
+     * Creates (or recreates) the IFFT processor for the current channel count and IFFT worker count.
+     */
+    private void updateIFFTProcessor()
+    {
+        if(mIFFTProcessor != null)
+        {
+            mIFFTProcessor.dispose();
+        }
+
+        mIFFTProcessor = new ParallelIFFTProcessor(getChannelCount(), mIFFTWorkerCount);
+    }
+
+    /**
+     * Enables or disables recycling of the channel results arrays.  When enabled, the channelizer fills preallocated
+     * channel results buffers that are borrowed from a pool and returned to the pool once each registered channel has
+     * processed the buffer, so that steady-state sample processing does not allocate.  When disabled, a new results
+     * array is allocated for each processed sample block.
+     *
+     * Note: this setting takes effect the next time the channelizer is started.  Consumers that receive channel
+     * results while this mode is enabled must not retain the results arrays beyond their processing call.
+     *
+     * @param enabled true to recycle channel results buffers
+     */
+    public void setBufferRecyclingEnabled(boolean enabled)
+    {
+        mBufferRecyclingEnabled = enabled;
+    }
+
+    /**
+     * Indicates if channel results buffer recycling is enabled.
+     */
+    public boolean isBufferRecyclingEnabled()
+    {
+        return mBufferRecyclingEnabled;
+    }
+
+    /**
+     * Channel results buffer pool, or null if buffer recycling is disabled or the channelizer is not started.
+     */
+    public ChannelResultsBufferPool getBufferPool()
+    {
+        return mBufferPool;
+    }
+
+    /**
+     * Creates (or recreates) the channel results buffer pool sized for the current channel configuration.
+     */
+    private void createBufferPool()
+    {
+        disposeBufferPool();
+        mBufferPool = new ChannelResultsBufferPool(BUFFER_POOL_PREALLOCATED_COUNT, BUFFER_POOL_MAXIMUM_COUNT,
+            PROCESSED_CHANNEL_RESULTS_THRESHOLD, getSubChannelCount());
+    }
+
+    /**
+     * Disposes the current channel results buffer pool and any partially filled buffer.
+     */
+    private void disposeBufferPool()
+    {
+        if(mBufferPool != null)
+        {
+            mBufferPool.dispose();
+            mBufferPool = null;
+        }
+
+        mCurrentBuffer = null;
+        mCurrentBufferPointer = 0;
     }
 
     /**
@@ -220,12 +339,35 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
             if(mSampleBufferPointer >= mSamplesPerBlock)
             {
                 //Filter buffered samples and produce a single sample across each of the polyphase channels
-                mProcessedChannelResultsList.add(process());
-
-                if(mProcessedChannelResultsList.size() >= PROCESSED_CHANNEL_RESULTS_THRESHOLD)
+                if(mBufferPool != null)
                 {
-                    mIFFTProcessorDispatcher.receive(new ArrayList<>(mProcessedChannelResultsList));
-                    mProcessedChannelResultsList.clear();
+                    if(mCurrentBuffer == null)
+                    {
+                        mCurrentBuffer = mBufferPool.getBuffer();
+                        mCurrentBufferPointer = 0;
+                    }
+
+                    process(mCurrentBuffer.get(mCurrentBufferPointer++));
+
+                    if(mCurrentBufferPointer >= mCurrentBuffer.size())
+                    {
+                        //The dispatcher holds the buffer while it is queued, so we release our hold
+                        mIFFTProcessorDispatcher.receive(mCurrentBuffer);
+                        mCurrentBuffer.decrementUserCount();
+                        mCurrentBuffer = null;
+                    }
+                }
+                else
+                {
+                    float[] processed = new float[getSubChannelCount()];
+                    process(processed);
+                    mProcessedChannelResultsList.add(processed);
+
+                    if(mProcessedChannelResultsList.size() >= PROCESSED_CHANNEL_RESULTS_THRESHOLD)
+                    {
+                        mIFFTProcessorDispatcher.receive(new ArrayList<>(mProcessedChannelResultsList));
+                        mProcessedChannelResultsList.clear();
+                    }
                 }
 
                 //Right-shift the samples in the buffer over to make room for a new block of samples
@@ -332,36 +474,18 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
 
 
     /**
-     * Processes the sample buffer for each new block of sample data that is loaded and distributes the results to any
-     * registered channel listeners.
+     * Processes the sample buffer for each new block of sample data that is loaded and places the filtered result for
+     * each of the polyphase sub-channels into the processed array.
+     *
+     * @param processed array sized to the sub-channel count to receive the filtered results
      */
-    private float[] process()
+    private void process(float[] processed)
     {
-        int bufferLength = getSubChannelCount() * mTapsPerChannel;
-        float[] inlineInterimOutput = new float[bufferLength];
-
-        //Multiply each of the samples by the corresponding filter tap
-        for(int x = 0; x < mInlineSamples.length; x++)
-        {
-            inlineInterimOutput[x] = mInlineSamples[x] * mInlineFilter[x];
-        }
-
-        float[] filterAccumulator = new float[getSubChannelCount()];
-
-        int tapOffset = 0;
-
-        //Accumulate the sample/filter product results into each of the I/Q sub-channels
-        for(int tap = 0; tap < mTapsPerChannel; tap++)
-        {
-            tapOffset = tap * getSubChannelCount();
-
-            for(int channel = 0; channel < getSubChannelCount(); channel++)
-            {
-                filterAccumulator[channel] += inlineInterimOutput[tapOffset + channel];
-            }
-        }
+        //Multiply each of the samples by the corresponding filter tap and accumulate the sample/filter product
+        //results into each of the I/Q sub-channels
+        mPolyphaseFilter.filter(mInlineSamples, mFilterAccumulator);
 
-        float[] processed = new float[getSubChannelCount()];
+        float[] filterAccumulator = mFilterAccumulator;
 
         if(mTopBlockIndicator)
         {
@@ -379,8 +503,6 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         }
 
         mTopBlockIndicator = !mTopBlockIndicator;
-
-        return processed;
     }
 
     /**
@@ -391,13 +513,21 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     private void init(float[] coefficients)
     {
         int channelCount = getChannelCount();
-        mFFT = new FloatFFT_1D(channelCount);
+        updateIFFTProcessor();
         int bufferLength = getSubChannelCount() * mTapsPerChannel;
         mSamplesPerBlock = channelCount; //Same as subChannelCount / 2
         mTopBlockMap = getTopBlockMap(channelCount);
         mMiddleBlockMap = getMiddleBlockMap(channelCount);
         mInlineFilter = getAlignedFilter(coefficients, channelCount, mTapsPerChannel);
+        mPolyphaseFilter = PolyphaseChannelizerFilterFactory.getFilter(mInlineFilter, getSubChannelCount());
         mInlineSamples = new float[bufferLength];
+        mFilterAccumulator = new float[getSubChannelCount()];
+
+        //Recreate the buffer pool if we're running so that the pooled arrays match the new sub-channel count
+        if(mBufferPool != null)
+        {
+            createBufferPool();
+        }
     }
 
     /**
@@ -416,16 +546,11 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
             //channel results array contained in each results buffer and then dispatch the buffer
             //so that it can be distributed to each channel listener.
             setListener(list -> {
-                List<float[]> processedChannelResults = new ArrayList<>();
-
-                for(float[] channelResults: list)
-                {
-                    //Rotate each of the channels to the correct phase using the IFFT
-                    mFFT.complexInverse(channelResults, true);
-                    processedChannelResults.add(channelResults);
-                }
-
-                dispatch(processedChannelResults);
+                //Rotate each of the channels to the correct phase using the IFFT.  The IFFT is performed in place and
+                //the processor returns once the whole batch is complete, so we dispatch the same list (or recyclable
+                //buffer) in the original order.
+                mIFFTProcessor.process(list);
+                dispatch(list);
             });
         }
     }
@@ -0,0 +1,38 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+/**
+ * Polyphase channelizer filter stage that multiplies the channelizer's inline sample buffer by the aligned prototype
+ * filter and accumulates the products for each of the I/Q sub-channels.
+ *
+ * The inline sample buffer and the aligned filter are both arranged as contiguous blocks of sub-channel count
+ * elements, one block per filter tap, so that sub-channel N accumulates element N from each block.
+ */
+public interface IPolyphaseChannelizerFilter
+{
+    /**
+     * Filters the inline sample buffer and places the accumulated results for each sub-channel in the accumulator.
+     *
+     * @param samples inline sample buffer, same length as the aligned filter
+     * @param accumulator array sized to the sub-channel count to receive the filtered results.  Any existing contents
+     * are overwritten.
+     */
+    void filter(float[] samples, float[] accumulator);
+}
@@ -0,0 +1,198 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.controller.NamingThreadFactory;
+import org.jtransforms.fft.FloatFFT_1D;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Performs the polyphase channelizer's in-place IFFT across a batch of channel results arrays using one or more
+ * worker threads.
+ *
+ * The batch is partitioned into contiguous slices, one per worker.  The calling thread processes the first slice and
+ * the remaining slices are processed concurrently by the worker threads.  The process() method doesn't return until
+ * every slice is complete, so the order of the results arrays in the batch is preserved for downstream dispatch.
+ *
+ * Each worker uses a separate FFT instance so that no FFT state is shared across threads.
+ */
+public class ParallelIFFTProcessor
+{
+    private final static Logger mLog = LoggerFactory.getLogger(ParallelIFFTProcessor.class);
+
+    /**
+     * Minimum number of results arrays per slice.  Smaller batches are processed on the calling thread.
+     */
+    private static final int MINIMUM_SLICE_SIZE = 32;
+
+    private final FloatFFT_1D[] mFFTs;
+    private final SliceTask[] mSliceTasks;
+    private ExecutorService mExecutorService;
+
+    /**
+     * Constructs an instance
+     * @param fftSize number of channels (complex FFT size)
+     * @param workerCount number of threads, including the calling thread, to use for processing each batch
+     */
+    public ParallelIFFTProcessor(int fftSize, int workerCount)
+    {
+        if(workerCount < 1)
+        {
+            throw new IllegalArgumentException("Worker count must be one or more");
+        }
+
+        mFFTs = new FloatFFT_1D[workerCount];
+        mSliceTasks = new SliceTask[workerCount];
+
+        for(int x = 0; x < workerCount; x++)
+        {
+            mFFTs[x] = new FloatFFT_1D(fftSize);
+            mSliceTasks[x] = new SliceTask(mFFTs[x]);
+        }
+    }
+
+    /**
+     * Number of threads, including the calling thread, used to process each batch
+     */
+    public int getWorkerCount()
+    {
+        return mFFTs.length;
+    }
+
+    /**
+     * Performs an in-place IFFT on each of the channel results arrays in the batch.  Blocks until all arrays are
+     * processed.
+     *
+     * @param channelResultsList batch of channel results arrays
+     */
+    public void process(List<float[]> channelResultsList)
+    {
+        int size = channelResultsList.size();
+        int sliceCount = Math.min(getWorkerCount(), size / MINIMUM_SLICE_SIZE);
+
+        if(sliceCount <= 1)
+        {
+            mSliceTasks[0].process(channelResultsList, 0, size);
+            return;
+        }
+
+        if(mExecutorService == null)
+        {
+            mExecutorService = Executors.newFixedThreadPool(getWorkerCount() - 1,
+                new NamingThreadFactory("sdrtrunk polyphase ifft worker"));
+        }
+
+        int sliceSize = (size + sliceCount - 1) / sliceCount;
+        CountDownLatch latch = new CountDownLatch(sliceCount - 1);
+
+        for(int slice = 1; slice < sliceCount; slice++)
+        {
+            int start = slice * sliceSize;
+            mSliceTasks[slice].set(channelResultsList, start, Math.min(start + sliceSize, size), latch);
+            mExecutorService.execute(mSliceTasks[slice]);
+        }
+
+        mSliceTasks[0].process(channelResultsList, 0, sliceSize);
+
+        try
+        {
+            latch.await();
+        }
+        catch(InterruptedException ie)
+        {
+            mLog.error("Interrupted while waiting for polyphase IFFT workers to complete");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Shuts down the worker threads.  Worker threads are recreated on demand if this processor is used again.
+     */
+    public void dispose()
+    {
+        if(mExecutorService != null)
+        {
+            mExecutorService.shutdownNow();
+            mExecutorService = null;
+        }
+    }
+
+    /**
+     * Reusable task that processes a slice of a channel results batch with a dedicated FFT instance.
+     */
+    private static class SliceTask implements Runnable
+    {
+        private final FloatFFT_1D mFFT;
+        private List<float[]> mChannelResultsList;
+        private int mStart;
+        private int mEnd;
+        private CountDownLatch mLatch;
+
+        public SliceTask(FloatFFT_1D fft)
+        {
+            mFFT = fft;
+        }
+
+        /**
+         * Loads the slice to be processed when this task runs.
+         */
+        public void set(List<float[]> channelResultsList, int start, int end, CountDownLatch latch)
+        {
+            mChannelResultsList = channelResultsList;
+            mStart = start;
+            mEnd = end;
+            mLatch = latch;
+        }
+
+        /**
+         * Rotates each of the channels in the slice to the correct phase using the IFFT
+         */
+        public void process(List<float[]> channelResultsList, int start, int end)
+        {
+            for(int x = start; x < end; x++)
+            {
+                mFFT.complexInverse(channelResultsList.get(x), true);
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                process(mChannelResultsList, mStart, mEnd);
+            }
+            catch(Exception e)
+            {
+                mLog.error("Error processing polyphase IFFT slice", e);
+            }
+            finally
+            {
+                mChannelResultsList = null;
+                mLatch.countDown();
+            }
+        }
+    }
+}
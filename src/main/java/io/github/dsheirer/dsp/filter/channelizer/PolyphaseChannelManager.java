@@ -22,6 +22,8 @@ import io.github.dsheirer.buffer.INativeBuffer;
 import io.github.dsheirer.buffer.INativeBufferProvider;
 import io.github.dsheirer.buffer.NativeBufferPoisonPill;
 import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.channelizer.output.ChannelOutputProcessor;
+import io.github.dsheirer.dsp.filter.channelizer.output.ChannelOutputScheduler;
 import io.github.dsheirer.dsp.filter.channelizer.output.IPolyphaseChannelOutputProcessor;
 import io.github.dsheirer.dsp.filter.channelizer.output.OneChannelOutputProcessor;
 import io.github.dsheirer.dsp.filter.channelizer.output.TwoChannelOutputProcessor;
@@ -37,6 +39,7 @@ import io.github.dsheirer.source.tuner.TunerController;
 import io.github.dsheirer.source.tuner.channel.TunerChannel;
 import io.github.dsheirer.source.tuner.channel.TunerChannelSource;
 import io.github.dsheirer.util.Dispatcher;
+import io.github.dsheirer.util.WaitStrategy;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +78,18 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     private static final int POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL = 9;
     private static final int POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL = 9;
 
+    /**
+     * Wideband channelizers (channel count at or above this threshold, e.g. 5 MHz and wider) distribute the IFFT
+     * processing for each batch of channel results across multiple worker threads, up to the maximum worker count.
+     */
+    private static final int PARALLEL_IFFT_CHANNEL_COUNT_THRESHOLD = 200;
+    private static final int MAXIMUM_IFFT_WORKER_COUNT = 4;
+
+    /**
+     * Maximum number of worker threads servicing all channel outputs when shared output scheduling is enabled
+     */
+    private static final int MAXIMUM_OUTPUT_WORKER_COUNT = 4;
+
     private Broadcaster<SourceEvent> mSourceEventBroadcaster = new Broadcaster<>();
     private INativeBufferProvider mNativeBufferProvider;
     private List<PolyphaseChannelSource> mChannelSources = new CopyOnWriteArrayList<>();
@@ -84,6 +99,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     private NativeBufferReceiver mNativeBufferReceiver = new NativeBufferReceiver();
     private Dispatcher mBufferDispatcher;
     private Map<Integer,float[]> mOutputProcessorFilters = new HashMap<>();
+    private ChannelOutputScheduler mChannelOutputScheduler;
+    private boolean mSharedOutputSchedulingEnabled = false;
 
     /**
      * Creates a polyphase channel manager instance.
@@ -112,7 +129,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
 
         mChannelCalculator = new ChannelCalculator(sampleRate, channelCount, frequency, CHANNEL_OVERSAMPLING);
         mBufferDispatcher = new Dispatcher(500, "sdrtrunk polyphase buffer processor",
-                new NativeBufferPoisonPill());
+                new NativeBufferPoisonPill(), WaitStrategy.PARK);
         mBufferDispatcher.setListener(mNativeBufferReceiver);
     }
 
@@ -196,28 +213,93 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
      */
     private IPolyphaseChannelOutputProcessor getOutputProcessor(List<Integer> indexes)
     {
+        ChannelOutputProcessor outputProcessor = null;
+
         switch(indexes.size())
         {
             case 1:
-                return new OneChannelOutputProcessor(mChannelCalculator.getChannelSampleRate(), indexes,
+                outputProcessor = new OneChannelOutputProcessor(mChannelCalculator.getChannelSampleRate(), indexes,
                     mChannelCalculator.getChannelCount());
+                break;
             case 2:
                 try
                 {
                     float[] filter = getOutputProcessorFilter(2);
-                    return new TwoChannelOutputProcessor(mChannelCalculator.getChannelSampleRate(), indexes, filter,
-                        mChannelCalculator.getChannelCount());
+                    outputProcessor = new TwoChannelOutputProcessor(mChannelCalculator.getChannelSampleRate(), indexes,
+                        filter, mChannelCalculator.getChannelCount());
                 }
                 catch(FilterDesignException fde)
                 {
                     mLog.error("Error designing 2 channel synthesis filter for output processor");
                 }
+                break;
             default:
                 //TODO: create output processor for greater than 2 input channels
                 mLog.error("Request to create an output processor for unexpected channel index size:" + indexes.size());
                 mLog.info(mChannelCalculator.toString());
                 return null;
         }
+
+        if(outputProcessor != null && mSharedOutputSchedulingEnabled)
+        {
+            outputProcessor.setScheduler(getOrCreateChannelOutputScheduler());
+        }
+
+        return outputProcessor;
+    }
+
+    /**
+     * Enables or disables shared output scheduling where a small, fixed pool of worker threads services the channel
+     * results for all channel sources, instead of a dedicated dispatcher thread per channel source.  This setting
+     * applies to channel sources (and output processors) that are created after this method is invoked.
+     *
+     * @param enabled true to use shared output scheduling
+     */
+    public void setSharedOutputSchedulingEnabled(boolean enabled)
+    {
+        mSharedOutputSchedulingEnabled = enabled;
+
+        if(!enabled)
+        {
+            retireChannelOutputScheduler();
+        }
+    }
+
+    /**
+     * Returns the shared channel output scheduler, creating it if necessary.
+     */
+    private synchronized ChannelOutputScheduler getOrCreateChannelOutputScheduler()
+    {
+        if(mChannelOutputScheduler == null || mChannelOutputScheduler.isDisposed())
+        {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int workers = FastMath.max(2, FastMath.min(MAXIMUM_OUTPUT_WORKER_COUNT, cores / 2));
+            mChannelOutputScheduler = new ChannelOutputScheduler(workers);
+        }
+
+        return mChannelOutputScheduler;
+    }
+
+    /**
+     * Releases the shared channel output scheduler.  The scheduler shuts down its worker threads once the output
+     * processors that are still using it have stopped.  A new scheduler is created for later channel sources when
+     * shared output scheduling is enabled.
+     */
+    private synchronized void retireChannelOutputScheduler()
+    {
+        if(mChannelOutputScheduler != null)
+        {
+            mChannelOutputScheduler.disposeWhenUnused();
+            mChannelOutputScheduler = null;
+        }
+    }
+
+    /**
+     * Shared channel output scheduler, or null if shared output scheduling is not enabled.
+     */
+    public ChannelOutputScheduler getChannelOutputScheduler()
+    {
+        return mChannelOutputScheduler;
     }
 
     /**
@@ -268,6 +350,18 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
                 mBufferDispatcher.stop();
                 mPolyphaseChannelizer.stop();
             }
+
+            ChannelOutputScheduler scheduler = mChannelOutputScheduler;
+
+            if(scheduler != null)
+            {
+                scheduler.logMetrics();
+
+                if(mPolyphaseChannelizer.getRegisteredChannelCount() == 0)
+                {
+                    retireChannelOutputScheduler();
+                }
+            }
         }
 
         try
@@ -317,6 +411,23 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         }
     }
 
+    /**
+     * Determines the number of IFFT worker threads for a channelizer with the specified channel count.  Wideband
+     * channelizers use up to half of the available processor cores, limited to the maximum IFFT worker count.
+     * @param channelCount of the channelizer
+     * @return worker count
+     */
+    private static int getIFFTWorkerCount(int channelCount)
+    {
+        if(channelCount < PARALLEL_IFFT_CHANNEL_COUNT_THRESHOLD)
+        {
+            return 1;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        return FastMath.max(1, FastMath.min(MAXIMUM_IFFT_WORKER_COUNT, cores / 2));
+    }
+
     /**
      * Creates or updates the channelizer to process the incoming sample rate and updates any channel processors.
      *
@@ -344,6 +455,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
             {
                 mPolyphaseChannelizer = new ComplexPolyphaseChannelizerM2(tunerSampleRate,
                     POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL);
+                mPolyphaseChannelizer.setBufferRecyclingEnabled(true);
+                mPolyphaseChannelizer.setIFFTWorkerCount(getIFFTWorkerCount(mPolyphaseChannelizer.getChannelCount()));
             }
             catch(IllegalArgumentException iae)
             {
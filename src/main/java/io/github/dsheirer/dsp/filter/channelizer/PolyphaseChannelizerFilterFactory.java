@@ -0,0 +1,60 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.vector.calibrate.CalibrationManager;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+
+/**
+ * Factory for creating polyphase channelizer filter stage instances from scalar and vector implementations.
+ */
+public class PolyphaseChannelizerFilterFactory
+{
+    /**
+     * Creates the optimal polyphase channelizer filter implementation using calibration data to select from among
+     * the scalar and vector implementations.
+     * @param alignedFilter prototype filter rearranged to align with the channelizer inline sample buffer
+     * @param subChannelCount number of I/Q sub-channels (2 x channel count)
+     * @return filter implementation
+     */
+    public static IPolyphaseChannelizerFilter getFilter(float[] alignedFilter, int subChannelCount)
+    {
+        Implementation implementation = CalibrationManager.getInstance()
+            .getImplementation(CalibrationType.FILTER_POLYPHASE_CHANNELIZER);
+
+        switch(implementation)
+        {
+            case VECTOR_SIMD_PREFERRED:
+                return new VectorPolyphaseChannelizerFilterDefaultBit(alignedFilter, subChannelCount);
+            case VECTOR_SIMD_64:
+                return new VectorPolyphaseChannelizerFilter64Bit(alignedFilter, subChannelCount);
+            case VECTOR_SIMD_128:
+                return new VectorPolyphaseChannelizerFilter128Bit(alignedFilter, subChannelCount);
+            case VECTOR_SIMD_256:
+                return new VectorPolyphaseChannelizerFilter256Bit(alignedFilter, subChannelCount);
+            case VECTOR_SIMD_512:
+                return new VectorPolyphaseChannelizerFilter512Bit(alignedFilter, subChannelCount);
+            case UNCALIBRATED:
+            case SCALAR:
+            default:
+                return new ScalarPolyphaseChannelizerFilter(alignedFilter, subChannelCount);
+        }
+    }
+}
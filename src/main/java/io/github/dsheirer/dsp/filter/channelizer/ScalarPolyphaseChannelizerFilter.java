@@ -0,0 +1,58 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+/**
+ * Scalar implementation of the polyphase channelizer filter multiply and accumulate stage.
+ */
+public class ScalarPolyphaseChannelizerFilter implements IPolyphaseChannelizerFilter
+{
+    private float[] mFilter;
+    private int mSubChannelCount;
+
+    /**
+     * Constructs an instance
+     * @param alignedFilter prototype filter rearranged to align with the channelizer inline sample buffer
+     * @param subChannelCount number of I/Q sub-channels (2 x channel count)
+     */
+    public ScalarPolyphaseChannelizerFilter(float[] alignedFilter, int subChannelCount)
+    {
+        mFilter = alignedFilter;
+        mSubChannelCount = subChannelCount;
+    }
+
+    @Override
+    public void filter(float[] samples, float[] accumulator)
+    {
+        //Initialize the accumulator with the products of the first tap
+        for(int channel = 0; channel < mSubChannelCount; channel++)
+        {
+            accumulator[channel] = samples[channel] * mFilter[channel];
+        }
+
+        //Accumulate the sample/filter products for the remaining taps into each of the I/Q sub-channels
+        for(int tapOffset = mSubChannelCount; tapOffset < mFilter.length; tapOffset += mSubChannelCount)
+        {
+            for(int channel = 0; channel < mSubChannelCount; channel++)
+            {
+                accumulator[channel] += samples[tapOffset + channel] * mFilter[tapOffset + channel];
+            }
+        }
+    }
+}
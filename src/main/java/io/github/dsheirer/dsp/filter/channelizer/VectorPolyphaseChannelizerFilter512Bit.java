@@ -0,0 +1,84 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.vector.VectorUtilities;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector implementation of the polyphase channelizer filter multiply and accumulate stage using 512-bit SIMD lanes.
+ *
+ * Each group of lane-width sub-channels is accumulated across all filter taps with fused multiply-add operations
+ * and any remaining sub-channels that don't fill a full vector are processed with scalar operations.
+ *
+ * Note: this filter uses Project Panama SIMD instructions available in JDK 17+
+ */
+public class VectorPolyphaseChannelizerFilter512Bit implements IPolyphaseChannelizerFilter
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_512;
+    private float[] mFilter;
+    private int mSubChannelCount;
+    private int mVectorBound;
+
+    /**
+     * Constructs an instance
+     * @param alignedFilter prototype filter rearranged to align with the channelizer inline sample buffer
+     * @param subChannelCount number of I/Q sub-channels (2 x channel count)
+     */
+    public VectorPolyphaseChannelizerFilter512Bit(float[] alignedFilter, int subChannelCount)
+    {
+        VectorUtilities.checkSpecies(VECTOR_SPECIES);
+        mFilter = alignedFilter;
+        mSubChannelCount = subChannelCount;
+        mVectorBound = VECTOR_SPECIES.loopBound(subChannelCount);
+    }
+
+    @Override
+    public void filter(float[] samples, float[] accumulator)
+    {
+        FloatVector accumulatorVector;
+
+        for(int channel = 0; channel < mVectorBound; channel += VECTOR_SPECIES.length())
+        {
+            accumulatorVector = FloatVector.zero(VECTOR_SPECIES);
+
+            for(int offset = channel; offset < mFilter.length; offset += mSubChannelCount)
+            {
+                accumulatorVector = FloatVector.fromArray(VECTOR_SPECIES, samples, offset)
+                    .fma(FloatVector.fromArray(VECTOR_SPECIES, mFilter, offset), accumulatorVector);
+            }
+
+            accumulatorVector.intoArray(accumulator, channel);
+        }
+
+        //Scalar processing for any remaining sub-channels
+        for(int channel = mVectorBound; channel < mSubChannelCount; channel++)
+        {
+            float accumulated = 0.0f;
+
+            for(int offset = channel; offset < mFilter.length; offset += mSubChannelCount)
+            {
+                accumulated += samples[offset] * mFilter[offset];
+            }
+
+            accumulator[channel] = accumulated;
+        }
+    }
+}
@@ -31,7 +31,16 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
 {
     private final static Logger mLog = LoggerFactory.getLogger(ChannelOutputProcessor.class);
 
+    /**
+     * Channel results queue capacity when using a shared scheduler.  Each batch contains 1024 channel samples, so this
+     * is about 5 seconds of samples at a 25 kHz channel sample rate.
+     */
+    private static final int SCHEDULED_QUEUE_CAPACITY = 128;
+
     private Dispatcher<List<float[]>> mChannelResultsDispatcher;
+    private Listener<List<float[]>> mChannelResultsProcessor;
+    private ChannelOutputScheduler mScheduler;
+    private volatile ChannelOutputScheduler.ScheduledChannel mScheduledChannel;
     protected Listener<ComplexSamples> mComplexSamplesListener;
     private int mInputChannelCount;
 
@@ -46,20 +55,58 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
     public ChannelOutputProcessor(int inputChannelCount, double sampleRate)
     {
         mInputChannelCount = inputChannelCount;
+        mChannelResultsProcessor = floats -> process(floats);
         mChannelResultsDispatcher = new Dispatcher<>((int)sampleRate, "sdrtrunk polyphase channel", Collections.emptyList());
-        mChannelResultsDispatcher.setListener(floats -> process(floats));
+        mChannelResultsDispatcher.setListener(mChannelResultsProcessor);
+    }
+
+    /**
+     * Sets a shared channel output scheduler to process channel results for this output processor, instead of using
+     * a dedicated dispatcher thread.  This must be set before the processor is started.
+     *
+     * @param scheduler to use, or null to use a dedicated dispatcher thread
+     */
+    public void setScheduler(ChannelOutputScheduler scheduler)
+    {
+        mScheduler = scheduler;
     }
 
     @Override
     public void start()
     {
-        mChannelResultsDispatcher.start();
+        if(mScheduler != null && mScheduledChannel == null)
+        {
+            mScheduledChannel = mScheduler.register(getClass().getSimpleName() + " " + getChannelDescription(),
+                mChannelResultsProcessor, SCHEDULED_QUEUE_CAPACITY);
+        }
+
+        //Use a dedicated dispatcher when not scheduled or when the scheduler was disposed before we could register
+        if(mScheduledChannel == null)
+        {
+            mChannelResultsDispatcher.start();
+        }
     }
 
     @Override
     public void stop()
     {
-        mChannelResultsDispatcher.stop();
+        if(mScheduledChannel != null)
+        {
+            mScheduler.unregister(mScheduledChannel);
+            mScheduledChannel = null;
+        }
+        else
+        {
+            mChannelResultsDispatcher.stop();
+        }
+    }
+
+    /**
+     * Description of the polyphase channel(s) processed by this output processor for metrics and logging.
+     */
+    protected String getChannelDescription()
+    {
+        return "";
     }
 
     /**
@@ -84,7 +131,16 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
     @Override
     public void receiveChannelResults(List<float[]> channelResultsList)
     {
-        mChannelResultsDispatcher.receive(channelResultsList);
+        ChannelOutputScheduler.ScheduledChannel scheduledChannel = mScheduledChannel;
+
+        if(scheduledChannel != null)
+        {
+            scheduledChannel.receive(channelResultsList);
+        }
+        else
+        {
+            mChannelResultsDispatcher.receive(channelResultsList);
+        }
     }
 
     /**
@@ -0,0 +1,435 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer.output;
+
+import io.github.dsheirer.buffer.IReferenceCountedBuffer;
+import io.github.dsheirer.sample.Listener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared scheduler that services the channel results queues for all polyphase channel output processors of a
+ * channelizer with a small, fixed pool of worker threads, instead of a dedicated dispatcher thread per channel.
+ *
+ * Each registered channel has a bounded single-producer queue that is filled by the channelizer's dispatch thread.
+ * When a channel has queued work, it is scheduled on a work-stealing fork-join pool.  A channel is only ever processed
+ * by one worker at a time, which preserves the ordering of the channel results and the single-threaded processing
+ * assumptions of the output processors.  A worker processes a limited number of batches per scheduling and then
+ * reschedules the channel, so that a busy channel can't starve the other channels.
+ *
+ * Each scheduled channel tracks queue depth and lag metrics, where lag is the time between when a batch is queued and
+ * when a worker starts processing it.
+ *
+ * Reference counted channel results buffers hold a user count while they are queued for a channel, which is released
+ * once the channel's listener has processed the buffer or when the queued buffer is discarded on stop.
+ */
+public class ChannelOutputScheduler
+{
+    private final static Logger mLog = LoggerFactory.getLogger(ChannelOutputScheduler.class);
+    private static final long OVERFLOW_LOG_EVENT_WAIT_PERIOD = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * Maximum number of batches that a worker processes for a channel before rescheduling the channel
+     */
+    private static final int MAXIMUM_BATCHES_PER_RUN = 4;
+
+    private final ForkJoinPool mPool;
+    private final int mWorkerCount;
+    private final List<ScheduledChannel> mChannels = new CopyOnWriteArrayList<>();
+    private final AtomicInteger mWorkerNumber = new AtomicInteger(1);
+    private boolean mDisposeWhenUnused = false;
+    private volatile boolean mDisposed = false;
+
+    /**
+     * Constructs an instance
+     * @param workerCount number of worker threads to service all registered channels
+     */
+    public ChannelOutputScheduler(int workerCount)
+    {
+        if(workerCount < 1)
+        {
+            throw new IllegalArgumentException("Worker count must be one or more");
+        }
+
+        mWorkerCount = workerCount;
+        mPool = new ForkJoinPool(workerCount, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("sdrtrunk polyphase channel output worker " + mWorkerNumber.getAndIncrement());
+            thread.setPriority(Thread.MAX_PRIORITY);
+            return thread;
+        }, (thread, throwable) -> mLog.error("Error in polyphase channel output worker [" + thread.getName() + "]",
+            throwable), true);
+    }
+
+    /**
+     * Number of worker threads servicing the registered channels
+     */
+    public int getWorkerCount()
+    {
+        return mWorkerCount;
+    }
+
+    /**
+     * Registers a channel to be serviced by this scheduler.
+     * @param name of the channel for metrics and logging
+     * @param listener to process each batch of channel results
+     * @param capacity of the channel results queue, rounded up to a power of two
+     * @return scheduled channel to receive channel results, or null if this scheduler has been disposed or is
+     * waiting to be disposed
+     */
+    public synchronized ScheduledChannel register(String name, Listener<List<float[]>> listener, int capacity)
+    {
+        if(mDisposed || mDisposeWhenUnused)
+        {
+            return null;
+        }
+
+        ScheduledChannel channel = new ScheduledChannel(name, listener, capacity);
+        mChannels.add(channel);
+        return channel;
+    }
+
+    /**
+     * Deregisters the channel and discards any queued channel results.  Disposes this scheduler when this is the last
+     * registered channel and a dispose has been requested via disposeWhenUnused().
+     */
+    public synchronized void unregister(ScheduledChannel channel)
+    {
+        if(channel != null)
+        {
+            channel.stop();
+            mChannels.remove(channel);
+
+            if(mDisposeWhenUnused && mChannels.isEmpty())
+            {
+                dispose();
+            }
+        }
+    }
+
+    /**
+     * Disposes this scheduler once there are no registered channels, immediately if there are none now, or else when
+     * the last registered channel is unregistered.  New channels can't be registered after this call.
+     */
+    public synchronized void disposeWhenUnused()
+    {
+        mDisposeWhenUnused = true;
+
+        if(mChannels.isEmpty())
+        {
+            dispose();
+        }
+    }
+
+    /**
+     * Indicates if this scheduler has been disposed and the worker threads shut down.
+     */
+    public boolean isDisposed()
+    {
+        return mDisposed;
+    }
+
+    /**
+     * Currently registered channels, for metrics.
+     */
+    public List<ScheduledChannel> getChannels()
+    {
+        return List.copyOf(mChannels);
+    }
+
+    /**
+     * Logs the queue depth and lag metrics for each of the registered channels.
+     */
+    public void logMetrics()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Polyphase channel output scheduler - workers [").append(mWorkerCount).append("] channels [")
+            .append(mChannels.size()).append("]");
+
+        for(ScheduledChannel channel: mChannels)
+        {
+            sb.append("\n\t").append(channel);
+        }
+
+        mLog.info(sb.toString());
+    }
+
+    /**
+     * Shuts down the worker threads.  Registered channels no longer receive channel results after this call.
+     */
+    public synchronized void dispose()
+    {
+        if(mDisposed)
+        {
+            return;
+        }
+
+        mDisposed = true;
+
+        for(ScheduledChannel channel: mChannels)
+        {
+            channel.stop();
+        }
+
+        mChannels.clear();
+        mPool.shutdown();
+    }
+
+    /**
+     * Bounded single-producer/single-consumer queue of channel results for a single channel that is scheduled on the
+     * shared worker pool when it has queued work.
+     */
+    public class ScheduledChannel implements Runnable
+    {
+        private final String mName;
+        private final Listener<List<float[]>> mListener;
+        private final Object[] mElements;
+        private final long[] mTimestamps;
+        private final int mMask;
+        private final AtomicBoolean mScheduled = new AtomicBoolean();
+        private volatile boolean mRunning = true;
+        private volatile long mHead;
+        private volatile long mTail;
+        private volatile long mProcessedCount;
+        private volatile long mOverflowCount;
+        private volatile long mLastLagNanos;
+        private volatile long mMaxLagNanos;
+        private volatile int mMaxQueueDepth;
+        private long mLastOverflowLogEvent;
+
+        private ScheduledChannel(String name, Listener<List<float[]>> listener, int capacity)
+        {
+            mName = name;
+            mListener = listener;
+            int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            mElements = new Object[size];
+            mTimestamps = new long[size];
+            mMask = size - 1;
+        }
+
+        /**
+         * Enqueues the channel results for processing and schedules this channel on the worker pool.  This method
+         * must only be invoked by a single producer thread.
+         *
+         * @param channelResults to enqueue
+         */
+        public void receive(List<float[]> channelResults)
+        {
+            if(!mRunning)
+            {
+                return;
+            }
+
+            long tail = mTail;
+
+            if(tail - mHead >= mElements.length)
+            {
+                mOverflowCount++;
+
+                if(System.currentTimeMillis() > (mLastOverflowLogEvent + OVERFLOW_LOG_EVENT_WAIT_PERIOD))
+                {
+                    mLastOverflowLogEvent = System.currentTimeMillis();
+                    mLog.warn("Temporary buffer overflow for polyphase channel [" + mName + "] - throwing away samples");
+                }
+
+                return;
+            }
+
+            //Hold reference counted buffers while they are queued - released after processing or when discarded
+            IReferenceCountedBuffer.increment(channelResults);
+            int index = (int)(tail & mMask);
+            mElements[index] = channelResults;
+            mTimestamps[index] = System.nanoTime();
+            mTail = tail + 1;
+
+            int depth = (int)(tail + 1 - mHead);
+
+            if(depth > mMaxQueueDepth)
+            {
+                mMaxQueueDepth = depth;
+            }
+
+            schedule();
+        }
+
+        /**
+         * Schedules this channel on the worker pool if it is not already scheduled.
+         */
+        private void schedule()
+        {
+            if(mScheduled.compareAndSet(false, true))
+            {
+                try
+                {
+                    mPool.execute(this);
+                }
+                catch(Exception e)
+                {
+                    //Pool has been shutdown
+                    mScheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * Processes queued channel results on a worker thread.
+         */
+        @Override
+        public void run()
+        {
+            int processed = 0;
+
+            while(mHead != mTail && (processed < MAXIMUM_BATCHES_PER_RUN || !mRunning))
+            {
+                long head = mHead;
+                int index = (int)(head & mMask);
+                @SuppressWarnings("unchecked")
+                List<float[]> channelResults = (List<float[]>)mElements[index];
+                mElements[index] = null;
+                long lag = System.nanoTime() - mTimestamps[index];
+                mHead = head + 1;
+
+                if(mRunning)
+                {
+                    mLastLagNanos = lag;
+
+                    if(lag > mMaxLagNanos)
+                    {
+                        mMaxLagNanos = lag;
+                    }
+
+                    //Count the batch before dispatch so that the count is current once the listener has received it
+                    mProcessedCount++;
+                    processed++;
+
+                    try
+                    {
+                        mListener.receive(channelResults);
+                    }
+                    catch(Exception e)
+                    {
+                        mLog.error("Error while processing channel results for polyphase channel [" + mName + "]", e);
+                    }
+                }
+
+                IReferenceCountedBuffer.decrement(channelResults);
+            }
+
+            mScheduled.set(false);
+
+            //Reschedule if more work arrived, or if we yielded to give other channels a turn
+            if(mHead != mTail)
+            {
+                schedule();
+            }
+        }
+
+        /**
+         * Stops receiving channel results and releases any queued channel results.
+         */
+        private void stop()
+        {
+            mRunning = false;
+
+            //Schedule a final run to release any queued results from a worker thread (the queue consumer)
+            schedule();
+        }
+
+        /**
+         * Name of this channel
+         */
+        public String getName()
+        {
+            return mName;
+        }
+
+        /**
+         * Number of channel results batches currently queued
+         */
+        public int getQueueDepth()
+        {
+            return (int)(mTail - mHead);
+        }
+
+        /**
+         * Largest observed number of queued channel results batches
+         */
+        public int getMaxQueueDepth()
+        {
+            return mMaxQueueDepth;
+        }
+
+        /**
+         * Capacity of the channel results queue
+         */
+        public int getCapacity()
+        {
+            return mElements.length;
+        }
+
+        /**
+         * Number of channel results batches that have been dispatched to the listener
+         */
+        public long getProcessedCount()
+        {
+            return mProcessedCount;
+        }
+
+        /**
+         * Number of channel results batches that were discarded because the queue was full
+         */
+        public long getOverflowCount()
+        {
+            return mOverflowCount;
+        }
+
+        /**
+         * Queue wait time for the most recently processed batch, in milliseconds
+         */
+        public double getLastLagMilliseconds()
+        {
+            return mLastLagNanos / 1E6;
+        }
+
+        /**
+         * Largest observed queue wait time, in milliseconds
+         */
+        public double getMaxLagMilliseconds()
+        {
+            return mMaxLagNanos / 1E6;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Channel [" + mName + "] queued [" + getQueueDepth() + "/" + getCapacity() + "] max queued [" +
+                getMaxQueueDepth() + "] processed [" + getProcessedCount() + "] overflows [" + getOverflowCount() +
+                "] lag ms [" + String.format("%.1f", getLastLagMilliseconds()) + "] max lag ms [" +
+                String.format("%.1f", getMaxLagMilliseconds()) + "]";
+        }
+    }
+}
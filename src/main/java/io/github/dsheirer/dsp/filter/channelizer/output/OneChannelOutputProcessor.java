@@ -70,6 +70,12 @@ public class OneChannelOutputProcessor extends ChannelOutputProcessor
         mChannelOffset = indexes.get(0) * 2;
     }
 
+    @Override
+    protected String getChannelDescription()
+    {
+        return "[" + (mChannelOffset / 2) + "]";
+    }
+
     @Override
     public void setFrequencyOffset(long frequency)
     {
@@ -61,6 +61,12 @@ public class TwoChannelOutputProcessor extends ChannelOutputProcessor
         mMixerAssembler.getMixer().setFrequency(frequencyOffset);
     }
 
+    @Override
+    protected String getChannelDescription()
+    {
+        return "[" + (mChannelOffset1 / 2) + "," + (mChannelOffset2 / 2) + "]";
+    }
+
     @Override
     public void setSynthesisFilter(float[] filter)
     {
@@ -0,0 +1,42 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+
+/**
+ * Interface for a complex decimating filter that filters and decimates complex sample buffers in a single pass.
+ */
+public interface IComplexDecimationFilter
+{
+    /**
+     * Filters and decimates the complex sample arrays.  Decimation phase is maintained across successive calls so that
+     * sample buffers do not have to be an integer multiple of the decimation rate.
+     * @param i inphase samples
+     * @param q quadrature samples
+     * @return filtered and decimated samples
+     */
+    ComplexSamples filter(float[] i, float[] q);
+
+    /**
+     * Decimation rate for this filter
+     */
+    int getDecimation();
+}
@@ -0,0 +1,159 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.vector.VectorUtilities;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Complex decimating Finite Impulse Response (FIR) filter that filters the inphase and quadrature sample arrays with a
+ * real coefficient set and decimates in the same pass, calculating only the outputs that are retained.
+ * Note: this filter uses Project Panama SIMD instructions available in JDK 17+
+ */
+public class VectorComplexDecimatingFIRFilter256Bit implements IComplexDecimationFilter
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_256;
+    private float[] mIBuffer;
+    private float[] mQBuffer;
+    private float[] mCoefficients;
+    private int mBufferOverlap;
+    private int mDecimation;
+    private int mDecimationOffset = 0;
+
+    /**
+     * Constructs an instance
+     *
+     * @param coefficients - filter coefficients in normal order.
+     * @param decimation rate, one or greater.
+     */
+    public VectorComplexDecimatingFIRFilter256Bit(float[] coefficients, int decimation)
+    {
+        VectorUtilities.checkSpecies(VECTOR_SPECIES);
+
+        if(decimation < 1)
+        {
+            throw new IllegalArgumentException("Decimation rate must be one or greater");
+        }
+
+        mDecimation = decimation;
+
+        //Size the coefficients array to a multiple of the vector species length, large enough to hold the taps;
+        int arrayLength = VECTOR_SPECIES.length();
+
+        while(arrayLength < (coefficients.length))
+        {
+            arrayLength += VECTOR_SPECIES.length();
+        }
+
+        //Reverse the order of the coefficients into the end of the oversized/aligned coefficients buffer so that the
+        //zero padding aligns with the oldest samples and the filter delay matches the scalar implementation.
+        mCoefficients = new float[arrayLength];
+
+        for(int x = 0; x < coefficients.length; x++)
+        {
+            mCoefficients[arrayLength - 1 - x] = coefficients[x];
+        }
+
+        mBufferOverlap = arrayLength - 1;
+
+        //We'll resize these later when we get the first sample buffer.  For now, make them non-null.
+        mIBuffer = new float[arrayLength];
+        mQBuffer = new float[arrayLength];
+    }
+
+    @Override
+    public int getDecimation()
+    {
+        return mDecimation;
+    }
+
+    /**
+     * Filters and decimates the complex sample arrays
+     * @param i inphase samples
+     * @param q quadrature samples
+     * @return filtered and decimated samples
+     */
+    @Override
+    public ComplexSamples filter(float[] i, float[] q)
+    {
+        if(i.length != q.length)
+        {
+            throw new IllegalArgumentException("Inphase and quadrature sample arrays must be the same length");
+        }
+
+        int bufferLength = i.length + mBufferOverlap;
+
+        //Resize the data buffers if needed.  This shouldn't happen more than once since all buffers should be same size
+        if(mIBuffer.length != bufferLength)
+        {
+            float[] tempI = new float[bufferLength];
+            float[] tempQ = new float[bufferLength];
+            //Move residual samples from end of previous buffer to the beginning of the new temp buffer and reassign
+            System.arraycopy(mIBuffer, mIBuffer.length - mBufferOverlap, tempI, 0, mBufferOverlap);
+            System.arraycopy(mQBuffer, mQBuffer.length - mBufferOverlap, tempQ, 0, mBufferOverlap);
+            mIBuffer = tempI;
+            mQBuffer = tempQ;
+        }
+        else
+        {
+            //Move residual samples from end of buffer to the beginning of the buffer
+            System.arraycopy(mIBuffer, i.length, mIBuffer, 0, mBufferOverlap);
+            System.arraycopy(mQBuffer, q.length, mQBuffer, 0, mBufferOverlap);
+        }
+
+        //Copy new sample arrays into end of buffers
+        System.arraycopy(i, 0, mIBuffer, mBufferOverlap, i.length);
+        System.arraycopy(q, 0, mQBuffer, mBufferOverlap, q.length);
+
+        int outputLength = Math.max(0, (i.length - mDecimationOffset + mDecimation - 1) / mDecimation);
+        float[] filteredI = new float[outputLength];
+        float[] filteredQ = new float[outputLength];
+
+        int bufferPointer = mDecimationOffset;
+        FloatVector accumulatorI, accumulatorQ, coefficient;
+
+        for(int x = 0; x < outputLength; x++)
+        {
+            accumulatorI = FloatVector.zero(VECTOR_SPECIES);
+            accumulatorQ = FloatVector.zero(VECTOR_SPECIES);
+
+            for(int coefficientPointer = 0; coefficientPointer < mCoefficients.length; coefficientPointer += VECTOR_SPECIES.length())
+            {
+                coefficient = FloatVector.fromArray(VECTOR_SPECIES, mCoefficients, coefficientPointer);
+                accumulatorI = coefficient.fma(FloatVector.fromArray(VECTOR_SPECIES, mIBuffer,
+                    bufferPointer + coefficientPointer), accumulatorI);
+                accumulatorQ = coefficient.fma(FloatVector.fromArray(VECTOR_SPECIES, mQBuffer,
+                    bufferPointer + coefficientPointer), accumulatorQ);
+            }
+
+            filteredI[x] = accumulatorI.reduceLanes(VectorOperators.ADD);
+            filteredQ[x] = accumulatorQ.reduceLanes(VectorOperators.ADD);
+            bufferPointer += mDecimation;
+        }
+
+        //Carry the decimation phase forward into the next buffer
+        mDecimationOffset = bufferPointer - i.length;
+
+        return new ComplexSamples(filteredI, filteredQ);
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.resample;
+
+import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.design.FilterDesignException;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.apache.commons.math3.util.ArithmeticUtils;
+import org.apache.commons.math3.util.FastMath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rational (L/M) polyphase resampler for complex sample buffers.
+ *
+ * The resampler conceptually interpolates the input by L, low-pass filters and then decimates by M, but only calculates
+ * the retained outputs by selecting one of the L polyphase sub-filters for each output sample.  The prototype filter is
+ * a Kaiser windowed sinc designed to pass the signal of interest and to reject images and aliases from the rate change.
+ *
+ * Filter banks are cached and shared across instances that use the same rates and pass band, since many channels
+ * are typically decoded at the same channel sample rate.
+ */
+public class ComplexPolyphaseResampler
+{
+    private static final Logger mLog = LoggerFactory.getLogger(ComplexPolyphaseResampler.class);
+    private static final Map<String,float[][]> sFilterBankCache = new ConcurrentHashMap<>();
+    private static final int MAXIMUM_INTERPOLATION = 256;
+    private static final float ATTENUATION_DB = 60.0f;
+
+    private float[][] mFilterBank;
+    private float[] mIBuffer;
+    private float[] mQBuffer;
+    private int mBufferOverlap;
+    private int mInterpolation;
+    private int mDecimation;
+    private int mInputIndex = 0;
+    private int mPhase = 0;
+    private double mOutputSampleRate;
+
+    /**
+     * Constructs an instance.  When the rate ratio cannot be expressed with an interpolation rate of 256 or less, the
+     * closest ratio is used and the actual output rate is available from getOutputSampleRate().
+     *
+     * @param inputSampleRate of the complex samples
+     * @param outputSampleRate requested
+     * @param passFrequency highest frequency of the signal of interest, in hertz.  Must be less than half of the
+     * smaller of the input and output sample rates.
+     */
+    public ComplexPolyphaseResampler(double inputSampleRate, double outputSampleRate, double passFrequency)
+    {
+        double minimumRate = FastMath.min(inputSampleRate, outputSampleRate);
+
+        if(passFrequency <= 0 || passFrequency >= minimumRate / 2.0)
+        {
+            throw new IllegalArgumentException("Pass frequency [" + passFrequency + "] must be less than half of the " +
+                "minimum of the input [" + inputSampleRate + "] and output [" + outputSampleRate + "] sample rates");
+        }
+
+        int[] ratio = getRatio(inputSampleRate, outputSampleRate);
+        mInterpolation = ratio[0];
+        mDecimation = ratio[1];
+        mOutputSampleRate = inputSampleRate * mInterpolation / mDecimation;
+        mFilterBank = getFilterBank(inputSampleRate, mInterpolation, mDecimation, passFrequency);
+        mBufferOverlap = mFilterBank[0].length - 1;
+
+        //We'll resize these later when we get the first sample buffer.  For now, make them non-null.
+        mIBuffer = new float[mFilterBank[0].length];
+        mQBuffer = new float[mFilterBank[0].length];
+    }
+
+    /**
+     * Interpolation rate (L)
+     */
+    public int getInterpolation()
+    {
+        return mInterpolation;
+    }
+
+    /**
+     * Decimation rate (M)
+     */
+    public int getDecimation()
+    {
+        return mDecimation;
+    }
+
+    /**
+     * Actual output sample rate (input rate x L / M)
+     */
+    public double getOutputSampleRate()
+    {
+        return mOutputSampleRate;
+    }
+
+    /**
+     * Resamples the complex sample arrays.  Resampling phase is maintained across successive calls so that sample
+     * buffers can be any length.
+     * @param i inphase samples
+     * @param q quadrature samples
+     * @return resampled samples
+     */
+    public ComplexSamples resample(float[] i, float[] q)
+    {
+        if(i.length != q.length)
+        {
+            throw new IllegalArgumentException("Inphase and quadrature sample arrays must be the same length");
+        }
+
+        int bufferLength = i.length + mBufferOverlap;
+
+        //Resize the data buffers if needed.  This shouldn't happen more than once since all buffers should be same size
+        if(mIBuffer.length != bufferLength)
+        {
+            float[] tempI = new float[bufferLength];
+            float[] tempQ = new float[bufferLength];
+            //Move residual samples from end of previous buffer to the beginning of the new temp buffer and reassign
+            System.arraycopy(mIBuffer, mIBuffer.length - mBufferOverlap, tempI, 0, mBufferOverlap);
+            System.arraycopy(mQBuffer, mQBuffer.length - mBufferOverlap, tempQ, 0, mBufferOverlap);
+            mIBuffer = tempI;
+            mQBuffer = tempQ;
+        }
+        else
+        {
+            //Move residual samples from end of buffer to the beginning of the buffer
+            System.arraycopy(mIBuffer, i.length, mIBuffer, 0, mBufferOverlap);
+            System.arraycopy(mQBuffer, q.length, mQBuffer, 0, mBufferOverlap);
+        }
+
+        //Copy new sample arrays into end of buffers
+        System.arraycopy(i, 0, mIBuffer, mBufferOverlap, i.length);
+        System.arraycopy(q, 0, mQBuffer, mBufferOverlap, q.length);
+
+        long remaining = ((long)(i.length - mInputIndex) * mInterpolation) - mPhase;
+        int outputLength = (int)FastMath.max(0, (remaining + mDecimation - 1) / mDecimation);
+        float[] resampledI = new float[outputLength];
+        float[] resampledQ = new float[outputLength];
+
+        int inputIndex = mInputIndex;
+        int phase = mPhase;
+        float[] filter;
+        float accumulatorI, accumulatorQ;
+
+        for(int x = 0; x < outputLength; x++)
+        {
+            filter = mFilterBank[phase];
+            accumulatorI = 0.0f;
+            accumulatorQ = 0.0f;
+
+            for(int tap = 0; tap < filter.length; tap++)
+            {
+                accumulatorI += mIBuffer[inputIndex + tap] * filter[tap];
+                accumulatorQ += mQBuffer[inputIndex + tap] * filter[tap];
+            }
+
+            resampledI[x] = accumulatorI;
+            resampledQ[x] = accumulatorQ;
+
+            //Advance by the decimation rate in interpolated sample units
+            phase += mDecimation;
+            inputIndex += phase / mInterpolation;
+            phase %= mInterpolation;
+        }
+
+        //Carry the resampling position forward into the next buffer
+        mInputIndex = inputIndex - i.length;
+        mPhase = phase;
+
+        return new ComplexSamples(resampledI, resampledQ);
+    }
+
+    /**
+     * Calculates the interpolation (L) and decimation (M) rates for the resampling ratio.  Integral sample rates are
+     * reduced by their greatest common divisor.  Otherwise, or when the reduced interpolation rate is too large, the
+     * closest continued fraction convergent with an interpolation rate within the maximum is used.
+     * @return array of {interpolation, decimation}
+     */
+    static int[] getRatio(double inputSampleRate, double outputSampleRate)
+    {
+        long input = FastMath.round(inputSampleRate);
+        long output = FastMath.round(outputSampleRate);
+
+        if(input == inputSampleRate && output == outputSampleRate)
+        {
+            long gcd = ArithmeticUtils.gcd(input, output);
+
+            if(output / gcd <= MAXIMUM_INTERPOLATION)
+            {
+                return new int[]{(int)(output / gcd), (int)(input / gcd)};
+            }
+        }
+
+        //Continued fraction convergents of output / input, limited to the maximum interpolation rate
+        double ratio = outputSampleRate / inputSampleRate;
+        long previousNumerator = 1, numerator = (long)FastMath.floor(ratio);
+        long previousDenominator = 0, denominator = 1;
+        double remainder = ratio - FastMath.floor(ratio);
+
+        while(remainder > 1e-9)
+        {
+            double reciprocal = 1.0 / remainder;
+            long term = (long)FastMath.floor(reciprocal);
+            long nextNumerator = term * numerator + previousNumerator;
+            long nextDenominator = term * denominator + previousDenominator;
+
+            if(nextNumerator > MAXIMUM_INTERPOLATION)
+            {
+                break;
+            }
+
+            previousNumerator = numerator;
+            numerator = nextNumerator;
+            previousDenominator = denominator;
+            denominator = nextDenominator;
+            remainder = reciprocal - term;
+        }
+
+        return new int[]{(int)FastMath.max(1, numerator), (int)denominator};
+    }
+
+    /**
+     * Provides a cached polyphase filter bank, or designs and caches a new filter bank.
+     */
+    private static float[][] getFilterBank(double inputSampleRate, int interpolation, int decimation,
+                                           double passFrequency)
+    {
+        String key = inputSampleRate + ":" + interpolation + ":" + decimation + ":" + passFrequency;
+        return sFilterBankCache.computeIfAbsent(key,
+            k -> designFilterBank(inputSampleRate, interpolation, decimation, passFrequency));
+    }
+
+    /**
+     * Designs the prototype filter at the interpolated sample rate and decomposes it into the polyphase filter bank.
+     * Each sub-filter is stored in reverse order so that it can be applied directly to the sample buffer and each is
+     * normalized to unity gain.
+     */
+    private static float[][] designFilterBank(double inputSampleRate, int interpolation, int decimation,
+                                              double passFrequency)
+    {
+        double outputSampleRate = inputSampleRate * interpolation / decimation;
+        double minimumRate = FastMath.min(inputSampleRate, outputSampleRate);
+
+        //Stop band starts where aliases or images would fold back into the pass band
+        double stopFrequency = minimumRate - passFrequency;
+        double interpolatedRate = inputSampleRate * interpolation;
+        double cutoff = ((passFrequency + stopFrequency) / 2.0) / interpolatedRate;
+
+        //Kaiser filter length estimate: (A - 8) / (2.285 x transition width in radians)
+        double transition = 2.0 * FastMath.PI * (stopFrequency - passFrequency) / interpolatedRate;
+        int length = (int)FastMath.ceil((ATTENUATION_DB - 8.0) / (2.285 * transition));
+        int tapsPerPhase = (int)FastMath.max(2, FastMath.ceil((double)length / interpolation));
+        int prototypeLength = tapsPerPhase * interpolation;
+
+        float[] prototype = new float[prototypeLength];
+
+        try
+        {
+            //Kaiser sinc filters are odd length - pre-pad a zero coefficient when the bank length is even
+            int oddLength = prototypeLength % 2 == 0 ? prototypeLength - 1 : prototypeLength;
+            float[] taps = FilterFactory.getKaiserSinc(oddLength, cutoff, ATTENUATION_DB);
+            System.arraycopy(taps, 0, prototype, prototypeLength - oddLength, oddLength);
+        }
+        catch(FilterDesignException fde)
+        {
+            mLog.error("Couldn't design polyphase resampler filter", fde);
+            throw new IllegalStateException("Couldn't design polyphase resampler filter for input rate [" +
+                inputSampleRate + "] and ratio [" + interpolation + "/" + decimation + "]");
+        }
+
+        float[][] filterBank = new float[interpolation][tapsPerPhase];
+
+        for(int phase = 0; phase < interpolation; phase++)
+        {
+            float sum = 0.0f;
+
+            for(int tap = 0; tap < tapsPerPhase; tap++)
+            {
+                sum += prototype[phase + (tap * interpolation)];
+            }
+
+            float gain = sum != 0.0f ? 1.0f / sum : 1.0f;
+
+            for(int tap = 0; tap < tapsPerPhase; tap++)
+            {
+                filterBank[phase][tapsPerPhase - 1 - tap] = prototype[phase + (tap * interpolation)] * gain;
+            }
+        }
+
+        return filterBank;
+    }
+}
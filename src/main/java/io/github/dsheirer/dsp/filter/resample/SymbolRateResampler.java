@@ -0,0 +1,123 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.resample;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Converts a decoder's channel sample rate to a fixed number of samples per symbol.
+ *
+ * The decoder's baseband filter decimates the channel samples by the largest integer factor that stays at or above the
+ * fixed decoder sample rate, which avoids demodulating surplus samples.  A polyphase resampler then converts the
+ * decimated rate (up or down) to the decoder sample rate, so that the demodulator runs at the same samples per symbol
+ * rate regardless of the channel sample rate.
+ */
+public class SymbolRateResampler
+{
+    /**
+     * Maximum pass frequency as a fraction of the lower of the input and output sample rates, for channel sample
+     * rates that are close to the symbol rate.
+     */
+    private static final double MAXIMUM_PASS_FRACTION = 0.4;
+
+    private final double mSymbolRate;
+    private final double mSamplesPerSymbol;
+    private final double mPassFrequency;
+    private double mChannelSampleRate;
+    private double mSampleRate;
+    private int mDecimation = 1;
+    private ComplexPolyphaseResampler mResampler;
+
+    /**
+     * Constructs an instance
+     * @param symbolRate of the decoder
+     * @param samplesPerSymbol fixed samples per symbol rate for the decoder
+     * @param passFrequency highest frequency of the signal of interest, in hertz
+     */
+    public SymbolRateResampler(double symbolRate, double samplesPerSymbol, double passFrequency)
+    {
+        mSymbolRate = symbolRate;
+        mSamplesPerSymbol = samplesPerSymbol;
+        mPassFrequency = passFrequency;
+    }
+
+    /**
+     * Configures the decimation and resampling for the channel sample rate.
+     * @param channelSampleRate of the samples provided to the decoder, prior to baseband filter decimation
+     */
+    public void setChannelSampleRate(double channelSampleRate)
+    {
+        double decoderSampleRate = mSymbolRate * mSamplesPerSymbol;
+        mChannelSampleRate = channelSampleRate;
+        mDecimation = FastMath.max(1, (int)(channelSampleRate / decoderSampleRate));
+        mSampleRate = channelSampleRate / mDecimation;
+        mResampler = null;
+
+        if(mSampleRate != decoderSampleRate)
+        {
+            double passFrequency = FastMath.min(mPassFrequency,
+                FastMath.min(mSampleRate, decoderSampleRate) * MAXIMUM_PASS_FRACTION);
+            mResampler = new ComplexPolyphaseResampler(mSampleRate, decoderSampleRate, passFrequency);
+            mSampleRate = mResampler.getOutputSampleRate();
+        }
+    }
+
+    /**
+     * Sample rate of the channel samples provided to the decoder, prior to baseband filter decimation
+     */
+    public double getChannelSampleRate()
+    {
+        return mChannelSampleRate;
+    }
+
+    /**
+     * Decimation rate for the decoder's baseband filter
+     */
+    public int getDecimation()
+    {
+        return mDecimation;
+    }
+
+    /**
+     * Sample rate after baseband filter decimation and resampling.  This can differ slightly from the fixed decoder
+     * sample rate when the resampler uses an approximate rate ratio.
+     */
+    public double getSampleRate()
+    {
+        return mSampleRate;
+    }
+
+    /**
+     * Resamples the baseband filtered and decimated samples to the decoder sample rate.  Samples are returned
+     * unmodified when the decimated rate is already the decoder sample rate.
+     * @param samples that have been baseband filtered and decimated
+     * @return samples at the decoder sample rate
+     */
+    public ComplexSamples resample(ComplexSamples samples)
+    {
+        if(mResampler != null)
+        {
+            return mResampler.resample(samples.i(), samples.q());
+        }
+
+        return samples;
+    }
+}
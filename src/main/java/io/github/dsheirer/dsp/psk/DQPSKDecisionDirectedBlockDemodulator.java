@@ -0,0 +1,371 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.psk;
+
+import io.github.dsheirer.dsp.filter.interpolator.Interpolator;
+import io.github.dsheirer.dsp.psk.pll.CostasLoop;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Block-oriented Differential Quaternary Phase Shift Keying (DQPSK) demodulator.  Functionally equivalent to the
+ * DQPSKDecisionDirectedDemodulator with an InterpolatingSampleBuffer and DQPSKDecisionDirectedSymbolEvaluator, but
+ * processes a complete sample buffer per call using primitive state so that PLL mixing, symbol timing interpolation
+ * and symbol decisions run as a single tight loop without per-sample or per-symbol object mutations.
+ *
+ * The Costas Loop continues to own the loop phase and frequency so that external users (e.g. message framers that
+ * correct phase inversions and the frequency correction sync monitor) interact with the loop as before.  The mixing
+ * oscillator is a recursively rotated unit vector that is re-seeded from the loop's phase and frequency at each
+ * symbol decision, replacing the per-sample sine and cosine calculations with two per symbol.
+ *
+ * Demodulated dibits are delivered to the listener in small packed dibit buffers so that phase inversion corrections requested by
+ * the listener while processing a block are applied to the following symbols with minimal latency.
+ */
+public class DQPSKDecisionDirectedBlockDemodulator
+{
+    private static final float MAXIMUM_DEVIATION_SAMPLES_PER_SYMBOL = 0.02f; // +/- 2% deviation
+    private static final int DEFAULT_DIBIT_BLOCK_SIZE = 16;
+
+    private static final float ROTATE_FROM_PLUS_135_I = (float)FastMath.cos(-3.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_PLUS_135_Q = (float)FastMath.sin(-3.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_PLUS_45_I = (float)FastMath.cos(-1.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_PLUS_45_Q = (float)FastMath.sin(-1.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_MINUS_45_I = (float)FastMath.cos(1.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_MINUS_45_Q = (float)FastMath.sin(1.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_MINUS_135_I = (float)FastMath.cos(3.0 * FastMath.PI / 4.0);
+    private static final float ROTATE_FROM_MINUS_135_Q = (float)FastMath.sin(3.0 * FastMath.PI / 4.0);
+
+    private static final float[][] TAPS = Interpolator.TAPS;
+    private static final int NSTEPS = Interpolator.NSTEPS;
+
+    private CostasLoop mCostasLoop;
+    private Listener<DibitBuffer> mDibitListener;
+
+    //Symbol timing
+    private float[] mDelayLineInphase;
+    private float[] mDelayLineQuadrature;
+    private int mDelayLinePointer = 0;
+    private int mTwiceSamplesPerSymbol;
+    private float mSamplingPoint;
+    private float mSampleCounterGain;
+    private float mDetectedSamplesPerSymbol;
+    private float mDetectedSamplesPerSymbolGain;
+    private float mMaximumSamplesPerSymbol;
+    private float mMinimumSamplesPerSymbol;
+
+    //Differential decoding reference samples from the previous symbol period
+    private float mPreviousPrecedingInphase = 0.0f;
+    private float mPreviousPrecedingQuadrature = 0.0f;
+    private float mPreviousCurrentInphase = 0.0f;
+    private float mPreviousCurrentQuadrature = 0.0f;
+
+    private DibitBuffer mDibits;
+
+    /**
+     * Constructs an instance
+     * @param costasLoop for tracking carrier frequency error
+     * @param samplesPerSymbol nominal
+     * @param sampleCounterGain for the symbol timing error adjustments
+     */
+    public DQPSKDecisionDirectedBlockDemodulator(CostasLoop costasLoop, float samplesPerSymbol, float sampleCounterGain)
+    {
+        this(costasLoop, samplesPerSymbol, sampleCounterGain, DEFAULT_DIBIT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs an instance
+     * @param costasLoop for tracking carrier frequency error
+     * @param samplesPerSymbol nominal
+     * @param sampleCounterGain for the symbol timing error adjustments
+     * @param dibitBlockSize maximum number of dibits to accumulate before dispatching to the listener.  Use a multiple
+     * of four so that each dispatched buffer is byte aligned.
+     */
+    public DQPSKDecisionDirectedBlockDemodulator(CostasLoop costasLoop, float samplesPerSymbol, float sampleCounterGain,
+                                                 int dibitBlockSize)
+    {
+        if(dibitBlockSize < 1)
+        {
+            throw new IllegalArgumentException("Dibit block size must be positive");
+        }
+
+        mCostasLoop = costasLoop;
+        mSamplingPoint = samplesPerSymbol;
+        mDetectedSamplesPerSymbol = samplesPerSymbol;
+        mMaximumSamplesPerSymbol = samplesPerSymbol * (1.0f + MAXIMUM_DEVIATION_SAMPLES_PER_SYMBOL);
+        mMinimumSamplesPerSymbol = samplesPerSymbol * (1.0f - MAXIMUM_DEVIATION_SAMPLES_PER_SYMBOL);
+        mTwiceSamplesPerSymbol = (int)FastMath.floor(2.0 * samplesPerSymbol);
+        mDelayLineInphase = new float[2 * mTwiceSamplesPerSymbol];
+        mDelayLineQuadrature = new float[2 * mTwiceSamplesPerSymbol];
+        mSampleCounterGain = sampleCounterGain;
+        mDetectedSamplesPerSymbolGain = 0.1f * mSampleCounterGain * mSampleCounterGain;
+        mDibits = new DibitBuffer(dibitBlockSize);
+    }
+
+    /**
+     * Registers the listener to receive buffers of demodulated dibits
+     */
+    public void setDibitListener(Listener<DibitBuffer> listener)
+    {
+        mDibitListener = listener;
+    }
+
+    /**
+     * Current detected samples per symbol
+     */
+    public float getDetectedSamplesPerSymbol()
+    {
+        return mDetectedSamplesPerSymbol;
+    }
+
+    /**
+     * Demodulates the complex sample buffer and dispatches the dibit symbol decisions to the registered listener.
+     * @param samples to demodulate
+     */
+    public void receive(ComplexSamples samples)
+    {
+        float[] i = samples.i();
+        float[] q = samples.q();
+
+        final float[] delayI = mDelayLineInphase;
+        final float[] delayQ = mDelayLineQuadrature;
+        final int twiceSamplesPerSymbol = mTwiceSamplesPerSymbol;
+        final DibitBuffer dibits = mDibits;
+
+        int pointer = mDelayLinePointer;
+        float samplingPoint = mSamplingPoint;
+
+        //Seed the mixing oscillator from the loop, since the loop may have been externally corrected or reset
+        double phase = mCostasLoop.getLoopPhase();
+        double frequency = mCostasLoop.getLoopFrequency();
+        double vectorI = FastMath.cos(phase);
+        double vectorQ = FastMath.sin(phase);
+        double rotationI = FastMath.cos(frequency);
+        double rotationQ = FastMath.sin(frequency);
+
+        for(int x = 0; x < i.length; x++)
+        {
+            //Advance the loop and the mixing oscillator by one sample period
+            mCostasLoop.increment();
+            double rotatedI = vectorI * rotationI - vectorQ * rotationQ;
+            vectorQ = vectorQ * rotationI + vectorI * rotationQ;
+            vectorI = rotatedI;
+
+            float oscillatorI = (float)vectorI;
+            float oscillatorQ = (float)vectorQ;
+
+            //Mix the sample with the oscillator to remove any carrier frequency offset
+            float mixedI = (i[x] * oscillatorI) - (q[x] * oscillatorQ);
+            float mixedQ = (q[x] * oscillatorI) + (i[x] * oscillatorQ);
+
+            //Store the sample in the delay line to use with the interpolator
+            delayI[pointer] = mixedI;
+            delayI[pointer + twiceSamplesPerSymbol] = mixedI;
+            delayQ[pointer] = mixedQ;
+            delayQ[pointer + twiceSamplesPerSymbol] = mixedQ;
+            pointer++;
+
+            if(pointer >= twiceSamplesPerSymbol)
+            {
+                pointer = 0;
+            }
+
+            samplingPoint--;
+
+            if(samplingPoint < 1.0f)
+            {
+                //Preceding (un-interpolated) sample and interpolated current sample
+                float precedingI = delayI[pointer + 3];
+                float precedingQ = delayQ[pointer + 3];
+
+                float[] taps = TAPS[(int)(NSTEPS * samplingPoint)];
+                float currentI = interpolate(taps, delayI, pointer);
+                float currentQ = interpolate(taps, delayQ, pointer);
+
+                //Differential decode: sample x complex conjugate of the previous sample
+                float precedingSymbolI = (precedingI * mPreviousPrecedingInphase) + (precedingQ * mPreviousPrecedingQuadrature);
+                float precedingSymbolQ = (precedingQ * mPreviousPrecedingInphase) - (precedingI * mPreviousPrecedingQuadrature);
+                float currentSymbolI = (currentI * mPreviousCurrentInphase) + (currentQ * mPreviousCurrentQuadrature);
+                float currentSymbolQ = (currentQ * mPreviousCurrentInphase) - (currentI * mPreviousCurrentQuadrature);
+
+                //Set gain to unity before we calculate the error value.  Only the quadrature of the preceding symbol is
+                //used to detect the direction of vector rotation.
+                float magnitude = (float)FastMath.sqrt((precedingSymbolI * precedingSymbolI) +
+                    (precedingSymbolQ * precedingSymbolQ));
+
+                if(magnitude != 0)
+                {
+                    float scalor = 1.0f / magnitude;
+                    precedingSymbolQ *= scalor;
+                }
+
+                magnitude = (float)FastMath.sqrt((currentSymbolI * currentSymbolI) + (currentSymbolQ * currentSymbolQ));
+
+                if(magnitude != 0)
+                {
+                    float scalor = 1.0f / magnitude;
+                    currentSymbolI *= scalor;
+                    currentSymbolQ *= scalor;
+                }
+
+                //Symbol decision and error relative to the closest reference symbol
+                int dibit;
+                float polarity;
+                float error;
+
+                if(currentSymbolQ > 0.0f)
+                {
+                    if(currentSymbolI > 0.0f)
+                    {
+                        dibit = 0; //D00_PLUS_1
+                        polarity = precedingSymbolQ > currentSymbolQ ? 1.0f : -1.0f;
+                        error = (currentSymbolQ * ROTATE_FROM_PLUS_45_I) + (currentSymbolI * ROTATE_FROM_PLUS_45_Q);
+                    }
+                    else
+                    {
+                        dibit = 1; //D01_PLUS_3
+                        polarity = precedingSymbolQ < currentSymbolQ ? 1.0f : -1.0f;
+                        error = (currentSymbolQ * ROTATE_FROM_PLUS_135_I) + (currentSymbolI * ROTATE_FROM_PLUS_135_Q);
+                    }
+                }
+                else
+                {
+                    if(currentSymbolI > 0.0f)
+                    {
+                        dibit = 2; //D10_MINUS_1
+                        polarity = precedingSymbolQ > currentSymbolQ ? 1.0f : -1.0f;
+                        error = (currentSymbolQ * ROTATE_FROM_MINUS_45_I) + (currentSymbolI * ROTATE_FROM_MINUS_45_Q);
+                    }
+                    else
+                    {
+                        dibit = 3; //D11_MINUS_3
+                        polarity = precedingSymbolQ < currentSymbolQ ? 1.0f : -1.0f;
+                        error = (currentSymbolQ * ROTATE_FROM_MINUS_135_I) + (currentSymbolI * ROTATE_FROM_MINUS_135_Q);
+                    }
+                }
+
+                error = Float.isNaN(error) ? 0.0f : clip(error, 0.3f);
+
+                //Adjust detected samples per symbol and symbol timing based on the timing error
+                float timingError = error * polarity;
+                mDetectedSamplesPerSymbol += (timingError * mDetectedSamplesPerSymbolGain);
+
+                if(mDetectedSamplesPerSymbol > mMaximumSamplesPerSymbol)
+                {
+                    mDetectedSamplesPerSymbol = mMaximumSamplesPerSymbol;
+                }
+
+                if(mDetectedSamplesPerSymbol < mMinimumSamplesPerSymbol)
+                {
+                    mDetectedSamplesPerSymbol = mMinimumSamplesPerSymbol;
+                }
+
+                samplingPoint += (mDetectedSamplesPerSymbol + (timingError * mSampleCounterGain));
+
+                //Update the costas loop (PLL) with the phase error and re-seed the mixing oscillator
+                mCostasLoop.adjust(clip(-error, 0.5f));
+                phase = mCostasLoop.getLoopPhase();
+                frequency = mCostasLoop.getLoopFrequency();
+                vectorI = FastMath.cos(phase);
+                vectorQ = FastMath.sin(phase);
+                rotationI = FastMath.cos(frequency);
+                rotationQ = FastMath.sin(frequency);
+
+                //Store current samples to use for the next symbol period
+                mPreviousPrecedingInphase = precedingI;
+                mPreviousPrecedingQuadrature = precedingQ;
+                mPreviousCurrentInphase = currentI;
+                mPreviousCurrentQuadrature = currentQ;
+
+                dibits.add(dibit);
+
+                if(dibits.isFull())
+                {
+                    //Save state before dispatch since the listener can adjust the loop
+                    mDelayLinePointer = pointer;
+                    mSamplingPoint = samplingPoint;
+                    dispatch();
+
+                    phase = mCostasLoop.getLoopPhase();
+                    frequency = mCostasLoop.getLoopFrequency();
+                    vectorI = FastMath.cos(phase);
+                    vectorQ = FastMath.sin(phase);
+                    rotationI = FastMath.cos(frequency);
+                    rotationQ = FastMath.sin(frequency);
+                }
+            }
+        }
+
+        mDelayLinePointer = pointer;
+        mSamplingPoint = samplingPoint;
+        dispatch();
+    }
+
+    /**
+     * Dispatches any accumulated dibits to the listener
+     */
+    private void dispatch()
+    {
+        if(!mDibits.isEmpty())
+        {
+            if(mDibitListener != null)
+            {
+                mDibitListener.receive(mDibits);
+            }
+
+            mDibits.clear();
+        }
+    }
+
+    /**
+     * Calculates an interpolated value from the eight samples that start at the offset, using the interpolation
+     * filter taps for the fractional sampling position.
+     */
+    private static float interpolate(float[] taps, float[] samples, int offset)
+    {
+        float accumulator = (taps[7] * samples[offset]);
+        accumulator += (taps[6] * samples[offset + 1]);
+        accumulator += (taps[5] * samples[offset + 2]);
+        accumulator += (taps[4] * samples[offset + 3]);
+        accumulator += (taps[3] * samples[offset + 4]);
+        accumulator += (taps[2] * samples[offset + 5]);
+        accumulator += (taps[1] * samples[offset + 6]);
+        accumulator += (taps[0] * samples[offset + 7]);
+        return accumulator;
+    }
+
+    /**
+     * Constrains value to the range of ( -maximum <> maximum )
+     */
+    private static float clip(float value, float maximum)
+    {
+        if(value > maximum)
+        {
+            return maximum;
+        }
+        else if(value < -maximum)
+        {
+            return -maximum;
+        }
+
+        return value;
+    }
+}
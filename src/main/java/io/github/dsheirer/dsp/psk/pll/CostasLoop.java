@@ -170,6 +170,14 @@ public class CostasLoop implements IPhaseLockedLoop
         return mLoopFrequency;
     }
 
+    /**
+     * Current phase of the loop in radians
+     */
+    public double getLoopPhase()
+    {
+        return mLoopPhase;
+    }
+
     /**
      * Updates the costas loop frequency and phase to adjust for the phase error value
      *
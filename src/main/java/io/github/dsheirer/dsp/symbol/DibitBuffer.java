@@ -0,0 +1,168 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.symbol;
+
+/**
+ * Packed buffer of dibit symbols stored at 2 bits per symbol in a byte array.  Dibits are packed most significant
+ * dibit first, using the same layout as the DibitToByteBufferAssembler and Dibit.parse(), so that the backing array can
+ * be transferred directly into a bitstream byte buffer.
+ *
+ * Buffers are intended to be reused by the producer: a consumer should process the buffer contents during the
+ * receive call and should not retain a reference to the buffer.
+ */
+public class DibitBuffer
+{
+    private static final Dibit[] DIBITS = new Dibit[]{Dibit.D00_PLUS_1, Dibit.D01_PLUS_3, Dibit.D10_MINUS_1,
+        Dibit.D11_MINUS_3};
+
+    private byte[] mBuffer;
+    private int mSize;
+
+    /**
+     * Constructs an empty buffer
+     * @param capacity in dibits
+     */
+    public DibitBuffer(int capacity)
+    {
+        if(capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        mBuffer = new byte[(capacity + 3) / 4];
+    }
+
+    /**
+     * Constructs a full buffer that is backed by the packed byte array
+     * @param packed dibits, four per byte
+     */
+    private DibitBuffer(byte[] packed)
+    {
+        mBuffer = packed;
+        mSize = packed.length * 4;
+    }
+
+    /**
+     * Creates a full buffer backed by the packed byte array where each byte contains four dibits.
+     * @param packed dibits
+     * @return buffer
+     */
+    public static DibitBuffer wrap(byte[] packed)
+    {
+        return new DibitBuffer(packed);
+    }
+
+    /**
+     * Appends the dibit value to this buffer.
+     * @param dibit value 0-3 as defined by Dibit.getValue()
+     * @throws ArrayIndexOutOfBoundsException if the buffer is full
+     */
+    public void add(int dibit)
+    {
+        int index = mSize >> 2;
+        int shift = (3 - (mSize & 0x3)) << 1;
+
+        if(shift == 6)
+        {
+            mBuffer[index] = (byte)((dibit & 0x3) << 6);
+        }
+        else
+        {
+            mBuffer[index] |= (byte)((dibit & 0x3) << shift);
+        }
+
+        mSize++;
+    }
+
+    /**
+     * Appends the dibit to this buffer.
+     */
+    public void add(Dibit dibit)
+    {
+        add(dibit.getValue());
+    }
+
+    /**
+     * Dibit value at the specified index
+     * @param index of the dibit
+     * @return value 0-3 as defined by Dibit.getValue()
+     */
+    public int get(int index)
+    {
+        return (mBuffer[index >> 2] >> ((3 - (index & 0x3)) << 1)) & 0x3;
+    }
+
+    /**
+     * Dibit at the specified index
+     */
+    public Dibit getDibit(int index)
+    {
+        return DIBITS[get(index)];
+    }
+
+    /**
+     * Packed byte array backing this buffer.  Only the first (size + 3) / 4 bytes contain valid dibits and the final
+     * byte may be partially filled when the size is not a multiple of four.
+     */
+    public byte[] getBytes()
+    {
+        return mBuffer;
+    }
+
+    /**
+     * Number of dibits in this buffer
+     */
+    public int size()
+    {
+        return mSize;
+    }
+
+    /**
+     * Maximum number of dibits that this buffer can hold
+     */
+    public int capacity()
+    {
+        return mBuffer.length * 4;
+    }
+
+    /**
+     * Indicates if this buffer is full
+     */
+    public boolean isFull()
+    {
+        return mSize == capacity();
+    }
+
+    /**
+     * Indicates if this buffer is empty
+     */
+    public boolean isEmpty()
+    {
+        return mSize == 0;
+    }
+
+    /**
+     * Removes all dibits from this buffer
+     */
+    public void clear()
+    {
+        mSize = 0;
+    }
+}
@@ -156,8 +156,19 @@ public class DibitDelayBuffer
      */
     public CorrectedBinaryMessage getMessage(int start, int dibitLength)
     {
-        CorrectedBinaryMessage message = new CorrectedBinaryMessage(dibitLength * 2);
+        return getMessage(start, dibitLength, new CorrectedBinaryMessage(dibitLength * 2));
+    }
 
+    /**
+     * Extracts a corrected binary message from the dibit buffer into the message argument
+     *
+     * @param start dibit index where 0 is the oldest dibit and the newest dibit is buffer length - 1
+     * @param dibitLength number of dibits to transfer
+     * @param message that is empty (pointer at zero) and sized to at least dibitLength * 2 bits
+     * @return the message argument
+     */
+    public CorrectedBinaryMessage getMessage(int start, int dibitLength, CorrectedBinaryMessage message)
+    {
         int dibitCount = 0;
         int bufferPointer = (mPointer + start) % mBuffer.length;
 
@@ -99,6 +99,59 @@ public class DibitToByteBufferAssembler implements Listener<Dibit>, IByteBufferP
         }
     }
 
+    /**
+     * Processes a packed dibit buffer.  Whole bytes are transferred directly when both the buffer and this assembler
+     * are byte aligned.
+     * @param buffer of dibits
+     */
+    public void receive(DibitBuffer buffer)
+    {
+        byte[] packed = buffer.getBytes();
+        int size = buffer.size();
+        int x = 0;
+
+        while(x < size)
+        {
+            if(mDibitCount == 0 && (x & 0x3) == 0 && size - x >= 4)
+            {
+                mCurrentBuffer.put(packed[x >> 2]);
+                x += 4;
+
+                if(!mCurrentBuffer.hasRemaining())
+                {
+                    getNextBuffer();
+                }
+            }
+            else
+            {
+                receive(buffer.get(x++));
+            }
+        }
+    }
+
+    /**
+     * Processes a dibit value
+     * @param dibit value 0-3 as defined by Dibit.getValue()
+     */
+    private void receive(int dibit)
+    {
+        mCurrentByte <<= 2;
+        mCurrentByte |= dibit;
+        mDibitCount++;
+
+        if(mDibitCount >= 4)
+        {
+            mCurrentBuffer.put(mCurrentByte);
+            mCurrentByte = 0x00;
+            mDibitCount = 0;
+
+            if(!mCurrentBuffer.hasRemaining())
+            {
+                getNextBuffer();
+            }
+        }
+    }
+
     /**
      * Registers the listener to receive fully assembled byte buffers from this assembler.
      */
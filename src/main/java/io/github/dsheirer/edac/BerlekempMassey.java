@@ -27,6 +27,8 @@ import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * Berlekemp Massey decoder for primitive RS/BCH block codes
  *
@@ -53,6 +55,12 @@ public class BerlekempMassey
     int[] index_of;
     int[] gg;
 
+    /**
+     * Decoders are shared across messages that are processed on multiple decoder threads, so each thread gets its
+     * own reusable set of decoding arrays.
+     */
+    private final ThreadLocal<Workspace> mWorkspace = ThreadLocal.withInitial(() -> new Workspace(NN, KK, TT));
+
     /**
      * Constructs an instance
      *
@@ -219,18 +227,19 @@ public class BerlekempMassey
     public boolean decode(final int[] input, int[] output) //input, output
     {
         int u, q;
-        int[][] elp = new int[NN - KK + 2][NN - KK];
-        int[] d = new int[NN - KK + 2];
-        int[] l = new int[NN - KK + 2];
-        int[] u_lu = new int[NN - KK + 2];
-        int[] s = new int[NN - KK + 1];
+        Workspace workspace = mWorkspace.get();
+        int[][] elp = workspace.elp;
+        int[] d = workspace.d;
+        int[] l = workspace.l;
+        int[] u_lu = workspace.u_lu;
+        int[] s = workspace.s;
         int count = 0;
         boolean syn_error = false;
-        int[] root = new int[TT];
-        int[] loc = new int[TT];
-        int[] z = new int[TT + 1];
-        int[] err = new int[NN];
-        int[] reg = new int[TT + 1];
+        int[] root = workspace.root;
+        int[] loc = workspace.loc;
+        int[] z = workspace.z;
+        int[] err = workspace.err;
+        int[] reg = workspace.reg;
 
         boolean irrecoverable_error = false;
 
@@ -245,12 +254,23 @@ public class BerlekempMassey
         {
             s[i] = 0;
 
+            /* i * j modulo NN, maintained incrementally */
+            int ij = 0;
+
             for(int j = 0; j < NN; j++)
             {
                 if(output[j] != -1)
                 {
                     /* recd[j] in index form */
-                    s[i] ^= alpha_to[(output[j] + i * j) % NN];
+                    int exponent = output[j] + ij;
+                    s[i] ^= alpha_to[exponent >= NN ? exponent - NN : exponent];
+                }
+
+                ij += i;
+
+                if(ij >= NN)
+                {
+                    ij -= NN;
                 }
             }
 
@@ -274,6 +294,9 @@ public class BerlekempMassey
              step number and the degree of the elp.
              */
 
+            /* reset the reusable workspace to the state of newly allocated arrays */
+            workspace.clear();
+
             /* initialise table entries */
             d[0] = 0; /* index form */
             d[1] = s[1]; /* index form */
@@ -526,17 +549,7 @@ public class BerlekempMassey
         else
         {
             /* no non-zero syndromes => no errors: output received codeword */
-            for(int i = 0; i < NN; i++)
-            {
-                if(output[i] != -1) /* convert recd[] to polynomial form */
-                {
-                    output[i] = alpha_to[output[i]];
-                }
-                else
-                {
-                    output[i] = 0;
-                }
-            }
+            System.arraycopy(input, 0, output, 0, NN);
         }
 
         if(irrecoverable_error)
@@ -556,4 +569,100 @@ public class BerlekempMassey
 
         return irrecoverable_error;
     }
+
+    /**
+     * Decodes a sequence of codewords.
+     *
+     * @param input containing count codewords of NN symbols each, in polynomial form
+     * @param output to receive the count decoded codewords of NN symbols each
+     * @param count of codewords
+     * @param irrecoverable optional (nullable) array to receive the irrecoverable error flag for each codeword
+     * @return number of codewords with irrecoverable errors
+     */
+    public int decode(int[] input, int[] output, int count, boolean[] irrecoverable)
+    {
+        Workspace workspace = mWorkspace.get();
+        int[] codeword = workspace.input;
+        int[] decoded = workspace.output;
+        int failures = 0;
+
+        for(int x = 0; x < count; x++)
+        {
+            System.arraycopy(input, x * NN, codeword, 0, NN);
+            boolean failed = decode(codeword, decoded);
+            System.arraycopy(decoded, 0, output, x * NN, NN);
+
+            if(irrecoverable != null)
+            {
+                irrecoverable[x] = failed;
+            }
+
+            if(failed)
+            {
+                failures++;
+            }
+        }
+
+        return failures;
+    }
+
+    /**
+     * Reusable decoding arrays for a single thread.
+     */
+    private static class Workspace
+    {
+        private final int[][] elp;
+        private final int[] d;
+        private final int[] l;
+        private final int[] u_lu;
+        private final int[] s;
+        private final int[] root;
+        private final int[] loc;
+        private final int[] z;
+        private final int[] err;
+        private final int[] reg;
+        private final int[] input;
+        private final int[] output;
+
+        /**
+         * Constructs an instance
+         * @param nn codeword length
+         * @param kk message length
+         * @param tt maximum correctable errors
+         */
+        public Workspace(int nn, int kk, int tt)
+        {
+            elp = new int[nn - kk + 2][nn - kk];
+            d = new int[nn - kk + 2];
+            l = new int[nn - kk + 2];
+            u_lu = new int[nn - kk + 2];
+            s = new int[nn - kk + 1];
+            root = new int[tt];
+            loc = new int[tt];
+            z = new int[tt + 1];
+            err = new int[nn];
+            reg = new int[tt + 1];
+            input = new int[nn];
+            output = new int[nn];
+        }
+
+        /**
+         * Zeroes the error correction arrays
+         */
+        public void clear()
+        {
+            for(int[] row: elp)
+            {
+                Arrays.fill(row, 0);
+            }
+
+            Arrays.fill(d, 0);
+            Arrays.fill(l, 0);
+            Arrays.fill(u_lu, 0);
+            Arrays.fill(root, 0);
+            Arrays.fill(loc, 0);
+            Arrays.fill(z, 0);
+            Arrays.fill(reg, 0);
+        }
+    }
 }
@@ -28,69 +28,27 @@ public class CRCDMR
     private final static Logger mLog = LoggerFactory.getLogger(CRCDMR.class);
 
     /**
-     * CRC-CCITT 16-bit checksums for a message length of 80 bits plus 16
-     * additional checksums representing CRC checksum bit errors
-     *
-     * Generated by:
-     * CRCUtil.generate( 80, 16, 0x11021l, 0xFFFFl, true );
+     * CRC-CCITT 16-bit (x16 + x12 + x5 + 1) with single-bit error syndromes for an 80-bit message plus checksum
      */
-    public static final int[] CCITT_80_CHECKSUMS = new int[]
-        {
-            0xE434, 0x721A, 0x390D, 0x9496, 0x4A4B, 0xAD35, 0xDE8A, 0x6F45, 0xBFB2,
-            0x5FD9, 0xA7FC, 0x53FE, 0x29FF, 0x9CEF, 0xC667, 0xEB23, 0xFD81, 0xF6D0,
-            0x7B68, 0x3DB4, 0x1EDA, 0xF6D, 0x8FA6, 0x47D3, 0xABF9, 0xDDEC, 0x6EF6,
-            0x377B, 0x93AD, 0xC1C6, 0x60E3, 0xB861, 0xD420, 0x6A10, 0x3508, 0x1A84,
-            0xD42, 0x6A1, 0x8B40, 0x45A0, 0x22D0, 0x1168, 0x8B4, 0x45A, 0x22D, 0x8906,
-            0x4483, 0xAA51, 0xDD38, 0x6E9C, 0x374E, 0x1BA7, 0x85C3, 0xCAF1, 0xED68,
-            0x76B4, 0x3B5A, 0x1DAD, 0x86C6, 0x4363, 0xA9A1, 0xDCC0, 0x6E60, 0x3730,
-            0x1B98, 0xDCC, 0x6E6, 0x373, 0x89A9, 0xCCC4, 0x6662, 0x3331, 0x9188,
-            0x48C4, 0x2462, 0x1231, 0x8108, 0x4084, 0x2042, 0x1021, 0x1, 0x2, 0x4, 0x8,
-            0x10, 0x20, 0x40, 0x80, 0x100, 0x200, 0x400, 0x800, 0x1000, 0x2000, 0x4000,
-            0x8000,
-        };
+    private static final CRCEngine CCITT = new CRCEngine(16, 0x1021, 0, false, 0);
+    private static final CRCSyndromeTable CCITT_80_SYNDROMES = CCITT.getSyndromeTable(80, 1);
 
     /**
-     * Confirmed Packet Data Unit CRC-9 checksums, generated by:
-     *
-     * long[] table = CRCUtil.generate( 135, 9, 0x259l, 0x1FF, false, Parity.NONE );
+     * Confirmed Packet Data Unit CRC-9 (x9 + x6 + x4 + x3 + 1)
      */
-    public static final int[] CRC9_CHECKSUMS = new int[]
-        {
-            0x1E7, 0x1F3, 0x1F9, 0x1FC, 0x0D2, 0x045, 0x122, 0x0BD, 0x15E, 0x083,
-            0x141, 0x1A0, 0x0FC, 0x052, 0x005, 0x102, 0x0AD, 0x156, 0x087, 0x143,
-            0x1A1, 0x1D0, 0x0C4, 0x04E, 0x00B, 0x105, 0x182, 0x0ED, 0x176, 0x097,
-            0x14B, 0x1A5, 0x1D2, 0x0C5, 0x162, 0x09D, 0x14E, 0x08B, 0x145, 0x1A2,
-            0x0FD, 0x17E, 0x093, 0x149, 0x1A4, 0x0FE, 0x053, 0x129, 0x194, 0x0E6,
-            0x05F, 0x12F, 0x197, 0x1CB, 0x1E5, 0x1F2, 0x0D5, 0x16A, 0x099, 0x14C,
-            0x08A, 0x069, 0x134, 0x0B6, 0x077, 0x13B, 0x19D, 0x1CE, 0x0CB, 0x165,
-            0x1B2, 0x0F5, 0x17A, 0x091, 0x148, 0x088, 0x068, 0x018, 0x020, 0x03C,
-            0x032, 0x035, 0x11A, 0x0A1, 0x150, 0x084, 0x06E, 0x01B, 0x10D, 0x186,
-            0x0EF, 0x177, 0x1BB, 0x1DD, 0x1EE, 0x0DB, 0x16D, 0x1B6, 0x0F7, 0x17B,
-            0x1BD, 0x1DE, 0x0C3, 0x161, 0x1B0, 0x0F4, 0x056, 0x007, 0x103, 0x181,
-            0x1C0, 0x0CC, 0x04A, 0x009, 0x104, 0x0AE, 0x07B, 0x13D, 0x19E, 0x0E3,
-            0x171, 0x1B8, 0x0F0, 0x054, 0x006, 0x02F, 0x117, 0x18B, 0x1C5, 0x1E2,
-            0x0DD, 0x16E, 0x09B, 0x14D, 0x1A6
-        };
+    private static final CRCEngine CRC9 = new CRCEngine(9, 0x059, 0, false, 0);
 
+    /**
+     * CRC-8 (x8 + x2 + x + 1)
+     */
+    private static final CRCEngine CRC8 = new CRCEngine(8, 0x07, 0, false, 0);
 
     /**
      * Error detection and correction of single-bit errors for CCITT 16-bit CRC protected 80-bit messages.
      */
     public static BinaryMessage correctCCITT80(BinaryMessage message, int messageStart, int crcStart)
     {
-        int calculated = 0; //Starting value
-
-        /* Iterate the set bits and XOR running checksum with lookup value */
-        for(int i = message.nextSetBit(messageStart);
-            i >= messageStart && i < crcStart;
-            i = message.nextSetBit(i + 1))
-        {
-            calculated ^= CCITT_80_CHECKSUMS[i - messageStart];
-        }
-
-        int checksum = getIntChecksum(message, crcStart, 16);
-
-        int residual = calculated ^ checksum;
+        int residual = getCCITT80Residual(message, messageStart, crcStart);
 
         if(residual == 0 || residual == 0xFFFF)
         {
@@ -100,7 +58,7 @@ public class CRCDMR
         }
         else
         {
-            int errorLocation = getBitError(residual, CCITT_80_CHECKSUMS);
+            int errorLocation = getCCITT80BitError(residual);
 
             if(errorLocation >= 0)
             {
@@ -143,17 +101,7 @@ public class CRCDMR
      */
     public static int correctCCITT80(CorrectedBinaryMessage message, int messageStart, int crcStart, int mask)
     {
-        int calculated = mask; //Starting value
-
-        /* Iterate the set bits and XOR running checksum with lookup value */
-        for(int i = message.nextSetBit(messageStart); i >= messageStart && i < crcStart; i = message.nextSetBit(i + 1))
-        {
-            calculated ^= CCITT_80_CHECKSUMS[i - messageStart];
-        }
-
-        int checksum = getIntChecksum(message, crcStart, 16);
-
-        int residual = calculated ^ checksum;
+        int residual = getCCITT80Residual(message, messageStart, crcStart) ^ mask;
 
         if(residual == 0 || residual == 0xFFFF)
         {
@@ -161,7 +109,7 @@ public class CRCDMR
         }
         else
         {
-            int errorLocation = getBitError(residual, CCITT_80_CHECKSUMS);
+            int errorLocation = getCCITT80BitError(residual);
 
             if(errorLocation >= 0)
             {
@@ -177,37 +125,41 @@ public class CRCDMR
         return 2;
     }
 
+    /**
+     * Calculates the residual of the calculated and transmitted CCITT checksums.  The residual is either 0 or 0xFFFF
+     * for an error-free message, depending on whether the transmitted checksum is inverted.
+     */
+    private static int getCCITT80Residual(BinaryMessage message, int messageStart, int crcStart)
+    {
+        return (int)CCITT.calculate(message, messageStart, crcStart - messageStart) ^
+            getIntChecksum(message, crcStart, 16);
+    }
+
+    /**
+     * Identifies a single-bit error position relative to the start of the message that matches the residual.  The
+     * transmitted checksum is inverted, so the error syndrome is the inverted residual.
+     */
+    private static int getCCITT80BitError(int residual)
+    {
+        return CCITT_80_SYNDROMES.getBitError(residual ^ 0xFFFF);
+    }
+
     /**
      * Error detection for CRC-9 protected Confirmed Packet Data blocks.  These
      * data blocks have a slightly complicated structure because the checksum
-     * is located between bits 7-15, within a 144 bit block.  The checksums
-     * were generated assuming that the message is contiguous from 0 - 134 bits.
+     * is located between bits 7-15, within a 144 bit block.  The checksum is
+     * calculated as if the message is contiguous from 0 - 134 bits.
      * No data correction is performed.
      */
     public static CRC checkCRC9(BinaryMessage message, int messageStart)
     {
-        int calculated = 0x0; //Initial fill of all ones
-
-        /* Iterate the set bits and XOR running checksum with lookup value */
-        for(int i = message.nextSetBit(messageStart);
-            i >= messageStart && i < messageStart + 144;
-            i = message.nextSetBit(i + 1))
-        {
-            /* message bits before the CRC */
-            if(i < (messageStart + 7))
-            {
-                calculated ^= CRC9_CHECKSUMS[i - messageStart];
-            }
-            /* message bits after the CRC */
-            else if(i > (messageStart + 15))
-            {
-                calculated ^= CRC9_CHECKSUMS[i - messageStart - 9];
-            }
-        }
+        /* message bits before and after the CRC */
+        long calculated = CRC9.update(0, message, messageStart, 7);
+        calculated = CRC9.update(calculated, message, messageStart + 16, 128);
 
         int checksum = message.getInt(messageStart + 7, messageStart + 15);
 
-        int residual = calculated ^ checksum;
+        int residual = (int)calculated ^ checksum;
 
         if(residual == 0 || residual == 0x1FF)
         {
@@ -267,24 +219,12 @@ public class CRCDMR
         return -1;
     }
 
-    public static int crc8(BinaryMessage bits, int len) {
-        int crc=0;
-        final int K = 8;
-        final boolean[] poly = new boolean[]{true,false,false,false,false,false,true,true,true}; // crc8 poly
-        boolean[] buf = new boolean[256];
-        if (len+K > 256) {
-            return 0;
-        }
-        for (int i=0; i<len; i++){
-            buf[i] = bits.get(i);
-        }
-        for (int i=0; i<len; i++)
-            if (buf[i])
-                for (int j=0; j<K+1; j++)
-                    buf[i+j] ^= poly[j];
-        for (int i=0; i<K; i++){
-            crc = (crc << 1) + (buf[len + i] ? 1:0);
-        }
-        return crc;
+    /**
+     * Calculates the CRC-8 remainder for the message bits 0 to len.  When the range includes the transmitted
+     * checksum, a zero remainder indicates a valid message.
+     */
+    public static int crc8(BinaryMessage bits, int len)
+    {
+        return (int)CRC8.calculate(bits, 0, len);
     }
 }
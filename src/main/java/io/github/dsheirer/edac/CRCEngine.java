@@ -0,0 +1,338 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import java.util.BitSet;
+
+/**
+ * Table-driven cyclic redundancy check (CRC) calculator for CRC widths of 1 - 32 bits.
+ *
+ * The engine is parameterized by the generator polynomial, initial fill, final XOR value and bit order and processes
+ * whole bytes with a 256-entry lookup table, falling back to bit-wise updates for any leading or trailing partial
+ * bytes.  Messages can be supplied as packed byte arrays (most significant bit first, as produced by
+ * BinaryMessage.toByteArray()) or as bit sets, at any bit offset.
+ *
+ * The polynomial is specified without the implicit x^width term, for example CRC-CCITT (x16 + x12 + x5 + 1) is
+ * specified as 0x1021.  When reflected, each message byte is processed least significant bit first using a reflected
+ * CRC register and the message length must be a multiple of 8 bits.
+ *
+ * Engine instances are immutable and can be shared across threads.
+ */
+public class CRCEngine
+{
+    private final int mWidth;
+    private final long mPolynomial;
+    private final long mInitialFill;
+    private final long mFinalXor;
+    private final boolean mReflect;
+    private final long mMask;
+    private final int mRegisterPolynomial;
+    private final int[] mTable = new int[256];
+
+    /**
+     * Constructs an instance
+     * @param width of the CRC in bits, 1 - 32
+     * @param polynomial without the implicit x^width term
+     * @param initialFill of the CRC register
+     * @param reflect true to process each message byte least significant bit first with a reflected CRC register
+     * @param finalXor value that is applied to the CRC register to produce the checksum
+     */
+    public CRCEngine(int width, long polynomial, long initialFill, boolean reflect, long finalXor)
+    {
+        if(width < 1 || width > 32)
+        {
+            throw new IllegalArgumentException("CRC width must be in range 1 - 32");
+        }
+
+        mWidth = width;
+        mMask = width == 32 ? 0xFFFFFFFFl : (1l << width) - 1;
+        mPolynomial = polynomial & mMask;
+        mInitialFill = initialFill & mMask;
+        mFinalXor = finalXor & mMask;
+        mReflect = reflect;
+
+        //Non-reflected registers are left-aligned in a 32-bit int and reflected registers are right-aligned so that
+        //the byte table can be used for any CRC width, including widths less than 8 bits.
+        if(mReflect)
+        {
+            mRegisterPolynomial = Integer.reverse((int)mPolynomial) >>> (32 - width);
+        }
+        else
+        {
+            mRegisterPolynomial = (int)mPolynomial << (32 - width);
+        }
+
+        for(int x = 0; x < 256; x++)
+        {
+            int register = mReflect ? x : x << 24;
+
+            for(int bit = 0; bit < 8; bit++)
+            {
+                register = step(register, 0);
+            }
+
+            mTable[x] = register;
+        }
+    }
+
+    /**
+     * Width of the CRC in bits
+     */
+    public int getWidth()
+    {
+        return mWidth;
+    }
+
+    /**
+     * Generator polynomial without the implicit x^width term
+     */
+    public long getPolynomial()
+    {
+        return mPolynomial;
+    }
+
+    /**
+     * Initial fill of the CRC register
+     */
+    public long getInitialFill()
+    {
+        return mInitialFill;
+    }
+
+    /**
+     * Value applied to the CRC register to produce the checksum
+     */
+    public long getFinalXor()
+    {
+        return mFinalXor;
+    }
+
+    /**
+     * Indicates if each message byte is processed least significant bit first with a reflected CRC register
+     */
+    public boolean isReflect()
+    {
+        return mReflect;
+    }
+
+    /**
+     * Calculates the checksum for the message bits in the packed byte array.
+     * @param packed message bits, most significant bit first
+     * @param bitOffset to the first message bit
+     * @param length of the message in bits
+     * @return checksum
+     */
+    public long calculate(byte[] packed, int bitOffset, int length)
+    {
+        return update(mInitialFill, packed, bitOffset, length) ^ mFinalXor;
+    }
+
+    /**
+     * Calculates the checksum for the message bits in the bit set.
+     * @param bits containing the message
+     * @param bitOffset to the first message bit
+     * @param length of the message in bits
+     * @return checksum
+     */
+    public long calculate(BitSet bits, int bitOffset, int length)
+    {
+        return update(mInitialFill, bits, bitOffset, length) ^ mFinalXor;
+    }
+
+    /**
+     * Updates the CRC register value with the message bits in the packed byte array.  Use this method to calculate a
+     * checksum over a message that is split across non-contiguous bit ranges, starting with the initial fill and
+     * applying the final XOR value to the result.
+     * @param crc register value
+     * @param packed message bits, most significant bit first
+     * @param bitOffset to the first message bit
+     * @param length of the message in bits
+     * @return updated CRC register value
+     */
+    public long update(long crc, byte[] packed, int bitOffset, int length)
+    {
+        checkLength(length);
+
+        int register = toRegister(crc);
+        int byteIndex = bitOffset >>> 3;
+        int shift = bitOffset & 0x7;
+        int byteEnd = byteIndex + (length >>> 3);
+
+        if(shift == 0)
+        {
+            for(; byteIndex < byteEnd; byteIndex++)
+            {
+                register = updateByte(register, packed[byteIndex]);
+            }
+        }
+        else
+        {
+            for(; byteIndex < byteEnd; byteIndex++)
+            {
+                register = updateByte(register, (packed[byteIndex] << shift) | ((packed[byteIndex + 1] & 0xFF) >>> (8 - shift)));
+            }
+        }
+
+        //Trailing partial byte
+        for(int index = bitOffset + (length & ~0x7); index < bitOffset + length; index++)
+        {
+            register = step(register, (packed[index >>> 3] >>> (7 - (index & 0x7))) & 1);
+        }
+
+        return fromRegister(register);
+    }
+
+    /**
+     * Updates the CRC register value with the message bits in the bit set, assembling each message byte from the bit
+     * set before applying the byte table.
+     * @param crc register value
+     * @param bits containing the message
+     * @param bitOffset to the first message bit
+     * @param length of the message in bits
+     * @return updated CRC register value
+     */
+    public long update(long crc, BitSet bits, int bitOffset, int length)
+    {
+        checkLength(length);
+
+        int register = toRegister(crc);
+        int byteEnd = bitOffset + (length & ~0x7);
+
+        for(int index = bitOffset; index < byteEnd; index += 8)
+        {
+            int value = 0;
+
+            for(int x = 0; x < 8; x++)
+            {
+                value = (value << 1) | (bits.get(index + x) ? 1 : 0);
+            }
+
+            register = updateByte(register, value);
+        }
+
+        for(int i = byteEnd; i < bitOffset + length; i++)
+        {
+            register = step(register, bits.get(i) ? 1 : 0);
+        }
+
+        return fromRegister(register);
+    }
+
+    /**
+     * Creates the syndrome of a single bit error at each position in a message of the specified length, equivalent
+     * to the checksum tables created by CRCUtil.generate() with a zero initial fill.  The syndrome of a received
+     * message is the calculated checksum XOR'd with the transmitted checksum and, for linear CRCs, equals the XOR of
+     * the syndromes of each errant bit.
+     * @param messageLength in bits, excluding the checksum
+     * @param includeChecksumBits to append syndromes for single bit errors in the transmitted checksum field, where
+     * the checksum field is read most significant bit first
+     * @return syndromes indexed by bit position relative to the start of the message
+     */
+    public long[] getSyndromes(int messageLength, boolean includeChecksumBits)
+    {
+        checkLength(messageLength);
+
+        long[] syndromes = new long[messageLength + (includeChecksumBits ? mWidth : 0)];
+        byte[] message = new byte[(messageLength + 7) / 8];
+
+        for(int x = 0; x < messageLength; x++)
+        {
+            message[x >>> 3] = (byte)(0x80 >>> (x & 0x7));
+            syndromes[x] = update(0, message, 0, messageLength);
+            message[x >>> 3] = 0;
+        }
+
+        if(includeChecksumBits)
+        {
+            for(int x = 0; x < mWidth; x++)
+            {
+                syndromes[messageLength + x] = 1l << (mWidth - 1 - x);
+            }
+        }
+
+        return syndromes;
+    }
+
+    /**
+     * Creates a syndrome lookup table for correcting bit errors in a message of the specified length plus its
+     * checksum.
+     * @param messageLength in bits, excluding the checksum
+     * @param maxErrors to correct, 1 or 2
+     * @return syndrome table
+     */
+    public CRCSyndromeTable getSyndromeTable(int messageLength, int maxErrors)
+    {
+        return new CRCSyndromeTable(getSyndromes(messageLength, true), maxErrors);
+    }
+
+    /**
+     * Updates the register with one message byte
+     */
+    private int updateByte(int register, int value)
+    {
+        if(mReflect)
+        {
+            return (register >>> 8) ^ mTable[(register ^ value) & 0xFF];
+        }
+
+        return (register << 8) ^ mTable[((register >>> 24) ^ value) & 0xFF];
+    }
+
+    /**
+     * Reflected CRCs process each message byte least significant bit first and require whole bytes.
+     */
+    private void checkLength(int length)
+    {
+        if(mReflect && (length & 0x7) != 0)
+        {
+            throw new IllegalArgumentException("Reflected CRC message length must be a multiple of 8 bits");
+        }
+    }
+
+    /**
+     * Shifts one message bit into the register
+     */
+    private int step(int register, int bit)
+    {
+        if(mReflect)
+        {
+            return ((register ^ bit) & 1) != 0 ? (register >>> 1) ^ mRegisterPolynomial : register >>> 1;
+        }
+
+        return (register ^ (bit << 31)) < 0 ? (register << 1) ^ mRegisterPolynomial : register << 1;
+    }
+
+    /**
+     * Converts a right-aligned CRC value to the internal register alignment
+     */
+    private int toRegister(long crc)
+    {
+        int value = (int)(crc & mMask);
+        return mReflect ? value : value << (32 - mWidth);
+    }
+
+    /**
+     * Converts the internal register to a right-aligned CRC value
+     */
+    private long fromRegister(int register)
+    {
+        return (mReflect ? register : register >>> (32 - mWidth)) & mMask;
+    }
+}
@@ -63,6 +63,29 @@ public class CRCLTR
 		0x43  //Free 0 
 	};
 
+	/**
+	 * Single-bit error syndromes for the 24 message bits and the 7 check bits.  The checksum table doesn't correspond to
+	 * a single CRC polynomial, so the message checksum is the XOR of the table value for each set message bit.
+	 */
+	private static final CRCSyndromeTable SYNDROMES = new CRCSyndromeTable( getSyndromes(), 1 );
+
+	private static long[] getSyndromes()
+	{
+		long[] syndromes = new long[ sCHECKSUMS.length + 7 ];
+
+		for( int x = 0; x < sCHECKSUMS.length; x++ )
+		{
+			syndromes[ x ] = sCHECKSUMS[ x ];
+		}
+
+		for( int x = 0; x < 7; x++ )
+		{
+			syndromes[ sCHECKSUMS.length + x ] = 1<<( 6 - x );
+		}
+
+		return syndromes;
+	}
+
 	/**
 	 * Determines if message bits 10 - 34 pass the LTR CRC checksum
 	 * contained in bits 35 - 41, using a lookup table of CRC checksum values
@@ -106,15 +129,7 @@ public class CRCLTR
 
 	public static int getCalculatedChecksum( BitSet msg  )
 	{
-		int calculated = 0;
-		
-		//Iterate bits that are set and XOR running checksum with lookup value
-		for (int i = msg.nextSetBit( 9 ); i >= 9 && i < 33; i = msg.nextSetBit( i+1 ) ) 
-		{
-			calculated ^= sCHECKSUMS[ i - 9 ];
-		}
-		
-		return calculated;
+		return (int)SYNDROMES.getSyndrome( msg, 9, 24 );
 	}
 	
 	/**
@@ -148,35 +163,17 @@ public class CRCLTR
     {
     	int[] retVal = null;
     	
-    	int checksum = getTransmittedChecksum( msg );
-    	
-		//Remove the initial fill value (1)
-		checksum ^= 1;
-		
-		//Iterate set message bits, removing their respective checksum value
-    	//from the transmitted checksum, to arrive at the remainder
-		for (int i = msg.nextSetBit( 0 ); i >= 0 && i < 47; i = msg.nextSetBit( i+1 ) ) 
-		{
-			checksum ^= sCHECKSUMS[ i ];
-		}
-		
-		//If at this point the checksum is 0, then the errant bit is the parity
-		//bit
-		if( checksum == 0 )
-		{
-			msg.flip( 62 );
-		}
-		//Otherwise, try to lookup the syndrome for a single bit error
-		else
+    	int syndrome = getCalculatedChecksum( msg ) ^ getTransmittedChecksum( msg );
+
+		//Lookup the syndrome for a single bit error in the message or check bits
+		if( syndrome != 0 )
 		{
-			for( int x = 0; x < 47; x++ )
+			int errorLocation = SYNDROMES.getBitError( syndrome );
+
+			if( errorLocation >= 0 )
 			{
-				if( checksum == sCHECKSUMS[ x ] )
-				{
-					//return this bit position
-					retVal = new int[ 1 ];
-					retVal[ 0 ] = x;
-				}
+				retVal = new int[ 1 ];
+				retVal[ 0 ] = errorLocation + 9;
 			}
 		}
 
@@ -32,85 +32,30 @@ import java.util.BitSet;
  * 9 - 59: message bits
  * 60 - 67: CRC-7 check bits plus 1 parity
  *
- * Passport uses a CRC-7 (0x44) with an initial fill of 0x44 plus parity set.
+ * Passport uses a CRC-7 with an initial fill of 0x00 followed by an even parity bit.
  *
- * CRC-7 Generating Polynomial: x6 + x2 + 1 (0x44)
+ * CRC-7 Generating Polynomial: x7 + x3 + 1 (0x09)
  */
 public class CRCPassport
 {
     private static final byte sFILL_00 = (byte)0x00;
 
-    private static byte[] sCHECKSUMS = new byte[]
-        {
-            (byte)0x6E, //DCC 1
-            (byte)0xBF, //DCC 0
-            (byte)0xD6, //LCN 10
-            (byte)0xE3, //LCN 9
-            (byte)0xF8, //LCN 8
-            (byte)0x7C, //LCN 7
-            (byte)0x3E, //LCN 6
-            (byte)0x97, //LCN 5
-            (byte)0xC2, //LCN 4
-            (byte)0xE9, //LCN 3
-            (byte)0x75, //LCN 2
-            (byte)0x3B, //LCN 1
-            (byte)0x94, //LCN 0
-            (byte)0x4A, //SITE 6
-            (byte)0xAD, //SITE 5
-            (byte)0x57, //SITE 4
-            (byte)0xA2, //SITE 3
-            (byte)0xD9, //SITE 2
-            (byte)0x6D, //SITE 1
-            (byte)0x37, //SITE 0
-            (byte)0x92, //GROUP 15
-            (byte)0xC1, //GROUP 14
-            (byte)0x61, //GROUP 13
-            (byte)0x31, //GROUP 12
-            (byte)0x19, //GROUP 11
-            (byte)0x0D, //GROUP 10
-            (byte)0x07, //GROUP 9
-            (byte)0x8A, //GROUP 8
-            (byte)0xCD, //GROUP 7
-            (byte)0x67, //GROUP 6
-            (byte)0xBA, //GROUP 5
-            (byte)0xD5, //GROUP 4
-            (byte)0x6B, //GROUP 3
-            (byte)0xBC, //GROUP 2
-            (byte)0x5E, //GROUP 1
-            (byte)0xA7, //GROUP 0
-            (byte)0xDA, //TYPE 3
-            (byte)0xE5, //TYPE 2
-            (byte)0x73, //TYPE 1
-            (byte)0xB0, //TYPE 0
-            (byte)0x58, //FREE 10
-            (byte)0x2C, //FREE 9
-            (byte)0x16, //FREE 8
-            (byte)0x83, //FREE 7
-            (byte)0xC8, //FREE 6
-            (byte)0x64, //FREE 5
-            (byte)0x32, //FREE 4
-            (byte)0x91, //FREE 3
-            (byte)0x49, //FREE 2
-            (byte)0x25, //FREE 1
-            (byte)0x13 //FREE 0
-        };
+    /**
+     * CRC-7 (x7 + x3 + 1) calculated over the message bits.  The transmitted check bits are the CRC-7 checksum followed
+     * by an even parity bit over the message and checksum bits.
+     */
+    private static final CRCEngine CRC7 = new CRCEngine(7, 0x09, 0, false, 0);
 
     /**
      * Determines if message bits 9 - 59 pass the CRC checksum
-     * contained in bits 60 - 68, using a lookup table of CRC checksum values
-     * derived from the CRC-7 value and the final parity bit
+     * contained in bits 60 - 68, using a table-driven CRC-7 calculation and
+     * the final parity bit
      */
     public static CRC check(BitSet msg)
     {
         CRC crc = CRC.UNKNOWN;
 
-        byte calculated = 0x0; //Starting value for an OSW
-
-        //Iterate bits that are set and XOR running checksum with lookup value
-        for(int i = msg.nextSetBit(9); i >= 9 && i <= 59; i = msg.nextSetBit(i + 1))
-        {
-            calculated ^= sCHECKSUMS[i - 9];
-        }
+        byte calculated = getCalculatedChecksum(msg);
 
         //Apply the message checksum to derive the residual
         calculated ^= getChecksum(msg);
@@ -129,22 +74,24 @@ public class CRCPassport
 
     public static byte getResidual(BitSet msg)
     {
-        byte calculated = 0x0; //Initial fill of zero
+        return (byte)(getCalculatedChecksum(msg) ^ getChecksum(msg));
+    }
+
+    /**
+     * Calculates the CRC-7 checksum and parity bit for message bits 9 - 59
+     */
+    public static byte getCalculatedChecksum(BitSet msg)
+    {
+        int checksum = (int)CRC7.calculate(msg, 9, 51);
+
+        int count = Integer.bitCount(checksum);
 
-        //Iterate bits that are set and XOR running checksum with lookup value
         for(int i = msg.nextSetBit(9); i >= 9 && i <= 59; i = msg.nextSetBit(i + 1))
         {
-            calculated ^= sCHECKSUMS[i - 9];
+            count++;
         }
 
-        calculated ^= getChecksum(msg);
-
-        return calculated;
-    }
-
-    public static byte[] getChecks()
-    {
-        return sCHECKSUMS;
+        return (byte)((checksum << 1) | (count & 1));
     }
 
     /**
@@ -0,0 +1,266 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import io.github.dsheirer.bits.BinaryMessage;
+
+import java.util.BitSet;
+
+/**
+ * Syndrome indexed bit error correction table for linear checksums such as CRCs.
+ *
+ * The table is created from the syndrome of a single bit error at each position of the protected message and checksum
+ * and maps the syndrome of each correctable error pattern (all single bit errors and optionally all double bit errors)
+ * to the errant bit positions with a single hash lookup, replacing a linear search of the checksum table.
+ *
+ * Error patterns that share a syndrome with another error pattern of the same weight can't be corrected and are
+ * excluded from the table.  When a double bit error shares a syndrome with a single bit error, the single bit error
+ * is the most likely error pattern and is retained.
+ *
+ * Table instances are immutable and can be shared across threads.
+ */
+public class CRCSyndromeTable
+{
+    /**
+     * Lookup result for a syndrome that doesn't correspond to a correctable error pattern
+     */
+    public static final int UNCORRECTABLE = -1;
+
+    private static final int MAX_POSITIONS = 0x7FFF;
+    private static final int NO_BIT = -1;
+    private static final int AMBIGUOUS = -2;
+    private static final int EMPTY = 0;
+
+    private final long[] mSyndromes;
+    private final int mMaxErrors;
+    private final long[] mKeys;
+    private final int[] mValues;
+    private final int mHashMask;
+
+    /**
+     * Constructs an instance
+     * @param syndromes for a single bit error at each message and checksum bit position
+     * @param maxErrors to correct, 1 or 2
+     */
+    public CRCSyndromeTable(long[] syndromes, int maxErrors)
+    {
+        if(maxErrors < 1 || maxErrors > 2)
+        {
+            throw new IllegalArgumentException("Max errors must be 1 or 2");
+        }
+
+        if(syndromes.length > MAX_POSITIONS)
+        {
+            throw new IllegalArgumentException("Syndrome count exceeds maximum bit position");
+        }
+
+        mSyndromes = syndromes;
+        mMaxErrors = maxErrors;
+
+        int n = syndromes.length;
+        int entries = maxErrors == 1 ? n : n + (n * (n - 1) / 2);
+        int capacity = Integer.highestOneBit(Math.max(entries, 8) * 2 - 1) << 1;
+        mKeys = new long[capacity];
+        mValues = new int[capacity];
+        mHashMask = capacity - 1;
+
+        for(int x = 0; x < n; x++)
+        {
+            put(syndromes[x], encode(x, NO_BIT), 1);
+        }
+
+        if(maxErrors == 2)
+        {
+            for(int x = 0; x < n; x++)
+            {
+                for(int y = x + 1; y < n; y++)
+                {
+                    put(syndromes[x] ^ syndromes[y], encode(x, y), 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Syndromes for a single bit error at each message and checksum bit position
+     */
+    public long[] getSyndromes()
+    {
+        return mSyndromes;
+    }
+
+    /**
+     * Maximum number of bit errors that this table can correct
+     */
+    public int getMaxErrors()
+    {
+        return mMaxErrors;
+    }
+
+    /**
+     * Calculates the syndrome of the message bits by XOR'ing the syndrome of each set bit.  This supports linear
+     * checksums that don't correspond to a CRC polynomial.
+     * @param bits containing the message
+     * @param bitOffset to the first message bit
+     * @param length of the message in bits
+     * @return syndrome
+     */
+    public long getSyndrome(BitSet bits, int bitOffset, int length)
+    {
+        long syndrome = 0;
+
+        for(int i = bits.nextSetBit(bitOffset); i >= 0 && i < bitOffset + length; i = bits.nextSetBit(i + 1))
+        {
+            syndrome ^= mSyndromes[i - bitOffset];
+        }
+
+        return syndrome;
+    }
+
+    /**
+     * Identifies the position of a single bit error that matches the syndrome
+     * @param syndrome of the received message
+     * @return bit position relative to the start of the message or UNCORRECTABLE
+     */
+    public int getBitError(long syndrome)
+    {
+        int value = get(syndrome);
+
+        if(value > 0 && getSecondBit(value) == NO_BIT)
+        {
+            return getFirstBit(value);
+        }
+
+        return UNCORRECTABLE;
+    }
+
+    /**
+     * Corrects the single or double bit error pattern that matches the syndrome.
+     * @param message to correct
+     * @param bitOffset to the first message bit
+     * @param syndrome of the received message
+     * @return number of bits corrected, 0 when the syndrome is zero, or UNCORRECTABLE
+     */
+    public int correct(BinaryMessage message, int bitOffset, long syndrome)
+    {
+        if(syndrome == 0)
+        {
+            return 0;
+        }
+
+        int value = get(syndrome);
+
+        if(value <= 0)
+        {
+            return UNCORRECTABLE;
+        }
+
+        message.flip(bitOffset + getFirstBit(value));
+
+        if(getSecondBit(value) == NO_BIT)
+        {
+            return 1;
+        }
+
+        message.flip(bitOffset + getSecondBit(value));
+        return 2;
+    }
+
+    /**
+     * Looks up the encoded bit positions for the syndrome
+     * @return encoded bit positions, EMPTY, or AMBIGUOUS
+     */
+    private int get(long syndrome)
+    {
+        int index = hash(syndrome);
+
+        while(mValues[index] != EMPTY)
+        {
+            if(mKeys[index] == syndrome)
+            {
+                return mValues[index];
+            }
+
+            index = (index + 1) & mHashMask;
+        }
+
+        return EMPTY;
+    }
+
+    /**
+     * Adds the error pattern to the table, retaining the lowest weight error pattern for each syndrome and marking
+     * syndromes that are shared by error patterns of the same weight as ambiguous.
+     */
+    private void put(long syndrome, int value, int weight)
+    {
+        //A zero syndrome indicates an undetectable error pattern
+        if(syndrome == 0)
+        {
+            return;
+        }
+
+        int index = hash(syndrome);
+
+        while(mValues[index] != EMPTY)
+        {
+            if(mKeys[index] == syndrome)
+            {
+                //Single bit errors are added first, so a double bit error never replaces a single bit error
+                int existing = mValues[index];
+
+                if(existing == AMBIGUOUS || weight == (getSecondBit(existing) == NO_BIT ? 1 : 2))
+                {
+                    mValues[index] = AMBIGUOUS;
+                }
+
+                return;
+            }
+
+            index = (index + 1) & mHashMask;
+        }
+
+        mKeys[index] = syndrome;
+        mValues[index] = value;
+    }
+
+    private int hash(long syndrome)
+    {
+        long hash = syndrome * 0x9E3779B97F4A7C15l;
+        return (int)(hash >>> 32) & mHashMask;
+    }
+
+    /**
+     * Encodes the bit positions with a +1 offset so that an encoded value is always positive and never EMPTY
+     */
+    private static int encode(int first, int second)
+    {
+        return ((second + 1) << 16) | (first + 1);
+    }
+
+    private static int getFirstBit(int value)
+    {
+        return (value & 0xFFFF) - 1;
+    }
+
+    private static int getSecondBit(int value)
+    {
+        return (value >>> 16) - 1;
+    }
+}
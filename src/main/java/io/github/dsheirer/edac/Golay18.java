@@ -34,23 +34,40 @@ public class Golay18
 {
     private final static Logger mLog = LoggerFactory.getLogger(Golay18.class);
 
+    private static final int CODEWORD_LENGTH = 18;
+    private static final int CODEWORD_MASK = 0x3FFFF;
+
     /**
-     * Performs error detection and correction.
+     * Error pattern for the 18-bit codeword.
+     *
+     * @param codeword with the first message bit in bit position 17
+     * @return error pattern to XOR with the codeword to correct it, zero if there are no errors, or
+     * Golay24.UNCORRECTABLE when the errors can't be corrected
      */
-    public static void checkAndCorrect(CorrectedBinaryMessage message, int startIndex)
+    public static int getErrorPattern(int codeword)
     {
-        int value = message.getInt(startIndex, startIndex + 17);
+        int errorPattern = Golay24.getErrorPattern(codeword & CODEWORD_MASK);
 
-        CorrectedBinaryMessage temp = new CorrectedBinaryMessage(24);
-        temp.load(6, 18, value);
+        //An error in the shortened (zero) bits means the received value isn't within correctable range of a codeword
+        if((errorPattern & ~CODEWORD_MASK) != 0)
+        {
+            return Golay24.UNCORRECTABLE;
+        }
 
-        int errorsCorrected = Golay24.checkAndCorrect(temp, 0);
-
-        int correctedValue = temp.getInt(6, 23);
+        return errorPattern;
+    }
 
-        message.load(startIndex, 18, correctedValue);
+    /**
+     * Performs error detection and correction.
+     */
+    public static void checkAndCorrect(CorrectedBinaryMessage message, int startIndex)
+    {
+        int errorPattern = getErrorPattern(message.getInt(startIndex, startIndex + CODEWORD_LENGTH - 1));
 
-        int correctedBitCount = Integer.bitCount(value ^ correctedValue);
-        message.incrementCorrectedBitCount(correctedBitCount);
+        if(errorPattern != 0 && errorPattern != Golay24.UNCORRECTABLE)
+        {
+            Golay23.flip(message, startIndex, errorPattern, CODEWORD_LENGTH);
+            message.incrementCorrectedBitCount(Integer.bitCount(errorPattern));
+        }
     }
 }
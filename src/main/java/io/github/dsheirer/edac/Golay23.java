@@ -2,127 +2,195 @@ package io.github.dsheirer.edac;
 
 import io.github.dsheirer.bits.BinaryMessage;
 
+/**
+ * Golay(23,12,7) decoder.
+ *
+ * Decoding is table driven.  The 11-bit syndrome of the 23-bit codeword is calculated from a 12-bit data checksum
+ * lookup and then used to look up the error pattern.  Golay(23,12,7) is a perfect code, so each of the 2048 syndromes
+ * maps to exactly one error pattern with a weight of 3 or less.
+ *
+ * Codewords are represented as integer values with the first transmitted (message) bit in the most significant bit
+ * position: 12 data bits followed by 11 parity bits.
+ */
 public class Golay23
 {
-	public static final int MAX_CORRECTABLE_ERRORS = 3;
-	
-	public static final int[] CHECKSUMS = new int[]
-	{
-	    0x63A, 0x31D, 0x7B4, 0x3DA, 0x1ED, 0x6CC, 0x366, 0x1B3, 
-	    0x6E3, 0x54B, 0x49F, 0x475, 0x400, 0x200, 0x100, 0x080, 
-	    0x040, 0x020, 0x010, 0x008, 0x004, 0x002, 0x001 
-	};
-
-	/**
-	 * Implements Golay(23,12,7) error detection and correction.  Returns the
-	 * number of detected errors.  If the error count is less than or equal to
-	 * the max correctable errors (3), then the error bits are corrected.
-	 * Otherwise the message is left intact and an error count greater than 3
-	 * is returned.
-	 * 
-	 * @param frame - message frame bitset
-	 * @param startIndex - first bit index of the golay protected bit sequence
-	 * 
-	 * @return - number of detected errors
-	 */
-	public static int checkAndCorrect( BinaryMessage frame, int startIndex )
-	{
-		int syndrome = getSyndrome( frame, startIndex );
-		
-		/* No errors */
-		if( syndrome == 0 )
-		{
-			return 0;
-		}
-		
-		BinaryMessage copy = frame.getSubMessage( startIndex, startIndex + 23 );
-
-		int index = -1;
-		int syndromeWeight = MAX_CORRECTABLE_ERRORS;
-		int errors = 0;
-		
-		while( index < 23 )
-		{
-			if( index != -1 )
-			{
-				/* restore the previous flipped bit */
-				if( index > 0 )
-				{
-					copy.flip( index - 1 );
-				}
-				
-				copy.flip( index );
-				
-				syndromeWeight = MAX_CORRECTABLE_ERRORS - 1;
-			}
-			
-			syndrome = getSyndrome( copy, 0 );
-			
-			if( syndrome > 0 )
-			{
-				for( int i = 0; i < 23; i++ )
-				{
-					errors = Integer.bitCount( syndrome );
-					
-					if( errors <= syndromeWeight )
-					{
-						copy.xor( 12, 11, syndrome );
-						
-						copy.rotateRight( i, 0, 22 );
-
-						if( index >= 0 )
-						{
-							errors ++;
-						}
-
-						int corrected = copy.getInt( 0, 22 );
-						int original = frame.getInt( startIndex, startIndex + 22 );
-						
-						int errorCount = Integer.bitCount( original ^ corrected );
-						
-						if( errorCount <= 3 )
-						{
-							frame.load( startIndex, 23, corrected );
-						}
-
-						return errorCount;
-					}
-					else
-					{
-						copy.rotateLeft( 0, 22 );
-						syndrome = getSyndrome( copy, 0 );
-					}
-				}
-				
-				index++;
-			}
-		}
-
-		/* Return an error count greater than 3 to indicate failed correction attempt */
-		return 4;
-	}
-
-	private static int getSyndrome( BinaryMessage frame, int startIndex )
-	{
-		int calculated = calculateChecksum( frame, startIndex );
-		
-		int checksum = frame.getInt( startIndex + 12, startIndex + 22 );
-
-		return ( checksum ^ calculated );
-	}
-	
-	private static int calculateChecksum( BinaryMessage frame, int startIndex )
-	{
-		int calculated = 0; //Starting value
-
-		/* Iterate the set bits and XOR running checksum with lookup value */
-		for (int i = frame.nextSetBit( startIndex ); 
-				 i >= startIndex && i < startIndex + 12; 
-				 i = frame.nextSetBit( i+1 ) ) 
-		{
-			calculated ^= CHECKSUMS[ i - startIndex ];
-		}
-		
-		return calculated;
-	}
+    public static final int MAX_CORRECTABLE_ERRORS = 3;
+
+    public static final int[] CHECKSUMS = new int[]
+    {
+        0x63A, 0x31D, 0x7B4, 0x3DA, 0x1ED, 0x6CC, 0x366, 0x1B3,
+        0x6E3, 0x54B, 0x49F, 0x475, 0x400, 0x200, 0x100, 0x080,
+        0x040, 0x020, 0x010, 0x008, 0x004, 0x002, 0x001
+    };
+
+    private static final int CODEWORD_LENGTH = 23;
+    private static final int DATA_LENGTH = 12;
+    private static final int PARITY_MASK = 0x7FF;
+
+    /**
+     * Parity checksum for each 12-bit data value
+     */
+    private static final int[] DATA_CHECKSUMS = new int[1 << DATA_LENGTH];
+
+    /**
+     * Error pattern for each 11-bit syndrome
+     */
+    private static final int[] ERROR_PATTERNS = new int[1 << (CODEWORD_LENGTH - DATA_LENGTH)];
+
+    static
+    {
+        for(int data = 0; data < DATA_CHECKSUMS.length; data++)
+        {
+            int checksum = 0;
+
+            for(int x = 0; x < DATA_LENGTH; x++)
+            {
+                if((data & (1 << (DATA_LENGTH - 1 - x))) != 0)
+                {
+                    checksum ^= CHECKSUMS[x];
+                }
+            }
+
+            DATA_CHECKSUMS[data] = checksum;
+        }
+
+        //Load all single, double and triple bit error patterns.  The zero error pattern is already loaded at index 0.
+        for(int a = 0; a < CODEWORD_LENGTH; a++)
+        {
+            loadErrorPattern(1 << a);
+
+            for(int b = a + 1; b < CODEWORD_LENGTH; b++)
+            {
+                loadErrorPattern((1 << a) | (1 << b));
+
+                for(int c = b + 1; c < CODEWORD_LENGTH; c++)
+                {
+                    loadErrorPattern((1 << a) | (1 << b) | (1 << c));
+                }
+            }
+        }
+    }
+
+    private static void loadErrorPattern(int errorPattern)
+    {
+        ERROR_PATTERNS[getSyndrome(errorPattern)] = errorPattern;
+    }
+
+    /**
+     * Calculates the 11-bit syndrome for the 23-bit codeword.
+     * @param codeword with the first message bit in bit position 22
+     * @return syndrome where zero indicates a valid codeword
+     */
+    public static int getSyndrome(int codeword)
+    {
+        return DATA_CHECKSUMS[(codeword >>> (CODEWORD_LENGTH - DATA_LENGTH)) & 0xFFF] ^ (codeword & PARITY_MASK);
+    }
+
+    /**
+     * Error pattern for the 23-bit codeword.
+     * @param codeword with the first message bit in bit position 22
+     * @return error pattern to XOR with the codeword to correct it, or zero if there are no errors
+     */
+    public static int getErrorPattern(int codeword)
+    {
+        return ERROR_PATTERNS[getSyndrome(codeword)];
+    }
+
+    /**
+     * Corrects the 23-bit codeword.
+     * @param codeword with the first message bit in bit position 22
+     * @return corrected codeword
+     */
+    public static int correct(int codeword)
+    {
+        return codeword ^ getErrorPattern(codeword);
+    }
+
+    /**
+     * Implements Golay(23,12,7) error detection and correction.  Returns the number of detected errors.  Since the code
+     * is perfect, every codeword decodes to the closest valid codeword with 3 or fewer bit errors.  Codewords with more
+     * than 3 bit errors are miscorrected to the wrong codeword.
+     *
+     * @param frame - message frame bitset
+     * @param startIndex - first bit index of the golay protected bit sequence
+     *
+     * @return - number of detected errors
+     */
+    public static int checkAndCorrect(BinaryMessage frame, int startIndex)
+    {
+        int errorPattern = getErrorPattern(frame.getInt(startIndex, startIndex + CODEWORD_LENGTH - 1));
+
+        if(errorPattern != 0)
+        {
+            flip(frame, startIndex, errorPattern, CODEWORD_LENGTH);
+        }
+
+        return Integer.bitCount(errorPattern);
+    }
+
+    /**
+     * Bulk decodes a sequence of contiguous 23-bit codewords from a packed bit array.
+     *
+     * @param packed bit array, most significant bit first in each byte
+     * @param bitOffset to the first bit of the first codeword
+     * @param count of codewords to decode
+     * @param codewords array to receive the corrected codewords, length of count or longer
+     * @return total number of bit errors corrected across all codewords
+     */
+    public static int decode(byte[] packed, int bitOffset, int count, int[] codewords)
+    {
+        int errors = 0;
+
+        for(int x = 0; x < count; x++)
+        {
+            int codeword = getPackedBits(packed, bitOffset + (x * CODEWORD_LENGTH), CODEWORD_LENGTH);
+            int errorPattern = getErrorPattern(codeword);
+            codewords[x] = codeword ^ errorPattern;
+            errors += Integer.bitCount(errorPattern);
+        }
+
+        return errors;
+    }
+
+    /**
+     * Flips each bit in the message that is set in the error pattern.
+     * @param message to correct
+     * @param startIndex of the codeword in the message
+     * @param errorPattern with the first message bit in the most significant (width - 1) bit position
+     * @param width of the codeword
+     */
+    static void flip(BinaryMessage message, int startIndex, int errorPattern, int width)
+    {
+        while(errorPattern != 0)
+        {
+            int bit = Integer.numberOfTrailingZeros(errorPattern);
+            message.flip(startIndex + width - 1 - bit);
+            errorPattern &= errorPattern - 1;
+        }
+    }
+
+    /**
+     * Extracts a value of up to 25 bits from a packed bit array.  Bits beyond the end of the array are read as zero.
+     * @param packed bit array, most significant bit first in each byte
+     * @param bitOffset to the first bit of the value
+     * @param width of the value in bits
+     * @return value with the first bit in the most significant (width - 1) bit position
+     */
+    static int getPackedBits(byte[] packed, int bitOffset, int width)
+    {
+        int index = bitOffset >>> 3;
+        int window = 0;
+
+        for(int x = 0; x < 4; x++)
+        {
+            window <<= 8;
+
+            if(index + x < packed.length)
+            {
+                window |= packed[index + x] & 0xFF;
+            }
+        }
+
+        return (window << (bitOffset & 7)) >>> (32 - width);
+    }
 }
@@ -1,6 +1,5 @@
 package io.github.dsheirer.edac;
 
-import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +27,24 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Galois 24/12/7 decoder
+ *
+ * Decoding is table driven.  The first 23 bits of the codeword are decoded with the Golay(23,12,7) syndrome table and
+ * the final overall parity bit extends the minimum distance to 8, which allows 4-bit errors to be detected.
+ *
+ * Codewords are represented as integer values with the first transmitted (message) bit in the most significant bit
+ * position: 12 data bits, 11 parity bits and the overall parity bit in the least significant bit position.
  */
 public class Golay24
 {
     private final static Logger mLog = LoggerFactory.getLogger(Golay24.class);
 
+    /**
+     * Error pattern value returned when the codeword contains uncorrectable errors
+     */
+    public static final int UNCORRECTABLE = -1;
+
+    private static final int CODEWORD_LENGTH = 24;
+
     /**
      * Galois 24/12 checksums generated by:
      *
@@ -45,119 +57,112 @@ public class Golay24
                     0x040, 0x020, 0x010, 0x008, 0x004, 0x002, 0x001
             };
 
-    private static int calculateChecksum(BinaryMessage message, int startIndex)
+    /**
+     * Error pattern for the 24-bit codeword.
+     *
+     * @param codeword with the first message bit in bit position 23
+     * @return error pattern to XOR with the codeword to correct it, zero if there are no errors, or UNCORRECTABLE
+     * when 4 bit errors are detected
+     */
+    public static int getErrorPattern(int codeword)
     {
-        int calculated = 0; //Starting value
+        int errorPattern = Golay23.getErrorPattern(codeword >>> 1) << 1;
 
-        /* Iterate the set bits and XOR running checksum with lookup value */
-        for(int i = message.nextSetBit(startIndex);
-            i >= startIndex && i < startIndex + 12;
-            i = message.nextSetBit(i + 1))
+        //Corrected codewords have even overall parity
+        if((Integer.bitCount(codeword ^ errorPattern) & 1) != 0)
         {
-            calculated ^= CHECKSUMS[i - startIndex];
+            //Three corrected bits plus a parity error indicates a 4-bit error
+            if(Integer.bitCount(errorPattern) == Golay23.MAX_CORRECTABLE_ERRORS)
+            {
+                return UNCORRECTABLE;
+            }
+
+            errorPattern |= 1;
         }
 
-        return calculated;
+        return errorPattern;
     }
 
     /**
-     * Performs error detection and returns a corrected copy of the 24-bit
-     * message that starts at the start index.
+     * Performs error detection and correction of the 24-bit codeword that starts at the start index.  Corrected bits
+     * are added to the message corrected bit count.
      *
      * @param message - source message containing startIndex + 24 bits length
      * @param startIndex - start of the 24-bit galois 24 protected bit set
-     * @return - corrected 24-bit galois value
+     * @return - 0 = no errors, 1 = errors corrected, 2 = uncorrectable errors
      */
     public static int checkAndCorrect(CorrectedBinaryMessage message, int startIndex)
     {
-        boolean parityError = message.cardinality() % 2 != 0;
+        int errorPattern = getErrorPattern(message.getInt(startIndex, startIndex + CODEWORD_LENGTH - 1));
 
-        int syndrome = getSyndrome(message, startIndex);
-
-        /* No errors */
-        if(syndrome == 0)
+        if(errorPattern == 0)
         {
-            if(parityError)
-            {
-                message.flip(startIndex + 23);
-                message.incrementCorrectedBitCount(1);
-                return 1;
-            }
-
             return 0;
         }
 
-        /* Get original message value */
-        int original = message.getInt(0, 22);
-
-        int index = -1;
-        int syndromeWeight = 3;
-        int errors = 0;
-
-        while(index < 23)
+        if(errorPattern == UNCORRECTABLE)
         {
-            if(index != -1)
-            {
-                /* restore the previous flipped bit */
-                if(index > 0)
-                {
-                    message.flip(index - 1);
-                }
-
-                message.flip(index);
+            return 2;
+        }
 
-                syndromeWeight = 2;
-            }
+        Golay23.flip(message, startIndex, errorPattern, CODEWORD_LENGTH);
+        message.incrementCorrectedBitCount(Integer.bitCount(errorPattern));
+        return 1;
+    }
 
-            syndrome = getSyndrome(message, startIndex);
+    /**
+     * Performs error detection and correction of a sequence of contiguous 24-bit codewords.
+     *
+     * @param message - source message containing startIndex + (count x 24) bits length
+     * @param startIndex - start of the first 24-bit codeword
+     * @param count - number of codewords
+     * @return - number of codewords with uncorrectable errors
+     */
+    public static int checkAndCorrect(CorrectedBinaryMessage message, int startIndex, int count)
+    {
+        int uncorrectable = 0;
 
-            if(syndrome > 0)
+        for(int x = 0; x < count; x++)
+        {
+            if(checkAndCorrect(message, startIndex + (x * CODEWORD_LENGTH)) == 2)
             {
-                for(int i = 0; i < 23; i++)
-                {
-
-                    errors = Integer.bitCount(syndrome);
-
-                    if(errors <= syndromeWeight)
-                    {
-                        message.xor(12, 11, syndrome);
-
-                        message.rotateRight(i, startIndex, startIndex + 22);
-
-                        if(index >= 0)
-                        {
-                            errors++;
-                        }
-
-                        int corrected = message.getInt(0, 22);
-
-                        if(Integer.bitCount(original ^ corrected) > 3)
-                        {
-                            return 2;
-                        }
-
-                        return 1;
-                    }
-                    else
-                    {
-                        message.rotateLeft(startIndex, startIndex + 22);
-                        syndrome = getSyndrome(message, startIndex);
-                    }
-                }
-
-                index++;
+                uncorrectable++;
             }
         }
 
-        return 2;
+        return uncorrectable;
     }
 
-    private static int getSyndrome(BinaryMessage message, int startIndex)
+    /**
+     * Bulk decodes a sequence of contiguous 24-bit codewords from a packed bit array.  Codewords with uncorrectable
+     * errors are returned as received.
+     *
+     * @param packed bit array, most significant bit first in each byte
+     * @param bitOffset to the first bit of the first codeword
+     * @param count of codewords to decode
+     * @param codewords array to receive the corrected codewords, length of count or longer
+     * @return number of codewords with uncorrectable errors
+     */
+    public static int decode(byte[] packed, int bitOffset, int count, int[] codewords)
     {
-        int calculated = calculateChecksum(message, startIndex);
+        int uncorrectable = 0;
+
+        for(int x = 0; x < count; x++)
+        {
+            int codeword = Golay23.getPackedBits(packed, bitOffset + (x * CODEWORD_LENGTH), CODEWORD_LENGTH);
+            int errorPattern = getErrorPattern(codeword);
 
-        int checksum = message.getInt(startIndex + 12, startIndex + 22);
+            if(errorPattern == UNCORRECTABLE)
+            {
+                codewords[x] = codeword;
+                uncorrectable++;
+            }
+            else
+            {
+                codewords[x] = codeword ^ errorPattern;
+            }
+        }
 
-        return (checksum ^ calculated);
+        return uncorrectable;
     }
 }
@@ -18,15 +18,25 @@
  */
 package io.github.dsheirer.edac.trellis;
 
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import org.apache.commons.math3.util.FastMath;
 
 public abstract class ViterbiDecoder
 {
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 2;
     private int mInputBitLength;
     private int mInputValueCount;
     private int mOutputBitLength;
     private int mOutputValueCount;
 
+    /**
+     * Decoders are shared across message factories that run on multiple decoder threads, so each thread gets its
+     * own reusable set of path metric and traceback arrays.
+     */
+    private final ThreadLocal<Workspace> mWorkspace =
+        ThreadLocal.withInitial(() -> new Workspace(getTransitionMatrix()));
+
     /**
      * Viterbi decoder for trellis coded modulation (TCM) encoded binary sequences.
      *
@@ -75,6 +85,14 @@ public abstract class ViterbiDecoder
      */
     protected abstract Node createStartingNode();
 
+    /**
+     * Trellis encoder state transition matrix of transmitted output values, indexed by the preceding input value
+     * (state) and the current input value.
+     *
+     * @return transition matrix
+     */
+    protected abstract int[][] getTransitionMatrix();
+
     /**
      * Size in bits of the input and state values (e.g. 3/4 rate input size is 3)
      *
@@ -225,4 +243,192 @@ public abstract class ViterbiDecoder
 
         return bestPath;
     }
+
+    /**
+     * Decodes the TCM encoded transmitted output values using primitive path metric arrays and a traceback matrix.
+     * Produces the same decoded input values and error value as the most likely path from decode(int[]), without
+     * creating path or node objects.
+     *
+     * Like the path decoder, the trellis starts at state zero and the final transmitted value is decoded with a
+     * flushing input value of zero.  Ties between equal path metrics are resolved in favor of the lowest preceding
+     * state.
+     *
+     * @param transmittedOutputValues from the encoded message
+     * @param length of transmitted output values to decode
+     * @param inputValues array to receive the decoded input values, excluding the flushing input value.  Must have a
+     * length of at least (length - 1).
+     * @return cumulative error value (Hamming distance) of the most likely path
+     */
+    public int decode(int[] transmittedOutputValues, int length, int[] inputValues)
+    {
+        Workspace workspace = mWorkspace.get();
+        workspace.ensureCapacity(length);
+
+        int stateCount = getInputValueCount();
+        int[] transitions = workspace.mTransitions;
+        int[] metrics = workspace.mMetrics;
+        int[] nextMetrics = workspace.mNextMetrics;
+        byte[] traceback = workspace.mTraceback;
+
+        metrics[0] = 0;
+
+        for(int state = 1; state < stateCount; state++)
+        {
+            metrics[state] = UNREACHABLE;
+        }
+
+        //Add-compare-select for all but the last transmitted value
+        for(int step = 0; step < length - 1; step++)
+        {
+            int transmitted = transmittedOutputValues[step];
+            int tracebackOffset = step * stateCount;
+
+            for(int input = 0; input < stateCount; input++)
+            {
+                int bestMetric = Integer.MAX_VALUE;
+                int bestState = 0;
+
+                for(int state = 0; state < stateCount; state++)
+                {
+                    int metric = metrics[state] +
+                        Integer.bitCount(transitions[state * stateCount + input] ^ transmitted);
+
+                    if(metric < bestMetric)
+                    {
+                        bestMetric = metric;
+                        bestState = state;
+                    }
+                }
+
+                nextMetrics[input] = bestMetric;
+                traceback[tracebackOffset + input] = (byte)bestState;
+            }
+
+            int[] swap = metrics;
+            metrics = nextMetrics;
+            nextMetrics = swap;
+        }
+
+        //Flush each survivor with the final transmitted value and a flushing input value of zero
+        int transmitted = transmittedOutputValues[length - 1];
+        int bestMetric = Integer.MAX_VALUE;
+        int state = 0;
+
+        for(int candidate = 0; candidate < stateCount; candidate++)
+        {
+            int metric = metrics[candidate] + Integer.bitCount(transitions[candidate * stateCount] ^ transmitted);
+
+            if(metric < bestMetric)
+            {
+                bestMetric = metric;
+                state = candidate;
+            }
+        }
+
+        //Trace back through the survivor states
+        for(int step = length - 2; step >= 0; step--)
+        {
+            inputValues[step] = state;
+            state = traceback[step * stateCount + state];
+        }
+
+        return bestMetric;
+    }
+
+    /**
+     * Decodes the TCM encoded message and returns the decoded input values packed into a message, with the first
+     * input value in the most significant bit positions.
+     *
+     * @param encodedMessage to decode that has already been deinterleaved
+     * @return decoded message with the corrected bit count set to the error value of the most likely path
+     */
+    protected CorrectedBinaryMessage decodeMessage(BinaryMessage encodedMessage)
+    {
+        //Ensure we have an integral number of transmitted symbols (nibbles) in the message
+        if(encodedMessage.size() % getOutputBitLength() != 0)
+        {
+            throw new IllegalArgumentException("Encoded message must contain an integral number of " +
+                getOutputBitLength() + "-bit symbols - message size: " + encodedMessage.size());
+        }
+
+        int length = encodedMessage.size() / getOutputBitLength();
+        Workspace workspace = mWorkspace.get();
+        workspace.ensureCapacity(length);
+        int[] symbols = workspace.mSymbols;
+        int[] inputValues = workspace.mInputValues;
+
+        for(int x = 0; x < length; x++)
+        {
+            int index = x * getOutputBitLength();
+            symbols[x] = encodedMessage.getInt(index, index + getOutputBitLength() - 1);
+        }
+
+        int error = decode(symbols, length, inputValues);
+
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage((length - 1) * getInputBitLength());
+
+        for(int x = 0; x < length - 1; x++)
+        {
+            int inputValue = inputValues[x];
+            int messageOffset = x * getInputBitLength();
+
+            for(int bit = 0; bit < getInputBitLength(); bit++)
+            {
+                if((inputValue & (1 << (getInputBitLength() - 1 - bit))) != 0)
+                {
+                    message.set(messageOffset + bit);
+                }
+            }
+        }
+
+        //Transfer the corrected error count to the message
+        message.setCorrectedBitCount(error);
+
+        return message;
+    }
+
+    /**
+     * Reusable path metric, traceback and symbol arrays for a single thread.
+     */
+    private static class Workspace
+    {
+        private final int[] mTransitions;
+        private final int[] mMetrics;
+        private final int[] mNextMetrics;
+        private final int mStateCount;
+        private byte[] mTraceback = new byte[0];
+        private int[] mSymbols = new int[0];
+        private int[] mInputValues = new int[0];
+
+        /**
+         * Constructs an instance
+         * @param transitionMatrix indexed by preceding state and input value
+         */
+        public Workspace(int[][] transitionMatrix)
+        {
+            mStateCount = transitionMatrix.length;
+            mTransitions = new int[mStateCount * mStateCount];
+
+            for(int state = 0; state < mStateCount; state++)
+            {
+                System.arraycopy(transitionMatrix[state], 0, mTransitions, state * mStateCount, mStateCount);
+            }
+
+            mMetrics = new int[mStateCount];
+            mNextMetrics = new int[mStateCount];
+        }
+
+        /**
+         * Resizes the arrays when needed to decode the number of transmitted output values.
+         */
+        public void ensureCapacity(int length)
+        {
+            if(mSymbols.length < length)
+            {
+                mSymbols = new int[length];
+                mInputValues = new int[length];
+                mTraceback = new byte[length * mStateCount];
+            }
+        }
+    }
 }
@@ -30,6 +30,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.control.Alert;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
@@ -55,6 +56,8 @@ public class TunerPreferenceEditor extends HBox
     private Label mHelpTextPolyphaseLabel;
     private Label mHeterodyneLabel;
     private Label mHelpTextHeterodyneLabel;
+    private CheckBox mSharedOutputSchedulingCheckBox;
+    private CheckBox mDirectSampleConversionCheckBox;
 
     public TunerPreferenceEditor(UserPreferences userPreferences)
     {
@@ -79,6 +82,9 @@ public class TunerPreferenceEditor extends HBox
             mEditorPane.add(new Label(" "), 0, 6);
             mEditorPane.add(getHeterodyneLabel(), 0, 7, 2, 1);
             mEditorPane.add(getHelpTextHeterodyneLabel(), 0, 8, 2, 3);
+            mEditorPane.add(new Separator(Orientation.HORIZONTAL), 0, 11, 2, 1);
+            mEditorPane.add(getSharedOutputSchedulingCheckBox(), 0, 12, 2, 1);
+            mEditorPane.add(getDirectSampleConversionCheckBox(), 0, 13, 2, 1);
         }
 
         return mEditorPane;
@@ -120,6 +126,36 @@ public class TunerPreferenceEditor extends HBox
         return mChannelizerTypeChoiceBox;
     }
 
+    private CheckBox getSharedOutputSchedulingCheckBox()
+    {
+        if(mSharedOutputSchedulingCheckBox == null)
+        {
+            mSharedOutputSchedulingCheckBox = new CheckBox("Polyphase: service all channel outputs with a shared " +
+                "worker thread pool (requires restart)");
+            mSharedOutputSchedulingCheckBox.setWrapText(true);
+            mSharedOutputSchedulingCheckBox.setSelected(mTunerPreference.isSharedOutputSchedulingEnabled());
+            mSharedOutputSchedulingCheckBox.setOnAction(event -> mTunerPreference
+                .setSharedOutputSchedulingEnabled(mSharedOutputSchedulingCheckBox.isSelected()));
+        }
+
+        return mSharedOutputSchedulingCheckBox;
+    }
+
+    private CheckBox getDirectSampleConversionCheckBox()
+    {
+        if(mDirectSampleConversionCheckBox == null)
+        {
+            mDirectSampleConversionCheckBox = new CheckBox("RTL-SDR and HackRF: convert samples directly from the " +
+                "USB transfer buffers (requires restart)");
+            mDirectSampleConversionCheckBox.setWrapText(true);
+            mDirectSampleConversionCheckBox.setSelected(mTunerPreference.isDirectSampleConversionEnabled());
+            mDirectSampleConversionCheckBox.setOnAction(event -> mTunerPreference
+                .setDirectSampleConversionEnabled(mDirectSampleConversionCheckBox.isSelected()));
+        }
+
+        return mDirectSampleConversionCheckBox;
+    }
+
     private Label getPolyphaseLabel()
     {
         if(mPolyphaseLabel == null)
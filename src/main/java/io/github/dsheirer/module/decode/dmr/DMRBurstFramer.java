@@ -20,11 +20,14 @@
 package io.github.dsheirer.module.decode.dmr;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessagePool;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
 import io.github.dsheirer.dsp.symbol.DibitDelayBuffer;
 import io.github.dsheirer.dsp.symbol.QPSKCarrierLock;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
+import io.github.dsheirer.protocol.Protocol;
 import io.github.dsheirer.sample.Listener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,16 +116,30 @@ public class DMRBurstFramer implements Listener<Dibit>
 
     private IDMRBurstDetectListener mBurstDetectListener;
     private IPhaseLockedLoop mPhaseLockedLoop;
+    private CorrectedBinaryMessagePool mMessagePool;
 
     /**
      * Constructs an instance
      * @param listener to be notified of framed burst detections and/or sync loss bits processed
      * @param phaseLockedLoop to receive symbol alignment corrections
+     * @param messagePool to provide burst messages and to recycle bursts that are not dispatched
      */
-    public DMRBurstFramer(IDMRBurstDetectListener listener, IPhaseLockedLoop phaseLockedLoop)
+    public DMRBurstFramer(IDMRBurstDetectListener listener, IPhaseLockedLoop phaseLockedLoop,
+                          CorrectedBinaryMessagePool messagePool)
     {
         mBurstDetectListener = listener;
         mPhaseLockedLoop = phaseLockedLoop;
+        mMessagePool = messagePool;
+    }
+
+    /**
+     * Constructs an instance
+     * @param listener to be notified of framed burst detections and/or sync loss bits processed
+     * @param phaseLockedLoop to receive symbol alignment corrections
+     */
+    public DMRBurstFramer(IDMRBurstDetectListener listener, IPhaseLockedLoop phaseLockedLoop)
+    {
+        this(listener, phaseLockedLoop, new CorrectedBinaryMessagePool(Protocol.DMR, 2));
     }
 
     /**
@@ -167,6 +184,20 @@ public class DMRBurstFramer implements Listener<Dibit>
         }
     }
 
+    /**
+     * Primary packed dibit buffer input method
+     * @param buffer of dibits to process
+     */
+    public void receive(DibitBuffer buffer)
+    {
+        int size = buffer.size();
+
+        for(int x = 0; x < size; x++)
+        {
+            receive(buffer.getDibit(x));
+        }
+    }
+
     /**
      * Dispatches burst 1 and/or burst 2 that is currently in the message buffer
      */
@@ -210,7 +241,8 @@ public class DMRBurstFramer implements Listener<Dibit>
 
             if(mSyncTrackerTimeslot1.hasSync())
             {
-                burst1 = mMessageBuffer.getMessage(BURST_DIBIT_START_TS1, BURST_DIBIT_LENGTH);
+                burst1 = mMessageBuffer.getMessage(BURST_DIBIT_START_TS1, BURST_DIBIT_LENGTH,
+                    mMessagePool.getMessage(BURST_DIBIT_LENGTH * 2));
                 burst1.incrementCorrectedBitCount(mSyncDetectorTimeslot1.getPatternMatchBitErrorCount());
 
                 if(mSyncTrackerTimeslot1.getSyncPattern().hasCACH())
@@ -221,7 +253,8 @@ public class DMRBurstFramer implements Listener<Dibit>
 
             if(mSyncTrackerTimeslot2.hasSync())
             {
-                burst2 = mMessageBuffer.getMessage(BURST_DIBIT_START_TS2, BURST_DIBIT_LENGTH);
+                burst2 = mMessageBuffer.getMessage(BURST_DIBIT_START_TS2, BURST_DIBIT_LENGTH,
+                    mMessagePool.getMessage(BURST_DIBIT_LENGTH * 2));
                 burst2.incrementCorrectedBitCount(mSyncDetectorTimeslot2.getPatternMatchBitErrorCount());
 
                 if(mSyncTrackerTimeslot2.getSyncPattern().hasCACH())
@@ -276,6 +309,9 @@ public class DMRBurstFramer implements Listener<Dibit>
                         mSyncTrackerTimeslot2.reset();
                     }
 
+                    //Timeslot 2 is discarded while we realign the timeslots
+                    mMessagePool.recycle(burst2);
+
                     mTimeslotAlignmentTracker.reset();
                     mSyncTrackerTimeslot1.reset();
                     mDibitCounter = BURST_DIBIT_LENGTH;
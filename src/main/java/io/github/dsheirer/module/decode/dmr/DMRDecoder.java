@@ -21,16 +21,17 @@ package io.github.dsheirer.module.decode.dmr;
 
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexDecimationFilter;
+import io.github.dsheirer.dsp.filter.resample.SymbolRateResampler;
 import io.github.dsheirer.dsp.gain.complex.ComplexGainFactory;
 import io.github.dsheirer.dsp.gain.complex.IComplexGainControl;
-import io.github.dsheirer.dsp.psk.DQPSKDecisionDirectedDemodulator;
-import io.github.dsheirer.dsp.psk.InterpolatingSampleBuffer;
+import io.github.dsheirer.dsp.psk.DQPSKDecisionDirectedBlockDemodulator;
 import io.github.dsheirer.dsp.psk.pll.CostasLoop;
 import io.github.dsheirer.dsp.psk.pll.FrequencyCorrectionSyncMonitor;
 import io.github.dsheirer.dsp.psk.pll.PLLBandwidth;
 import io.github.dsheirer.dsp.squelch.PowerMonitor;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
 import io.github.dsheirer.dsp.symbol.DibitToByteBufferAssembler;
 import io.github.dsheirer.module.decode.DecoderType;
 import io.github.dsheirer.module.decode.FeedbackDecoder;
@@ -58,17 +59,19 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     private final static Logger mLog = LoggerFactory.getLogger(DMRDecoder.class);
     protected static final float SAMPLE_COUNTER_GAIN = 0.4f;
     private static final double SYMBOL_RATE = 4800.0;
-    private double mSampleRate;
+    //12 samples per symbol (57.6 kHz) retains most of the demodulator margin of 62.5 kHz channels
+    private static final double SAMPLES_PER_SYMBOL = 12.0;
+    private static final double RESAMPLER_PASS_FREQUENCY = 8000.0;
+    private final SymbolRateResampler mSymbolRateResampler = new SymbolRateResampler(SYMBOL_RATE, SAMPLES_PER_SYMBOL,
+        RESAMPLER_PASS_FREQUENCY);
     private Broadcaster<Dibit> mDibitBroadcaster = new Broadcaster<>();
     private DibitToByteBufferAssembler mByteBufferAssembler = new DibitToByteBufferAssembler(300);
     private DMRMessageProcessor mMessageProcessor;
     protected IComplexGainControl mAGC = ComplexGainFactory.getComplexGainControl();
     private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    protected IRealFilter mIBasebandFilter;
-    protected IRealFilter mQBasebandFilter;
+    protected IComplexDecimationFilter mBasebandFilter;
 
-    protected InterpolatingSampleBuffer mInterpolatingSampleBuffer;
-    protected DQPSKDecisionDirectedDemodulator mQPSKDemodulator;
+    protected DQPSKDecisionDirectedBlockDemodulator mQPSKDemodulator;
     protected CostasLoop mCostasLoop;
     protected FrequencyCorrectionSyncMonitor mFrequencyCorrectionSyncMonitor;
     protected DMRMessageFramer mMessageFramer;
@@ -114,16 +117,14 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
                 getSymbolRate() + " symbol rate)");
         }
 
-        mPowerMonitor.setSampleRate((int)sampleRate);
-        mSampleRate = sampleRate;
-        mIBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
-        mQBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
+        mSymbolRateResampler.setChannelSampleRate(sampleRate);
+        mPowerMonitor.setSampleRate((int)getSampleRate());
+        mBasebandFilter = FilterFactory.getComplexDecimationFilter(getBasebandFilter(), getDecimation());
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_300);
         mFrequencyCorrectionSyncMonitor = new FrequencyCorrectionSyncMonitor(mCostasLoop, this);
-        mInterpolatingSampleBuffer = new InterpolatingSampleBuffer(getSamplesPerSymbol(), SAMPLE_COUNTER_GAIN);
-
-        mQPSKDemodulator = new DQPSKDecisionDirectedDemodulator(mCostasLoop, mInterpolatingSampleBuffer);
+        mQPSKDemodulator = new DQPSKDecisionDirectedBlockDemodulator(mCostasLoop, getSamplesPerSymbol(),
+            SAMPLE_COUNTER_GAIN);
 
         if(mMessageFramer != null)
         {
@@ -135,8 +136,9 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
         mMessageFramer = new DMRMessageFramer(mCostasLoop);
         mMessageFramer.setSyncDetectListener(mFrequencyCorrectionSyncMonitor);
         mMessageFramer.setListener(getMessageProcessor());
+        mMessageFramer.setMessageRecyclingEnabled(true);
 
-        mQPSKDemodulator.setSymbolListener(getDibitBroadcaster());
+        mQPSKDemodulator.setDibitListener(this::processDibits);
         getDibitBroadcaster().addListener(mMessageFramer);
     }
 
@@ -149,8 +151,9 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         //Process buffer for power measurements
         mPowerMonitor.process(i, q);
@@ -160,17 +163,27 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Dispatches demodulated dibits to the bitstream assembler and to the message framer
+     * @param dibits to process
+     */
+    private void processDibits(DibitBuffer dibits)
+    {
+        getByteBufferAssembler().receive(dibits);
+        mMessageFramer.receive(dibits);
+    }
+
+    /**
+     * Constructs a baseband filter for this decoder using the current channel sample rate
      */
     private float[] getBasebandFilter()
     {
         //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
+        float[] filter = mBasebandFilters.get(getChannelSampleRate());
 
         if(filter == null)
         {
             FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
-                .sampleRate((int)getSampleRate())
+                .sampleRate((int)getChannelSampleRate())
                 .passBandCutoff(5100)
                 .passBandAmplitude(1.0)
                 .passBandRipple(0.01)
@@ -185,16 +198,16 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
             }
             catch(Exception fde) //FilterDesignException
             {
-                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getSampleRate());
+                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getChannelSampleRate());
             }
 
             if(filter != null)
             {
-                mBasebandFilters.put(getSampleRate(), filter);
+                mBasebandFilters.put(getChannelSampleRate(), filter);
             }
             else
             {
-                throw new IllegalStateException("Couldn't design a DMR baseband filter for sample rate: " + getSampleRate());
+                throw new IllegalStateException("Couldn't design a DMR baseband filter for sample rate: " + getChannelSampleRate());
             }
         }
 
@@ -229,6 +242,14 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
         mFrequencyCorrectionSyncMonitor.reset();
     }
 
+    /**
+     * Assembler for packaging demodulated dibit buffers into reusable byte buffers.
+     */
+    protected DibitToByteBufferAssembler getByteBufferAssembler()
+    {
+        return mByteBufferAssembler;
+    }
+
     /**
      * Assembler for packaging Dibit stream into reusable byte buffers.
      */
@@ -270,11 +291,35 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     }
 
     /**
-     * Current sample rate for this decoder
+     * Current sample rate for this decoder, after baseband filter decimation and resampling of the channel samples
      */
     protected double getSampleRate()
     {
-        return mSampleRate;
+        return mSymbolRateResampler.getSampleRate();
+    }
+
+    /**
+     * Sample rate of the channel samples provided to this decoder, prior to baseband filter decimation
+     */
+    protected double getChannelSampleRate()
+    {
+        return mSymbolRateResampler.getChannelSampleRate();
+    }
+
+    /**
+     * Decimation rate for the baseband filter
+     */
+    protected int getDecimation()
+    {
+        return mSymbolRateResampler.getDecimation();
+    }
+
+    /**
+     * Resamples the baseband filtered and decimated samples to the decoder's fixed samples per symbol rate
+     */
+    protected ComplexSamples resample(ComplexSamples samples)
+    {
+        return mSymbolRateResampler.resample(samples);
     }
 
     /**
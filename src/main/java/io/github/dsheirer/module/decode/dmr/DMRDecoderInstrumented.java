@@ -36,6 +36,7 @@ public class DMRDecoderInstrumented extends DMRDecoder
     private Listener<Complex> mComplexSymbolListener;
     private Listener<ComplexSamples> mFilteredSymbolListener;
     private Listener<SymbolDecisionData> mSymbolDecisionDataListener;
+    private DQPSKDecisionDirectedDemodulatorInstrumented mInstrumentedDemodulator;
 
     /**
      * Instrumented version of the DMR decoder that supports registering listeners to provide access to data as
@@ -55,8 +56,9 @@ public class DMRDecoderInstrumented extends DMRDecoder
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         if(mFilteredSymbolListener != null)
         {
@@ -67,7 +69,7 @@ public class DMRDecoderInstrumented extends DMRDecoder
         mPowerMonitor.process(i, q);
 
         ComplexSamples amplified = mAGC.process(i, q);
-        mQPSKDemodulator.receive(amplified);
+        mInstrumentedDemodulator.receive(amplified);
     }
 
     /**
@@ -79,10 +81,9 @@ public class DMRDecoderInstrumented extends DMRDecoder
 
         InterpolatingSampleBufferInstrumented instrumentedBuffer =
             new InterpolatingSampleBufferInstrumented(getSamplesPerSymbol(), SAMPLE_COUNTER_GAIN);
-        mInterpolatingSampleBuffer = instrumentedBuffer;
 
         DQPSKDecisionDirectedDemodulatorInstrumented instrumented = new DQPSKDecisionDirectedDemodulatorInstrumented(mCostasLoop, instrumentedBuffer, getSampleRate());
-        mQPSKDemodulator = instrumented;
+        mInstrumentedDemodulator = instrumented;
 
         instrumented.setComplexSymbolListener(mComplexSymbolListener);
         instrumented.setPLLErrorListener(mPLLPhaseErrorListener);
@@ -96,19 +97,19 @@ public class DMRDecoderInstrumented extends DMRDecoder
     public void setComplexSymbolListener(Listener<Complex> listener)
     {
         mComplexSymbolListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setComplexSymbolListener(listener);
+        mInstrumentedDemodulator.setComplexSymbolListener(listener);
     }
 
     public void setPLLPhaseErrorListener(Listener<Double> listener)
     {
         mPLLPhaseErrorListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setPLLErrorListener(listener);
+        mInstrumentedDemodulator.setPLLErrorListener(listener);
     }
 
     public void setPLLFrequencyListener(Listener<Double> listener)
     {
         mPLLFrequencyListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setPLLFrequencyListener(listener);
+        mInstrumentedDemodulator.setPLLFrequencyListener(listener);
     }
 
     public void setFilteredBufferListener(Listener<ComplexSamples> listener)
@@ -119,12 +120,12 @@ public class DMRDecoderInstrumented extends DMRDecoder
     public void setSymbolDecisionDataListener(Listener<SymbolDecisionData> listener)
     {
         mSymbolDecisionDataListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setSymbolDecisionDataListener(listener);
+        mInstrumentedDemodulator.setSymbolDecisionDataListener(listener);
     }
 
     public void setSamplesPerSymbolListener(Listener<Double> listener)
     {
         mSamplesPerSymbolListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setSamplesPerSymbolListener(listener);
+        mInstrumentedDemodulator.setSamplesPerSymbolListener(listener);
     }
 }
\ No newline at end of file
@@ -19,8 +19,10 @@
 package io.github.dsheirer.module.decode.dmr;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessagePool;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.SyncLossMessage;
@@ -69,6 +71,11 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
      */
     private DMRBurstFramer mBurstFramer;
 
+    /**
+     * Provides burst messages to the burst framer and recycles bursts that do not produce a message
+     */
+    private CorrectedBinaryMessagePool mMessagePool = new CorrectedBinaryMessagePool(Protocol.DMR, 2);
+
     /**
      * External listener for messages produced by this framer
      */
@@ -93,7 +100,7 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
      */
     public DMRMessageFramer(IPhaseLockedLoop phaseLockedLoop)
     {
-        mBurstFramer = new DMRBurstFramer(this, phaseLockedLoop);
+        mBurstFramer = new DMRBurstFramer(this, phaseLockedLoop, mMessagePool);
     }
 
     /**
@@ -104,6 +111,17 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
         this(null);
     }
 
+    /**
+     * Enables or disables recycling of burst messages that are discarded by the burst framer or that do not produce
+     * a DMR message.  Bursts that produce a DMR message are owned by that message and are not recycled.
+     *
+     * @param enabled true to recycle burst messages
+     */
+    public void setMessageRecyclingEnabled(boolean enabled)
+    {
+        mMessagePool.setRecyclingEnabled(enabled);
+    }
+
     /**
      * Registers a sync detect listener to be notified each time a sync pattern and NID are detected.
      */
@@ -175,13 +193,17 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
      */
     public void receive(ByteBuffer buffer)
     {
-        for(byte value : buffer.array())
-        {
-            for(int x = 0; x <= 3; x++)
-            {
-                receive(Dibit.parse(value, x));
-            }
-        }
+        receive(DibitBuffer.wrap(buffer.array()));
+    }
+
+    /**
+     * Primary method for streaming packed dibit buffers for message framing.
+     *
+     * @param buffer of dibits to process
+     */
+    public void receive(DibitBuffer buffer)
+    {
+        mBurstFramer.receive(buffer);
     }
 
     /**
@@ -217,6 +239,14 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
             {
                 mMessageListener.receive(dmrMessage);
             }
+            else
+            {
+                mMessagePool.recycle(message);
+            }
+        }
+        else
+        {
+            mMessagePool.recycle(message);
         }
     }
 
@@ -82,8 +82,8 @@ public class DMRMessageProcessor implements Listener<IMessage>
     @Override
     public void receive(IMessage message)
     {
-        //Enrich messages that carry DMR Logical Slot Number channels with LCN to frequency mappings
-        if(message instanceof ITimeslotFrequencyReceiver)
+        //Enrich messages that carry DMR Logical Slot Number channels with LCN to frequency mappings, when available
+        if(!mTimeslotFrequencyMap.isEmpty() && message instanceof ITimeslotFrequencyReceiver)
         {
             ITimeslotFrequencyReceiver receiver = (ITimeslotFrequencyReceiver)message;
             int[] lsns = receiver.getLogicalTimeslotNumbers();
@@ -1,5 +1,6 @@
 package io.github.dsheirer.module.decode.dmr;
 
+import io.github.dsheirer.bits.SyncPatternCorrelator;
 import io.github.dsheirer.dsp.symbol.Dibit;
 import io.github.dsheirer.dsp.symbol.QPSKCarrierLock;
 import org.apache.commons.lang3.Validate;
@@ -24,12 +25,13 @@ import org.apache.commons.lang3.Validate;
  */
 public class DMRSyncDetector
 {
-    private static long SYNC_MASK = 0xFFFFFFFFFFFFl;
+    private static final int SYNC_BIT_LENGTH = 48;
     private static final int MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT = 1;
-    private int mMaxStreamBitErrors;
-    private int mMaxExplicitBitErrors;
-    private long mCurrentSyncValue;
-    private long mErrorPattern;
+    private static final QPSKCarrierLock[] CARRIER_LOCKS = new QPSKCarrierLock[]{QPSKCarrierLock.NORMAL,
+        QPSKCarrierLock.PLUS_90, QPSKCarrierLock.MINUS_90, QPSKCarrierLock.INVERTED};
+    private static final DMRSyncPattern[] SYNC_PATTERNS = DMRSyncPattern.SYNC_PATTERNS.toArray(new DMRSyncPattern[0]);
+    private SyncPatternCorrelator mStreamCorrelator;
+    private SyncPatternCorrelator mExplicitCorrelator;
     private int mPatternMatchBitErrorCount;
     private DMRSyncPattern mSyncPattern = DMRSyncPattern.UNKNOWN;
     private QPSKCarrierLock mCarrierLock = QPSKCarrierLock.NORMAL;
@@ -45,8 +47,31 @@ public class DMRSyncDetector
             "Max (allowable) stream bit errors for sync match must be between 0 and 24");
         Validate.inclusiveBetween(0, 24, maxExplicitBitErrors,
             "Max (allowable) explicit bit errors for sync match must be between 0 and 24");
-        mMaxStreamBitErrors = maxStreamBitErrors;
-        mMaxExplicitBitErrors = maxExplicitBitErrors;
+        mStreamCorrelator = createCorrelator(maxStreamBitErrors);
+        mExplicitCorrelator = createCorrelator(maxExplicitBitErrors);
+    }
+
+    /**
+     * Creates a sync pattern correlator loaded with the normal and PLL mis-aligned variants of each sync pattern, in
+     * pattern order with the normal variant first, so that the correlator pattern index identifies both the sync
+     * pattern (index / 4) and the carrier lock (index % 4).
+     * @param maxBitErrors for the normal sync pattern variants
+     */
+    private static SyncPatternCorrelator createCorrelator(int maxBitErrors)
+    {
+        SyncPatternCorrelator correlator = new SyncPatternCorrelator(SYNC_BIT_LENGTH);
+
+        for(DMRSyncPattern pattern: SYNC_PATTERNS)
+        {
+            correlator.add(pattern.getPattern(), maxBitErrors);
+
+            //For PLL mis-aligned lock patterns, reduce the pattern bit error match threshold
+            correlator.add(pattern.getPlus90Pattern(), MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT);
+            correlator.add(pattern.getMinus90Pattern(), MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT);
+            correlator.add(pattern.getInvertedPattern(), MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT);
+        }
+
+        return correlator;
     }
 
     /**
@@ -99,10 +124,7 @@ public class DMRSyncDetector
      */
     public void add(Dibit dibit)
     {
-        mCurrentSyncValue = Long.rotateLeft(mCurrentSyncValue, 2);
-        mCurrentSyncValue &= SYNC_MASK;
-        mCurrentSyncValue += dibit.getValue();
-        checkSync(mMaxStreamBitErrors);
+        update(mStreamCorrelator, mStreamCorrelator.receive(dibit.getValue()));
     }
 
     /**
@@ -111,68 +133,26 @@ public class DMRSyncDetector
      */
     public void setCurrentSyncValue(long value)
     {
-        mCurrentSyncValue = value;
-        checkSync(mMaxExplicitBitErrors);
+        mStreamCorrelator.setValue(value);
+        update(mExplicitCorrelator, mExplicitCorrelator.match(value));
     }
 
     /**
-     * Checks the current sync value against each of the sync patterns to determine if the value matches a pattern.
+     * Updates the sync pattern, carrier lock and bit error count from the correlator match result.
      */
-    private void checkSync(int maxBitErrors)
+    private void update(SyncPatternCorrelator correlator, int match)
     {
-        for(DMRSyncPattern pattern: DMRSyncPattern.SYNC_PATTERNS)
+        if(match == SyncPatternCorrelator.NO_MATCH)
         {
-            mErrorPattern = mCurrentSyncValue ^ pattern.getPattern();
-
-            if(mErrorPattern == 0)
-            {
-                mSyncPattern = pattern;
-                mCarrierLock = QPSKCarrierLock.NORMAL;
-                mPatternMatchBitErrorCount = 0;
-                return;
-            }
-
-            mPatternMatchBitErrorCount = Long.bitCount(mErrorPattern);
-
-            if(mPatternMatchBitErrorCount <= maxBitErrors)
-            {
-                mSyncPattern = pattern;
-                mCarrierLock = QPSKCarrierLock.NORMAL;
-                return;
-            }
-
-
-            //For PLL mis-aligned lock patterns, reduce the pattern bit error match threshold
-            mPatternMatchBitErrorCount = Long.bitCount(mCurrentSyncValue ^ pattern.getPlus90Pattern());
-
-            if(mPatternMatchBitErrorCount <= MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT)
-            {
-                mSyncPattern = pattern;
-                mCarrierLock = QPSKCarrierLock.PLUS_90;
-                return;
-            }
-
-            mPatternMatchBitErrorCount = Long.bitCount(mCurrentSyncValue ^ pattern.getMinus90Pattern());
-
-            if(mPatternMatchBitErrorCount <= MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT)
-            {
-                mSyncPattern = pattern;
-                mCarrierLock = QPSKCarrierLock.MINUS_90;
-                return;
-            }
-
-            mPatternMatchBitErrorCount = Long.bitCount(mCurrentSyncValue ^ pattern.getInvertedPattern());
-
-            if(mPatternMatchBitErrorCount <= MAX_PATTERN_BIT_ERROR_PLL_MISALIGNMENT)
-            {
-                mSyncPattern = pattern;
-                mCarrierLock = QPSKCarrierLock.INVERTED;
-                return;
-            }
+            mSyncPattern = DMRSyncPattern.UNKNOWN;
+            mCarrierLock = QPSKCarrierLock.NORMAL;
+            mPatternMatchBitErrorCount = 0;
+        }
+        else
+        {
+            mSyncPattern = SYNC_PATTERNS[match / 4];
+            mCarrierLock = CARRIER_LOCKS[match % 4];
+            mPatternMatchBitErrorCount = correlator.getBitErrorCount();
         }
-
-        mSyncPattern = DMRSyncPattern.UNKNOWN;
-        mCarrierLock = QPSKCarrierLock.NORMAL;
-        mPatternMatchBitErrorCount = 0;
     }
 }
@@ -21,6 +21,7 @@ package io.github.dsheirer.module.decode.dmr.message.data.csbk;
 
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.edac.CRCDMR;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -42,8 +43,8 @@ public abstract class CSBKMessage extends DataMessage
 
     private static final int LAST_BLOCK = 0;
     private static final int PROTECT_FLAG = 1;
-    private static final int[] OPCODE = new int[]{2, 3, 4, 5, 6, 7};
-    private static final int[] VENDOR = new int[]{8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField OPCODE = IntField.range(2, 7);
+    private static final IntField VENDOR = IntField.range(8, 15);
 
     /**
      * Constructs an instance
@@ -21,6 +21,7 @@ package io.github.dsheirer.module.decode.dmr.message.data.csbk.hytera;
 
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -37,12 +38,12 @@ import java.util.List;
  */
 public class HyteraAnnouncement extends CSBKMessage
 {
-    private static final int[] ANNOUNCEMENT_TYPE = new int[]{16, 17, 18, 19, 20};
+    private static final IntField ANNOUNCEMENT_TYPE = IntField.range(16, 20);
     private static final int PARAMS_1_START = 21;
     private static final int PARAMS_1_END = 35;
     private static final int[] PARAMS_1 = new int[]{21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34};
     private static final int REGISTRATION_REQUIRED_FLAG = 35;
-    private static final int[] BACKOFF = new int[]{36, 37, 38, 39};
+    private static final IntField BACKOFF = IntField.range(36, 39);
     private static final int SYSTEM_IDENTITY_CODE_OFFSET = 40;
     private static final int PARAMS_2_START = 56;
     private static final int PARAMS_2_END = 80;
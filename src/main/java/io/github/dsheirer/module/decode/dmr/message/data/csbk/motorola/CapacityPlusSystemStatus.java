@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.channel.DMRLogicalChannel;
@@ -38,10 +39,10 @@ import java.util.List;
  */
 public class CapacityPlusSystemStatus extends CSBKMessage implements ITimeslotFrequencyReceiver
 {
-    private static final int[] FRAGMENT_INDICATOR = new int[]{16, 17};
+    private static final IntField FRAGMENT_INDICATOR = IntField.range(16, 17);
 //    private static final int TIMESLOT = 18;
-    private static final int[] REST_REPEATER = new int[]{19, 20, 21, 22};
-    private static final int[] REST_TIMESLOT = new int[]{23};
+    private static final IntField REST_REPEATER = IntField.range(19, 22);
+    private static final IntField REST_TIMESLOT = IntField.range(23, 23);
 
     private DMRLogicalChannel mRestChannel;
     private List<Identifier> mIdentifiers;
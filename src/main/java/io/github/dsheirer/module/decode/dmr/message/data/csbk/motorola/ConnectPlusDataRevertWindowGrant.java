@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -36,9 +37,8 @@ import java.util.List;
  */
 public class ConnectPlusDataRevertWindowGrant extends CSBKMessage
 {
-    private static final int[] TARGET_ADDRESS = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31,
-        32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SUPERFRAME = new int[]{48, 49, 50, 51};
+    private static final IntField TARGET_ADDRESS = IntField.range(16, 39);
+    private static final IntField SUPERFRAME = IntField.range(48, 51);
 
     //TODO: this may not be correct
     private static final int[] WINDOW = new int[]{70, 71, 72, 73, 74};
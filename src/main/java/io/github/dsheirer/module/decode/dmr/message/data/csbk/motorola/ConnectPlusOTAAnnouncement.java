@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.channel.DMRLogicalChannel;
@@ -42,12 +43,12 @@ import java.util.List;
  */
 public class ConnectPlusOTAAnnouncement extends CSBKMessage implements ITimeslotFrequencyReceiver
 {
-    private static final int[] MESSAGE_TYPE = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] VERSION = new int[]{24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
+    private static final IntField MESSAGE_TYPE = IntField.range(16, 23);
+    private static final IntField VERSION = IntField.range(24, 39);
     private static final int[] UNKNOWN = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56,
         57, 58, 59, 60, 61, 62, 63};
-    private static final int[] DATA_REPEATER = new int[]{64, 65, 66, 67};
-    private static final int[] DATA_TIMESLOT = new int[]{68};
+    private static final IntField DATA_REPEATER = IntField.range(64, 67);
+    private static final IntField DATA_TIMESLOT = IntField.range(68, 68);
 
     private DMRLogicalChannel mDataChannel;
     private List<Identifier> mIdentifiers;
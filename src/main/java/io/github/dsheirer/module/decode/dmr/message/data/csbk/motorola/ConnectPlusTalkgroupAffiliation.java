@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
 import io.github.dsheirer.identifier.talkgroup.TalkgroupIdentifier;
@@ -42,7 +43,7 @@ public class ConnectPlusTalkgroupAffiliation extends CSBKMessage
         31, 32, 33, 34, 35, 36, 37, 38, 39};
     private static final int[] TALKGROUP = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54,
         55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] UNKNOWN = new int[]{64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField UNKNOWN = IntField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
     private RadioIdentifier mRadio;
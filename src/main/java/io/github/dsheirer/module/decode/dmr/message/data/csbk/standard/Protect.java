@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -39,7 +40,7 @@ import java.util.List;
  */
 public class Protect extends CSBKMessage
 {
-    private static final int[] PROTECT_KIND = new int[]{28, 29, 30};
+    private static final IntField PROTECT_KIND = IntField.range(28, 30);
     private static final int TALKGROUP_FLAG = 31;
     protected static final int[] DESTINATION = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47,
         48, 49, 50, 51, 52, 53, 54, 55};
@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard.acknowledge;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -42,14 +43,12 @@ public class Acknowledge extends CSBKMessage
 {
     private static final int TARGET_GROUP_INDIVIDUAL_FLAG = 16;
     protected static final int[] RESPONSE_INFO = new int[]{16, 17, 18, 19, 20, 21, 22};
-    private static final int[] ACKNOWLEDGE_TYPE = new int[]{23, 24};
+    private static final IntField ACKNOWLEDGE_TYPE = IntField.range(23, 24);
     //Note: acknowledge type is the first 2 bits of the reason code - intentional overlap
-    private static final int[] REASON_CODE = new int[]{23, 24, 25, 26, 27, 28, 29, 30};
+    private static final IntField REASON_CODE = IntField.range(23, 30);
     private static final int RESERVED = 31;
-    private static final int[] TARGET_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46,
-            47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] ADDITIONAL_INFO_SOURCE_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66,
-            67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField TARGET_ADDRESS = IntField.range(32, 55);
+    private static final IntField ADDITIONAL_INFO_SOURCE_ADDRESS = IntField.range(56, 79);
 
     protected List<Identifier> mIdentifiers;
     private IntegerIdentifier mTargetAddress;
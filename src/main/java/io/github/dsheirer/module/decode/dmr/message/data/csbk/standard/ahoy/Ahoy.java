@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard.ahoy;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.identifier.DMRRadio;
@@ -40,7 +41,7 @@ public abstract class Ahoy extends CSBKMessage
     private static final int AMBIENT_LISTENING_SERVICE_FLAG = 24;
     private static final int TALKGROUP_FLAG = 25;
     protected static final int[] APPENDED_BLOCKS_OR_STATUS = new int[]{26, 27};
-    private static final int[] SERVICE_KIND = new int[]{28, 29, 30, 31};
+    private static final IntField SERVICE_KIND = IntField.range(28, 31);
     protected static final int[] TARGET_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46,
         47, 48, 49, 50, 51, 52, 53, 54, 55};
     protected static final int[] MULTI_PURPOSE_FIELD = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69,
@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard.announcement;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -36,10 +37,10 @@ import java.util.List;
  */
 public class Announcement extends CSBKMessage
 {
-    private static final int[] ANNOUNCEMENT_TYPE = new int[]{16, 17, 18, 19, 20};
+    private static final IntField ANNOUNCEMENT_TYPE = IntField.range(16, 20);
     private static final int[] PARAMS_1 = new int[]{21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34};
     private static final int REGISTRATION_REQUIRED_FLAG = 35;
-    private static final int[] BACKOFF = new int[]{36, 37, 38, 39};
+    private static final IntField BACKOFF = IntField.range(36, 39);
     private static final int SYSTEM_IDENTITY_CODE_OFFSET = 40;
     private static final int[] PARAMS_2 = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
         73, 74, 75, 76, 77, 78, 79};
@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.module.decode.dmr.message.type.ServiceOptions;
 
 /**
@@ -29,7 +30,7 @@ import io.github.dsheirer.module.decode.dmr.message.type.ServiceOptions;
  */
 public abstract class AbstractVoiceChannelUser extends FullLCMessage
 {
-    private static final int[] SERVICE_OPTIONS = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
+    private static final IntField SERVICE_OPTIONS = IntField.range(16, 23);
 
     private ServiceOptions mServiceOptions;
 
@@ -19,6 +19,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.module.decode.dmr.message.data.lc.LCMessage;
 import io.github.dsheirer.module.decode.dmr.message.data.lc.LCOpcode;
 import io.github.dsheirer.module.decode.dmr.message.type.Vendor;
@@ -30,8 +31,8 @@ public abstract class FullLCMessage extends LCMessage
 {
     private static final int ENCRYPTION_FLAG = 0;
     private static final int RESERVED = 1;
-    private static final int[] OPCODE = new int[]{2, 3, 4, 5, 6, 7};
-    private static final int[] VENDOR = new int[]{8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField OPCODE = IntField.range(2, 7);
+    private static final IntField VENDOR = IntField.range(8, 15);
 
     /**
      * Constructs an instance
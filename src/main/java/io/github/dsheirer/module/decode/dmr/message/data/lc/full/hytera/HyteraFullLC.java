@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full.hytera;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
 import io.github.dsheirer.module.decode.dmr.identifier.DMRRadio;
 import io.github.dsheirer.module.decode.dmr.message.data.lc.full.FullLCMessage;
@@ -30,14 +31,14 @@ import io.github.dsheirer.module.decode.dmr.message.type.ServiceOptions;
  */
 public abstract class HyteraFullLC extends FullLCMessage
 {
-    private static final int[] SERVICE_OPTIONS = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREE_REPEATER = new int[]{24, 25, 26, 27};
-    private static final int[] PRIORITY_REPEATER = new int[]{28, 29, 30, 31};
+    private static final IntField SERVICE_OPTIONS = IntField.range(16, 23);
+    private static final IntField FREE_REPEATER = IntField.range(24, 27);
+    private static final IntField PRIORITY_REPEATER = IntField.range(28, 31);
     protected static final int[] TARGET_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] PRIORITY_CALL_HASHED_ADDRESS = new int[]{48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] UNKNOWN_1 = new int[]{72, 73, 74, 75};
-    private static final int[] UNKNOWN_2 = new int[]{76, 77, 78, 79};
+    private static final IntField PRIORITY_CALL_HASHED_ADDRESS = IntField.range(48, 55);
+    private static final IntField SOURCE_ADDRESS = IntField.range(56, 71);
+    private static final IntField UNKNOWN_1 = IntField.range(72, 75);
+    private static final IntField UNKNOWN_2 = IntField.range(76, 79);
 
     private ServiceOptions mServiceOptions;
     private RadioIdentifier mSourceRadio;
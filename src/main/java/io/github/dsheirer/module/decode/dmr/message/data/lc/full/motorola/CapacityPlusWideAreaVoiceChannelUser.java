@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full.motorola;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
 import io.github.dsheirer.identifier.talkgroup.TalkgroupIdentifier;
@@ -38,12 +39,12 @@ import java.util.List;
  */
 public class CapacityPlusWideAreaVoiceChannelUser extends AbstractVoiceChannelUser implements ITimeslotFrequencyReceiver
 {
-    private static final int[] UNKNOWN_1 = new int[]{24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] GROUP_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] REST_REPEATER = new int[]{51, 52, 53, 54};
-    private static final int[] REST_TIMESLOT = new int[]{55};
-    private static final int[] SOURCE_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] UNKNOWN_2 = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField UNKNOWN_1 = IntField.range(24, 31);
+    private static final IntField GROUP_ADDRESS = IntField.range(40, 47);
+    private static final IntField REST_REPEATER = IntField.range(51, 54);
+    private static final IntField REST_TIMESLOT = IntField.range(55, 55);
+    private static final IntField SOURCE_ADDRESS = IntField.range(56, 71);
+    private static final IntField UNKNOWN_2 = IntField.range(72, 79);
 
     private RadioIdentifier mRadio;
     private TalkgroupIdentifier mTalkgroup;
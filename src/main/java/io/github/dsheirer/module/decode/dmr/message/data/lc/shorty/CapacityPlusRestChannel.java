@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.lc.shorty;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.channel.DMRLogicalChannel;
 import io.github.dsheirer.module.decode.dmr.channel.ITimeslotFrequencyReceiver;
@@ -35,8 +36,8 @@ import java.util.List;
 public class CapacityPlusRestChannel extends ShortLCMessage implements ITimeslotFrequencyReceiver
 {
     private static final int[] UNKNOWN = new int[]{12, 13, 14};
-    private static final int[] REST_REPEATER = new int[]{15, 16, 17, 18};
-    private static final int[] REST_TIMESLOT = new int[]{19};
+    private static final IntField REST_REPEATER = IntField.range(15, 18);
+    private static final IntField REST_TIMESLOT = IntField.range(19, 19);
     private static final int[] SITE = new int[]{20, 21, 22, 23, 24};
     private static final int[] UNKNOWN_2 = new int[]{25, 26, 27};
 
@@ -24,14 +24,14 @@ package io.github.dsheirer.module.decode.p25.phase1;
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexDecimationFilter;
 import io.github.dsheirer.dsp.gain.complex.ComplexGainFactory;
 import io.github.dsheirer.dsp.gain.complex.IComplexGainControl;
-import io.github.dsheirer.dsp.psk.DQPSKDecisionDirectedDemodulator;
-import io.github.dsheirer.dsp.psk.InterpolatingSampleBuffer;
+import io.github.dsheirer.dsp.psk.DQPSKDecisionDirectedBlockDemodulator;
 import io.github.dsheirer.dsp.psk.pll.CostasLoop;
 import io.github.dsheirer.dsp.psk.pll.FrequencyCorrectionSyncMonitor;
 import io.github.dsheirer.dsp.psk.pll.PLLBandwidth;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
 import io.github.dsheirer.module.decode.DecoderType;
 import io.github.dsheirer.sample.complex.ComplexSamples;
 import io.github.dsheirer.source.SourceEvent;
@@ -46,15 +46,13 @@ public class P25P1DecoderC4FM extends P25P1Decoder
     private final static Logger mLog = LoggerFactory.getLogger(P25P1DecoderC4FM.class);
 
     protected static final float SAMPLE_COUNTER_GAIN = 0.3f;
-    protected InterpolatingSampleBuffer mInterpolatingSampleBuffer;
-    protected DQPSKDecisionDirectedDemodulator mQPSKDemodulator;
+    protected DQPSKDecisionDirectedBlockDemodulator mQPSKDemodulator;
     protected CostasLoop mCostasLoop;
     protected FrequencyCorrectionSyncMonitor mFrequencyCorrectionSyncMonitor;
     protected P25P1MessageFramer mMessageFramer;
     protected IComplexGainControl mAGC = ComplexGainFactory.getComplexGainControl();
     private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    protected IRealFilter mIBasebandFilter;
-    protected IRealFilter mQBasebandFilter;
+    protected IComplexDecimationFilter mBasebandFilter;
 
     /**
      * P25 Phase 1 - standard C4FM modulation decoder.  Uses Differential QPSK decoding with a Costas PLL and a
@@ -69,15 +67,13 @@ public class P25P1DecoderC4FM extends P25P1Decoder
     public void setSampleRate(double sampleRate)
     {
         super.setSampleRate(sampleRate);
-        mIBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
-        mQBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
+        mBasebandFilter = FilterFactory.getComplexDecimationFilter(getBasebandFilter(), getDecimation());
 
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_300);
         mFrequencyCorrectionSyncMonitor = new FrequencyCorrectionSyncMonitor(mCostasLoop, this);
-        mInterpolatingSampleBuffer = new InterpolatingSampleBuffer(getSamplesPerSymbol(), SAMPLE_COUNTER_GAIN);
-
-        mQPSKDemodulator = new DQPSKDecisionDirectedDemodulator(mCostasLoop, mInterpolatingSampleBuffer);
+        mQPSKDemodulator = new DQPSKDecisionDirectedBlockDemodulator(mCostasLoop, getSamplesPerSymbol(),
+            SAMPLE_COUNTER_GAIN);
 
         if(mMessageFramer != null)
         {
@@ -89,9 +85,10 @@ public class P25P1DecoderC4FM extends P25P1Decoder
         mMessageFramer = new P25P1MessageFramer(mCostasLoop, DecoderType.P25_PHASE1.getProtocol().getBitRate());
         mMessageFramer.setSyncDetectListener(mFrequencyCorrectionSyncMonitor);
         mMessageFramer.setListener(getMessageProcessor());
-        mMessageFramer.setSampleRate(sampleRate);
+        mMessageFramer.setMessageRecyclingEnabled(true);
+        mMessageFramer.setSampleRate(getSampleRate());
 
-        mQPSKDemodulator.setSymbolListener(getDibitBroadcaster());
+        mQPSKDemodulator.setDibitListener(this::processDibits);
         getDibitBroadcaster().addListener(mMessageFramer);
     }
 
@@ -104,8 +101,9 @@ public class P25P1DecoderC4FM extends P25P1Decoder
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         //Process the buffer for power meter measurements (before gain is applied)
         mPowerMonitor.process(i, q);
@@ -115,17 +113,27 @@ public class P25P1DecoderC4FM extends P25P1Decoder
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Dispatches demodulated dibits to the bitstream assembler and to the message framer
+     * @param dibits to process
+     */
+    private void processDibits(DibitBuffer dibits)
+    {
+        getByteBufferAssembler().receive(dibits);
+        mMessageFramer.receive(dibits);
+    }
+
+    /**
+     * Constructs a baseband filter for this decoder using the current channel sample rate
      */
     private float[] getBasebandFilter()
     {
         //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
+        float[] filter = mBasebandFilters.get(getChannelSampleRate());
 
         if(filter == null)
         {
             FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
-                .sampleRate((int)getSampleRate())
+                .sampleRate((int)getChannelSampleRate())
                 .passBandCutoff(5100)
                 .passBandAmplitude(1.0)
                 .passBandRipple(0.01)
@@ -140,16 +148,16 @@ public class P25P1DecoderC4FM extends P25P1Decoder
             }
             catch(FilterDesignException fde)
             {
-                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getSampleRate());
+                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getChannelSampleRate());
             }
 
             if(filter != null)
             {
-                mBasebandFilters.put(getSampleRate(), filter);
+                mBasebandFilters.put(getChannelSampleRate(), filter);
             }
             else
             {
-                throw new IllegalStateException("Couldn't design a C4FM baseband filter for sample rate: " + getSampleRate());
+                throw new IllegalStateException("Couldn't design a C4FM baseband filter for sample rate: " + getChannelSampleRate());
             }
         }
 
@@ -33,6 +33,7 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
     private Listener<Complex> mComplexSymbolListener;
     private Listener<ComplexSamples> mFilteredSymbolListener;
     private Listener<SymbolDecisionData> mSymbolDecisionDataListener;
+    private DQPSKDecisionDirectedDemodulatorInstrumented mInstrumentedDemodulator;
 
     /**
      * Instrumented version of the P25 C4FM decoder that supports registering listeners to provide access to data as
@@ -51,8 +52,9 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         if(mFilteredSymbolListener != null)
         {
@@ -63,7 +65,7 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
         mPowerMonitor.process(i, q);
 
         ComplexSamples amplified = mAGC.process(i, q);
-        mQPSKDemodulator.receive(amplified);
+        mInstrumentedDemodulator.receive(amplified);
     }
 
     /**
@@ -75,10 +77,9 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
 
         InterpolatingSampleBufferInstrumented instrumentedBuffer =
             new InterpolatingSampleBufferInstrumented(getSamplesPerSymbol(), SAMPLE_COUNTER_GAIN);
-        mInterpolatingSampleBuffer = instrumentedBuffer;
 
         DQPSKDecisionDirectedDemodulatorInstrumented instrumented = new DQPSKDecisionDirectedDemodulatorInstrumented(mCostasLoop, instrumentedBuffer, getSampleRate());
-        mQPSKDemodulator = instrumented;
+        mInstrumentedDemodulator = instrumented;
 
         instrumented.setComplexSymbolListener(mComplexSymbolListener);
         instrumented.setPLLErrorListener(mPLLPhaseErrorListener);
@@ -92,19 +93,19 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
     public void setComplexSymbolListener(Listener<Complex> listener)
     {
         mComplexSymbolListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setComplexSymbolListener(listener);
+        mInstrumentedDemodulator.setComplexSymbolListener(listener);
     }
 
     public void setPLLPhaseErrorListener(Listener<Double> listener)
     {
         mPLLPhaseErrorListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setPLLErrorListener(listener);
+        mInstrumentedDemodulator.setPLLErrorListener(listener);
     }
 
     public void setPLLFrequencyListener(Listener<Double> listener)
     {
         mPLLFrequencyListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setPLLFrequencyListener(listener);
+        mInstrumentedDemodulator.setPLLFrequencyListener(listener);
     }
 
     public void setFilteredBufferListener(Listener<ComplexSamples> listener)
@@ -115,12 +116,12 @@ public class P25P1DecoderC4FMInstrumented extends P25P1DecoderC4FM
     public void setSymbolDecisionDataListener(Listener<SymbolDecisionData> listener)
     {
         mSymbolDecisionDataListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setSymbolDecisionDataListener(listener);
+        mInstrumentedDemodulator.setSymbolDecisionDataListener(listener);
     }
 
     public void setSamplesPerSymbolListener(Listener<Double> listener)
     {
         mSamplesPerSymbolListener = listener;
-        ((DQPSKDecisionDirectedDemodulatorInstrumented)mQPSKDemodulator).setSamplesPerSymbolListener(listener);
+        mInstrumentedDemodulator.setSamplesPerSymbolListener(listener);
     }
 }
\ No newline at end of file
@@ -22,7 +22,7 @@
 package io.github.dsheirer.module.decode.p25.phase1;
 
 import io.github.dsheirer.dsp.filter.FilterFactory;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexDecimationFilter;
 import io.github.dsheirer.dsp.gain.complex.ComplexGainFactory;
 import io.github.dsheirer.dsp.gain.complex.IComplexGainControl;
 import io.github.dsheirer.dsp.psk.DQPSKGardnerDemodulator;
@@ -47,8 +47,7 @@ public class P25P1DecoderLSM extends P25P1Decoder
     protected static final float SAMPLE_COUNTER_GAIN = 0.3f;
 
     private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    protected IRealFilter mIBasebandFilter;
-    protected IRealFilter mQBasebandFilter;
+    protected IComplexDecimationFilter mBasebandFilter;
     protected IComplexGainControl mAGC = ComplexGainFactory.getComplexGainControl();
     protected DQPSKGardnerDemodulator mQPSKDemodulator;
     protected P25P1MessageFramer mMessageFramer;
@@ -75,8 +74,7 @@ public class P25P1DecoderLSM extends P25P1Decoder
     {
         super.setSampleRate(sampleRate);
 
-        mIBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
-        mQBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
+        mBasebandFilter = FilterFactory.getComplexDecimationFilter(getBasebandFilter(), getDecimation());
 
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_200);
@@ -96,7 +94,8 @@ public class P25P1DecoderLSM extends P25P1Decoder
         mMessageFramer = new P25P1MessageFramer(mCostasLoop, DecoderType.P25_PHASE1.getProtocol().getBitRate());
         mMessageFramer.setSyncDetectListener(mFrequencyCorrectionSyncMonitor);
         mMessageFramer.setListener(getMessageProcessor());
-        mMessageFramer.setSampleRate(sampleRate);
+        mMessageFramer.setMessageRecyclingEnabled(true);
+        mMessageFramer.setSampleRate(getSampleRate());
         mQPSKDemodulator.setSymbolListener(getDibitBroadcaster());
         getDibitBroadcaster().addListener(mMessageFramer);
     }
@@ -110,8 +109,9 @@ public class P25P1DecoderLSM extends P25P1Decoder
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
         //The filter will decrement the user count when finished
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         //Process the buffer for power measurements
         mPowerMonitor.process(i, q);
@@ -156,19 +156,19 @@ public class P25P1DecoderLSM extends P25P1Decoder
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Constructs a baseband filter for this decoder using the current channel sample rate
      */
     private float[] getBasebandFilter()
     {
         //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
+        float[] filter = mBasebandFilters.get(getChannelSampleRate());
 
         if(filter == null)
         {
-            filter = FilterFactory.getLowPass(getSampleRate(), 7250, 8000, 60,
+            filter = FilterFactory.getLowPass(getChannelSampleRate(), 7250, 8000, 60,
                 WindowType.HANN, true);
 
-            mBasebandFilters.put(getSampleRate(), filter);
+            mBasebandFilters.put(getChannelSampleRate(), filter);
         }
 
         return filter;
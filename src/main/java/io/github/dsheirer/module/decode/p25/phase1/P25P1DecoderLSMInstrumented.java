@@ -53,8 +53,9 @@ public class P25P1DecoderLSMInstrumented extends P25P1DecoderLSM
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
         //The filter will decrement the user count when finished
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         if(mFilteredSymbolListener != null)
         {
@@ -25,9 +25,11 @@ import io.github.dsheirer.alias.id.record.Record;
 import io.github.dsheirer.alias.id.talkgroup.TalkgroupRange;
 import io.github.dsheirer.bits.BitSetFullException;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessagePool;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.Message;
@@ -76,6 +78,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
     private P25P1ChannelStatusProcessor mChannelStatusProcessor = new P25P1ChannelStatusProcessor();
     private Listener<Message> mMessageListener;
     private boolean mAssemblingMessage = false;
+    private CorrectedBinaryMessagePool mMessagePool = new CorrectedBinaryMessagePool(Protocol.APCO25, 2);
     private CorrectedBinaryMessage mBinaryMessage;
     private P25P1DataUnitID mDataUnitID;
     private PDUSequence mPDUSequence;
@@ -106,6 +109,18 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         mDataUnitDetector.setSampleRate(sampleRate);
     }
 
+    /**
+     * Enables or disables recycling of message assembly buffers for data units where the assembled bits are copied
+     * into a new message during parsing (TSBK and PDU blocks) and for abandoned data units.  Other data units pass
+     * ownership of the assembly buffer to the parsed message.
+     *
+     * @param enabled true to recycle message assembly buffers
+     */
+    public void setMessageRecyclingEnabled(boolean enabled)
+    {
+        mMessagePool.setRecyclingEnabled(enabled);
+    }
+
     /**
      * Registers a sync detect listener to be notified each time a sync pattern and NID are detected.
      */
@@ -188,30 +203,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
             }
 
             mStatusSymbolDibitCounter++;
-
-            try
-            {
-                mBinaryMessage.add(dibit.getBit1());
-                mBinaryMessage.add(dibit.getBit2());
-                
-                if(mBinaryMessage.isFull())
-                {
-                    //TDU's have a trailing status symbol that has to be removed -- set flag to true to suppress it.
-                    if(mDataUnitID.hasTrailingStatusDibit())
-                    {
-                        mTrailingDibitsToSuppress = 1;
-                    }
-
-                    dispatchMessage();
-                }
-            }
-            catch(BitSetFullException bsfe)
-            {
-//                mLog.debug("Message full exception - unexpected");
-
-                //Reset so that we can start over again
-                reset(0);
-            }
+            assemble(dibit.getValue());
         }
         else
         {
@@ -227,6 +219,76 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         }
     }
 
+    /**
+     * Primary method for streaming packed dibit buffers for message framing.  Message payload dibits are transferred
+     * in a tight loop while assembling a message and dibits are fed to the data unit detector while searching for the
+     * next message.
+     *
+     * @param buffer of dibits to process
+     */
+    public void receive(DibitBuffer buffer)
+    {
+        int size = buffer.size();
+        int x = 0;
+
+        while(x < size)
+        {
+            if(mAssemblingMessage)
+            {
+                //Strip out the status symbol dibit after every 70 bits or 35 dibits
+                if(mStatusSymbolDibitCounter == 35)
+                {
+                    //Send status dibit to channel status processor to identify ISP or OSP channel
+                    mChannelStatusProcessor.receive(buffer.getDibit(x));
+                    mStatusSymbolDibitCounter = 0;
+                }
+                else
+                {
+                    mStatusSymbolDibitCounter++;
+                    assemble(buffer.get(x));
+                }
+
+                x++;
+            }
+            else
+            {
+                receive(buffer.getDibit(x++));
+            }
+        }
+    }
+
+    /**
+     * Adds the dibit to the message that is being assembled and dispatches the message once it is complete.
+     * @param dibit value 0-3 as defined by Dibit.getValue()
+     */
+    private void assemble(int dibit)
+    {
+        try
+        {
+            mBinaryMessage.add((dibit & 0x2) == 0x2);
+            mBinaryMessage.add((dibit & 0x1) == 0x1);
+
+            if(mBinaryMessage.isFull())
+            {
+                //TDU's have a trailing status symbol that has to be removed -- set flag to true to suppress it.
+                if(mDataUnitID.hasTrailingStatusDibit())
+                {
+                    mTrailingDibitsToSuppress = 1;
+                }
+
+                dispatchMessage();
+            }
+        }
+        catch(BitSetFullException bsfe)
+        {
+//            mLog.debug("Message full exception - unexpected");
+
+            //Reset so that we can start over again
+            recycleMessage();
+            reset(0);
+        }
+    }
+
     private void dispatchMessage()
     {
         if(mMessageListener != null)
@@ -238,12 +300,14 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
 
                     if(mPDUSequence != null)
                     {
+                        recycleMessage();
+
                         if(mPDUSequence.getHeader().isValid() &&
                            mPDUSequence.getHeader().getBlocksToFollowCount() > 0)
                         {
                             //Setup to catch the sequence of data blocks that follow the header
                             mDataUnitID = P25P1DataUnitID.PACKET_DATA_UNIT;
-                            mBinaryMessage = new CorrectedBinaryMessage(P25P1DataUnitID.PACKET_DATA_UNIT.getMessageLength());
+                            mBinaryMessage = mMessagePool.getMessage(P25P1DataUnitID.PACKET_DATA_UNIT.getMessageLength());
                             mAssemblingMessage = true;
                         }
                         else
@@ -269,6 +333,8 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
                             mPDUSequence.addDataBlock(PDUMessageFactory.createUnconfirmedDataBlock(mBinaryMessage));
                         }
 
+                        recycleMessage();
+
                         if(mPDUSequence.isComplete())
                         {
                             mMessageListener.receive(PDUMessageFactory.create(mPDUSequence, mNAC, getTimestamp()));
@@ -307,13 +373,14 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
                         {
                             //Setup to catch the next data block
                             mDataUnitID = P25P1DataUnitID.PACKET_DATA_UNIT;
-                            mBinaryMessage = new CorrectedBinaryMessage(P25P1DataUnitID.PACKET_DATA_UNIT.getMessageLength());
+                            mBinaryMessage = mMessagePool.getMessage(P25P1DataUnitID.PACKET_DATA_UNIT.getMessageLength());
                             mAssemblingMessage = true;
                         }
                     }
                     else
                     {
 //                        mLog.error("Received PDU data block with out a preceeding data header");
+                        recycleMessage();
                         reset(mDataUnitID.getMessageLength());
                     }
                     break;
@@ -322,6 +389,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
                 case TRUNKING_SIGNALING_BLOCK_3:
                     TSBKMessage tsbkMessage = TSBKMessageFactory.create(mChannelStatusProcessor.getDirection(),
                         mDataUnitID, mBinaryMessage, mNAC, getTimestamp());
+                    recycleMessage();
 
                     mMessageListener.receive(tsbkMessage);
 
@@ -333,7 +401,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
                     else
                     {
                         updateBitsProcessed(mDataUnitID.getMessageLength());
-                        mBinaryMessage = new CorrectedBinaryMessage(mDataUnitID.getMessageLength());
+                        mBinaryMessage = mMessagePool.getMessage(mDataUnitID.getMessageLength());
                         if(mDataUnitID == P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_1)
                         {
                             mDataUnitID = P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_2;
@@ -353,10 +421,20 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         }
         else
         {
+            recycleMessage();
             reset(0);
         }
     }
 
+    /**
+     * Returns the message assembly buffer to the message pool once the assembled bits have been copied or discarded.
+     */
+    private void recycleMessage()
+    {
+        mMessagePool.recycle(mBinaryMessage);
+        mBinaryMessage = null;
+    }
+
     private void reset(int bitsProcessed)
     {
         updateBitsProcessed(bitsProcessed);
@@ -376,13 +454,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
      */
     public void receive(ByteBuffer buffer)
     {
-        for(byte value : buffer.array())
-        {
-            for(int x = 0; x <= 3; x++)
-            {
-                receive(Dibit.parse(value, x));
-            }
-        }
+        receive(DibitBuffer.wrap(buffer.array()));
     }
 
     @Override
@@ -407,7 +479,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         mDataUnitID = dataUnitID;
         mNAC = nac;
         mCorrectedNID = correctedNid;
-        mBinaryMessage = new CorrectedBinaryMessage(dataUnitID.getMessageLength());
+        mBinaryMessage = mMessagePool.getMessage(dataUnitID.getMessageLength());
         mBinaryMessage.incrementCorrectedBitCount(bitErrors);
 
         mAssemblingMessage = true;
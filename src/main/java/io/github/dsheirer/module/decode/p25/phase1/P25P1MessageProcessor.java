@@ -60,8 +60,9 @@ public class P25P1MessageProcessor implements Listener<Message>
          */
         if(message.isValid())
         {
-            /* Insert frequency band identifier update messages into channel-type messages */
-            if(message instanceof IFrequencyBandReceiver)
+            /* Insert frequency band identifier update messages into channel-type messages.  Channels are only
+             * parsed for band injection once band identifiers are available. */
+            if(!mFrequencyBandMap.isEmpty() && message instanceof IFrequencyBandReceiver)
             {
                 IFrequencyBandReceiver receiver = (IFrequencyBandReceiver)message;
 
@@ -21,9 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1;
 
-import io.github.dsheirer.bits.MultiSyncPatternMatcher;
-import io.github.dsheirer.bits.SoftSyncDetector;
-import io.github.dsheirer.bits.SyncDetector;
+import io.github.dsheirer.bits.SyncPatternCorrelator;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
 import io.github.dsheirer.dsp.symbol.FrameSync;
@@ -44,40 +42,42 @@ public class P25P1SyncDetector implements Listener<Dibit>
 
     public static final double FREQUENCY_PHASE_CORRECTION_90_DEGREES = DEFAULT_SYMBOL_RATE / 4.0;
     public static final double FREQUENCY_PHASE_CORRECTION_180_DEGREES = DEFAULT_SYMBOL_RATE / 2.0;
+    private static final int SYNC_LOSS_BIT_THRESHOLD = P25P1DataUnitID.LOGICAL_LINK_DATA_UNIT_1.getMessageLength();
 
-    private MultiSyncPatternMatcher mMatcher;
-    private SoftSyncDetector mPrimarySyncDetector;
-
-    private PLLPhaseInversionDetector mInversionDetector90CW;
-    private PLLPhaseInversionDetector mInversionDetector90CCW;
-    private PLLPhaseInversionDetector mInversionDetector180;
+    private SyncPatternCorrelator mCorrelator = new SyncPatternCorrelator(48);
+    private ISyncDetectListener mSyncDetectListener;
+    private IPhaseLockedLoop mPhaseLockedLoop;
+    private int mPrimaryPattern;
+    private double[] mFrequencyCorrections;
+    private double[] mPllCorrections;
+    private int mBitCount;
 
+    /**
+     * Constructs an instance.  The normal sync pattern and, when a phase locked loop is provided, the 90/180 degree
+     * phase rotated sync patterns are all evaluated against each dibit by a single sync pattern correlator.  When we
+     * detect a phase rotated sync pattern, we apply an immediate phase correction to the phase locked loop.
+     *
+     * @param syncDetectListener to receive sync detect and sync loss notifications
+     * @param phaseLockedLoop to receive phase lock error corrections, or null
+     */
     public P25P1SyncDetector(ISyncDetectListener syncDetectListener, IPhaseLockedLoop phaseLockedLoop)
     {
-        //TODO: since we're only going to feed dibits to find next frame, it makes sense to
-        //TODO: update the sync lost parameter to 48 bits ....
-
-        //TODO: only enable the phase inversion detectors when we're in a sync-lost state
-        mMatcher = new MultiSyncPatternMatcher(syncDetectListener, P25P1DataUnitID.LOGICAL_LINK_DATA_UNIT_1.getMessageLength(), 48);
-        mPrimarySyncDetector = new SoftSyncDetector(FrameSync.P25_PHASE1_NORMAL.getSync(), SYNC_MATCH_THRESHOLD, syncDetectListener);
-        mMatcher.add(mPrimarySyncDetector);
+        mSyncDetectListener = syncDetectListener;
+        mPhaseLockedLoop = phaseLockedLoop;
+        mPrimaryPattern = mCorrelator.add(FrameSync.P25_PHASE1_NORMAL.getSync(), SYNC_MATCH_THRESHOLD);
 
         if(phaseLockedLoop != null)
         {
-            //Add additional sync pattern detectors to detect when we get 90/180 degree out of phase sync pattern
-            //detections so that we can apply correction to the phase locked loop
-            mInversionDetector90CW = new PLLPhaseInversionDetector(FrameSync.P25_PHASE1_ERROR_90_CW,
-                phaseLockedLoop, DEFAULT_SAMPLE_RATE, FREQUENCY_PHASE_CORRECTION_90_DEGREES);
-            mMatcher.add(mInversionDetector90CW);
-
-            mInversionDetector90CCW = new PLLPhaseInversionDetector(FrameSync.P25_PHASE1_ERROR_90_CCW,
-                phaseLockedLoop, DEFAULT_SAMPLE_RATE, -FREQUENCY_PHASE_CORRECTION_90_DEGREES);
-            mMatcher.add(mInversionDetector90CCW);
-
-            mInversionDetector180 = new PLLPhaseInversionDetector(FrameSync.P25_PHASE1_ERROR_180,
-                phaseLockedLoop, DEFAULT_SAMPLE_RATE, FREQUENCY_PHASE_CORRECTION_180_DEGREES);
-            mMatcher.add(mInversionDetector180);
+            //Add the phase rotated sync patterns to detect when the PLL is locked 90/180 degrees out of phase
+            mCorrelator.add(FrameSync.P25_PHASE1_ERROR_90_CW.getSync(), 0);
+            mCorrelator.add(FrameSync.P25_PHASE1_ERROR_90_CCW.getSync(), 0);
+            mCorrelator.add(FrameSync.P25_PHASE1_ERROR_180.getSync(), 0);
         }
+
+        //Frequency corrections indexed by sync pattern index, where the normal sync pattern requires no correction
+        mFrequencyCorrections = new double[]{0.0, FREQUENCY_PHASE_CORRECTION_90_DEGREES,
+            -FREQUENCY_PHASE_CORRECTION_90_DEGREES, FREQUENCY_PHASE_CORRECTION_180_DEGREES};
+        setSampleRate(DEFAULT_SAMPLE_RATE);
     }
 
     /**
@@ -86,85 +86,50 @@ public class P25P1SyncDetector implements Listener<Dibit>
      */
     public int getPrimarySyncMatchErrorCount()
     {
-        return Long.bitCount(mMatcher.getCurrentValue() ^ FrameSync.P25_PHASE1_NORMAL.getSync());
+        return mCorrelator.getBitErrorCount(mPrimaryPattern);
     }
 
     @Override
     public void receive(Dibit dibit)
     {
-        mMatcher.receive(dibit.getBit1(), dibit.getBit2());
+        mBitCount += 2;
+
+        int pattern = mCorrelator.receive(dibit.getValue());
+
+        if(pattern != SyncPatternCorrelator.NO_MATCH)
+        {
+            mBitCount = 0;
+
+            if(pattern == mPrimaryPattern)
+            {
+                mSyncDetectListener.syncDetected(mCorrelator.getBitErrorCount());
+            }
+            else
+            {
+                mPhaseLockedLoop.correctInversion(mPllCorrections[pattern]);
+            }
+        }
+
+        //Issue a sync loss once we have processed more than a full LDU without a sync pattern
+        if(mBitCount > SYNC_LOSS_BIT_THRESHOLD)
+        {
+            mSyncDetectListener.syncLost(mBitCount);
+            mBitCount = 0;
+        }
     }
 
     /**
-     * Updates the incoming sample stream sample rate to allow the PLL phase inversion detectors to
-     * recalculate their internal phase correction values.
+     * Updates the incoming sample stream sample rate to allow the PLL phase inversion corrections to be recalculated.
      *
      * @param sampleRate of the incoming sample stream
      */
     public void setSampleRate(double sampleRate)
     {
-        mInversionDetector180.setSampleRate(sampleRate);
-        mInversionDetector90CW.setSampleRate(sampleRate);
-        mInversionDetector90CCW.setSampleRate(sampleRate);
-    }
-
-    /**
-     * Sync pattern detector to listen for costas loop phase lock errors and apply a phase correction to the costas
-     * loop so that we don't miss any messages.
-     *
-     * When the costas loop locks with a +/- 90 degree or 180 degree phase error, the slicer will incorrectly apply
-     * the symbol pattern rotated left or right by the phase error.  However, we can detect these rotated sync patterns
-     * and apply immediate phase correction so that message processing can continue.
-     */
-    public class PLLPhaseInversionDetector extends SyncDetector
-    {
-        private IPhaseLockedLoop mPhaseLockedLoop;
-        private double mSampleRate;
-        private double mFrequencyCorrection;
-        private double mPllCorrection;
-
-        /**
-         * Constructs the PLL phase inversion detector.
-         *
-         * @param frameSync pattern to monitor for detecting phase inversion errors
-         * @param phaseLockedLoop to receive phase correction values
-         * @param sampleRate of the incoming sample stream
-         * @param frequencyCorrection to apply to the PLL.  Examples:
-         *      QPSK +/-90 degree correction: +/-SYMBOL RATE / 4.0
-         *      QPSK 180 degree correction: SYMBOL RATE / 2.0
-         */
-        public PLLPhaseInversionDetector(FrameSync frameSync, IPhaseLockedLoop phaseLockedLoop, double sampleRate,
-                                         double frequencyCorrection)
-        {
-            super(frameSync.getSync());
-            mPhaseLockedLoop = phaseLockedLoop;
-            mFrequencyCorrection = frequencyCorrection;
-            setSampleRate(sampleRate);
-
-            setListener(new ISyncDetectListener()
-            {
-                @Override
-                public void syncDetected(int bitErrors)
-                {
-                    mPhaseLockedLoop.correctInversion(mPllCorrection);
-                }
-
-                @Override
-                public void syncLost(int bitsProcessed)
-                {
-                    //no-op
-                }
-            });
-        }
+        mPllCorrections = new double[mFrequencyCorrections.length];
 
-        /**
-         * Sets or adjusts the sample rate so that the phase inversion correction value can be recalculated.
-         * @param sampleRate
-         */
-        public void setSampleRate(double sampleRate)
+        for(int x = 0; x < mFrequencyCorrections.length; x++)
         {
-            mSampleRate = sampleRate;
-            mPllCorrection = 2.0 * FastMath.PI * mFrequencyCorrection / mSampleRate;
+            mPllCorrections[x] = 2.0 * FastMath.PI * mFrequencyCorrections[x] / sampleRate;
         }
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.motorola;
 
 import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.patch.PatchGroup;
 import io.github.dsheirer.identifier.talkgroup.TalkgroupIdentifier;
@@ -34,9 +35,9 @@ import java.util.List;
 
 public class LCMotorolaPatchGroupDelete extends MotorolaLinkControlWord
 {
-    private static final int[] PATCH_GROUP = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] PATCHED_GROUP_1 = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] PATCHED_GROUP_2 = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
+    private static final IntField PATCH_GROUP = IntField.range(16, 31);
+    private static final IntField PATCHED_GROUP_1 = IntField.range(32, 47);
+    private static final IntField PATCHED_GROUP_2 = IntField.range(48, 63);
 
     private APCO25PatchGroup mPatchGroup;
     private TalkgroupIdentifier mPatchedGroup1;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
 import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Lra;
@@ -42,15 +43,16 @@ import java.util.List;
 public class LCAdjacentSiteStatusBroadcastExplicit extends LinkControlWord implements IFrequencyBandReceiver
 {
     private static final int[] LRA = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] DOWNLINK_FREQUENCY_BAND = {16, 17, 18, 19};
-    private static final int[] DOWNLINK_CHANNEL_NUMBER = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
+    private static final IntField DOWNLINK_FREQUENCY_BAND = IntField.range(16, 19);
+    private static final IntField DOWNLINK_CHANNEL_NUMBER = IntField.range(20, 31);
     private static final int[] RFSS = {32, 33, 34, 35, 36, 37, 38, 39};
     private static final int[] SITE = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] UPLINK_FREQUENCY_BAND = {48, 49, 50, 51};
-    private static final int[] UPLINK_CHANNEL_NUMBER = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SERVICE_CLASS = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField UPLINK_FREQUENCY_BAND = IntField.range(48, 51);
+    private static final IntField UPLINK_CHANNEL_NUMBER = IntField.range(52, 63);
+    private static final IntField SERVICE_CLASS = IntField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private Identifier mLRA;
     private Identifier mRFSS;
     private Identifier mSite;
@@ -152,8 +154,12 @@ public class LCAdjacentSiteStatusBroadcastExplicit extends LinkControlWord imple
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -50,6 +50,7 @@ public class LCGroupVoiceChannelUpdate extends LinkControlWord implements IFrequ
     private Identifier mTalkgroupA;
     private Identifier mTalkgroupB;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs a Link Control Word from the binary message sequence.
@@ -140,9 +141,13 @@ public class LCGroupVoiceChannelUpdate extends LinkControlWord implements IFrequ
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-        channels.add(getChannelB());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+            mChannels.add(getChannelB());
+        }
+
+        return mChannels;
     }
 }
@@ -121,8 +121,12 @@ public class LCGroupVoiceChannelUpdateExplicit extends LinkControlWord implement
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
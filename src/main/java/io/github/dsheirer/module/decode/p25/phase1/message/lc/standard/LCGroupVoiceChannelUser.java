@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
 import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
@@ -37,10 +38,9 @@ import java.util.List;
  */
 public class LCGroupVoiceChannelUser extends LinkControlWord
 {
-    private static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] GROUP_ADDRESS = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] SOURCE_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-            65, 66, 67, 68, 69, 70, 71};
+    private static final IntField SERVICE_OPTIONS = IntField.range(16, 23);
+    private static final IntField GROUP_ADDRESS = IntField.range(32, 47);
+    private static final IntField SOURCE_ADDRESS = IntField.range(48, 71);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private Identifier mGroupAddress;
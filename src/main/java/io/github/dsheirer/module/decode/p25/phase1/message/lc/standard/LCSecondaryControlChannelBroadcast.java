@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
 import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -40,16 +41,17 @@ import java.util.List;
  */
 public class LCSecondaryControlChannelBroadcast extends LinkControlWord implements IFrequencyBandReceiver
 {
-    private static final int[] RFSS = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField RFSS = IntField.range(8, 15);
     private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREQUENCY_BAND_A = {24, 25, 26, 27};
-    private static final int[] CHANNEL_NUMBER_A = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SERVICE_CLASS_A = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND_B = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER_B = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SERVICE_CLASS_B = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField FREQUENCY_BAND_A = IntField.range(24, 27);
+    private static final IntField CHANNEL_NUMBER_A = IntField.range(28, 39);
+    private static final IntField SERVICE_CLASS_A = IntField.range(40, 47);
+    private static final IntField FREQUENCY_BAND_B = IntField.range(48, 51);
+    private static final IntField CHANNEL_NUMBER_B = IntField.range(52, 63);
+    private static final IntField SERVICE_CLASS_B = IntField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private Identifier mRFSS;
     private Identifier mSite;
     private IChannelDescriptor mChannelA;
@@ -172,12 +174,16 @@ public class LCSecondaryControlChannelBroadcast extends LinkControlWord implemen
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-        if(hasChannelB())
+        if(mChannels == null)
         {
-            channels.add(getChannelB());
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+            if(hasChannelB())
+            {
+                mChannels.add(getChannelB());
+            }
         }
-        return channels;
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
 import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -40,16 +41,17 @@ import java.util.List;
  */
 public class LCSecondaryControlChannelBroadcastExplicit extends LinkControlWord implements IFrequencyBandReceiver
 {
-    private static final int[] RFSS = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField RFSS = IntField.range(8, 15);
     private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] DOWNLINK_FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] DOWNLINK_CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] UPLINK_FREQUENCY_BAND = {40, 41, 42, 43};
-    private static final int[] UPNLINK_CHANNEL_NUMBER = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SERVICE_CLASS = {56, 57, 58, 59, 60, 61, 62, 63};
+    private static final IntField DOWNLINK_FREQUENCY_BAND = IntField.range(24, 27);
+    private static final IntField DOWNLINK_CHANNEL_NUMBER = IntField.range(28, 39);
+    private static final IntField UPLINK_FREQUENCY_BAND = IntField.range(40, 43);
+    private static final IntField UPNLINK_CHANNEL_NUMBER = IntField.range(44, 55);
+    private static final IntField SERVICE_CLASS = IntField.range(56, 63);
     private static final int[] RESERVED = {64, 65, 66, 67, 68, 69, 70, 71};
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private Identifier mRFSS;
     private Identifier mSite;
     private IChannelDescriptor mChannel;
@@ -136,8 +138,12 @@ public class LCSecondaryControlChannelBroadcastExplicit extends LinkControlWord
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -106,13 +106,7 @@ public class TDULinkControlMessage extends P25Message implements IFrequencyBandR
     private void createLinkControlWord()
     {
         //Check the Golay codewords
-        int codewordPointer = 0;
-
-        while(codewordPointer < getMessage().size())
-        {
-            int corrected = Golay24.checkAndCorrect(getMessage(), codewordPointer);
-            codewordPointer += 24;
-        }
+        Golay24.checkAndCorrect(getMessage(), 0, getMessage().size() / 24);
 
         //Check the Reed-Solomon parity bits. The RS decoder expects the link control data and reed solomon parity hex
         // codewords in reverse order. The RS(24,12,13) code used by P25 removes the left-hand 47 data hex words, so we
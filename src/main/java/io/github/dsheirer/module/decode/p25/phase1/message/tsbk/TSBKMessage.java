@@ -22,6 +22,7 @@ package io.github.dsheirer.module.decode.p25.phase1.message.tsbk;
 
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.edac.CRCP25;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.P25Utils;
@@ -39,8 +40,8 @@ public abstract class TSBKMessage extends P25Message
 {
     private static final int LAST_BLOCK_FLAG = 0;
     private static final int ENCRYPTION_FLAG = 1;
-    private static final int[] OPCODE = {2, 3, 4, 5, 6, 7};
-    private static final int[] VENDOR = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField OPCODE = IntField.range(2, 7);
+    private static final IntField VENDOR = IntField.range(8, 15);
 
     private P25P1DataUnitID mDataUnitID;
 
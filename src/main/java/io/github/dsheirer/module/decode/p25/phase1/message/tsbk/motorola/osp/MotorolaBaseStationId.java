@@ -47,6 +47,7 @@ public class MotorolaBaseStationId extends OSPMessage implements IFrequencyBandR
     public static final int[] CHANNEL_NUMBER = {68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
 
     private String mCWID;
+    private List<IChannelDescriptor> mChannels;
     private IChannelDescriptor mChannel;
 
     public MotorolaBaseStationId(P25P1DataUnitID dataUnitID, CorrectedBinaryMessage message, int nac, long timestamp)
@@ -126,9 +127,13 @@ public class MotorolaBaseStationId extends OSPMessage implements IFrequencyBandR
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 
     @Override
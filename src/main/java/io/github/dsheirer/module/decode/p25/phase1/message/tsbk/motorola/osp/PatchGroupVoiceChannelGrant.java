@@ -52,6 +52,7 @@ public class PatchGroupVoiceChannelGrant extends OSPMessage implements IFrequenc
     private Identifier mSourceAddress;
     private PatchGroupIdentifier mPatchGroup;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     public PatchGroupVoiceChannelGrant(P25P1DataUnitID dataUnitID, CorrectedBinaryMessage message, int nac, long timestlot)
     {
@@ -114,9 +115,13 @@ public class PatchGroupVoiceChannelGrant extends OSPMessage implements IFrequenc
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 
     @Override
@@ -50,6 +50,7 @@ public class PatchGroupVoiceChannelGrantUpdate extends OSPMessage implements IFr
     private APCO25Channel mChannel1;
     private APCO25Channel mChannel2;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     public PatchGroupVoiceChannelGrantUpdate(P25P1DataUnitID dataUnitID, CorrectedBinaryMessage message, int nac, long timestamp)
     {
@@ -128,13 +129,17 @@ public class PatchGroupVoiceChannelGrantUpdate extends OSPMessage implements IFr
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel1());
-        if(hasPatchGroup2())
+        if(mChannels == null)
         {
-            channels.add(getChannel2());
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel1());
+            if(hasPatchGroup2())
+            {
+                mChannels.add(getChannel2());
+            }
         }
-        return channels;
+
+        return mChannels;
     }
 
     @Override
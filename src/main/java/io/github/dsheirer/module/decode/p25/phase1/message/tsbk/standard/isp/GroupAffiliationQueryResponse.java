@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.isp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25AnnouncementTalkgroup;
@@ -39,11 +40,9 @@ import java.util.List;
 public class GroupAffiliationQueryResponse extends ISPMessage
 {
     private static final int[] RESERVED = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] ANNOUNCEMENT_GROUP_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38,
-            39};
-    private static final int[] GROUP_ADDRESS = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-            74, 75, 76, 77, 78, 79};
+    private static final IntField ANNOUNCEMENT_GROUP_ADDRESS = IntField.range(24, 39);
+    private static final IntField GROUP_ADDRESS = IntField.range(40, 55);
+    private static final IntField SOURCE_ADDRESS = IntField.range(56, 79);
 
     private Identifier mAnnouncementGroupAddress;
     private Identifier mGroupAddress;
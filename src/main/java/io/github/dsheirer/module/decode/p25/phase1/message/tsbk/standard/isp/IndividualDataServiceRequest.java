@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.isp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
 import io.github.dsheirer.module.decode.p25.phase1.P25P1DataUnitID;
@@ -37,12 +38,10 @@ import java.util.List;
  */
 public class IndividualDataServiceRequest extends ISPMessage
 {
-    private static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
+    private static final IntField SERVICE_OPTIONS = IntField.range(16, 23);
     private static final int[] RESERVED = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] TARGET_ADDRESS = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49,
-            50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-            74, 75, 76, 77, 78, 79};
+    private static final IntField TARGET_ADDRESS = IntField.range(32, 55);
+    private static final IntField SOURCE_ADDRESS = IntField.range(56, 79);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private Identifier mTargetAddress;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Lra;
@@ -43,7 +44,7 @@ import java.util.List;
  */
 public class AdjacentStatusBroadcast extends OSPMessage implements IFrequencyBandReceiver
 {
-    private static final int[] LOCATION_REGISTRATION_AREA = {16, 17, 18, 19, 20, 21, 22, 23};
+    private static final IntField LOCATION_REGISTRATION_AREA = IntField.range(16, 23);
     private static final int CONVENTIONAL_CHANNEL_FLAG = 24;
     private static final int SITE_FAILURE_FLAG = 25;
     private static final int VALID_INFORMATION_FLAG = 26;
@@ -51,9 +52,9 @@ public class AdjacentStatusBroadcast extends OSPMessage implements IFrequencyBan
     private static final int[] SYSTEM = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
     private static final int[] RFSS = {40, 41, 42, 43, 44, 45, 46, 47};
     private static final int[] SITE = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] FREQUENCY_BAND = {56, 57, 58, 59};
-    private static final int[] CHANNEL_NUMBER = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] SYSTEM_SERVICE_CLASS = {72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField FREQUENCY_BAND = IntField.range(56, 59);
+    private static final IntField CHANNEL_NUMBER = IntField.range(60, 71);
+    private static final IntField SYSTEM_SERVICE_CLASS = IntField.range(72, 79);
 
     private Identifier mLocationRegistrationArea;
     private Identifier mSystem;
@@ -62,6 +63,7 @@ public class AdjacentStatusBroadcast extends OSPMessage implements IFrequencyBan
     private IChannelDescriptor mChannel;
     private SystemServiceClass mSystemServiceClass;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private List<String> mSiteFlags;
 
     /**
@@ -226,8 +228,12 @@ public class AdjacentStatusBroadcast extends OSPMessage implements IFrequencyBan
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
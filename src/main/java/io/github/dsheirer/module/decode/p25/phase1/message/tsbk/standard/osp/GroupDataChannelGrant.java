@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -41,18 +42,18 @@ import java.util.List;
  */
 public class GroupDataChannelGrant extends OSPMessage implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] GROUP_ADDRESS = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-            74, 75, 76, 77, 78, 79};
+    private static final IntField SERVICE_OPTIONS = IntField.range(16, 23);
+    private static final IntField FREQUENCY_BAND = IntField.range(24, 27);
+    private static final IntField CHANNEL_NUMBER = IntField.range(28, 39);
+    private static final IntField GROUP_ADDRESS = IntField.range(40, 55);
+    private static final IntField SOURCE_ADDRESS = IntField.range(56, 79);
 
     private DataServiceOptions mDataServiceOptions;
     private APCO25Channel mChannel;
     private Identifier mGroupAddress;
     private Identifier mSourceAddress;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs a TSBK from the binary message sequence.
@@ -132,8 +133,12 @@ public class GroupDataChannelGrant extends OSPMessage implements IFrequencyBandR
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -39,18 +40,19 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdate extends OSPMessage implements IFrequencyBandReceiver
 {
-    private static final int[] FREQUENCY_BAND_A = {16, 17, 18, 19};
-    private static final int[] CHANNEL_NUMBER_A = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] GROUP_ADDRESS_A = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND_B = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER_B = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] GROUP_ADDRESS_B = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField FREQUENCY_BAND_A = IntField.range(16, 19);
+    private static final IntField CHANNEL_NUMBER_A = IntField.range(20, 31);
+    private static final IntField GROUP_ADDRESS_A = IntField.range(32, 47);
+    private static final IntField FREQUENCY_BAND_B = IntField.range(48, 51);
+    private static final IntField CHANNEL_NUMBER_B = IntField.range(52, 63);
+    private static final IntField GROUP_ADDRESS_B = IntField.range(64, 79);
 
     private APCO25Channel mChannelA;
     private Identifier mGroupAddressA;
     private APCO25Channel mChannelB;
     private Identifier mGroupAddressB;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs a TSBK from the binary message sequence.
@@ -141,9 +143,13 @@ public class GroupVoiceChannelGrantUpdate extends OSPMessage implements IFrequen
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-        channels.add(getChannelB());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+            mChannels.add(getChannelB());
+        }
+
+        return mChannels;
     }
 }
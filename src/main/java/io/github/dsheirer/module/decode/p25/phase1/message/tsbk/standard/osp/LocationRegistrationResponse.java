@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Site;
@@ -42,11 +43,10 @@ public class LocationRegistrationResponse extends OSPMessage
 {
     private static final int[] RESERVED = {16, 17, 18, 19, 20, 21};
     private static final int[] RESPONSE = {22, 23};
-    private static final int[] GROUP_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
+    private static final IntField GROUP_ADDRESS = IntField.range(24, 39);
     private static final int[] RFSS = {40, 41, 42, 43, 44, 45, 46, 47};
     private static final int[] SITE = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] TARGET_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-        74, 75, 76, 77, 78, 79};
+    private static final IntField TARGET_ADDRESS = IntField.range(56, 79);
 
     private Response mResponse;
     private Identifier mRfss;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -43,12 +44,12 @@ public class SecondaryControlChannelBroadcast extends OSPMessage implements IFre
 {
     private static final int[] RFSS = {16, 17, 18, 19, 20, 21, 22, 23};
     private static final int[] SITE = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] FREQUENCY_BAND_A = {32, 33, 34, 35};
-    private static final int[] CHANNEL_NUMBER_A = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] SYSTEM_SERVICE_CLASS_A = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] FREQUENCY_BAND_B = {56, 57, 58, 59};
-    private static final int[] CHANNEL_NUMBER_B = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] SYSTEM_SERVICE_CLASS_B = {72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField FREQUENCY_BAND_A = IntField.range(32, 35);
+    private static final IntField CHANNEL_NUMBER_A = IntField.range(36, 47);
+    private static final IntField SYSTEM_SERVICE_CLASS_A = IntField.range(48, 55);
+    private static final IntField FREQUENCY_BAND_B = IntField.range(56, 59);
+    private static final IntField CHANNEL_NUMBER_B = IntField.range(60, 71);
+    private static final IntField SYSTEM_SERVICE_CLASS_B = IntField.range(72, 79);
 
     private Identifier mRfss;
     private Identifier mSite;
@@ -57,6 +58,7 @@ public class SecondaryControlChannelBroadcast extends OSPMessage implements IFre
     private SystemServiceClass mSystemServiceClassA;
     private SystemServiceClass mSystemServiceClassB;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs a TSBK from the binary message sequence.
@@ -164,13 +166,17 @@ public class SecondaryControlChannelBroadcast extends OSPMessage implements IFre
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-
-        if(hasChannelB())
+        if(mChannels == null)
         {
-            channels.add(getChannelB());
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+
+            if(hasChannelB())
+            {
+                mChannels.add(getChannelB());
+            }
         }
-        return channels;
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -43,18 +44,19 @@ public class SecondaryControlChannelBroadcastExplicit extends OSPMessage impleme
 {
     private static final int[] RFSS = {16, 17, 18, 19, 20, 21, 22, 23};
     private static final int[] SITE = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {32, 33, 34, 35};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
+    private static final IntField TRANSMIT_FREQUENCY_BAND = IntField.range(32, 35);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER = IntField.range(36, 47);
     private static final int[] RESERVED = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {56, 57, 58, 59};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] SYSTEM_SERVICE_CLASS = {72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField RECEIVE_FREQUENCY_BAND = IntField.range(56, 59);
+    private static final IntField RECEIVE_CHANNEL_NUMBER = IntField.range(60, 71);
+    private static final IntField SYSTEM_SERVICE_CLASS = IntField.range(72, 79);
 
     private Identifier mRfss;
     private Identifier mSite;
     private IChannelDescriptor mChannel;
     private SystemServiceClass mSystemServiceClass;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs a TSBK from the binary message sequence.
@@ -133,8 +135,12 @@ public class SecondaryControlChannelBroadcastExplicit extends OSPMessage impleme
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase2;
 
+import io.github.dsheirer.dsp.filter.resample.SymbolRateResampler;
 import io.github.dsheirer.dsp.squelch.PowerMonitor;
 import io.github.dsheirer.dsp.symbol.Dibit;
 import io.github.dsheirer.dsp.symbol.DibitToByteBufferAssembler;
@@ -40,7 +41,9 @@ import java.nio.ByteBuffer;
 public abstract class P25P2Decoder extends FeedbackDecoder implements ISourceEventListener, ISourceEventProvider,
         IComplexSamplesListener, Listener<ComplexSamples>, IByteBufferProvider
 {
-    private double mSampleRate;
+    private static final double SAMPLES_PER_SYMBOL = 8.0;
+    private static final double RESAMPLER_PASS_FREQUENCY = 8000.0;
+    private final SymbolRateResampler mSymbolRateResampler;
     private Broadcaster<Dibit> mDibitBroadcaster = new Broadcaster<>();
     private DibitToByteBufferAssembler mByteBufferAssembler = new DibitToByteBufferAssembler(300);
     private P25P2MessageProcessor mMessageProcessor;
@@ -50,6 +53,7 @@ public abstract class P25P2Decoder extends FeedbackDecoder implements ISourceEve
     public P25P2Decoder(double symbolRate)
     {
         mSymbolRate = symbolRate;
+        mSymbolRateResampler = new SymbolRateResampler(symbolRate, SAMPLES_PER_SYMBOL, RESAMPLER_PASS_FREQUENCY);
         mMessageProcessor = new P25P2MessageProcessor();
         mMessageProcessor.setMessageListener(getMessageListener());
         getDibitBroadcaster().addListener(mByteBufferAssembler);
@@ -110,11 +114,35 @@ public abstract class P25P2Decoder extends FeedbackDecoder implements ISourceEve
     }
 
     /**
-     * Current sample rate for this decoder
+     * Current sample rate for this decoder, after baseband filter decimation and resampling of the channel samples
      */
     protected double getSampleRate()
     {
-        return mSampleRate;
+        return mSymbolRateResampler.getSampleRate();
+    }
+
+    /**
+     * Sample rate of the channel samples provided to this decoder, prior to baseband filter decimation
+     */
+    protected double getChannelSampleRate()
+    {
+        return mSymbolRateResampler.getChannelSampleRate();
+    }
+
+    /**
+     * Decimation rate for the baseband filter
+     */
+    protected int getDecimation()
+    {
+        return mSymbolRateResampler.getDecimation();
+    }
+
+    /**
+     * Resamples the baseband filtered and decimated samples to the decoder's fixed samples per symbol rate
+     */
+    protected ComplexSamples resample(ComplexSamples samples)
+    {
+        return mSymbolRateResampler.resample(samples);
     }
 
     /**
@@ -128,8 +156,8 @@ public abstract class P25P2Decoder extends FeedbackDecoder implements ISourceEve
                 getSymbolRate() + " symbol rate)");
         }
 
-        mPowerMonitor.setSampleRate((int)sampleRate);
-        mSampleRate = sampleRate;
+        mSymbolRateResampler.setChannelSampleRate(sampleRate);
+        mPowerMonitor.setSampleRate((int)getSampleRate());
     }
 
     /**
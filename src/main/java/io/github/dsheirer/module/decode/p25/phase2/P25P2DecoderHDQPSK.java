@@ -24,7 +24,7 @@ package io.github.dsheirer.module.decode.p25.phase2;
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.real.IRealFilter;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexDecimationFilter;
 import io.github.dsheirer.dsp.gain.complex.ComplexGainFactory;
 import io.github.dsheirer.dsp.gain.complex.IComplexGainControl;
 import io.github.dsheirer.dsp.psk.DQPSKGardnerDemodulator;
@@ -59,8 +59,7 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
     protected P25P2MessageFramer mMessageFramer;
     protected IComplexGainControl mAGC = ComplexGainFactory.getComplexGainControl();
     private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    protected IRealFilter mIBasebandFilter;
-    protected IRealFilter mQBasebandFilter;
+    protected IComplexDecimationFilter mBasebandFilter;
     private DecodeConfigP25Phase2 mDecodeConfigP25Phase2;
     private FrequencyCorrectionSyncMonitor mFrequencyCorrectionSyncMonitor;
 
@@ -75,8 +74,7 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
     {
         super.setSampleRate(sampleRate);
 
-        mIBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
-        mQBasebandFilter = FilterFactory.getRealFilter(getBasebandFilter());
+        mBasebandFilter = FilterFactory.getComplexDecimationFilter(getBasebandFilter(), getDecimation());
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_300);
 
@@ -100,7 +98,8 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
         mFrequencyCorrectionSyncMonitor = new FrequencyCorrectionSyncMonitor(mCostasLoop, this);
         mMessageFramer.setSyncDetectListener(mFrequencyCorrectionSyncMonitor);
         mMessageFramer.setListener(getMessageProcessor());
-        mMessageFramer.setSampleRate(sampleRate);
+        mMessageFramer.setMessageRecyclingEnabled(true);
+        mMessageFramer.setSampleRate(getSampleRate());
 
         mQPSKDemodulator.setSymbolListener(getDibitBroadcaster());
         getDibitBroadcaster().addListener(mMessageFramer);
@@ -115,8 +114,9 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         //Process the buffer for power measurements
         mPowerMonitor.process(i, q);
@@ -126,12 +126,12 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
     }
 
     /**
-     * Constructs a baseband filter for this decoder using the current sample rate
+     * Constructs a baseband filter for this decoder using the current channel sample rate
      */
     private float[] getBasebandFilter()
     {
         //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
+        float[] filter = mBasebandFilters.get(getChannelSampleRate());
 
         if(filter == null)
         {
@@ -151,16 +151,16 @@ public class P25P2DecoderHDQPSK extends P25P2Decoder implements IdentifierUpdate
             }
             catch(FilterDesignException fde)
             {
-                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getSampleRate());
+                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getChannelSampleRate());
             }
 
             if(filter != null)
             {
-                mBasebandFilters.put(getSampleRate(), filter);
+                mBasebandFilters.put(getChannelSampleRate(), filter);
             }
             else
             {
-                throw new IllegalStateException("Couldn't design a C4FM baseband filter for sample rate: " + getSampleRate());
+                throw new IllegalStateException("Couldn't design a C4FM baseband filter for sample rate: " + getChannelSampleRate());
             }
         }
 
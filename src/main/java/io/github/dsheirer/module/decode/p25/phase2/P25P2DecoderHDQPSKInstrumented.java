@@ -60,8 +60,9 @@ public class P25P2DecoderHDQPSKInstrumented extends P25P2DecoderHDQPSK
     {
         mMessageFramer.setCurrentTime(System.currentTimeMillis());
 
-        float[] i = mIBasebandFilter.filter(samples.i());
-        float[] q = mQBasebandFilter.filter(samples.q());
+        ComplexSamples filtered = resample(mBasebandFilter.filter(samples.i(), samples.q()));
+        float[] i = filtered.i();
+        float[] q = filtered.q();
 
         if(mFilteredSymbolListener != null)
         {
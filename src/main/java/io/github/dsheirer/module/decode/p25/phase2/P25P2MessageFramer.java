@@ -157,6 +157,17 @@ public class P25P2MessageFramer implements Listener<Dibit>
         mSuperFrameDetector.setListener(messageListener);
     }
 
+    /**
+     * Enables or disables recycling of super-frame fragment messages once each fragment has been broadcast.  Only
+     * enable when the registered listener does not retain super-frame fragments.
+     *
+     * @param enabled true to recycle fragment messages
+     */
+    public void setMessageRecyclingEnabled(boolean enabled)
+    {
+        mSuperFrameDetector.setMessageRecyclingEnabled(enabled);
+    }
+
     public P25P2SuperFrameDetector getSuperFrameDetector()
     {
         return mSuperFrameDetector;
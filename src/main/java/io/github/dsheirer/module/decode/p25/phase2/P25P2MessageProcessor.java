@@ -75,8 +75,9 @@ public class P25P2MessageProcessor implements Listener<IMessage>
 
                         for(MacMessage macMessage: ast.getMacMessages())
                         {
-                            /* Insert frequency band identifier update messages into channel-type messages */
-                            if(macMessage instanceof IFrequencyBandReceiver)
+                            /* Insert frequency band identifier update messages into channel-type messages.
+                             * Channels are only parsed for band injection once band identifiers are available. */
+                            if(!mFrequencyBandMap.isEmpty() && macMessage instanceof IFrequencyBandReceiver)
                             {
                                 IFrequencyBandReceiver receiver = (IFrequencyBandReceiver)macMessage;
 
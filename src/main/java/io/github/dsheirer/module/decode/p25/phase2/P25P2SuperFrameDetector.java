@@ -22,6 +22,7 @@
 package io.github.dsheirer.module.decode.p25.phase2;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessagePool;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
@@ -65,6 +66,7 @@ public class P25P2SuperFrameDetector implements Listener<Dibit>, ISyncDetectList
     private P25P2SyncDetector mSyncDetector;
     private DibitDelayBuffer mSyncDetectionDelayBuffer = new DibitDelayBuffer(160);
     private DibitDelayBuffer mFragmentBuffer = new DibitDelayBuffer(720);
+    private CorrectedBinaryMessagePool mMessagePool = new CorrectedBinaryMessagePool(Protocol.APCO25_PHASE2, 1);
     private int mDibitsProcessed = 0;
     private boolean mSynchronized = false;
     private ISyncDetectListener mSyncDetectListener;
@@ -96,6 +98,19 @@ public class P25P2SuperFrameDetector implements Listener<Dibit>, ISyncDetectList
         mMessageListener = listener;
     }
 
+    /**
+     * Enables or disables recycling of the super-frame fragment message once the fragment has been broadcast.
+     *
+     * Note: only enable recycling when the registered listener does not retain the super-frame fragment (or its
+     * message) beyond the listener's receive call.  Timeslots and ISCH parsed from the fragment are independent copies.
+     *
+     * @param enabled true to recycle fragment messages
+     */
+    public void setMessageRecyclingEnabled(boolean enabled)
+    {
+        mMessagePool.setRecyclingEnabled(enabled);
+    }
+
     /**
      * Sets the sample rate for the phase inversion sync detector
      */
@@ -182,12 +197,13 @@ public class P25P2SuperFrameDetector implements Listener<Dibit>, ISyncDetectList
         }
 
         mDibitsProcessed = 0;
-        CorrectedBinaryMessage message = mFragmentBuffer.getMessage(0, 720);
+        CorrectedBinaryMessage message = mFragmentBuffer.getMessage(0, 720, mMessagePool.getMessage(1440));
         message.setCorrectedBitCount(bitErrors);
         SuperFrameFragment frameFragment = new SuperFrameFragment(message, getCurrentTimestamp(), mScramblingSequence);
 
         updateScramblingCode(frameFragment);
         broadcast(frameFragment);
+        mMessagePool.recycle(message);
     }
 
     private void updateScramblingCode(SuperFrameFragment superFrameFragment)
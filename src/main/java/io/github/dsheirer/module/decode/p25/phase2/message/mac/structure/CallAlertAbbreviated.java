@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
 import io.github.dsheirer.module.decode.p25.phase2.message.mac.MacStructure;
@@ -35,10 +36,8 @@ import java.util.List;
  */
 public class CallAlertAbbreviated extends MacStructure
 {
-    private static final int[] TARGET_ADDRESS = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25,
-        26, 27, 28, 29, 30, 31};
-    private static final int[] SOURCE_ADDRESS = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48,
-        49, 50, 51, 52, 53, 54, 55};
+    private static final IntField TARGET_ADDRESS = IntField.range(8, 31);
+    private static final IntField SOURCE_ADDRESS = IntField.range(32, 55);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress;
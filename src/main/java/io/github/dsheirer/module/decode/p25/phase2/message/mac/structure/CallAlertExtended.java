@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25FullyQualifiedRadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -36,13 +37,10 @@ import java.util.List;
  */
 public class CallAlertExtended extends MacStructure
 {
-    private static final int[] TARGET_ADDRESS = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25,
-        26, 27, 28, 29, 30, 31};
-    private static final int[] SOURCE_WACN = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48,
-        49, 50, 51};
-    private static final int[] SOURCE_SYSTEM = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SOURCE_ADDRESS = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80,
-        81, 82, 83, 84, 85, 86, 87};
+    private static final IntField TARGET_ADDRESS = IntField.range(8, 31);
+    private static final IntField SOURCE_WACN = IntField.range(32, 51);
+    private static final IntField SOURCE_SYSTEM = IntField.range(52, 63);
+    private static final IntField SOURCE_ADDRESS = IntField.range(64, 87);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress;
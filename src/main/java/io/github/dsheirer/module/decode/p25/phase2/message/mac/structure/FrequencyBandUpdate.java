@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase1.message.IFrequencyBand;
 import io.github.dsheirer.module.decode.p25.phase2.message.mac.MacStructure;
@@ -35,11 +36,11 @@ import java.util.List;
  */
 public class FrequencyBandUpdate extends MacStructure implements IFrequencyBand
 {
-    private static final int[] FREQUENCY_BAND_IDENTIFIER = {8, 9, 10, 11};
-    private static final int[] BANDWIDTH = {12, 13, 14, 15, 16, 17, 18, 19, 20};
+    private static final IntField FREQUENCY_BAND_IDENTIFIER = IntField.range(8, 11);
+    private static final IntField BANDWIDTH = IntField.range(12, 20);
     private static final int TRANSMIT_OFFSET_SIGN = 21;
     private static final int[] TRANSMIT_OFFSET = {22, 23, 24, 25, 26, 27, 28, 29};
-    private static final int[] CHANNEL_SPACING = {30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
+    private static final IntField CHANNEL_SPACING = IntField.range(30, 39);
     private static final int[] BASE_FREQUENCY = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56,
         57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
 
@@ -24,6 +24,7 @@ package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
 import io.github.dsheirer.module.decode.p25.phase2.message.mac.MacStructure;
@@ -36,11 +37,11 @@ import java.util.List;
  */
 public class GroupPagingMessage extends MacStructure
 {
-    private static final int[] ID_COUNT = {14, 15};
-    private static final int[] GROUP_ADDRESS_1 = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] GROUP_ADDRESS_2 = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] GROUP_ADDRESS_3 = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] GROUP_ADDRESS_4 = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final IntField ID_COUNT = IntField.range(14, 15);
+    private static final IntField GROUP_ADDRESS_1 = IntField.range(16, 31);
+    private static final IntField GROUP_ADDRESS_2 = IntField.range(32, 47);
+    private static final IntField GROUP_ADDRESS_3 = IntField.range(48, 63);
+    private static final IntField GROUP_ADDRESS_4 = IntField.range(64, 79);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress1;
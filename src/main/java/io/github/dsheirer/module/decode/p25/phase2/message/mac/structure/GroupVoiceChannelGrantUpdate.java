@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -39,14 +40,15 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdate extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] FREQUENCY_BAND_A = {8, 9, 10, 11};
-    private static final int[] CHANNEL_NUMBER_A = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] GROUP_ADDRESS_A = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] FREQUENCY_BAND_B = {40, 41, 42, 43};
-    private static final int[] CHANNEL_NUMBER_B = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] GROUP_ADDRESS_B = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField FREQUENCY_BAND_A = IntField.range(8, 11);
+    private static final IntField CHANNEL_NUMBER_A = IntField.range(12, 23);
+    private static final IntField GROUP_ADDRESS_A = IntField.range(24, 39);
+    private static final IntField FREQUENCY_BAND_B = IntField.range(40, 43);
+    private static final IntField CHANNEL_NUMBER_B = IntField.range(44, 55);
+    private static final IntField GROUP_ADDRESS_B = IntField.range(56, 71);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private Identifier mGroupAddressA;
     private APCO25Channel mChannelA;
     private Identifier mGroupAddressB;
@@ -144,9 +146,13 @@ public class GroupVoiceChannelGrantUpdate extends MacStructure implements IFrequ
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-        channels.add(getChannelB());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+            mChannels.add(getChannelB());
+        }
+
+        return mChannels;
     }
 }
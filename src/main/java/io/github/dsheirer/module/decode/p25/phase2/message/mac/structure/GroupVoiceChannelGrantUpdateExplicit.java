@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -41,14 +42,15 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdateExplicit extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {16, 17, 18, 19};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {32, 33, 34, 35};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] GROUP_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
+    private static final IntField SERVICE_OPTIONS = IntField.range(8, 15);
+    private static final IntField TRANSMIT_FREQUENCY_BAND = IntField.range(16, 19);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER = IntField.range(20, 31);
+    private static final IntField RECEIVE_FREQUENCY_BAND = IntField.range(32, 35);
+    private static final IntField RECEIVE_CHANNEL_NUMBER = IntField.range(36, 47);
+    private static final IntField GROUP_ADDRESS = IntField.range(48, 63);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private VoiceServiceOptions mVoiceServiceOptions;
     private Identifier mGroupAddress;
     private APCO25Channel mChannel;
@@ -128,8 +130,12 @@ public class GroupVoiceChannelGrantUpdateExplicit extends MacStructure implement
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -41,22 +42,22 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdateMultipleExplicit extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS_A = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] TRANSMIT_FREQUENCY_BAND_A = {16, 17, 18, 19};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER_A = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] RECEIVE_FREQUENCY_BAND_A = {32, 33, 34, 35};
-    private static final int[] RECEIVE_CHANNEL_NUMBER_A = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] GROUP_ADDRESS_A = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-
-    private static final int[] SERVICE_OPTIONS_B = {64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] TRANSMIT_FREQUENCY_BAND_B = {72, 73, 74, 75};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER_B = {76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] RECEIVE_FREQUENCY_BAND_B = {88, 89, 90, 91};
-    private static final int[] RECEIVE_CHANNEL_NUMBER_B = {92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103};
-    private static final int[] GROUP_ADDRESS_B = {104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117,
-        118, 119};
+    private static final IntField SERVICE_OPTIONS_A = IntField.range(8, 15);
+    private static final IntField TRANSMIT_FREQUENCY_BAND_A = IntField.range(16, 19);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER_A = IntField.range(20, 31);
+    private static final IntField RECEIVE_FREQUENCY_BAND_A = IntField.range(32, 35);
+    private static final IntField RECEIVE_CHANNEL_NUMBER_A = IntField.range(36, 47);
+    private static final IntField GROUP_ADDRESS_A = IntField.range(48, 63);
+
+    private static final IntField SERVICE_OPTIONS_B = IntField.range(64, 71);
+    private static final IntField TRANSMIT_FREQUENCY_BAND_B = IntField.range(72, 75);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER_B = IntField.range(76, 87);
+    private static final IntField RECEIVE_FREQUENCY_BAND_B = IntField.range(88, 91);
+    private static final IntField RECEIVE_CHANNEL_NUMBER_B = IntField.range(92, 103);
+    private static final IntField GROUP_ADDRESS_B = IntField.range(104, 119);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private VoiceServiceOptions mVoiceServiceOptionsA;
     private Identifier mGroupAddressA;
     private APCO25Channel mChannelA;
@@ -196,9 +197,13 @@ public class GroupVoiceChannelGrantUpdateMultipleExplicit extends MacStructure i
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-        channels.add(getChannelB());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+            mChannels.add(getChannelB());
+        }
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Nac;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,9 +39,8 @@ public class MacRelease extends MacStructure
 {
     private static final int UNFORCED_FORCED_FLAG = 8;
     private static final int CALL_AUDIO_FLAG = 9;
-    private static final int[] TARGET_ADDRESS = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32,
-        33, 34, 35, 36, 37, 38, 39};
-    private static final int[] COLOR_CODE = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
+    private static final IntField TARGET_ADDRESS = IntField.range(16, 39);
+    private static final IntField COLOR_CODE = IntField.range(44, 55);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Lra;
@@ -47,11 +48,11 @@ public class NetworkStatusBroadcastAbbreviated extends MacStructure implements I
 {
     private static final int[] LRA = {8, 9, 10, 11, 12, 13, 14, 15};
     private static final int[] WACN = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35};
-    private static final int[] SYSTEM_ID = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SERVICE_CLASS = {64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] COLOR_CODE = {76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
+    private static final IntField SYSTEM_ID = IntField.range(36, 47);
+    private static final IntField FREQUENCY_BAND = IntField.range(48, 51);
+    private static final IntField CHANNEL_NUMBER = IntField.range(52, 63);
+    private static final IntField SERVICE_CLASS = IntField.range(64, 71);
+    private static final IntField COLOR_CODE = IntField.range(76, 87);
 
     private List<Identifier> mIdentifiers;
     private Identifier mLRA;
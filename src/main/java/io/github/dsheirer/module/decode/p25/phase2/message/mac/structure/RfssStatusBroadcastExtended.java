@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Lra;
@@ -47,15 +48,15 @@ public class RfssStatusBroadcastExtended extends MacStructure implements IFreque
     private static final int[] LRA = {8, 9, 10, 11, 12, 13, 14, 15};
     private static final int R = 18;
     private static final int A = 19;
-    private static final int[] SYSTEM_ID = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-
-    private static final int[] RFSS_ID = {32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SITE_ID = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {48, 49, 50, 51};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {64, 65, 66, 67};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] SERVICE_CLASS = {80, 81, 82, 83, 84, 85, 86, 87};
+    private static final IntField SYSTEM_ID = IntField.range(20, 31);
+
+    private static final IntField RFSS_ID = IntField.range(32, 39);
+    private static final IntField SITE_ID = IntField.range(40, 47);
+    private static final IntField TRANSMIT_FREQUENCY_BAND = IntField.range(48, 51);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER = IntField.range(52, 63);
+    private static final IntField RECEIVE_FREQUENCY_BAND = IntField.range(64, 67);
+    private static final IntField RECEIVE_CHANNEL_NUMBER = IntField.range(68, 79);
+    private static final IntField SERVICE_CLASS = IntField.range(80, 87);
 
     private List<Identifier> mIdentifiers;
     private Identifier mLRA;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.talkgroup.TalkgroupIdentifier;
@@ -40,16 +41,17 @@ import java.util.List;
  */
 public class SNDCPDataChannelAnnouncementExplicit extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final IntField SERVICE_OPTIONS = IntField.range(8, 15);
     private static final int AUTONOMOUS_ACCESS_FLAG = 16;
     private static final int REQUESTED_ACCESS_FLAG = 17;
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {40, 41, 42, 43};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] DATA_ACCESS_CONTROL = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField TRANSMIT_FREQUENCY_BAND = IntField.range(24, 27);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER = IntField.range(28, 39);
+    private static final IntField RECEIVE_FREQUENCY_BAND = IntField.range(40, 43);
+    private static final IntField RECEIVE_CHANNEL_NUMBER = IntField.range(44, 55);
+    private static final IntField DATA_ACCESS_CONTROL = IntField.range(56, 71);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private APCO25Channel mChannel;
     private TalkgroupIdentifier mTargetAddress;
     private DataServiceOptions mServiceOptions;
@@ -171,8 +173,12 @@ public class SNDCPDataChannelAnnouncementExplicit extends MacStructure implement
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -42,12 +43,12 @@ public class SecondaryControlChannelBroadcastAbbreviated extends MacStructure im
 {
     private static final int[] RFSS = {8,9,10,11,12,13,14,15};
     private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREQUENCY_BAND_A = {24, 25, 26, 27};
-    private static final int[] CHANNEL_NUMBER_A = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SYSTEM_SERVICE_CLASS_A = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND_B = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER_B = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SYSTEM_SERVICE_CLASS_B = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final IntField FREQUENCY_BAND_A = IntField.range(24, 27);
+    private static final IntField CHANNEL_NUMBER_A = IntField.range(28, 39);
+    private static final IntField SYSTEM_SERVICE_CLASS_A = IntField.range(40, 47);
+    private static final IntField FREQUENCY_BAND_B = IntField.range(48, 51);
+    private static final IntField CHANNEL_NUMBER_B = IntField.range(52, 63);
+    private static final IntField SYSTEM_SERVICE_CLASS_B = IntField.range(64, 71);
 
     private Identifier mRfss;
     private Identifier mSite;
@@ -56,6 +57,7 @@ public class SecondaryControlChannelBroadcastAbbreviated extends MacStructure im
     private SystemServiceClass mSystemServiceClassA;
     private SystemServiceClass mSystemServiceClassB;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs the message
@@ -171,13 +173,17 @@ public class SecondaryControlChannelBroadcastAbbreviated extends MacStructure im
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannelA());
-
-        if(hasChannelB())
+        if(mChannels == null)
         {
-            channels.add(getChannelB());
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannelA());
+
+            if(hasChannelB())
+            {
+                mChannels.add(getChannelB());
+            }
         }
-        return channels;
+
+        return mChannels;
     }
 }
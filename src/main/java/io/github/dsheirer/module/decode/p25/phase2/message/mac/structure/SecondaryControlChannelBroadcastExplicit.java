@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Rfss;
@@ -42,17 +43,18 @@ public class SecondaryControlChannelBroadcastExplicit extends MacStructure imple
 {
     private static final int[] RFSS = {8, 9, 10, 11, 12, 13, 14, 15};
     private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {40, 41, 42, 43};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SYSTEM_SERVICE_CLASS = {56, 57, 58, 59, 60, 61, 62, 63};
+    private static final IntField TRANSMIT_FREQUENCY_BAND = IntField.range(24, 27);
+    private static final IntField TRANSMIT_CHANNEL_NUMBER = IntField.range(28, 39);
+    private static final IntField RECEIVE_FREQUENCY_BAND = IntField.range(40, 43);
+    private static final IntField RECEIVE_CHANNEL_NUMBER = IntField.range(44, 55);
+    private static final IntField SYSTEM_SERVICE_CLASS = IntField.range(56, 63);
 
     private Identifier mRfss;
     private Identifier mSite;
     private IChannelDescriptor mChannel;
     private SystemServiceClass mSystemServiceClass;
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
 
     /**
      * Constructs the message
@@ -138,8 +140,12 @@ public class SecondaryControlChannelBroadcastExplicit extends MacStructure imple
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25FullyQualifiedRadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,15 +39,12 @@ import java.util.List;
  */
 public class StatusUpdateExtended extends MacStructure
 {
-    private static final int[] UNIT_STATUS = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] USER_STATUS = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] TARGET_ADDRESS = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48,
-        49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_WACN = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
-        73, 74, 75};
-    private static final int[] SOURCE_SYSTEM = {76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] SOURCE_ADDRESS = {88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103,
-        104, 105, 106, 107, 108, 109, 110, 111};
+    private static final IntField UNIT_STATUS = IntField.range(16, 23);
+    private static final IntField USER_STATUS = IntField.range(24, 31);
+    private static final IntField TARGET_ADDRESS = IntField.range(32, 55);
+    private static final IntField SOURCE_WACN = IntField.range(56, 75);
+    private static final IntField SOURCE_SYSTEM = IntField.range(76, 87);
+    private static final IntField SOURCE_ADDRESS = IntField.range(88, 111);
 
     private List<Identifier> mIdentifiers;
     private Identifier mUnitStatus;
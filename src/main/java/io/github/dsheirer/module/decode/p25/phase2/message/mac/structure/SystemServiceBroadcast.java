@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase2.message.mac.MacStructure;
 import io.github.dsheirer.module.decode.p25.reference.Service;
@@ -36,10 +37,8 @@ import java.util.List;
 public class SystemServiceBroadcast extends MacStructure
 {
     private static final int[] TWUID_VALIDITY = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] AVAILABLE_SERVICES = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31,
-        32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SUPPORTED_SERVICES = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55,
-        56, 57, 58, 59, 60, 61, 62, 63};
+    private static final IntField AVAILABLE_SERVICES = IntField.range(16, 39);
+    private static final IntField SUPPORTED_SERVICES = IntField.range(40, 63);
     private static final int[] REQUEST_PRIORITY_LEVEL = {64, 65, 66, 67, 68, 69, 70, 71};
 
     private List<Service> mAvailableServices;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.telephone.APCO25TelephoneNumber;
@@ -37,18 +38,17 @@ import java.util.List;
  */
 public class TelephoneInterconnectAnswerRequest extends MacStructure
 {
-    private static final int[] DIGIT_1 = {8, 9, 10, 11};
-    private static final int[] DIGIT_2 = {12, 13, 14, 15};
-    private static final int[] DIGIT_3 = {16, 17, 18, 19};
-    private static final int[] DIGIT_4 = {20, 21, 22, 23};
-    private static final int[] DIGIT_5 = {24, 25, 26, 27};
-    private static final int[] DIGIT_6 = {28, 29, 30, 31};
-    private static final int[] DIGIT_7 = {32, 33, 34, 35};
-    private static final int[] DIGIT_8 = {36, 37, 38, 39};
-    private static final int[] DIGIT_9 = {40, 41, 42, 43};
-    private static final int[] DIGIT_10 = {44, 45, 46, 47};
-    private static final int[] TARGET_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-        65, 66, 67, 68, 69, 70, 71};
+    private static final IntField DIGIT_1 = IntField.range(8, 11);
+    private static final IntField DIGIT_2 = IntField.range(12, 15);
+    private static final IntField DIGIT_3 = IntField.range(16, 19);
+    private static final IntField DIGIT_4 = IntField.range(20, 23);
+    private static final IntField DIGIT_5 = IntField.range(24, 27);
+    private static final IntField DIGIT_6 = IntField.range(28, 31);
+    private static final IntField DIGIT_7 = IntField.range(32, 35);
+    private static final IntField DIGIT_8 = IntField.range(36, 39);
+    private static final IntField DIGIT_9 = IntField.range(40, 43);
+    private static final IntField DIGIT_10 = IntField.range(44, 47);
+    private static final IntField TARGET_ADDRESS = IntField.range(48, 71);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25FullyQualifiedRadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -37,14 +38,11 @@ import java.util.List;
  */
 public class UnitToUnitAnswerRequestExtended extends MacStructure
 {
-    private static final int[] SERVICE_OPTIONS = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] TARGET_ADDRESS = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32,
-        33, 34, 35, 36, 37, 38, 39};
-    private static final int[] FULLY_QUALIFIED_SOURCE_WACN = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53,
-        54, 55, 56, 57, 58, 59};
-    private static final int[] FULLY_QUALIFIED_SOURCE_SYSTEM = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] FULLY_QUALIFIED_SOURCE_ID = {72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86,
-        87, 88, 89, 90, 91, 92, 93, 94, 95};
+    private static final IntField SERVICE_OPTIONS = IntField.range(8, 15);
+    private static final IntField TARGET_ADDRESS = IntField.range(16, 39);
+    private static final IntField FULLY_QUALIFIED_SOURCE_WACN = IntField.range(40, 59);
+    private static final IntField FULLY_QUALIFIED_SOURCE_SYSTEM = IntField.range(60, 71);
+    private static final IntField FULLY_QUALIFIED_SOURCE_ID = IntField.range(72, 95);
 
     private List<Identifier> mIdentifiers;
     private VoiceServiceOptions mServiceOptions;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import io.github.dsheirer.bits.IntField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -38,14 +39,13 @@ import java.util.List;
  */
 public class UnitToUnitVoiceChannelGrantUpdateAbbreviated extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] FREQUENCY_BAND = {8, 9, 10, 11};
-    private static final int[] CHANNEL_NUMBER = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] TARGET_ADDRESS = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33,
-        34, 35, 36, 37, 38, 39};
-    private static final int[] SOURCE_ADDRESS = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56, 57,
-        58, 59, 60, 61, 62, 63};
+    private static final IntField FREQUENCY_BAND = IntField.range(8, 11);
+    private static final IntField CHANNEL_NUMBER = IntField.range(12, 23);
+    private static final IntField TARGET_ADDRESS = IntField.range(16, 39);
+    private static final IntField SOURCE_ADDRESS = IntField.range(40, 63);
 
     private List<Identifier> mIdentifiers;
+    private List<IChannelDescriptor> mChannels;
     private APCO25Channel mChannel;
     private Identifier mTargetAddress;
     private Identifier mSourceAddress;
@@ -131,8 +131,12 @@ public class UnitToUnitVoiceChannelGrantUpdateAbbreviated extends MacStructure i
     @Override
     public List<IChannelDescriptor> getChannels()
     {
-        List<IChannelDescriptor> channels = new ArrayList<>();
-        channels.add(getChannel());
-        return channels;
+        if(mChannels == null)
+        {
+            mChannels = new ArrayList<>();
+            mChannels.add(getChannel());
+        }
+
+        return mChannels;
     }
 }
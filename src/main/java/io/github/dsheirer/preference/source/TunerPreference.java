@@ -36,8 +36,12 @@ public class TunerPreference extends Preference
     private final static Logger mLog = LoggerFactory.getLogger(TunerPreference.class);
     private Preferences mPreferences = Preferences.userNodeForPackage(TunerPreference.class);
     private static final String PREFERENCE_KEY_CHANNELIZER_TYPE = "channelizer.type";
+    private static final String PREFERENCE_KEY_SHARED_OUTPUT_SCHEDULING = "polyphase.shared.output.scheduling";
+    private static final String PREFERENCE_KEY_DIRECT_SAMPLE_CONVERSION = "usb.direct.sample.conversion";
 
     private ChannelizerType mChannelizerType;
+    private Boolean mSharedOutputSchedulingEnabled;
+    private Boolean mDirectSampleConversionEnabled;
 
     /**
      * Constructs a tuner preference with the update listener
@@ -95,4 +99,54 @@ public class TunerPreference extends Preference
         mPreferences.put(PREFERENCE_KEY_CHANNELIZER_TYPE, mChannelizerType.name());
         notifyPreferenceUpdated();
     }
+
+    /**
+     * Indicates if polyphase channelizer channel outputs are serviced by a shared pool of worker threads instead of a
+     * dedicated thread per channel.
+     */
+    public boolean isSharedOutputSchedulingEnabled()
+    {
+        if(mSharedOutputSchedulingEnabled == null)
+        {
+            mSharedOutputSchedulingEnabled = mPreferences.getBoolean(PREFERENCE_KEY_SHARED_OUTPUT_SCHEDULING, false);
+        }
+
+        return mSharedOutputSchedulingEnabled;
+    }
+
+    /**
+     * Sets the shared output scheduling preference for polyphase channelizer channel outputs.  Changes are applied the
+     * next time the tuner is started.
+     */
+    public void setSharedOutputSchedulingEnabled(boolean enabled)
+    {
+        mSharedOutputSchedulingEnabled = enabled;
+        mPreferences.putBoolean(PREFERENCE_KEY_SHARED_OUTPUT_SCHEDULING, enabled);
+        notifyPreferenceUpdated();
+    }
+
+    /**
+     * Indicates if 8-bit USB tuners (RTL-SDR and HackRF) convert raw samples to float samples directly from the USB
+     * transfer buffers.
+     */
+    public boolean isDirectSampleConversionEnabled()
+    {
+        if(mDirectSampleConversionEnabled == null)
+        {
+            mDirectSampleConversionEnabled = mPreferences.getBoolean(PREFERENCE_KEY_DIRECT_SAMPLE_CONVERSION, false);
+        }
+
+        return mDirectSampleConversionEnabled;
+    }
+
+    /**
+     * Sets the direct sample conversion preference for 8-bit USB tuners.  Changes are applied the next time the
+     * application is started.
+     */
+    public void setDirectSampleConversionEnabled(boolean enabled)
+    {
+        mDirectSampleConversionEnabled = enabled;
+        mPreferences.putBoolean(PREFERENCE_KEY_DIRECT_SAMPLE_CONVERSION, enabled);
+        notifyPreferenceUpdated();
+    }
 }
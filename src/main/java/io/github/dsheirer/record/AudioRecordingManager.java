@@ -76,7 +76,7 @@ public class AudioRecordingManager implements Listener<AudioSegment>
     {
         if(mQueueProcessorHandle == null)
         {
-            mQueueProcessorHandle = ThreadPool.SCHEDULED.scheduleAtFixedRate(new QueueProcessor(),
+            mQueueProcessorHandle = ThreadPool.DISK_IO.scheduleAtFixedRate(new QueueProcessor(),
                 0, 1, TimeUnit.SECONDS);
         }
     }
@@ -27,6 +27,7 @@ import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
 import io.github.dsheirer.source.ISourceEventListener;
 import io.github.dsheirer.source.SourceEvent;
 import io.github.dsheirer.util.Dispatcher;
+import io.github.dsheirer.util.WaitStrategy;
 import io.github.dsheirer.util.ThreadPool;
 import io.github.dsheirer.util.TimeStamp;
 import org.slf4j.Logger;
@@ -47,7 +48,7 @@ public class NativeBufferWaveRecorder extends Module implements Listener<INative
     private final static Logger mLog = LoggerFactory.getLogger(ComplexSamplesWaveRecorder.class);
 
     private Dispatcher<INativeBuffer> mBufferProcessor = new Dispatcher<>(500,
-            "sdrtrunk-native buffer wave recorder", new NativeBufferPoisonPill());
+            "sdrtrunk-native buffer wave recorder", new NativeBufferPoisonPill(), WaitStrategy.PARK);
 
     private AtomicBoolean mRunning = new AtomicBoolean();
     private INativeBufferWaveWriter mWriter;
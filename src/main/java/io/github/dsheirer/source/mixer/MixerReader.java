@@ -157,7 +157,7 @@ public class MixerReader<T> implements Runnable
                 mScheduledFuture = null;
             }
 
-            mScheduledFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(this,
+            mScheduledFuture = ThreadPool.SAMPLE_IO.scheduleAtFixedRate(this,
                 0, BUFFER_PROCESSING_INTERVAL_MS, TimeUnit.MILLISECONDS);
         }
         else
@@ -31,6 +31,7 @@ import io.github.dsheirer.source.tuner.TunerEvent.Event;
 import io.github.dsheirer.source.tuner.manager.ChannelSourceManager;
 import io.github.dsheirer.source.tuner.manager.HeterodyneChannelSourceManager;
 import io.github.dsheirer.source.tuner.manager.PolyphaseChannelSourceManager;
+import io.github.dsheirer.source.tuner.usb.USBTunerController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,10 +71,17 @@ public abstract class Tuner implements ISourceEventProcessor, ITunerErrorListene
     {
         this(name, tunerController);
 
+        if(tunerController instanceof USBTunerController usbTunerController)
+        {
+            usbTunerController.setDirectConversionEnabled(userPreferences.getTunerPreference()
+                .isDirectSampleConversionEnabled());
+        }
+
         ChannelizerType channelizerType = userPreferences.getTunerPreference().getChannelizerType();
         if(channelizerType == ChannelizerType.POLYPHASE)
         {
-            setChannelSourceManager(new PolyphaseChannelSourceManager(mTunerController));
+            setChannelSourceManager(new PolyphaseChannelSourceManager(mTunerController,
+                userPreferences.getTunerPreference().isSharedOutputSchedulingEnabled()));
         }
         else if(channelizerType == ChannelizerType.HETERODYNE)
         {
@@ -105,7 +105,7 @@ public class TunerFrequencyErrorMonitor implements Listener<SourceEvent>
     {
         if(mTimerHandle == null)
         {
-            mTimerHandle = ThreadPool.SCHEDULED.scheduleAtFixedRate(new Processor(), 0,
+            mTimerHandle = ThreadPool.DSP.scheduleAtFixedRate(new Processor(), 0,
                 PROCESSING_INTERVAL_SECONDS, TimeUnit.SECONDS);
         }
     }
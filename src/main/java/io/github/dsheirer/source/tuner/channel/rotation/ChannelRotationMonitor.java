@@ -184,7 +184,7 @@ public class ChannelRotationMonitor extends Module implements ISourceEventProvid
                 }
             };
 
-            mScheduledFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(runnable, mRotationDelay,
+            mScheduledFuture = ThreadPool.DSP.scheduleAtFixedRate(runnable, mRotationDelay,
                 mRotationDelay / 2, TimeUnit.MILLISECONDS);
         }
     }
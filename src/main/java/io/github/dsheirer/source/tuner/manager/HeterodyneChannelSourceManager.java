@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.source.tuner.manager;
 
+import io.github.dsheirer.buffer.NativeBufferConverter;
 import io.github.dsheirer.buffer.NativeSampleDelayBuffer;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.sample.Listener;
@@ -45,12 +46,19 @@ public class HeterodyneChannelSourceManager extends ChannelSourceManager
 
     private final static int DELAY_BUFFER_DURATION_MILLISECONDS = 2000;
 
+    /**
+     * Number of converted buffers to retain for reuse beyond the buffers held by the delay buffer, to cover the
+     * buffers that are queued for processing by the channels.
+     */
+    private final static int CONVERTED_BUFFER_POOL_MARGIN = 32;
+
 //    private List<CICTunerChannelSource> mChannelSources = new CopyOnWriteArrayList<>();
     private List<HalfBandTunerChannelSource> mChannelSources = new CopyOnWriteArrayList<>();
     private SortedSet<TunerChannel> mTunerChannels = new TreeSet<>();
     private TunerController mTunerController;
     private ChannelSourceEventProcessor mChannelSourceEventProcessor = new ChannelSourceEventProcessor();
     private NativeSampleDelayBuffer mSampleDelayBuffer;
+    private NativeBufferConverter mNativeBufferConverter;
 
     public HeterodyneChannelSourceManager(TunerController tunerController)
     {
@@ -212,7 +220,8 @@ public class HeterodyneChannelSourceManager extends ChannelSourceManager
 
     /**
      * Creates a complex sample delay buffer and registers it with the tuner controller to start the flow
-     * of complex sample buffers from the tuner.
+     * of complex sample buffers from the tuner.  Native buffers are converted to complex samples once, ahead of the
+     * delay buffer, and the converted samples are shared by all channels.
      */
     private void startDelayBuffer()
     {
@@ -220,7 +229,9 @@ public class HeterodyneChannelSourceManager extends ChannelSourceManager
         {
             int delayBufferSize = (int)(DELAY_BUFFER_DURATION_MILLISECONDS / mTunerController.getBufferDuration());
             mSampleDelayBuffer = new NativeSampleDelayBuffer(delayBufferSize, mTunerController.getBufferDuration());
-            mTunerController.addBufferListener(mSampleDelayBuffer);
+            mNativeBufferConverter = new NativeBufferConverter(delayBufferSize + CONVERTED_BUFFER_POOL_MARGIN,
+                    mSampleDelayBuffer);
+            mTunerController.addBufferListener(mNativeBufferConverter);
         }
     }
 
@@ -231,9 +242,13 @@ public class HeterodyneChannelSourceManager extends ChannelSourceManager
     {
         if(mSampleDelayBuffer != null && !mSampleDelayBuffer.hasListeners())
         {
-            mTunerController.removeBufferListener(mSampleDelayBuffer);
+            mTunerController.removeBufferListener(mNativeBufferConverter);
             mSampleDelayBuffer.dispose();
             mSampleDelayBuffer = null;
+            mLog.debug("Converted native buffer pool - hits [" + mNativeBufferConverter.getPool().getHitCount() +
+                    "] misses [" + mNativeBufferConverter.getPool().getMissCount() + "]");
+            mNativeBufferConverter.dispose();
+            mNativeBufferConverter = null;
         }
     }
 
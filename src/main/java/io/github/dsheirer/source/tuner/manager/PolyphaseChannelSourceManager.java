@@ -54,6 +54,19 @@ public class PolyphaseChannelSourceManager extends ChannelSourceManager
         mTunerController.addListener(mPolyphaseChannelManager);
     }
 
+    /**
+     * Constructs an instance with optional shared output scheduling, where all channel outputs are serviced by a
+     * small pool of worker threads instead of a dedicated thread per channel.
+     *
+     * @param tunerController with a center tuned frequency that will be managed by this instance
+     * @param sharedOutputScheduling true to enable shared output scheduling
+     */
+    public PolyphaseChannelSourceManager(TunerController tunerController, boolean sharedOutputScheduling)
+    {
+        this(tunerController);
+        mPolyphaseChannelManager.setSharedOutputSchedulingEnabled(sharedOutputScheduling);
+    }
+
     /**
      * Indicates if the channel min/max frequencies are within the tunable frequency range of the tuner controller
      *
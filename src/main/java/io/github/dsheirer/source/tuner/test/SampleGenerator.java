@@ -86,7 +86,7 @@ public class SampleGenerator
     {
         if(mScheduledFuture == null)
         {
-            mScheduledFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(new Generator(), 0, mInterval,
+            mScheduledFuture = ThreadPool.SAMPLE_IO.scheduleAtFixedRate(new Generator(), 0, mInterval,
                 TimeUnit.MILLISECONDS);
         }
         else
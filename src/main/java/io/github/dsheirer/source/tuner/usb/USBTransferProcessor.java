@@ -20,6 +20,7 @@ package io.github.dsheirer.source.tuner.usb;
 
 import io.github.dsheirer.buffer.INativeBuffer;
 import io.github.dsheirer.buffer.INativeBufferFactory;
+import io.github.dsheirer.buffer.IReferenceCountedBuffer;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.source.tuner.ITunerErrorListener;
 import io.github.dsheirer.source.tuner.TunerManager;
@@ -91,10 +92,22 @@ public class USBTransferProcessor implements TransferCallback
         mDeviceName = deviceName;
         mUsbBulkTransferDeviceHandle = usbBulkTransferDeviceHandle;
         mNativeBufferFactory = nativeBufferFactory;
+        //This processor releases its hold on each native buffer after dispatch, so pooled buffers can be recycled
+        mNativeBufferFactory.setBufferPoolingEnabled(true);
         mBufferSize = bufferSize;
         mITunerErrorListener = tunerErrorListener;
     }
 
+    /**
+     * Enables or disables direct conversion of the raw samples in the USB transfer buffers to float samples.  The
+     * conversion completes before each transfer is resubmitted, removing the copy of the raw samples into a heap array.
+     * @param enabled true to enable direct conversion, if supported by the native buffer factory.
+     */
+    public void setDirectConversionEnabled(boolean enabled)
+    {
+        mNativeBufferFactory.setDirectConversionEnabled(enabled);
+    }
+
     /**
      * Modifies the usb transfer buffer size used for transfering native byte buffers from the
      * USB device.  Note: changing the buffer size while the transfer processor is running causes
@@ -139,7 +152,7 @@ public class USBTransferProcessor implements TransferCallback
             {
                 success = true;
                 //Start transferred buffer dispatcher
-                mBufferDispatcherFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(mCompletedTransferProcessor,
+                mBufferDispatcherFuture = ThreadPool.SAMPLE_IO.scheduleAtFixedRate(mCompletedTransferProcessor,
                     0, 6, TimeUnit.MILLISECONDS);
 
                 //Register with LibUSB processor so that it auto-starts LibUSB processing
@@ -199,6 +212,13 @@ public class USBTransferProcessor implements TransferCallback
 
             executeDeviceStop();
 
+            String poolMetrics = mNativeBufferFactory.getBufferPoolMetrics();
+
+            if(poolMetrics != null)
+            {
+                mLog.info("[" + mDeviceName + "] - " + poolMetrics);
+            }
+
             disposeTransfers();
         }
     }
@@ -246,7 +266,7 @@ public class USBTransferProcessor implements TransferCallback
                 }
             };
 
-            ThreadPool.SCHEDULED.schedule(runnable, 20, TimeUnit.MILLISECONDS);
+            ThreadPool.SAMPLE_IO.schedule(runnable, 20, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -559,6 +579,8 @@ public class USBTransferProcessor implements TransferCallback
                             INativeBuffer nativeBuffer = mNativeBufferFactory.getBuffer(transfer.buffer(),
                                     System.currentTimeMillis());
                             mNativeBufferListener.receive(nativeBuffer);
+                            //Release the factory's hold on the buffer - listeners that retain it hold their own count
+                            IReferenceCountedBuffer.decrement(nativeBuffer);
                         }
                     }
 
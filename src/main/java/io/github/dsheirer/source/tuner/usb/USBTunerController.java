@@ -40,6 +40,20 @@ public abstract class USBTunerController extends TunerController
 
     protected abstract USBTransferProcessor getUSBTransferProcessor();
 
+    /**
+     * Enables or disables direct conversion of the raw samples from the USB transfer buffers to float samples.
+     * @param enabled true to enable direct conversion, if supported by the tuner's sample format.
+     */
+    public void setDirectConversionEnabled(boolean enabled)
+    {
+        USBTransferProcessor processor = getUSBTransferProcessor();
+
+        if(processor != null)
+        {
+            processor.setDirectConversionEnabled(enabled);
+        }
+    }
+
     /**
      * Adds the IQ buffer listener and automatically starts buffer transfer processing, if not already started.
      */
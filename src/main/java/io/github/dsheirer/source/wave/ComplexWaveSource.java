@@ -141,7 +141,7 @@ public class ComplexWaveSource extends Source implements IControllableFileSource
         {
             long intervalMilliseconds = 50; //20 intervals per second
             double framesPerInterval = getSampleRate() / 20.0d;
-            mReplayController = ThreadPool.SCHEDULED.scheduleAtFixedRate(new ReplayController(framesPerInterval),
+            mReplayController = ThreadPool.SAMPLE_IO.scheduleAtFixedRate(new ReplayController(framesPerInterval),
                     0, intervalMilliseconds, TimeUnit.MILLISECONDS);
 
 
@@ -20,6 +20,7 @@
 package io.github.dsheirer.spectrum;
 
 import io.github.dsheirer.buffer.INativeBuffer;
+import io.github.dsheirer.buffer.IReferenceCountedBuffer;
 import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
 
 import java.io.IOException;
@@ -42,6 +43,9 @@ import java.util.concurrent.LinkedTransferQueue;
  * is updated on the consumer side with each request.  This class is designed for the get() operation to consistently
  * request the same size buffer, with occasional changes.
  *
+ * Reference counted (pooled) native buffers are held with a user count from the time they are enqueued until they are
+ * either copied in a get() operation or removed by a clear() operation.
+ *
  * @param <T> native buffer
  */
 public class NativeBufferManager<T extends INativeBuffer>
@@ -77,6 +81,7 @@ public class NativeBufferManager<T extends INativeBuffer>
         //Add this buffer to the producer queue if it's needed to meet the anticipated request size
         if(mProducerAvailable < mRequestSize)
         {
+            IReferenceCountedBuffer.increment(nativeBuffer);
             mProducerQueue.add(nativeBuffer);
             mProducerAvailable += nativeBuffer.sampleCount();
         }
@@ -87,9 +92,24 @@ public class NativeBufferManager<T extends INativeBuffer>
      */
     public void clear()
     {
-        mTransferQueue.clear();
-        mProducerQueue.clear();
-        mConsumerQueue.clear();
+        List<T> drained = new ArrayList<>();
+        mTransferQueue.drainTo(drained);
+        release(drained);
+        release(mProducerQueue);
+        release(mConsumerQueue);
+    }
+
+    /**
+     * Releases the user count for each of the buffers and clears the list.
+     */
+    private void release(List<T> buffers)
+    {
+        for(T buffer: buffers)
+        {
+            IReferenceCountedBuffer.decrement(buffer);
+        }
+
+        buffers.clear();
     }
 
     /**
@@ -144,7 +164,7 @@ public class NativeBufferManager<T extends INativeBuffer>
             }
         }
 
-        mConsumerQueue.clear();
+        release(mConsumerQueue);
         return samples;
     }
 }
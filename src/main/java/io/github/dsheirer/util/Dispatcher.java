@@ -18,47 +18,104 @@
  */
 package io.github.dsheirer.util;
 
+import io.github.dsheirer.buffer.IReferenceCountedBuffer;
 import io.github.dsheirer.sample.Listener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Threaded processor for receiving elements from a separate producer thread and forwarding those buffers to a
  * registered listener on this consumer/dispatcher thread.
+ *
+ * The default BLOCKING wait strategy uses a lock-based linked blocking queue that supports multiple producer threads.
+ * The SPIN, YIELD and PARK wait strategies use a lock-free, allocation-free single-producer ring buffer and require
+ * that the receive() method is only invoked by one producer thread at a time.  Overflow handling and poison pill
+ * semantics are the same for all wait strategies.
+ *
+ * Reference counted buffers are held (user count) while they are queued and are released after the listener has
+ * processed them, or when they are discarded.
  */
 public class Dispatcher<E> implements Listener<E>
 {
     private final static Logger mLog = LoggerFactory.getLogger(Dispatcher.class);
     private static final long OVERFLOW_LOG_EVENT_WAIT_PERIOD = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * Maximum park duration for the PARK wait strategy, as a safeguard against a missed unpark signal
+     */
+    private static final long MAXIMUM_PARK_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private LinkedBlockingQueue<E> mQueue;
+    private SpscRingBuffer<E> mRingBuffer;
+    private WaitStrategy mWaitStrategy;
     private Listener<E> mListener;
     private AtomicBoolean mRunning = new AtomicBoolean();
+    private volatile boolean mFlushRequested;
+    private volatile boolean mConsumerParked;
     private String mThreadName;
-    private Thread mThread;
+    private volatile Thread mThread;
     private E mPoisonPill;
     private long mLastOverflowLogEvent;
 
     /**
-     * Constructs an instance
+     * Constructs an instance that uses the BLOCKING wait strategy.
      * @param maxSize of the internal queue
      * @param threadName to name the dispatcher thread
      * @param poisonPill of type E, used to kill the thread
      */
     public Dispatcher(int maxSize, String threadName, E poisonPill)
+    {
+        this(maxSize, threadName, poisonPill, WaitStrategy.BLOCKING);
+    }
+
+    /**
+     * Constructs an instance
+     * @param maxSize of the internal queue.  Ring buffer sizes are rounded up to the next power of two.
+     * @param threadName to name the dispatcher thread
+     * @param poisonPill of type E, used to kill the thread
+     * @param waitStrategy for the dispatcher thread when the queue is empty
+     */
+    public Dispatcher(int maxSize, String threadName, E poisonPill, WaitStrategy waitStrategy)
     {
         if(poisonPill == null)
         {
             throw new IllegalArgumentException("Poison pill must be non-null");
         }
-        mQueue = new LinkedBlockingQueue<>(maxSize);
+
+        if(waitStrategy == null)
+        {
+            throw new IllegalArgumentException("Wait strategy must be non-null");
+        }
+
+        mWaitStrategy = waitStrategy;
+
+        if(waitStrategy.isRingBuffer())
+        {
+            mRingBuffer = new SpscRingBuffer<>(maxSize);
+        }
+        else
+        {
+            mQueue = new LinkedBlockingQueue<>(maxSize);
+        }
+
         mThreadName = threadName;
         mPoisonPill = poisonPill;
     }
 
+    /**
+     * Wait strategy used by this dispatcher
+     */
+    public WaitStrategy getWaitStrategy()
+    {
+        return mWaitStrategy;
+    }
+
     /**
      * Listener to receive the queued buffers each time this processor runs.
      */
@@ -87,7 +144,7 @@ public class Dispatcher<E> implements Listener<E>
     {
         if(mRunning.get())
         {
-            if(!mQueue.offer(e))
+            if(!offer(e))
             {
                 if(System.currentTimeMillis() > (mLastOverflowLogEvent + OVERFLOW_LOG_EVENT_WAIT_PERIOD))
                 {
@@ -98,14 +155,62 @@ public class Dispatcher<E> implements Listener<E>
         }
     }
 
+    /**
+     * Adds the element to the queue or ring buffer and wakes the dispatcher thread if it is parked.
+     * @return true if the element was queued or false if the queue is full
+     */
+    private boolean offer(E e)
+    {
+        //Hold reference counted buffers while they are queued - released after dispatch or when discarded
+        IReferenceCountedBuffer.increment(e);
+
+        if(mRingBuffer == null)
+        {
+            if(mQueue.offer(e))
+            {
+                return true;
+            }
+
+            IReferenceCountedBuffer.decrement(e);
+            return false;
+        }
+
+        boolean queued = mRingBuffer.offer(e);
+
+        if(!queued)
+        {
+            IReferenceCountedBuffer.decrement(e);
+        }
+
+        if(queued && mWaitStrategy == WaitStrategy.PARK)
+        {
+            //Order the ring buffer publish ahead of the parked flag read, so that we don't miss a parking consumer
+            VarHandle.fullFence();
+
+            if(mConsumerParked)
+            {
+                LockSupport.unpark(mThread);
+            }
+        }
+
+        return queued;
+    }
+
     /**
      * Starts this buffer processor and allows queuing of incoming buffers.
      */
     public void start()
     {
+        if(!mRunning.get())
+        {
+            //Discard any elements left over from a previous run before we start accepting new elements
+            clearQueue();
+        }
+
         if(mRunning.compareAndSet(false, true))
         {
-            mThread = new Thread(new Processor());
+            mFlushRequested = false;
+            mThread = new Thread(mRingBuffer != null ? new RingBufferProcessor() : new Processor());
             mThread.setName(mThreadName);
             mThread.setPriority(Thread.MAX_PRIORITY);
             mThread.start();
@@ -119,11 +224,20 @@ public class Dispatcher<E> implements Listener<E>
     {
         if(mRunning.compareAndSet(true, false))
         {
-            mQueue.offer(mPoisonPill);
+            Thread thread = mThread;
+
+            if(mRingBuffer != null)
+            {
+                LockSupport.unpark(thread);
+            }
+            else
+            {
+                mQueue.offer(mPoisonPill);
+            }
 
             try
             {
-                mThread.join(2000);
+                thread.join(2000);
                 mThread = null;
             }
             catch(Exception e)
@@ -138,7 +252,15 @@ public class Dispatcher<E> implements Listener<E>
      */
     public void flushAndStop()
     {
-        mQueue.offer(mPoisonPill);
+        if(mRingBuffer != null)
+        {
+            mFlushRequested = true;
+            LockSupport.unpark(mThread);
+        }
+        else
+        {
+            mQueue.offer(mPoisonPill);
+        }
     }
 
     /**
@@ -149,6 +271,46 @@ public class Dispatcher<E> implements Listener<E>
         return mRunning.get();
     }
 
+    /**
+     * Dispatches the element to the listener, or stops the processor when the element is the poison pill.
+     */
+    private void dispatch(E element)
+    {
+        if(mPoisonPill.equals(element))
+        {
+            mRunning.set(false);
+        }
+        else if(element != null)
+        {
+            try
+            {
+                if(mListener == null)
+                {
+                    throw new IllegalStateException("Listener for [" + mThreadName + "] is null");
+                }
+                mListener.receive(element);
+            }
+            finally
+            {
+                IReferenceCountedBuffer.decrement(element);
+            }
+        }
+    }
+
+    /**
+     * Removes all queued elements, releasing the hold on any reference counted buffers.
+     */
+    private void clearQueue()
+    {
+        E element = mRingBuffer != null ? mRingBuffer.poll() : mQueue.poll();
+
+        while(element != null)
+        {
+            IReferenceCountedBuffer.decrement(element);
+            element = mRingBuffer != null ? mRingBuffer.poll() : mQueue.poll();
+        }
+    }
+
     /**
      * Processor to service the buffer queue and distribute the buffers to the registered listener
      */
@@ -157,28 +319,11 @@ public class Dispatcher<E> implements Listener<E>
         @Override
         public void run()
         {
-            mQueue.clear();
-
-            E element;
-
             while(mRunning.get())
             {
                 try
                 {
-                    element = mQueue.take();
-
-                    if(mPoisonPill.equals(element))
-                    {
-                        mRunning.set(false);
-                    }
-                    else if(element != null)
-                    {
-                        if(mListener == null)
-                        {
-                            throw new IllegalStateException("Listener for [" + mThreadName + "] is null");
-                        }
-                        mListener.receive(element);
-                    }
+                    dispatch(mQueue.take());
                 }
                 catch(InterruptedException e)
                 {
@@ -190,7 +335,78 @@ public class Dispatcher<E> implements Listener<E>
                 }
             }
 
-            mQueue.clear();
+            clearQueue();
+        }
+    }
+
+    /**
+     * Processor to service the single-producer ring buffer and distribute the buffers to the registered listener,
+     * using the configured wait strategy while the ring buffer is empty.
+     */
+    class RingBufferProcessor implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            while(mRunning.get())
+            {
+                E element = mRingBuffer.poll();
+
+                if(element == null)
+                {
+                    if(mFlushRequested)
+                    {
+                        mRunning.set(false);
+                    }
+                    else
+                    {
+                        await();
+                    }
+                }
+                else
+                {
+                    try
+                    {
+                        dispatch(element);
+                    }
+                    catch(Exception e)
+                    {
+                        mLog.error("Error while processing element", e);
+                    }
+                }
+            }
+
+            clearQueue();
+        }
+
+        /**
+         * Waits for an element using the configured wait strategy
+         */
+        private void await()
+        {
+            switch(mWaitStrategy)
+            {
+                case SPIN:
+                    Thread.onSpinWait();
+                    break;
+                case YIELD:
+                    Thread.yield();
+                    break;
+                case PARK:
+                default:
+                    mConsumerParked = true;
+
+                    //Order the parked flag write ahead of the ring buffer read - see offer()
+                    VarHandle.fullFence();
+
+                    if(mRingBuffer.isEmpty() && mRunning.get() && !mFlushRequested)
+                    {
+                        LockSupport.parkNanos(MAXIMUM_PARK_NANOSECONDS);
+                    }
+
+                    mConsumerParked = false;
+                    break;
+            }
         }
     }
 }
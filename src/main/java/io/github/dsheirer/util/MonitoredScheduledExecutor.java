@@ -0,0 +1,186 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.util;
+
+import io.github.dsheirer.controller.NamingThreadFactory;
+
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named, fixed size scheduled executor that tracks queue depth and task latency metrics.
+ *
+ * Task latency is the time between when a task was due to run and when a worker thread started running it, which
+ * indicates whether the executor is sized adequately for the subsystem that it serves.  Task run time is also tracked
+ * so that slow (e.g. blocking I/O) tasks can be identified.
+ */
+public class MonitoredScheduledExecutor extends ScheduledThreadPoolExecutor
+{
+    private final String mName;
+    private final ThreadLocal<Long> mTaskStart = new ThreadLocal<>();
+    private final LongAdder mCompletedTaskCount = new LongAdder();
+    private final LongAdder mTotalLatencyNanos = new LongAdder();
+    private final AtomicLong mMaxLatencyNanos = new AtomicLong();
+    private final LongAdder mTotalRunNanos = new LongAdder();
+    private final AtomicLong mMaxRunNanos = new AtomicLong();
+    private final AtomicLong mMaxQueueDepth = new AtomicLong();
+
+    /**
+     * Constructs an instance
+     * @param name of the executor, also used to name the worker threads
+     * @param threadCount number of worker threads
+     * @param threadPriority for the worker threads
+     */
+    public MonitoredScheduledExecutor(String name, int threadCount, int threadPriority)
+    {
+        super(threadCount, new NamingThreadFactory("sdrtrunk " + name, threadPriority));
+        mName = name;
+        setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Name of this executor
+     */
+    public String getName()
+    {
+        return mName;
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable)
+    {
+        super.beforeExecute(thread, runnable);
+
+        if(runnable instanceof RunnableScheduledFuture<?> future)
+        {
+            //A negative delay indicates how late the task is in starting
+            long latency = -future.getDelay(TimeUnit.NANOSECONDS);
+
+            if(latency > 0)
+            {
+                mTotalLatencyNanos.add(latency);
+                updateMaximum(mMaxLatencyNanos, latency);
+            }
+        }
+
+        updateMaximum(mMaxQueueDepth, getQueue().size());
+        mTaskStart.set(System.nanoTime());
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable)
+    {
+        Long start = mTaskStart.get();
+
+        if(start != null)
+        {
+            long runTime = System.nanoTime() - start;
+            mTotalRunNanos.add(runTime);
+            updateMaximum(mMaxRunNanos, runTime);
+        }
+
+        mCompletedTaskCount.increment();
+        super.afterExecute(runnable, throwable);
+    }
+
+    /**
+     * Updates the maximum value when the value exceeds the current maximum
+     */
+    private static void updateMaximum(AtomicLong maximum, long value)
+    {
+        long current = maximum.get();
+
+        while(value > current && !maximum.compareAndSet(current, value))
+        {
+            current = maximum.get();
+        }
+    }
+
+    /**
+     * Number of tasks (including waiting scheduled and periodic tasks) in the queue
+     */
+    public int getQueueDepth()
+    {
+        return getQueue().size();
+    }
+
+    /**
+     * Largest observed queue depth
+     */
+    public long getMaxQueueDepth()
+    {
+        return mMaxQueueDepth.get();
+    }
+
+    /**
+     * Number of task executions, including each execution of a periodic task
+     */
+    public long getTaskExecutionCount()
+    {
+        return mCompletedTaskCount.sum();
+    }
+
+    /**
+     * Average task start latency in milliseconds
+     */
+    public double getAverageLatencyMilliseconds()
+    {
+        long count = mCompletedTaskCount.sum();
+        return count > 0 ? mTotalLatencyNanos.sum() / (double)count / 1E6 : 0.0;
+    }
+
+    /**
+     * Largest observed task start latency in milliseconds
+     */
+    public double getMaxLatencyMilliseconds()
+    {
+        return mMaxLatencyNanos.get() / 1E6;
+    }
+
+    /**
+     * Average task run time in milliseconds
+     */
+    public double getAverageRunTimeMilliseconds()
+    {
+        long count = mCompletedTaskCount.sum();
+        return count > 0 ? mTotalRunNanos.sum() / (double)count / 1E6 : 0.0;
+    }
+
+    /**
+     * Largest observed task run time in milliseconds
+     */
+    public double getMaxRunTimeMilliseconds()
+    {
+        return mMaxRunNanos.get() / 1E6;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Executor [" + mName + "] threads [" + getCorePoolSize() + "] active [" + getActiveCount() +
+            "] queued [" + getQueueDepth() + "] max queued [" + getMaxQueueDepth() + "] executions [" +
+            getTaskExecutionCount() + "] latency ms avg/max [" + String.format("%.2f/%.2f",
+            getAverageLatencyMilliseconds(), getMaxLatencyMilliseconds()) + "] run ms avg/max [" +
+            String.format("%.2f/%.2f", getAverageRunTimeMilliseconds(), getMaxRunTimeMilliseconds()) + "]";
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free, single-producer/single-consumer ring buffer.
+ *
+ * The offer() method must only be invoked by a single producer thread and the poll() and clear() methods must only be
+ * invoked by a single consumer thread.  Elements are published with ordered (release) writes, and each side caches
+ * the other side's index so that the other side's index is only read when the cached value indicates that the buffer
+ * is full or empty.  Offering and polling elements does not allocate.
+ */
+public class SpscRingBuffer<E>
+{
+    private final Object[] mElements;
+    private final int mMask;
+    private final AtomicLong mHead = new AtomicLong();
+    private final AtomicLong mTail = new AtomicLong();
+
+    //Producer thread cached copy of the head index
+    private long mProducerCachedHead;
+
+    //Consumer thread cached copy of the tail index
+    private long mConsumerCachedTail;
+
+    /**
+     * Constructs an instance
+     * @param capacity of the ring buffer, rounded up to the next power of two
+     */
+    public SpscRingBuffer(int capacity)
+    {
+        if(capacity < 1 || capacity > (1 << 30))
+        {
+            throw new IllegalArgumentException("Capacity must be in range 1 - 2^30");
+        }
+
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mElements = new Object[size];
+        mMask = size - 1;
+    }
+
+    /**
+     * Adds the element to the ring buffer.  Producer thread only.
+     * @param element to add
+     * @return true if the element was added or false if the ring buffer is full
+     */
+    public boolean offer(E element)
+    {
+        long tail = mTail.get();
+
+        if(tail - mProducerCachedHead >= mElements.length)
+        {
+            mProducerCachedHead = mHead.get();
+
+            if(tail - mProducerCachedHead >= mElements.length)
+            {
+                return false;
+            }
+        }
+
+        mElements[(int)(tail & mMask)] = element;
+        mTail.lazySet(tail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the next element from the ring buffer.  Consumer thread only.
+     * @return next element or null if the ring buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll()
+    {
+        long head = mHead.get();
+
+        if(head >= mConsumerCachedTail)
+        {
+            mConsumerCachedTail = mTail.get();
+
+            if(head >= mConsumerCachedTail)
+            {
+                return null;
+            }
+        }
+
+        int index = (int)(head & mMask);
+        E element = (E)mElements[index];
+        mElements[index] = null;
+        mHead.lazySet(head + 1);
+        return element;
+    }
+
+    /**
+     * Removes all elements from the ring buffer.  Consumer thread only.
+     */
+    public void clear()
+    {
+        while(poll() != null)
+        {
+            //Discard
+        }
+    }
+
+    /**
+     * Indicates if the ring buffer is empty.  Safe to invoke from any thread, but the value is an estimate when the
+     * producer or consumer is active.
+     */
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Number of elements in the ring buffer.  Safe to invoke from any thread, but the value is an estimate when the
+     * producer or consumer is active.
+     */
+    public int size()
+    {
+        return (int)Math.max(0, mTail.get() - mHead.get());
+    }
+
+    /**
+     * Capacity of the ring buffer
+     */
+    public int capacity()
+    {
+        return mElements.length;
+    }
+}
@@ -22,18 +22,63 @@ import io.github.dsheirer.controller.NamingThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 
+/**
+ * Application-wide thread pools.
+ *
+ * Each subsystem has its own named and sized scheduled executor so that slow or blocking work in one subsystem (e.g.
+ * audio line writes or disk and network I/O) can't delay the tuner sample processing path.  Each executor tracks queue
+ * depth and task latency metrics.  The SCHEDULED executor is retained for general, non-critical housekeeping tasks.
+ */
 public class ThreadPool
 {
     private final static Logger mLog = LoggerFactory.getLogger(ThreadPool.class);
-    public static ScheduledExecutorService SCHEDULED =
-            Executors.newScheduledThreadPool(2, new NamingThreadFactory("sdrtrunk scheduled"));
+
+    /**
+     * Tuner sample I/O: USB transfer processing and sample file/mixer readers.
+     */
+    public static final MonitoredScheduledExecutor SAMPLE_IO =
+            new MonitoredScheduledExecutor("sample io", 4, Thread.MAX_PRIORITY);
+
+    /**
+     * DSP and channel housekeeping: frequency error monitoring, channel rotation and delayed channel starts.
+     */
+    public static final MonitoredScheduledExecutor DSP =
+            new MonitoredScheduledExecutor("dsp housekeeping", 2, Thread.NORM_PRIORITY);
+
+    /**
+     * Audio playback, audio conversion and duplicate call detection.
+     */
+    public static final MonitoredScheduledExecutor AUDIO =
+            new MonitoredScheduledExecutor("audio", 4, Thread.NORM_PRIORITY);
+
+    /**
+     * Network audio streaming and broadcasting.
+     */
+    public static final MonitoredScheduledExecutor NETWORK =
+            new MonitoredScheduledExecutor("network", 2, Thread.NORM_PRIORITY);
+
+    /**
+     * Disk I/O: audio recordings and playlist, settings and properties saves.
+     */
+    public static final MonitoredScheduledExecutor DISK_IO =
+            new MonitoredScheduledExecutor("disk io", 1, Thread.NORM_PRIORITY);
+
+    /**
+     * General purpose housekeeping tasks that are not time critical.
+     */
+    public static final MonitoredScheduledExecutor SCHEDULED =
+            new MonitoredScheduledExecutor("scheduled", 2, Thread.NORM_PRIORITY);
+
     public static ExecutorService CACHED =
             Executors.newCachedThreadPool(new NamingThreadFactory("sdrtrunk cached"));
 
+    private static final List<MonitoredScheduledExecutor> EXECUTORS =
+            List.of(SAMPLE_IO, DSP, AUDIO, NETWORK, DISK_IO, SCHEDULED);
+
     /**
      * Application-wide shared thread pools and scheduled executor service.
      */
@@ -41,8 +86,40 @@ public class ThreadPool
     {
     }
 
+    /**
+     * Registered named executors, for metrics.
+     */
+    public static List<MonitoredScheduledExecutor> getExecutors()
+    {
+        return EXECUTORS;
+    }
+
     public static void logSettings()
     {
-        mLog.info("Application thread pool created SCHEDULED and CACHED executors threads");
+        StringBuilder sb = new StringBuilder();
+        sb.append("Application thread pool created CACHED executor and scheduled executors:");
+
+        for(MonitoredScheduledExecutor executor: EXECUTORS)
+        {
+            sb.append(" [").append(executor.getName()).append(":").append(executor.getCorePoolSize()).append("]");
+        }
+
+        mLog.info(sb.toString());
+    }
+
+    /**
+     * Logs the queue depth and task latency metrics for each of the named executors.
+     */
+    public static void logMetrics()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Application thread pool metrics");
+
+        for(MonitoredScheduledExecutor executor: EXECUTORS)
+        {
+            sb.append("\n\t").append(executor);
+        }
+
+        mLog.info(sb.toString());
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.util;
+
+/**
+ * Strategy used by a dispatcher thread to wait for elements when the dispatcher queue is empty.
+ */
+public enum WaitStrategy
+{
+    /**
+     * Lock-based blocking queue where the dispatcher thread blocks until an element arrives.  Supports multiple
+     * producer threads.
+     */
+    BLOCKING,
+
+    /**
+     * Lock-free single-producer ring buffer where the dispatcher thread busy-spins while waiting.  Lowest latency,
+     * but consumes a full CPU core while idle.
+     */
+    SPIN,
+
+    /**
+     * Lock-free single-producer ring buffer where the dispatcher thread yields its time slice while waiting.
+     */
+    YIELD,
+
+    /**
+     * Lock-free single-producer ring buffer where the dispatcher thread parks while waiting and is unparked by the
+     * producer.  Lowest CPU usage of the lock-free strategies.
+     */
+    PARK;
+
+    /**
+     * Indicates if this strategy uses the lock-free single-producer ring buffer
+     */
+    public boolean isRingBuffer()
+    {
+        return this != BLOCKING;
+    }
+}
@@ -24,9 +24,12 @@ import io.github.dsheirer.preference.calibration.VectorCalibrationPreference;
 import io.github.dsheirer.vector.calibrate.airspy.AirspySampleConverterCalibration;
 import io.github.dsheirer.vector.calibrate.airspy.AirspyUnpackedCalibration;
 import io.github.dsheirer.vector.calibrate.airspy.AirspyUnpackedInterleavedCalibration;
+import io.github.dsheirer.vector.calibrate.buffer.ByteSampleConverterCalibration;
 import io.github.dsheirer.vector.calibrate.demodulator.FmDemodulatorCalibration;
 import io.github.dsheirer.vector.calibrate.demodulator.SquelchingFmDemodulatorCalibration;
+import io.github.dsheirer.vector.calibrate.filter.ComplexDecimatingFirFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.FirFilterCalibration;
+import io.github.dsheirer.vector.calibrate.filter.PolyphaseChannelizerFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealDcRemovalCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealHalfBand11TapFilterCalibration;
 import io.github.dsheirer.vector.calibrate.filter.RealHalfBand15TapFilterCalibration;
@@ -99,12 +102,15 @@ public class CalibrationManager
             sInstance.add(new AirspySampleConverterCalibration());
             sInstance.add(new AirspyUnpackedCalibration());
             sInstance.add(new AirspyUnpackedInterleavedCalibration());
+            sInstance.add(new ByteSampleConverterCalibration());
+            sInstance.add(new ComplexDecimatingFirFilterCalibration());
             sInstance.add(new ComplexGainCalibration());
             sInstance.add(new ComplexGainControlCalibration());
             sInstance.add(new ComplexOscillatorCalibration());
             sInstance.add(new ComplexMixerCalibration());
             sInstance.add(new FirFilterCalibration());
             sInstance.add(new FmDemodulatorCalibration());
+            sInstance.add(new PolyphaseChannelizerFilterCalibration());
             sInstance.add(new RealDcRemovalCalibration());
             sInstance.add(new RealHalfBand11TapFilterCalibration());
             sInstance.add(new RealHalfBand15TapFilterCalibration());
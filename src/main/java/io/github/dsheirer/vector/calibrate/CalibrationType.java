@@ -35,13 +35,16 @@ public enum CalibrationType
     AIRSPY_SAMPLE_CONVERTER("Airspy Sample Converter", 1),
     AIRSPY_UNPACKED_INTERLEAVED_ITERATOR("Airspy Unpacked Interleaved Iterator", 1),
     AIRSPY_UNPACKED_ITERATOR("Airspy Unpacked Iterator", 1),
+    BYTE_SAMPLE_CONVERTER("8-Bit Sample Converter", 1),
     DC_REMOVAL_REAL("Real DC Removal Filter", 1),
     FILTER_FIR("FIR Filter", 1),
+    FILTER_FIR_COMPLEX_DECIMATION("Complex Decimating FIR Filter", 1),
     FILTER_HALF_BAND_REAL_11_TAP("Real Half-Band Decimation Filter - 11 Tap", 1),
     FILTER_HALF_BAND_REAL_15_TAP("Real Half-Band Decimation Filter - 15 Tap", 1),
     FILTER_HALF_BAND_REAL_23_TAP("Real Half-Band Decimation Filter - 23 Tap", 1),
     FILTER_HALF_BAND_REAL_63_TAP("Real Half-Band Decimation Filter - 63 Tap", 1),
     FILTER_HALF_BAND_REAL_DEFAULT("Real Half-Band Decimation Filter - Default", 1),
+    FILTER_POLYPHASE_CHANNELIZER("Polyphase Channelizer Filter", 1),
     FM_DEMODULATOR("FM Demodulator", 1),
     GAIN_CONTROL_COMPLEX("Complex Gain Control", 1),
     HILBERT_TRANSFORM("Hilbert Transform", 1),
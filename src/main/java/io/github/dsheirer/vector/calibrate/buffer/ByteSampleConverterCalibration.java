@@ -0,0 +1,232 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.vector.calibrate.buffer;
+
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import jdk.incubator.vector.FloatVector;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Calculates optimal implementation (SCALAR vs VECTOR) for converting 8-bit samples.  Each test converts a heap byte
+ * array buffer to both non-interleaved and interleaved samples, as used by the native buffer iterators, and a direct
+ * byte buffer to non-interleaved samples, as used by the direct USB transfer buffer converter.
+ */
+public class ByteSampleConverterCalibration extends Calibration
+{
+    private static final int BUFFER_SIZE = 131072;
+    private static final int FRAGMENT_SIZE = 2048;
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+
+    /**
+     * Constructs an instance
+     */
+    public ByteSampleConverterCalibration()
+    {
+        super(CalibrationType.BYTE_SAMPLE_CONVERTER);
+    }
+
+    @Override
+    public void calibrate() throws CalibrationException
+    {
+        byte[] random = new byte[BUFFER_SIZE];
+        new Random().nextBytes(random);
+        ByteBuffer heap = ByteBuffer.wrap(random);
+        ByteBuffer direct = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        direct.put(random);
+        direct.rewind();
+
+        ByteSampleConverter scalar = ByteSampleConverter.getInstance(Implementation.SCALAR);
+        ByteSampleConverter vector512 = ByteSampleConverter.getInstance(Implementation.VECTOR_SIMD_512);
+        ByteSampleConverter vector256 = ByteSampleConverter.getInstance(Implementation.VECTOR_SIMD_256);
+        ByteSampleConverter vector128 = ByteSampleConverter.getInstance(Implementation.VECTOR_SIMD_128);
+        ByteSampleConverter vector64 = ByteSampleConverter.getInstance(Implementation.VECTOR_SIMD_64);
+
+        //Warm-Up Phase ....
+        Mean scalarMean = new Mean();
+
+        for(int warmup = 0; warmup < WARMUP_ITERATIONS; warmup++)
+        {
+            scalarMean.increment(test(scalar, heap, direct));
+        }
+
+        mLog.info("8-BIT SAMPLE CONVERTER WARMUP - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        switch(FloatVector.SPECIES_PREFERRED.length())
+        {
+            //Deliberate fall-through of each case statement so that we can test the largest
+            //SIMD lane width supported by hardware down to the smallest SIMD lane width.
+            case 16:
+            {
+                Mean vector512Mean = new Mean();
+                for(int warmup = 0; warmup < WARMUP_ITERATIONS; warmup++)
+                {
+                    vector512Mean.increment(test(vector512, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER WARMUP - VECTOR 512: " + DECIMAL_FORMAT.format(vector512Mean.getResult()));
+            }
+            case 8:
+            {
+                Mean vector256Mean = new Mean();
+                for(int warmup = 0; warmup < WARMUP_ITERATIONS; warmup++)
+                {
+                    vector256Mean.increment(test(vector256, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER WARMUP - VECTOR 256: " + DECIMAL_FORMAT.format(vector256Mean.getResult()));
+            }
+            case 4:
+            {
+                Mean vector128Mean = new Mean();
+                for(int warmup = 0; warmup < WARMUP_ITERATIONS; warmup++)
+                {
+                    vector128Mean.increment(test(vector128, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER WARMUP - VECTOR 128: " + DECIMAL_FORMAT.format(vector128Mean.getResult()));
+            }
+            case 2:
+            {
+                Mean vector64Mean = new Mean();
+                for(int warmup = 0; warmup < WARMUP_ITERATIONS; warmup++)
+                {
+                    vector64Mean.increment(test(vector64, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER WARMUP - VECTOR 64: " + DECIMAL_FORMAT.format(vector64Mean.getResult()));
+            }
+        }
+
+        //Test Phase ....
+        scalarMean.clear();
+
+        for(int test = 0; test < TEST_ITERATIONS; test++)
+        {
+            scalarMean.increment(test(scalar, heap, direct));
+        }
+
+        double bestScore = scalarMean.getResult();
+        setImplementation(Implementation.SCALAR);
+        mLog.info("8-BIT SAMPLE CONVERTER - SCALAR: " + DECIMAL_FORMAT.format(scalarMean.getResult()));
+
+        switch(FloatVector.SPECIES_PREFERRED.length())
+        {
+            //Deliberate fall-through of each case statement so that we can test the largest
+            //SIMD lane width supported by hardware down to the smallest SIMD lane width.
+            case 16:
+            {
+                Mean vector512Mean = new Mean();
+                for(int test = 0; test < TEST_ITERATIONS; test++)
+                {
+                    vector512Mean.increment(test(vector512, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER - VECTOR 512: " + DECIMAL_FORMAT.format(vector512Mean.getResult()));
+                if(vector512Mean.getResult() > bestScore)
+                {
+                    bestScore = vector512Mean.getResult();
+                    setImplementation(Implementation.VECTOR_SIMD_512);
+                }
+            }
+            case 8:
+            {
+                Mean vector256Mean = new Mean();
+                for(int test = 0; test < TEST_ITERATIONS; test++)
+                {
+                    vector256Mean.increment(test(vector256, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER - VECTOR 256: " + DECIMAL_FORMAT.format(vector256Mean.getResult()));
+                if(vector256Mean.getResult() > bestScore)
+                {
+                    bestScore = vector256Mean.getResult();
+                    setImplementation(Implementation.VECTOR_SIMD_256);
+                }
+            }
+            case 4:
+            {
+                Mean vector128Mean = new Mean();
+                for(int test = 0; test < TEST_ITERATIONS; test++)
+                {
+                    vector128Mean.increment(test(vector128, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER - VECTOR 128: " + DECIMAL_FORMAT.format(vector128Mean.getResult()));
+                if(vector128Mean.getResult() > bestScore)
+                {
+                    bestScore = vector128Mean.getResult();
+                    setImplementation(Implementation.VECTOR_SIMD_128);
+                }
+            }
+            case 2:
+            {
+                Mean vector64Mean = new Mean();
+                for(int test = 0; test < TEST_ITERATIONS; test++)
+                {
+                    vector64Mean.increment(test(vector64, heap, direct));
+                }
+
+                mLog.info("8-BIT SAMPLE CONVERTER - VECTOR 64: " + DECIMAL_FORMAT.format(vector64Mean.getResult()));
+                if(vector64Mean.getResult() > bestScore)
+                {
+                    setImplementation(Implementation.VECTOR_SIMD_64);
+                }
+            }
+        }
+
+        mLog.info("8-BIT SAMPLE CONVERTER - SET OPTIMAL IMPLEMENTATION TO: " + getImplementation());
+    }
+
+    /**
+     * Counts the number of sample fragments converted over the iteration duration.
+     */
+    private long test(ByteSampleConverter converter, ByteBuffer heap, ByteBuffer direct)
+    {
+        float[] i = new float[FRAGMENT_SIZE];
+        float[] q = new float[FRAGMENT_SIZE];
+        float[] interleaved = new float[FRAGMENT_SIZE * 2];
+        long start = System.currentTimeMillis();
+        double accumulator = 0;
+        long count = 0;
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            for(int offset = 0; offset < BUFFER_SIZE; offset += FRAGMENT_SIZE * 2)
+            {
+                converter.convert(heap, offset, i, q, FRAGMENT_SIZE, false, 0.01f, 0.01f);
+                converter.convertInterleaved(heap, offset, interleaved, FRAGMENT_SIZE, false, 0.01f, 0.01f);
+                converter.convert(direct, offset, i, q, FRAGMENT_SIZE, false, 0.01f, 0.01f);
+                accumulator += i[2] + interleaved[2];
+                count++;
+            }
+        }
+
+        return count + (long)(accumulator * 0);
+    }
+}
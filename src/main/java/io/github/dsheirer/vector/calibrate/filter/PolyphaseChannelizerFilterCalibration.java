@@ -0,0 +1,172 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.vector.calibrate.filter;
+
+import io.github.dsheirer.dsp.filter.channelizer.IPolyphaseChannelizerFilter;
+import io.github.dsheirer.dsp.filter.channelizer.ScalarPolyphaseChannelizerFilter;
+import io.github.dsheirer.dsp.filter.channelizer.VectorPolyphaseChannelizerFilter128Bit;
+import io.github.dsheirer.dsp.filter.channelizer.VectorPolyphaseChannelizerFilter256Bit;
+import io.github.dsheirer.dsp.filter.channelizer.VectorPolyphaseChannelizerFilter512Bit;
+import io.github.dsheirer.dsp.filter.channelizer.VectorPolyphaseChannelizerFilter64Bit;
+import io.github.dsheirer.dsp.filter.channelizer.VectorPolyphaseChannelizerFilterDefaultBit;
+import io.github.dsheirer.vector.calibrate.Calibration;
+import io.github.dsheirer.vector.calibrate.CalibrationException;
+import io.github.dsheirer.vector.calibrate.CalibrationType;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+
+/**
+ * Calibration plugin for the polyphase channelizer filter multiply and accumulate stage
+ */
+public class PolyphaseChannelizerFilterCalibration extends Calibration
+{
+    private static final VectorSpecies<Float> VECTOR_SPECIES = FloatVector.SPECIES_PREFERRED;
+    //Sized for a 10 MHz tuner producing 400 channels (800 I/Q sub-channels) with 9 taps per channel
+    private static final int SUB_CHANNEL_COUNT = 800;
+    private static final int TAPS_PER_CHANNEL = 9;
+    private static final int ITERATION_DURATION_MS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int TEST_ITERATIONS = 5;
+
+    /**
+     * Constructs an instance
+     */
+    public PolyphaseChannelizerFilterCalibration()
+    {
+        super(CalibrationType.FILTER_POLYPHASE_CHANNELIZER);
+    }
+
+    /**
+     * Performs calibration to determine optimal (Scalar vs Vector) operation type.
+     * @throws CalibrationException
+     */
+    @Override public void calibrate() throws CalibrationException
+    {
+        float[] filter = getFloatSamples(SUB_CHANNEL_COUNT * TAPS_PER_CHANNEL);
+        float[] samples = getFloatSamples(SUB_CHANNEL_COUNT * TAPS_PER_CHANNEL);
+
+        IPolyphaseChannelizerFilter scalar = new ScalarPolyphaseChannelizerFilter(filter, SUB_CHANNEL_COUNT);
+        double bestScore = test("SCALAR", scalar, samples);
+        setImplementation(Implementation.SCALAR);
+
+        double score = test("VECTOR PREFERRED",
+            new VectorPolyphaseChannelizerFilterDefaultBit(filter, SUB_CHANNEL_COUNT), samples);
+
+        if(score > bestScore)
+        {
+            bestScore = score;
+            setImplementation(Implementation.VECTOR_SIMD_PREFERRED);
+        }
+
+        if(VECTOR_SPECIES.length() >= 16)
+        {
+            score = test("VECTOR 512", new VectorPolyphaseChannelizerFilter512Bit(filter, SUB_CHANNEL_COUNT), samples);
+
+            if(score > bestScore)
+            {
+                bestScore = score;
+                setImplementation(Implementation.VECTOR_SIMD_512);
+            }
+        }
+
+        if(VECTOR_SPECIES.length() >= 8)
+        {
+            score = test("VECTOR 256", new VectorPolyphaseChannelizerFilter256Bit(filter, SUB_CHANNEL_COUNT), samples);
+
+            if(score > bestScore)
+            {
+                bestScore = score;
+                setImplementation(Implementation.VECTOR_SIMD_256);
+            }
+        }
+
+        if(VECTOR_SPECIES.length() >= 4)
+        {
+            score = test("VECTOR 128", new VectorPolyphaseChannelizerFilter128Bit(filter, SUB_CHANNEL_COUNT), samples);
+
+            if(score > bestScore)
+            {
+                bestScore = score;
+                setImplementation(Implementation.VECTOR_SIMD_128);
+            }
+        }
+
+        if(VECTOR_SPECIES.length() >= 2)
+        {
+            score = test("VECTOR 64", new VectorPolyphaseChannelizerFilter64Bit(filter, SUB_CHANNEL_COUNT), samples);
+
+            if(score > bestScore)
+            {
+                setImplementation(Implementation.VECTOR_SIMD_64);
+            }
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - SET OPTIMAL IMPLEMENTATION TO: " + getImplementation());
+    }
+
+    /**
+     * Warms up and then tests the filter implementation.
+     * @param label for logging
+     * @param filter to test
+     * @param samples to filter
+     * @return mean test score
+     */
+    private double test(String label, IPolyphaseChannelizerFilter filter, float[] samples)
+    {
+        Mean mean = new Mean();
+
+        for(int x = 0; x < WARMUP_ITERATIONS; x++)
+        {
+            mean.increment(test(filter, samples));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER WARMUP - " + label + ": " + DECIMAL_FORMAT.format(mean.getResult()));
+
+        mean.clear();
+
+        for(int x = 0; x < TEST_ITERATIONS; x++)
+        {
+            mean.increment(test(filter, samples));
+        }
+
+        mLog.info("POLYPHASE CHANNELIZER FILTER - " + label + ": " + DECIMAL_FORMAT.format(mean.getResult()));
+
+        return mean.getResult();
+    }
+
+    private long test(IPolyphaseChannelizerFilter filter, float[] samples)
+    {
+        float[] accumulator = new float[SUB_CHANNEL_COUNT];
+        double accumulated = 0.0f;
+        long count = 0;
+
+        long start = System.currentTimeMillis();
+
+        while((System.currentTimeMillis() - start) < ITERATION_DURATION_MS)
+        {
+            filter.filter(samples, accumulator);
+            accumulated += accumulator[0];
+            count++;
+        }
+
+        return count + (long)(accumulated * 0);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.alias;
+
+import io.github.dsheirer.alias.id.broadcast.BroadcastChannel;
+import io.github.dsheirer.alias.id.priority.Priority;
+import io.github.dsheirer.alias.id.radio.Radio;
+import io.github.dsheirer.alias.id.talkgroup.Talkgroup;
+import io.github.dsheirer.identifier.Identifier;
+import io.github.dsheirer.identifier.IdentifierCollection;
+import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
+import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
+import io.github.dsheirer.protocol.Protocol;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasListTest {
+    @Test
+    void resolvedAliasesAreCachedUntilAliasChanges() {
+        AliasList aliasList = new AliasList("Test");
+        Alias talkgroup = new Alias("Talkgroup");
+        talkgroup.setAliasListName("Test");
+        talkgroup.addAliasID(new Talkgroup(Protocol.APCO25, 100));
+        talkgroup.addAliasID(new BroadcastChannel("Stream"));
+        talkgroup.addAliasID(new Priority(50));
+        aliasList.addAlias(talkgroup);
+
+        Alias radio = new Alias("Radio");
+        radio.setAliasListName("Test");
+        radio.addAliasID(new Radio(Protocol.APCO25, 1234));
+        aliasList.addAlias(radio);
+
+        IdentifierCollection collection = new IdentifierCollection(List.<Identifier>of(APCO25Talkgroup.create(100),
+            APCO25RadioIdentifier.createFrom(1234)));
+
+        assertTrue(aliasList.isStreamable(collection));
+        assertFalse(aliasList.isRecordable(collection));
+        assertEquals(50, aliasList.getAudioPlaybackPriority(collection));
+        assertEquals(List.of(new BroadcastChannel("Stream")), aliasList.getBroadcastChannels(collection));
+        assertEquals(2, aliasList.getResolvedCacheMissCount());
+        assertEquals(5, aliasList.getResolvedCacheHitCount());
+        assertEquals(5.0 / 7.0, aliasList.getResolvedCacheHitRate(), 0.0001);
+
+        radio.setRecordable(true);
+        assertTrue(aliasList.isRecordable(collection));
+        assertEquals(4, aliasList.getResolvedCacheMissCount());
+
+        talkgroup.removeAliasID(talkgroup.getAliasIdentifiers().stream()
+            .filter(id -> id instanceof Talkgroup).findFirst().orElseThrow());
+        aliasList.updateAlias(talkgroup);
+        assertFalse(aliasList.isStreamable(collection));
+        assertEquals(Priority.DEFAULT_PRIORITY, aliasList.getAudioPlaybackPriority(collection));
+
+        aliasList.removeAlias(radio);
+        assertFalse(aliasList.isRecordable(collection));
+    }
+}
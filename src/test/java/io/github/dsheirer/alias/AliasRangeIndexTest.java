@@ -0,0 +1,111 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.alias;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasRangeIndexTest {
+    record Range(int min, int max, Alias alias) {
+        boolean contains(int value) {
+            return min <= value && value <= max;
+        }
+    }
+
+    /**
+     * Linear reference lookup: the containing range with the highest start, latest added on a tie
+     */
+    static Alias reference(List<Range> ranges, int value) {
+        Range match = null;
+        for(Range range: ranges) {
+            if(range.contains(value) && (match == null || range.min() >= match.min())) {
+                match = range;
+            }
+        }
+        return match != null ? match.alias() : null;
+    }
+
+    @Test
+    void lookupMatchesLinearScan() {
+        Random random = new Random(1);
+        List<Alias> aliases = new ArrayList<>();
+        for(int x = 0; x < 50; x++) {
+            aliases.add(new Alias("Alias " + x));
+        }
+
+        AliasRangeIndex<Range> index = new AliasRangeIndex<>();
+        List<Range> ranges = new ArrayList<>();
+
+        for(int x = 0; x < 2000; x++) {
+            int min = random.nextInt(100_000);
+            int max = min + random.nextInt(x % 10 == 0 ? 5000 : 20);
+            Range range = new Range(min, max, aliases.get(random.nextInt(aliases.size())));
+
+            Set<Range> expectedOverlaps = new HashSet<>();
+            for(Range existing: ranges) {
+                if(existing.min() <= max && min <= existing.max() && !existing.alias().equals(range.alias())) {
+                    expectedOverlaps.add(existing);
+                }
+            }
+
+            assertEquals(expectedOverlaps, new HashSet<>(index.add(range, min, max, range.alias())));
+            ranges.add(range);
+
+            //Interleave lookups so that staged and merged ranges are both exercised
+            if(x % 97 == 0) {
+                for(int y = 0; y < 200; y++) {
+                    int value = random.nextInt(106_000);
+                    assertSame(reference(ranges, value), index.getAlias(value));
+                }
+            }
+        }
+
+        Alias removed = aliases.get(7);
+        index.remove(removed);
+        ranges.removeIf(range -> range.alias().equals(removed));
+        assertEquals(ranges.size(), index.size());
+
+        for(int value = 0; value < 106_000; value += 7) {
+            assertSame(reference(ranges, value), index.getAlias(value));
+        }
+    }
+
+    @Test
+    void readdingRangeReplacesAlias() {
+        AliasRangeIndex<Range> index = new AliasRangeIndex<>();
+        Alias first = new Alias("First");
+        Alias second = new Alias("Second");
+        Range range = new Range(100, 200, first);
+
+        index.add(range, 100, 200, first);
+        assertSame(first, index.getAlias(150));
+        assertTrue(index.add(range, 100, 200, second).isEmpty());
+        assertSame(second, index.getAlias(100));
+        assertNull(index.getAlias(201));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryMessageTest {
+    /**
+     * Bit at a time reference value for the bit range with the start bit as the MSB
+     */
+    static long reference(BinaryMessage message, int start, int width) {
+        long value = 0;
+        for(int x = start; x < start + width; x++) {
+            value = (value << 1) | (message.get(x) ? 1 : 0);
+        }
+        return value;
+    }
+
+    @Test
+    void contiguousFieldsMatchBitAtATimeValues() {
+        Random random = new Random(1);
+        BinaryMessage message = new BinaryMessage(300);
+
+        for(int x = 0; x < 5000; x++) {
+            //Interleave single bit and bulk updates with reads to exercise the word-aligned copy
+            switch(x % 4) {
+                case 0 -> message.flip(random.nextInt(300));
+                case 1 -> message.set(random.nextInt(300), random.nextBoolean());
+                case 2 -> message.load(random.nextInt(260), 32, random.nextInt());
+                default -> {
+                }
+            }
+
+            int start = random.nextInt(300);
+            int width = 1 + random.nextInt(32);
+            long expected = reference(message, start, width);
+            int[] bits = BinaryMessage.getFieldIndexes(start, width, false);
+
+            assertEquals((int)expected, message.getInt(start, start + width - 1));
+            assertEquals((int)expected, message.getInt(bits));
+            assertEquals((int)expected, message.getInt(new IntField(start, width)));
+            assertEquals((int)reference(message, start + 3, width), message.getInt(IntField.range(start, start + width - 1), 3));
+
+            int longWidth = 1 + random.nextInt(64);
+            assertEquals(reference(message, start, longWidth), message.getLong(start, start + longWidth - 1));
+        }
+    }
+
+    @Test
+    void nonContiguousFieldsUseBitPositionOrder() {
+        BinaryMessage message = BinaryMessage.load("1100101");
+        assertEquals(0b1001, message.getInt(new int[]{0, 2, 3, 1}));
+        assertEquals(0b11100, message.getInt(new int[]{4, 6, 0, 3, 2}));
+    }
+}
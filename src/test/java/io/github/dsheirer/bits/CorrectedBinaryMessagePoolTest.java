@@ -0,0 +1,82 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import io.github.dsheirer.protocol.Protocol;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrectedBinaryMessagePoolTest {
+    @Test
+    void recycledMessageIsResetAndReused() throws BitSetFullException {
+        CorrectedBinaryMessagePool.AllocationCounter counter =
+                CorrectedBinaryMessagePool.getAllocationCounter(Protocol.APCO25);
+        long allocated = counter.getAllocatedCount();
+        long reused = counter.getReusedCount();
+
+        CorrectedBinaryMessagePool pool = new CorrectedBinaryMessagePool(Protocol.APCO25, 1);
+        pool.setRecyclingEnabled(true);
+
+        CorrectedBinaryMessage message = pool.getMessage(196);
+        message.add(true);
+        message.add(true);
+        message.set(150);
+        message.incrementCorrectedBitCount(3);
+        assertEquals(3, message.getInt(0, 1));
+        pool.recycle(message);
+        assertEquals(1, pool.getAvailableCount());
+
+        CorrectedBinaryMessage reusedMessage = pool.getMessage(196);
+        assertSame(message, reusedMessage);
+        assertEquals(0, reusedMessage.pointer());
+        assertEquals(0, reusedMessage.cardinality());
+        assertEquals(0, reusedMessage.getCorrectedBitCount());
+        assertEquals(0, reusedMessage.getInt(0, 1));
+        assertEquals(196, reusedMessage.size());
+
+        //Different size is served from a different bucket
+        assertNotSame(message, pool.getMessage(288));
+
+        assertEquals(allocated + 2, counter.getAllocatedCount());
+        assertEquals(reused + 1, counter.getReusedCount());
+    }
+
+    @Test
+    void bucketsAreBounded() {
+        CorrectedBinaryMessagePool pool = new CorrectedBinaryMessagePool(Protocol.DMR, 1);
+        pool.setRecyclingEnabled(true);
+        long discarded = CorrectedBinaryMessagePool.getAllocationCounter(Protocol.DMR).getDiscardedCount();
+
+        pool.recycle(pool.getMessage(288));
+        pool.recycle(new CorrectedBinaryMessage(288));
+        assertEquals(1, pool.getAvailableCount());
+        assertEquals(discarded + 1, CorrectedBinaryMessagePool.getAllocationCounter(Protocol.DMR).getDiscardedCount());
+    }
+
+    @Test
+    void disabledPoolAlwaysAllocates() {
+        CorrectedBinaryMessagePool pool = new CorrectedBinaryMessagePool(Protocol.APCO25_PHASE2, 2);
+        CorrectedBinaryMessage message = pool.getMessage(1440);
+        pool.recycle(message);
+        assertEquals(0, pool.getAvailableCount());
+        assertNotSame(message, pool.getMessage(1440));
+    }
+}
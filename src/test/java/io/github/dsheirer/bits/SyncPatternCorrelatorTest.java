@@ -0,0 +1,115 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+
+package io.github.dsheirer.bits;
+
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
+import io.github.dsheirer.dsp.symbol.FrameSync;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncPatternCorrelatorTest {
+    private static final long NORMAL = FrameSync.P25_PHASE1_NORMAL.getSync();
+    private static final long ROTATED = FrameSync.P25_PHASE1_ERROR_180.getSync();
+
+    SyncPatternCorrelator correlator() {
+        SyncPatternCorrelator correlator = new SyncPatternCorrelator(48);
+        correlator.add(NORMAL, 4);
+        correlator.add(ROTATED, 0);
+        return correlator;
+    }
+
+    void load(DibitBuffer buffer, long pattern) {
+        for(int x = 23; x >= 0; x--) {
+            buffer.add((int)(pattern >> (x * 2)) & 0x3);
+        }
+    }
+
+    @Test
+    void searchReportsEachMatchOffsetAndBitErrors() {
+        DibitBuffer buffer = new DibitBuffer(200);
+        for(int x = 0; x < 30; x++) {
+            buffer.add(0);
+        }
+        load(buffer, NORMAL ^ 0x5); //2 bit errors, ends at index 53
+        for(int x = 0; x < 40; x++) {
+            buffer.add(0);
+        }
+        load(buffer, ROTATED); //ends at index 117
+
+        SyncPatternCorrelator correlator = correlator();
+        int hit = correlator.search(buffer, 0, buffer.size());
+        assertEquals(53, hit);
+        assertEquals(0, correlator.getMatchedPattern());
+        assertEquals(2, correlator.getBitErrorCount());
+
+        hit = correlator.search(buffer, hit + 1, buffer.size() - hit - 1);
+        assertEquals(117, hit);
+        assertEquals(1, correlator.getMatchedPattern());
+        assertEquals(0, correlator.getBitErrorCount());
+
+        assertEquals(SyncPatternCorrelator.NO_MATCH, correlator.search(buffer, hit + 1, buffer.size() - hit - 1));
+    }
+
+    @Test
+    void searchMatchesStreaming() {
+        Random random = new Random(1);
+        DibitBuffer buffer = new DibitBuffer(10000);
+        while(!buffer.isFull()) {
+            if(random.nextInt(200) == 0 && buffer.capacity() - buffer.size() >= 24) {
+                load(buffer, random.nextBoolean() ? NORMAL ^ (1L << random.nextInt(48)) : ROTATED);
+            }
+            else {
+                buffer.add(random.nextInt(4));
+            }
+        }
+
+        SyncPatternCorrelator streaming = correlator();
+        SyncPatternCorrelator searching = correlator();
+        int offset = 0;
+
+        for(int x = 0; x < buffer.size(); x++) {
+            int match = streaming.receive(buffer.get(x));
+
+            if(match != SyncPatternCorrelator.NO_MATCH) {
+                int hit = searching.search(buffer, offset, buffer.size() - offset);
+                assertEquals(x, hit);
+                assertEquals(match, searching.getMatchedPattern());
+                assertEquals(streaming.getBitErrorCount(), searching.getBitErrorCount());
+                offset = hit + 1;
+            }
+        }
+
+        assertEquals(SyncPatternCorrelator.NO_MATCH, searching.search(buffer, offset, buffer.size() - offset));
+        assertEquals(streaming.getValue(), searching.getValue());
+    }
+
+    @Test
+    void matchDoesNotAlterShiftRegister() {
+        SyncPatternCorrelator correlator = correlator();
+        correlator.receive(3);
+        assertEquals(1, correlator.match(ROTATED));
+        assertEquals(SyncPatternCorrelator.NO_MATCH, correlator.match(ROTATED ^ 0x1));
+        assertEquals(3, correlator.getValue());
+    }
+}
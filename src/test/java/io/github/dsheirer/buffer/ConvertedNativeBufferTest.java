@@ -0,0 +1,111 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConvertedNativeBufferTest {
+    private static final int SAMPLE_COUNT = ConvertedNativeBuffer.FRAGMENT_SIZE * 3 + 100;
+
+    static void load(ConvertedNativeBuffer buffer, Random random, long timestamp) {
+        for(ComplexSamples fragment: buffer.getFragments()) {
+            for(int x = 0; x < fragment.i().length; x++) {
+                fragment.i()[x] = random.nextFloat();
+                fragment.q()[x] = random.nextFloat();
+            }
+        }
+        buffer.setTimestamp(timestamp);
+    }
+
+    static List<InterleavedComplexSamples> interleaved(ConvertedNativeBuffer buffer) {
+        List<InterleavedComplexSamples> interleaved = new ArrayList<>();
+        Iterator<InterleavedComplexSamples> iterator = buffer.iteratorInterleaved();
+        while(iterator.hasNext()) {
+            interleaved.add(iterator.next());
+        }
+        return interleaved;
+    }
+
+    static void assertInterleaved(ConvertedNativeBuffer buffer, List<InterleavedComplexSamples> interleaved,
+                                  long timestamp) {
+        List<ComplexSamples> fragments = buffer.getFragments();
+        assertEquals(fragments.size(), interleaved.size());
+        for(int x = 0; x < fragments.size(); x++) {
+            ComplexSamples fragment = fragments.get(x);
+            float[] samples = interleaved.get(x).samples();
+            assertEquals(fragment.i().length * 2, samples.length);
+            assertEquals(timestamp, interleaved.get(x).timestamp());
+            for(int y = 0; y < fragment.i().length; y++) {
+                assertEquals(fragment.i()[y], samples[2 * y], "Inphase sample " + y + " of fragment " + x);
+                assertEquals(fragment.q()[y], samples[2 * y + 1], "Quadrature sample " + y + " of fragment " + x);
+            }
+        }
+    }
+
+    /**
+     * Interleaved samples match the converted fragments, are shared by every interleaved iterator for a load and
+     * reuse the same pooled arrays when the recycled buffer is loaded again.
+     */
+    @Test
+    void interleavedSamplesAreSharedAndPooled() {
+        ConvertedNativeBufferPool pool = new ConvertedNativeBufferPool(1);
+        Random random = new Random(5);
+
+        ConvertedNativeBuffer buffer = pool.getBuffer(SAMPLE_COUNT);
+        load(buffer, random, 1000);
+        List<InterleavedComplexSamples> first = interleaved(buffer);
+        assertInterleaved(buffer, first, 1000);
+
+        List<InterleavedComplexSamples> second = interleaved(buffer);
+        for(int x = 0; x < first.size(); x++) {
+            assertSame(first.get(x).samples(), second.get(x).samples(), "Fragment " + x + " interleaved once per load");
+        }
+
+        buffer.decrementUserCount();
+        ConvertedNativeBuffer recycled = pool.getBuffer(SAMPLE_COUNT);
+        assertSame(buffer, recycled);
+        load(recycled, random, 2000);
+        List<InterleavedComplexSamples> reloaded = interleaved(recycled);
+        assertInterleaved(recycled, reloaded, 2000);
+        for(int x = 0; x < first.size(); x++) {
+            assertSame(first.get(x).samples(), reloaded.get(x).samples(), "Fragment " + x + " pooled array");
+        }
+    }
+
+    /**
+     * Converting from another converted buffer loads the source samples and the interleaved form of the copy.
+     */
+    @Test
+    void convertedCopyInterleavesLoadedSamples() {
+        ConvertedNativeBufferPool pool = new ConvertedNativeBufferPool(2);
+        ConvertedNativeBuffer source = pool.getBuffer(SAMPLE_COUNT);
+        load(source, new Random(7), 3000);
+        ConvertedNativeBuffer copy = new ConvertedNativeBufferPool(1).convert(source);
+        assertInterleaved(copy, interleaved(copy), 3000);
+    }
+}
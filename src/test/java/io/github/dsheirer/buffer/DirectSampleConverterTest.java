@@ -0,0 +1,98 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer;
+
+import io.github.dsheirer.buffer.bytes.ByteSampleConverter;
+import io.github.dsheirer.buffer.direct.DirectSampleConverter;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectSampleConverterTest {
+    private static final int BUFFER_SIZE = 65536;
+    private static final int BUFFER_COUNT = 20;
+
+    static final List<Implementation> IMPLEMENTATIONS = List.of(Implementation.SCALAR, Implementation.VECTOR_SIMD_64,
+        Implementation.VECTOR_SIMD_128, Implementation.VECTOR_SIMD_256, Implementation.VECTOR_SIMD_512);
+
+    static List<ComplexSamples> fragments(int sampleCount) {
+        List<ComplexSamples> fragments = new ArrayList<>();
+        for(int offset = 0; offset < sampleCount; offset += ConvertedNativeBuffer.FRAGMENT_SIZE) {
+            int length = Math.min(ConvertedNativeBuffer.FRAGMENT_SIZE, sampleCount - offset);
+            fragments.add(new ComplexSamples(new float[length], new float[length]));
+        }
+        return fragments;
+    }
+
+    /**
+     * Feeds the same sequence of transfer buffers, with a DC offset that differs between I and Q, through the heap
+     * byte array factory (scalar lookup tables) and through a direct converter for each implementation and requires bit-identical samples for every buffer.
+     */
+    void assertMatchesHeapPath(INativeBufferFactory heapFactory, boolean signed, float dcFilterGain) {
+        Random random = new Random(3);
+        List<DirectSampleConverter> converters = new ArrayList<>();
+        for(Implementation implementation: IMPLEMENTATIONS) {
+            converters.add(new DirectSampleConverter(signed, dcFilterGain, ByteSampleConverter.getInstance(implementation)));
+        }
+
+        for(int buffer = 0; buffer < BUFFER_COUNT; buffer++) {
+            byte[] raw = new byte[BUFFER_SIZE];
+            for(int x = 0; x < raw.length; x += 2) {
+                raw[x] = (byte)(random.nextInt(64) + 40);
+                raw[x + 1] = (byte)(random.nextInt(64) - 10);
+            }
+            ByteBuffer transfer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            transfer.put(raw).rewind();
+
+            List<ComplexSamples> expected = fragments(BUFFER_SIZE / 2);
+            heapFactory.getBuffer(transfer.duplicate(), 0).convert(expected);
+
+            for(int c = 0; c < converters.size(); c++) {
+                DirectSampleConverter converter = converters.get(c);
+                List<ComplexSamples> actual = fragments(BUFFER_SIZE / 2);
+                converter.convert(transfer, actual);
+
+                for(int x = 0; x < expected.size(); x++) {
+                    String message = IMPLEMENTATIONS.get(c) + " buffer [" + buffer + "] fragment [" +
+                        x + "]";
+                    assertArrayEquals(expected.get(x).i(), actual.get(x).i(), message);
+                    assertArrayEquals(expected.get(x).q(), actual.get(x).q(), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unsignedMatchesByteNativeBuffer() {
+        assertMatchesHeapPath(new ByteNativeBufferFactory(), false, ByteNativeBufferFactory.DC_FILTER_GAIN);
+    }
+
+    @Test
+    void signedMatchesSignedByteNativeBuffer() {
+        assertMatchesHeapPath(new SignedByteNativeBufferFactory(), true, SignedByteNativeBufferFactory.DC_FILTER_GAIN);
+    }
+}
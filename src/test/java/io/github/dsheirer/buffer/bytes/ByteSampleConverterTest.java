@@ -0,0 +1,129 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.buffer.bytes;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+import io.github.dsheirer.vector.calibrate.Implementation;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteSampleConverterTest {
+    private static final List<Implementation> IMPLEMENTATIONS = List.of(Implementation.SCALAR,
+        Implementation.VECTOR_SIMD_64, Implementation.VECTOR_SIMD_128, Implementation.VECTOR_SIMD_256,
+        Implementation.VECTOR_SIMD_512);
+    private static final float I_DC = 0.0123f;
+    private static final float Q_DC = -0.0456f;
+
+    /**
+     * Reference conversion using the original lookup tables: (x - 127) / 128 for unsigned and x / 128 for signed.
+     */
+    static float reference(byte sample, boolean signed, float dc) {
+        float value = signed ? (float)sample / 128.0f : (float)((sample & 0xFF) - 127) / 128.0f;
+        return value - dc;
+    }
+
+    static byte[] samples(int length) {
+        byte[] samples = new byte[length];
+        new Random(7).nextBytes(samples);
+        return samples;
+    }
+
+    static ByteBuffer direct(byte[] samples) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(samples.length);
+        buffer.put(samples).rewind();
+        return buffer;
+    }
+
+    @Test
+    void allImplementationsMatchLookupTables() {
+        //Odd sample count and non-zero offset exercise the scalar tail of the vector implementations
+        int offset = 6;
+        int length = 1027;
+        byte[] raw = samples(offset + length * 2);
+
+        for(boolean signed: new boolean[]{false, true}) {
+            float[] expectedI = new float[length];
+            float[] expectedQ = new float[length];
+            float[] expectedInterleaved = new float[length * 2];
+
+            for(int x = 0; x < length; x++) {
+                expectedI[x] = reference(raw[offset + 2 * x], signed, I_DC);
+                expectedQ[x] = reference(raw[offset + 2 * x + 1], signed, Q_DC);
+                expectedInterleaved[2 * x] = expectedI[x];
+                expectedInterleaved[2 * x + 1] = expectedQ[x];
+            }
+
+            for(Implementation implementation: IMPLEMENTATIONS) {
+                ByteSampleConverter converter = ByteSampleConverter.getInstance(implementation);
+
+                for(ByteBuffer buffer: List.of(ByteBuffer.wrap(raw), direct(raw))) {
+                    String message = implementation + (signed ? " signed" : " unsigned") +
+                        (buffer.isDirect() ? " direct" : " heap");
+                    float[] i = new float[length];
+                    float[] q = new float[length];
+                    float[] interleaved = new float[length * 2];
+
+                    converter.convert(buffer, offset, i, q, length, signed, I_DC, Q_DC);
+                    converter.convertInterleaved(buffer, offset, interleaved, length, signed, I_DC, Q_DC);
+
+                    assertArrayEquals(expectedI, i, message);
+                    assertArrayEquals(expectedQ, q, message);
+                    assertArrayEquals(expectedInterleaved, interleaved, message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void iteratorsMatchLookupTables() {
+        byte[] raw = samples(ByteBufferIterator.FRAGMENT_SIZE * 4);
+
+        for(Implementation implementation: IMPLEMENTATIONS) {
+            ByteSampleConverter converter = ByteSampleConverter.getInstance(implementation);
+            ByteSamplesIterator iterator = new ByteSamplesIterator(raw, converter, false, I_DC, Q_DC, 0);
+            ByteInterleavedSamplesIterator interleavedIterator = new ByteInterleavedSamplesIterator(raw, converter,
+                false, I_DC, Q_DC, 0);
+            int samplesOffset = 0;
+
+            while(iterator.hasNext()) {
+                ComplexSamples samples = iterator.next();
+                InterleavedComplexSamples interleaved = interleavedIterator.next();
+
+                for(int x = 0; x < samples.i().length; x++) {
+                    float i = reference(raw[samplesOffset++], false, I_DC);
+                    float q = reference(raw[samplesOffset++], false, Q_DC);
+                    assertEquals(i, samples.i()[x], implementation.name());
+                    assertEquals(q, samples.q()[x], implementation.name());
+                    assertEquals(i, interleaved.samples()[2 * x], implementation.name());
+                    assertEquals(q, interleaved.samples()[2 * x + 1], implementation.name());
+                }
+            }
+
+            assertFalse(interleavedIterator.hasNext());
+            assertEquals(raw.length, samplesOffset);
+        }
+    }
+}
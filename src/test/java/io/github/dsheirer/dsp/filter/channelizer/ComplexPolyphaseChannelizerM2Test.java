@@ -0,0 +1,227 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.sample.complex.InterleavedComplexSamples;
+import io.github.dsheirer.util.Dispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ComplexPolyphaseChannelizerM2Test {
+    private static final double SAMPLE_RATE = 2_500_000.0;
+    private static final int TAPS_PER_CHANNEL = 9;
+    private static final int BLOCKS_PER_BATCH = 1024;
+    private static final int WARMUP_BATCHES = 10;
+    private static final int TEST_BATCHES = 20;
+
+    /**
+     * Allowance per dispatched batch for the dispatcher queue handoff, which is outside of the per-block path.
+     */
+    private static final long MAXIMUM_BYTES_PER_BATCH = 1024;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    ComplexPolyphaseChannelizerM2 channelizer;
+    InterleavedComplexSamples batchSamples;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        channelizer = new ComplexPolyphaseChannelizerM2(SAMPLE_RATE, TAPS_PER_CHANNEL);
+
+        //Each processed block consumes channel count (interleaved) sample values
+        float[] samples = new float[BLOCKS_PER_BATCH * channelizer.getChannelCount()];
+        Random random = new Random(1);
+        for(int x = 0; x < samples.length; x++) {
+            samples[x] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        batchSamples = new InterleavedComplexSamples(samples, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channelizer.stop();
+    }
+
+    /**
+     * Feeds one batch of samples and returns the number of bytes allocated by the calling thread.
+     */
+    long receiveBatch() throws InterruptedException {
+        //Wait for the dispatcher to return the previous buffer to the pool so that we measure the steady state
+        ChannelResultsBufferPool pool = channelizer.getBufferPool();
+        long timeout = System.currentTimeMillis() + 5000;
+        while(pool != null && pool.getAvailableCount() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(1);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        channelizer.receive(batchSamples);
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    @Test
+    void recyclingModeDoesNotAllocatePerBlock() throws Exception {
+        assumeAllocationMeasurement();
+        channelizer.setBufferRecyclingEnabled(true);
+        channelizer.start();
+
+        for(int x = 0; x < WARMUP_BATCHES; x++) {
+            receiveBatch();
+        }
+
+        long missCount = channelizer.getBufferPool().getMissCount();
+        long allocated = 0;
+
+        for(int x = 0; x < TEST_BATCHES; x++) {
+            allocated += receiveBatch();
+        }
+
+        assertTrue(allocated / TEST_BATCHES < MAXIMUM_BYTES_PER_BATCH,
+                "Steady state allocated [" + allocated + "] bytes over [" + TEST_BATCHES + "] batches");
+        assertEquals(missCount, channelizer.getBufferPool().getMissCount(), "Buffer pool should not miss in steady state");
+        assertTrue(channelizer.getBufferPool().getHitCount() >= TEST_BATCHES);
+    }
+
+    @Test
+    void defaultModeAllocatesPerBlock() throws Exception {
+        assumeAllocationMeasurement();
+        channelizer.start();
+        assertNull(channelizer.getBufferPool());
+
+        for(int x = 0; x < WARMUP_BATCHES; x++) {
+            receiveBatch();
+        }
+
+        long allocated = receiveBatch();
+
+        //At minimum, one sub-channel results array per processed block
+        long minimum = (long)BLOCKS_PER_BATCH * channelizer.getSubChannelCount() * Float.BYTES;
+        assertTrue(allocated >= minimum, "Expected at least [" + minimum + "] bytes but measured [" + allocated + "]");
+    }
+
+    @Test
+    void recycledBufferReturnsToPoolWhenAllUsersRelease() {
+        ChannelResultsBufferPool pool = new ChannelResultsBufferPool(1, 2, 4, 8);
+        ChannelResultsBuffer buffer = pool.getBuffer();
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(1, pool.getHitCount());
+
+        buffer.incrementUserCount();
+        buffer.decrementUserCount();
+        assertEquals(0, pool.getAvailableCount());
+
+        buffer.decrementUserCount();
+        assertEquals(1, pool.getAvailableCount());
+        assertSame(buffer, pool.getBuffer());
+
+        pool.getBuffer();
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    void bufferDroppedByDispatcherReturnsToPool() throws Exception {
+        ChannelResultsBufferPool pool = new ChannelResultsBufferPool(0, 4, 4, 8);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        Dispatcher<List<float[]>> dispatcher = new Dispatcher<>(1, "test dispatcher", new ArrayList<>());
+        dispatcher.setListener(results -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch(InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.start();
+
+        try {
+            //First buffer blocks the dispatcher thread, second buffer fills the queue and the third buffer overflows
+            for(int x = 0; x < 3; x++) {
+                ChannelResultsBuffer buffer = pool.getBuffer();
+                dispatcher.receive(buffer);
+                buffer.decrementUserCount();
+                if(x == 0) {
+                    assertTrue(started.await(5, TimeUnit.SECONDS));
+                }
+            }
+
+            assertEquals(1, pool.getAvailableCount(), "Overflow buffer should return to the pool");
+
+            blocker.countDown();
+            long timeout = System.currentTimeMillis() + 5000;
+            while(pool.getAvailableCount() < 3 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(1);
+            }
+            assertEquals(3, pool.getAvailableCount(), "Processed buffers should return to the pool");
+        } finally {
+            blocker.countDown();
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void parallelIFFTPreservesResultsAndOrder() {
+        int channelCount = channelizer.getChannelCount();
+        List<float[]> sequential = new ArrayList<>();
+        List<float[]> parallel = new ArrayList<>();
+        Random random = new Random(2);
+
+        for(int x = 0; x < BLOCKS_PER_BATCH; x++) {
+            float[] results = new float[channelCount * 2];
+            for(int y = 0; y < results.length; y++) {
+                results[y] = random.nextFloat();
+            }
+            sequential.add(results);
+            parallel.add(results.clone());
+        }
+
+        ParallelIFFTProcessor single = new ParallelIFFTProcessor(channelCount, 1);
+        ParallelIFFTProcessor multiple = new ParallelIFFTProcessor(channelCount, 4);
+
+        try {
+            single.process(sequential);
+            multiple.process(parallel);
+        } finally {
+            single.dispose();
+            multiple.dispose();
+        }
+
+        for(int x = 0; x < BLOCKS_PER_BATCH; x++) {
+            assertArrayEquals(sequential.get(x), parallel.get(x), "Results array [" + x + "]");
+        }
+    }
+
+    void assumeAllocationMeasurement() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() &&
+                threadMXBean.isThreadAllocatedMemoryEnabled());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PolyphaseChannelizerFilterTest {
+    private static final int[] CHANNEL_COUNTS = {1, 2, 3, 8, 25, 64};
+    private static final int[] TAPS_PER_CHANNEL = {1, 9, 17};
+    private static final int ITERATIONS = 20;
+
+    /**
+     * Filters random samples through random aligned filters of varying channel and tap counts and verifies that the
+     * vector filter accumulator matches the scalar filter accumulator within float tolerance, including the scalar
+     * tail for sub-channel counts that don't fill a full vector.
+     */
+    void verify(VectorSpecies<Float> species,
+                BiFunction<float[], Integer, IPolyphaseChannelizerFilter> constructor) {
+        assumeTrue(FloatVector.SPECIES_PREFERRED.length() >= species.length(),
+                "Host doesn't support " + species.vectorBitSize() + "-bit vectors");
+
+        Random random = new Random(species.vectorBitSize());
+
+        for(int channelCount : CHANNEL_COUNTS) {
+            int subChannelCount = channelCount * 2;
+
+            for(int taps : TAPS_PER_CHANNEL) {
+                float[] filter = new float[subChannelCount * taps];
+                float[] samples = new float[filter.length];
+
+                for(int x = 0; x < filter.length; x++) {
+                    filter[x] = random.nextFloat() * 2.0f - 1.0f;
+                }
+
+                IPolyphaseChannelizerFilter scalar = new ScalarPolyphaseChannelizerFilter(filter, subChannelCount);
+                IPolyphaseChannelizerFilter vector = constructor.apply(filter, subChannelCount);
+
+                for(int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    for(int x = 0; x < samples.length; x++) {
+                        samples[x] = random.nextFloat() * 2.0f - 1.0f;
+                    }
+
+                    float[] expected = new float[subChannelCount];
+                    float[] actual = new float[subChannelCount];
+                    scalar.filter(samples, expected);
+                    vector.filter(samples, actual);
+
+                    for(int channel = 0; channel < subChannelCount; channel++) {
+                        assertEquals(expected[channel], actual[channel], 1e-5f * taps, "Sub-channel " + channel +
+                                " of " + subChannelCount + " with " + taps + " taps per channel");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void vector64BitMatchesScalar() {
+        verify(FloatVector.SPECIES_64, VectorPolyphaseChannelizerFilter64Bit::new);
+    }
+
+    @Test
+    void vector128BitMatchesScalar() {
+        verify(FloatVector.SPECIES_128, VectorPolyphaseChannelizerFilter128Bit::new);
+    }
+
+    @Test
+    void vector256BitMatchesScalar() {
+        verify(FloatVector.SPECIES_256, VectorPolyphaseChannelizerFilter256Bit::new);
+    }
+
+    @Test
+    void vector512BitMatchesScalar() {
+        verify(FloatVector.SPECIES_512, VectorPolyphaseChannelizerFilter512Bit::new);
+    }
+
+    @Test
+    void vectorDefaultBitMatchesScalar() {
+        verify(FloatVector.SPECIES_PREFERRED, VectorPolyphaseChannelizerFilterDefaultBit::new);
+    }
+}
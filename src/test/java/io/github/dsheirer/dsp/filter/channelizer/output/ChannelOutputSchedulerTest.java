@@ -0,0 +1,137 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.channelizer.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelOutputSchedulerTest {
+    private static final int CHANNEL_COUNT = 32;
+    private static final int BATCH_COUNT = 200;
+
+    @Test
+    void sharedWorkersPreserveOrderPerChannel() throws Exception {
+        ChannelOutputScheduler scheduler = new ChannelOutputScheduler(2);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(CHANNEL_COUNT * BATCH_COUNT);
+        List<List<Integer>> received = new ArrayList<>();
+        List<ChannelOutputScheduler.ScheduledChannel> channels = new ArrayList<>();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        try {
+            for(int x = 0; x < CHANNEL_COUNT; x++) {
+                List<Integer> sequence = Collections.synchronizedList(new ArrayList<>());
+                received.add(sequence);
+                channels.add(scheduler.register("channel " + x, results -> {
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    threadNames.add(Thread.currentThread().getName());
+                    sequence.add((int)results.get(0)[0]);
+                    concurrent.decrementAndGet();
+                    latch.countDown();
+                }, BATCH_COUNT));
+            }
+
+            for(int batch = 0; batch < BATCH_COUNT; batch++) {
+                for(ChannelOutputScheduler.ScheduledChannel channel: channels) {
+                    channel.receive(List.of(new float[]{batch}));
+                }
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "All batches should be processed");
+            assertTrue(threadNames.size() <= 2, "Worker threads used: " + threadNames);
+            assertTrue(maxConcurrent.get() <= 2);
+
+            for(int x = 0; x < CHANNEL_COUNT; x++) {
+                List<Integer> sequence = received.get(x);
+                assertEquals(BATCH_COUNT, sequence.size());
+                for(int batch = 0; batch < BATCH_COUNT; batch++) {
+                    assertEquals(batch, sequence.get(batch), "Channel [" + x + "] out of order");
+                }
+
+                ChannelOutputScheduler.ScheduledChannel channel = channels.get(x);
+                assertEquals(BATCH_COUNT, channel.getProcessedCount());
+                assertEquals(0, channel.getOverflowCount());
+                assertTrue(channel.getMaxLagMilliseconds() >= channel.getLastLagMilliseconds());
+            }
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void fullQueueCountsOverflow() throws Exception {
+        ChannelOutputScheduler scheduler = new ChannelOutputScheduler(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        try {
+            ChannelOutputScheduler.ScheduledChannel channel = scheduler.register("blocked", results -> {
+                try {
+                    blocker.await();
+                } catch(InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 4);
+
+            for(int x = 0; x < 10; x++) {
+                channel.receive(List.of(new float[1]));
+            }
+
+            assertEquals(4, channel.getCapacity());
+            assertTrue(channel.getOverflowCount() >= 5, "Overflow count: " + channel.getOverflowCount());
+            assertTrue(channel.getMaxQueueDepth() <= channel.getCapacity());
+        } finally {
+            blocker.countDown();
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void disposeWhenUnusedWaitsForLastChannel() {
+        ChannelOutputScheduler scheduler = new ChannelOutputScheduler(1);
+        ChannelOutputScheduler.ScheduledChannel first = scheduler.register("first", results -> {}, 4);
+        ChannelOutputScheduler.ScheduledChannel second = scheduler.register("second", results -> {}, 4);
+
+        scheduler.disposeWhenUnused();
+        assertFalse(scheduler.isDisposed());
+        assertNull(scheduler.register("late", results -> {}, 4), "Retired scheduler should not accept channels");
+
+        scheduler.unregister(first);
+        assertFalse(scheduler.isDisposed());
+
+        scheduler.unregister(second);
+        assertTrue(scheduler.isDisposed());
+        assertTrue(scheduler.getChannels().isEmpty());
+
+        ChannelOutputScheduler unused = new ChannelOutputScheduler(1);
+        unused.disposeWhenUnused();
+        assertTrue(unused.isDisposed());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter;
+import io.github.dsheirer.dsp.window.WindowType;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ComplexDecimatingFIRFilterTest {
+    private static final int SAMPLE_COUNT = 10000;
+    private static final int[] BUFFER_SIZES = {1000, 333, 2048, 7, 1};
+
+    /**
+     * Filters the samples in uneven buffer sizes and verifies each decimated output against every decimation-th
+     * output of the real FIR filter, for the inphase and quadrature samples.
+     */
+    void verify(IComplexDecimationFilter filter, float[] i, float[] q, float[] expectedI, float[] expectedQ,
+                float tolerance) {
+        int decimation = filter.getDecimation();
+        int offset = 0;
+        int output = 0;
+        int buffer = 0;
+
+        while(offset < i.length) {
+            int length = Math.min(BUFFER_SIZES[buffer++ % BUFFER_SIZES.length], i.length - offset);
+            ComplexSamples filtered = filter.filter(Arrays.copyOfRange(i, offset, offset + length),
+                    Arrays.copyOfRange(q, offset, offset + length));
+
+            for(int x = 0; x < filtered.i().length; x++) {
+                assertEquals(expectedI[output * decimation], filtered.i()[x], tolerance, "Inphase output " + output);
+                assertEquals(expectedQ[output * decimation], filtered.q()[x], tolerance, "Quadrature output " + output);
+                output++;
+            }
+
+            offset += length;
+        }
+
+        assertEquals((i.length + decimation - 1) / decimation, output, "Output sample count");
+    }
+
+    @Test
+    void decimatedOutputsMatchRealFilter() throws Exception {
+        float[] coefficients = FilterFactory.getSinc(0.25, 63, WindowType.BLACKMAN);
+        Random random = new Random(1);
+        float[] i = new float[SAMPLE_COUNT];
+        float[] q = new float[SAMPLE_COUNT];
+
+        for(int x = 0; x < SAMPLE_COUNT; x++) {
+            i[x] = random.nextFloat() * 2.0f - 1.0f;
+            q[x] = random.nextFloat() * 2.0f - 1.0f;
+        }
+
+        float[] expectedI = new RealFIRFilter(coefficients.clone()).filter(i);
+        float[] expectedQ = new RealFIRFilter(coefficients.clone()).filter(q);
+
+        for(int decimation = 1; decimation <= 5; decimation++) {
+            verify(new ScalarComplexDecimatingFIRFilter(coefficients, decimation), i, q, expectedI, expectedQ, 0.0f);
+            verify(new VectorComplexDecimatingFIRFilterDefaultBit(coefficients, decimation), i, q, expectedI, expectedQ,
+                    1e-5f);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.resample;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplexPolyphaseResamplerTest {
+    private static final int[] BUFFER_SIZES = {1000, 333, 2048, 7, 1};
+    private static final double TONE_FREQUENCY = 3000.0;
+
+    /**
+     * Resamples a complex tone in uneven buffer sizes and verifies the output sample count and that the resampled
+     * tone matches the ideal tone at the output sample rate, after removing the filter delay.
+     */
+    void verifyTone(double inputRate, double outputRate) {
+        ComplexPolyphaseResampler resampler = new ComplexPolyphaseResampler(inputRate, outputRate, 8000.0);
+        double actualOutputRate = resampler.getOutputSampleRate();
+        int sampleCount = 50000;
+        float[] i = new float[sampleCount];
+        float[] q = new float[sampleCount];
+
+        for(int x = 0; x < sampleCount; x++) {
+            double angle = 2.0 * Math.PI * TONE_FREQUENCY * x / inputRate;
+            i[x] = (float)Math.cos(angle);
+            q[x] = (float)Math.sin(angle);
+        }
+
+        float[] outputI = new float[sampleCount * 2];
+        float[] outputQ = new float[sampleCount * 2];
+        int offset = 0;
+        int output = 0;
+        int buffer = 0;
+
+        while(offset < sampleCount) {
+            int length = Math.min(BUFFER_SIZES[buffer++ % BUFFER_SIZES.length], sampleCount - offset);
+            ComplexSamples resampled = resampler.resample(Arrays.copyOfRange(i, offset, offset + length),
+                    Arrays.copyOfRange(q, offset, offset + length));
+            System.arraycopy(resampled.i(), 0, outputI, output, resampled.i().length);
+            System.arraycopy(resampled.q(), 0, outputQ, output, resampled.q().length);
+            output += resampled.i().length;
+            offset += length;
+        }
+
+        assertEquals(sampleCount * actualOutputRate / inputRate, output, 1.0, "Output sample count");
+
+        //Measure the phase at a reference sample past the filter startup to account for the filter delay
+        int reference = 1000;
+        double phase = Math.atan2(outputQ[reference], outputI[reference]) -
+                (2.0 * Math.PI * TONE_FREQUENCY * reference / actualOutputRate);
+        double error = 0.0;
+
+        for(int x = reference; x < output; x++) {
+            double angle = 2.0 * Math.PI * TONE_FREQUENCY * x / actualOutputRate + phase;
+            double errorI = outputI[x] - Math.cos(angle);
+            double errorQ = outputQ[x] - Math.sin(angle);
+            error += errorI * errorI + errorQ * errorQ;
+        }
+
+        double snr = 10.0 * Math.log10((output - reference) / error);
+        assertTrue(snr > 50.0, "Resampled tone SNR [" + snr + " dB] for " + inputRate + " to " + outputRate);
+    }
+
+    @Test
+    void resampledToneMatchesIdealTone() {
+        verifyTone(50000.0, 48000.0);
+        verifyTone(62500.0, 48000.0);
+        verifyTone(25000.0, 48000.0);
+        verifyTone(51234.5, 48000.0);
+    }
+
+    @Test
+    void resamplingRatioIsReducedAndBounded() {
+        assertArrayEquals(new int[]{24, 25}, ComplexPolyphaseResampler.getRatio(50000.0, 48000.0));
+        assertArrayEquals(new int[]{96, 125}, ComplexPolyphaseResampler.getRatio(62500.0, 48000.0));
+
+        int[] ratio = ComplexPolyphaseResampler.getRatio(51234.5, 48000.0);
+        assertTrue(ratio[0] <= 256, "Interpolation is limited");
+        assertEquals(48000.0 / 51234.5, (double)ratio[0] / ratio[1], 1e-4);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.resample;
+
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SymbolRateResamplerTest {
+    private static final double SYMBOL_RATE = 4800.0;
+    private static final double SAMPLES_PER_SYMBOL = 12.0;
+    private static final double DECODER_SAMPLE_RATE = SYMBOL_RATE * SAMPLES_PER_SYMBOL;
+
+    /**
+     * Verifies the baseband filter decimation and that the resampled rate is the fixed samples per symbol rate.
+     */
+    void verify(double channelSampleRate, int expectedDecimation) {
+        SymbolRateResampler resampler = new SymbolRateResampler(SYMBOL_RATE, SAMPLES_PER_SYMBOL, 8000.0);
+        resampler.setChannelSampleRate(channelSampleRate);
+        assertEquals(channelSampleRate, resampler.getChannelSampleRate());
+        assertEquals(expectedDecimation, resampler.getDecimation(), "Decimation for " + channelSampleRate);
+        assertEquals(DECODER_SAMPLE_RATE, resampler.getSampleRate(), DECODER_SAMPLE_RATE * 0.001,
+            "Sample rate for " + channelSampleRate);
+
+        int length = 20000;
+        int outputLength = 0;
+        for(int x = 0; x < 10; x++) {
+            outputLength += resampler.resample(new ComplexSamples(new float[length], new float[length])).i().length;
+        }
+
+        double expectedLength = 10.0 * length * resampler.getSampleRate() / (channelSampleRate / expectedDecimation);
+        assertEquals(expectedLength, outputLength, 2.0, "Resampled length for " + channelSampleRate);
+    }
+
+    @Test
+    void channelRatesBelowDecoderRateAreUpsampled() {
+        verify(25000.0, 1);
+        verify(50000.0, 1);
+    }
+
+    @Test
+    void channelRatesAboveDecoderRateAreDecimatedAndResampled() {
+        verify(62500.0, 1);
+        verify(100000.0, 1);
+        verify(125000.0, 2);
+        verify(200000.0, 3);
+    }
+
+    @Test
+    void decoderRateIsNotResampled() {
+        SymbolRateResampler resampler = new SymbolRateResampler(SYMBOL_RATE, SAMPLES_PER_SYMBOL, 8000.0);
+        resampler.setChannelSampleRate(2.0 * DECODER_SAMPLE_RATE);
+        assertEquals(2, resampler.getDecimation());
+        assertEquals(DECODER_SAMPLE_RATE, resampler.getSampleRate());
+
+        ComplexSamples samples = new ComplexSamples(new float[100], new float[100]);
+        assertSame(samples, resampler.resample(samples));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.psk;
+
+import io.github.dsheirer.dsp.psk.pll.CostasLoop;
+import io.github.dsheirer.dsp.psk.pll.PLLBandwidth;
+import io.github.dsheirer.sample.complex.ComplexSamples;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DQPSKDecisionDirectedBlockDemodulatorTest {
+    private static final double SAMPLE_RATE = 25000.0;
+    private static final double SYMBOL_RATE = 4800.0;
+    private static final double FREQUENCY_OFFSET = 150.0;
+    private static final int SYMBOL_COUNT = 20000;
+    private static final int BUFFER_SIZE = 2048;
+    private static final int DIBIT_BLOCK_SIZE = 16;
+    private static final float SAMPLE_COUNTER_GAIN = 0.3f;
+    private static final double[] ROTATIONS = {Math.PI / 4.0, 3.0 * Math.PI / 4.0, -Math.PI / 4.0, -3.0 * Math.PI / 4.0};
+
+    /**
+     * Creates a noisy DQPSK signal with random symbols and a carrier frequency offset.
+     */
+    List<ComplexSamples> getSignal(float samplesPerSymbol) {
+        Random random = new Random(5);
+        int sampleCount = (int)(SYMBOL_COUNT * samplesPerSymbol);
+        float[] i = new float[sampleCount];
+        float[] q = new float[sampleCount];
+        double offset = 2.0 * Math.PI * FREQUENCY_OFFSET / SAMPLE_RATE;
+        double carrierPhase = 0.0;
+        double symbolPhase = 0.0;
+        int previousSymbol = -1;
+
+        for(int x = 0; x < sampleCount; x++) {
+            int symbol = (int)(x / samplesPerSymbol);
+
+            if(symbol != previousSymbol) {
+                previousSymbol = symbol;
+                symbolPhase += ROTATIONS[random.nextInt(4)];
+            }
+
+            carrierPhase += offset;
+            i[x] = (float)(Math.cos(symbolPhase + carrierPhase) + random.nextGaussian() * 0.05);
+            q[x] = (float)(Math.sin(symbolPhase + carrierPhase) + random.nextGaussian() * 0.05);
+        }
+
+        List<ComplexSamples> buffers = new ArrayList<>();
+
+        for(int x = 0; x + BUFFER_SIZE <= sampleCount; x += BUFFER_SIZE) {
+            buffers.add(new ComplexSamples(Arrays.copyOfRange(i, x, x + BUFFER_SIZE),
+                Arrays.copyOfRange(q, x, x + BUFFER_SIZE)));
+        }
+
+        return buffers;
+    }
+
+    /**
+     * Verifies that the block demodulator produces the same dibits and tracks the same carrier frequency offset as the
+     * per-sample demodulator with an interpolating sample buffer.
+     */
+    @Test
+    void matchesPerSampleDemodulator() {
+        float samplesPerSymbol = (float)(SAMPLE_RATE / SYMBOL_RATE);
+
+        CostasLoop expectedLoop = new CostasLoop(SAMPLE_RATE, SYMBOL_RATE);
+        expectedLoop.setPLLBandwidth(PLLBandwidth.BW_300);
+        DQPSKDecisionDirectedDemodulator expectedDemodulator = new DQPSKDecisionDirectedDemodulator(expectedLoop,
+            new InterpolatingSampleBuffer(samplesPerSymbol, SAMPLE_COUNTER_GAIN));
+        List<Integer> expected = new ArrayList<>();
+        expectedDemodulator.setSymbolListener(dibit -> expected.add(dibit.getValue()));
+
+        CostasLoop actualLoop = new CostasLoop(SAMPLE_RATE, SYMBOL_RATE);
+        actualLoop.setPLLBandwidth(PLLBandwidth.BW_300);
+        DQPSKDecisionDirectedBlockDemodulator actualDemodulator = new DQPSKDecisionDirectedBlockDemodulator(actualLoop,
+            samplesPerSymbol, SAMPLE_COUNTER_GAIN, DIBIT_BLOCK_SIZE);
+        List<Integer> actual = new ArrayList<>();
+        actualDemodulator.setDibitListener(dibits -> {
+            for(int x = 0; x < dibits.size(); x++) {
+                actual.add(dibits.get(x));
+            }
+        });
+
+        for(ComplexSamples buffer: getSignal(samplesPerSymbol)) {
+            expectedDemodulator.receive(buffer);
+            actualDemodulator.receive(buffer);
+            assertEquals(expectedLoop.getLoopFrequency(), actualLoop.getLoopFrequency(), "Loop frequency");
+        }
+
+        assertEquals(expected, actual);
+        assertTrue(actual.size() > SYMBOL_COUNT * 0.99, "Demodulated symbol count");
+    }
+}
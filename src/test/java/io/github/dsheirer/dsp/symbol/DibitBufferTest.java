@@ -0,0 +1,109 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.symbol;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DibitBufferTest {
+    /**
+     * Verifies each dibit in the buffer against the dibit parsed from the packed byte array
+     */
+    void verifyPacking(DibitBuffer buffer, int[] expected) {
+        assertEquals(expected.length, buffer.size());
+
+        for(int x = 0; x < expected.length; x++) {
+            assertEquals(expected[x], buffer.get(x), "Dibit value at " + x);
+            assertEquals(Dibit.parse(buffer.getBytes()[x / 4], x % 4), buffer.getDibit(x), "Packed dibit at " + x);
+        }
+    }
+
+    @Test
+    void addedDibitsArePackedMostSignificantFirst() {
+        Random random = new Random(1);
+        int[] dibits = new int[37];
+        for(int x = 0; x < dibits.length; x++) {
+            dibits[x] = random.nextInt(4);
+        }
+
+        DibitBuffer buffer = new DibitBuffer(dibits.length);
+        assertEquals(40, buffer.capacity());
+        assertTrue(buffer.isEmpty());
+
+        for(int dibit: dibits) {
+            buffer.add(dibit);
+        }
+
+        verifyPacking(buffer, dibits);
+        assertFalse(buffer.isFull());
+
+        buffer.add(Dibit.D11_MINUS_3);
+        buffer.add(Dibit.D01_PLUS_3);
+        buffer.add(Dibit.D10_MINUS_1);
+        assertTrue(buffer.isFull());
+        assertEquals(3, buffer.get(37));
+        assertEquals(1, buffer.get(38));
+        assertEquals(2, buffer.get(39));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> buffer.add(0));
+    }
+
+    @Test
+    void reusedBufferOverwritesPreviousDibits() {
+        DibitBuffer buffer = new DibitBuffer(12);
+        for(int x = 0; x < buffer.capacity(); x++) {
+            buffer.add(Dibit.D11_MINUS_3);
+        }
+
+        assertTrue(buffer.isFull());
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+
+        int[] dibits = {0, 1, 2, 0, 0, 3, 1};
+        for(int dibit: dibits) {
+            buffer.add(dibit);
+        }
+
+        verifyPacking(buffer, dibits);
+        assertEquals(0x18, buffer.getBytes()[0] & 0xFF);
+        assertEquals(0x34, buffer.getBytes()[1] & 0xFF);
+    }
+
+    @Test
+    void wrappedBytesAreAFullBuffer() {
+        byte[] packed = new byte[]{(byte)0x1B, (byte)0xE4, (byte)0x00, (byte)0xFF};
+        DibitBuffer buffer = DibitBuffer.wrap(packed);
+        assertEquals(16, buffer.size());
+        assertTrue(buffer.isFull());
+
+        int[] expected = {0, 1, 2, 3, 3, 2, 1, 0, 0, 0, 0, 0, 3, 3, 3, 3};
+        verifyPacking(buffer, expected);
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new DibitBuffer(0));
+    }
+}
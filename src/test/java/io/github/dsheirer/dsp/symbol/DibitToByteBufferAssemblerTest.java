@@ -0,0 +1,120 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.symbol;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class DibitToByteBufferAssemblerTest {
+    private static final int ASSEMBLED_BUFFER_SIZE = 25;
+    private static final int DIBIT_COUNT = 4000;
+
+    /**
+     * Creates random dibits in packed form
+     */
+    byte[] getPackedDibits() {
+        byte[] packed = new byte[DIBIT_COUNT / 4];
+        new Random(3).nextBytes(packed);
+        return packed;
+    }
+
+    /**
+     * Creates an assembler that concatenates each assembled buffer into the output stream
+     */
+    DibitToByteBufferAssembler getAssembler(ByteArrayOutputStream output) {
+        DibitToByteBufferAssembler assembler = new DibitToByteBufferAssembler(ASSEMBLED_BUFFER_SIZE);
+        assembler.setBufferListener(buffer -> output.write(buffer.array(), 0, buffer.capacity()));
+        return assembler;
+    }
+
+    /**
+     * Delivers the packed dibits to the assembler in dibit buffers of the specified sizes, cycling through the sizes.
+     * @return assembled bytes
+     */
+    byte[] assemble(byte[] packed, int[] bufferSizes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DibitToByteBufferAssembler assembler = getAssembler(output);
+        DibitBuffer source = DibitBuffer.wrap(packed);
+        int x = 0;
+        int sizeIndex = 0;
+
+        while(x < source.size()) {
+            int size = Math.min(bufferSizes[sizeIndex++ % bufferSizes.length], source.size() - x);
+            DibitBuffer buffer = new DibitBuffer(size);
+            for(int y = 0; y < size; y++) {
+                buffer.add(source.get(x++));
+            }
+            assembler.receive(buffer);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Delivers the packed dibits to the assembler one Dibit at a time.
+     * @return assembled bytes
+     */
+    byte[] assembleDibits(byte[] packed) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DibitToByteBufferAssembler assembler = getAssembler(output);
+        DibitBuffer source = DibitBuffer.wrap(packed);
+
+        for(int x = 0; x < source.size(); x++) {
+            assembler.receive(source.getDibit(x));
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Expected output is the packed dibits truncated to whole assembled buffers
+     */
+    byte[] getExpected(byte[] packed) {
+        int length = (packed.length / ASSEMBLED_BUFFER_SIZE) * ASSEMBLED_BUFFER_SIZE;
+        return Arrays.copyOf(packed, length);
+    }
+
+    @Test
+    void perDibitAssemblyMatchesPackedDibits() {
+        byte[] packed = getPackedDibits();
+        assertArrayEquals(getExpected(packed), assembleDibits(packed));
+    }
+
+    @Test
+    void byteAlignedBuffersMatchPerDibitAssembly() {
+        byte[] packed = getPackedDibits();
+        byte[] actual = assemble(packed, new int[]{16, 4, 100, 8});
+        assertArrayEquals(assembleDibits(packed), actual);
+        assertArrayEquals(getExpected(packed), actual);
+    }
+
+    @Test
+    void unalignedBuffersMatchPerDibitAssembly() {
+        byte[] packed = getPackedDibits();
+        byte[] actual = assemble(packed, new int[]{1, 7, 2, 13, 3, 16, 5});
+        assertArrayEquals(assembleDibits(packed), actual);
+        assertArrayEquals(getExpected(packed), actual);
+    }
+}
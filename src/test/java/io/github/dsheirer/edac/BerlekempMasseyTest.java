@@ -0,0 +1,93 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BerlekempMasseyTest {
+    private static final int NN = 63;
+    private static final int SHORTENED_LENGTH = 24;
+    private static final int MAX_ERRORS = 6;
+
+    /**
+     * The all zero word is a codeword of every Reed-Solomon code, so received words are generated by adding symbol
+     * errors to the zero codeword within the RS(24,12,13) shortened symbol positions.
+     */
+    int[] getReceived(Random random, int errorCount) {
+        int[] received = new int[NN];
+        int errors = 0;
+        while(errors < errorCount) {
+            int index = random.nextInt(SHORTENED_LENGTH);
+            if(received[index] == 0) {
+                received[index] = 1 + random.nextInt(NN);
+                errors++;
+            }
+        }
+        return received;
+    }
+
+    @Test
+    void correctsUpToMaximumErrorsWithReusedWorkspace() {
+        ReedSolomon_24_12_13_P25 decoder = new ReedSolomon_24_12_13_P25();
+        Random random = new Random(1);
+        int[] output = new int[NN];
+
+        for(int x = 0; x < 1000; x++) {
+            int[] received = getReceived(random, x % (MAX_ERRORS + 1));
+            assertFalse(decoder.decode(received, output), "Iteration " + x);
+            assertArrayEquals(new int[NN], output, "Iteration " + x);
+        }
+    }
+
+    @Test
+    void bulkDecodeMatchesSingleDecode() {
+        ReedSolomon_24_12_13_P25 decoder = new ReedSolomon_24_12_13_P25();
+        Random random = new Random(2);
+        int count = 20;
+        int[] input = new int[count * NN];
+
+        for(int x = 0; x < count; x++) {
+            //Include error counts beyond the correction capacity
+            System.arraycopy(getReceived(random, x % 10), 0, input, x * NN, NN);
+        }
+
+        int[] output = new int[count * NN];
+        boolean[] irrecoverable = new boolean[count];
+        int failures = decoder.decode(input, output, count, irrecoverable);
+        int expectedFailures = 0;
+
+        for(int x = 0; x < count; x++) {
+            int[] expected = new int[NN];
+            boolean failed = decoder.decode(Arrays.copyOfRange(input, x * NN, (x + 1) * NN), expected);
+            assertEquals(failed, irrecoverable[x], "Codeword " + x);
+            assertArrayEquals(expected, Arrays.copyOfRange(output, x * NN, (x + 1) * NN), "Codeword " + x);
+            expectedFailures += failed ? 1 : 0;
+        }
+
+        assertEquals(expectedFailures, failures);
+    }
+}
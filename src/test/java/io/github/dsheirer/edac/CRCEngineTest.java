@@ -0,0 +1,120 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CRCEngineTest {
+    private static final byte[] CHECK_MESSAGE = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    static BinaryMessage random(Random random, int size) {
+        BinaryMessage message = new CorrectedBinaryMessage(size);
+        for(int x = 0; x < size; x++) {
+            if(random.nextBoolean()) {
+                message.set(x);
+            }
+        }
+        return message;
+    }
+
+    @Test
+    void matchesStandardCheckValues() {
+        assertEquals(0x29B1, new CRCEngine(16, 0x1021, 0xFFFF, false, 0).calculate(CHECK_MESSAGE, 0, 72));
+        assertEquals(0xCBF43926l, new CRCEngine(32, 0x04C11DB7l, 0xFFFFFFFFl, true, 0xFFFFFFFFl)
+                .calculate(CHECK_MESSAGE, 0, 72));
+        assertEquals(0xF4, new CRCEngine(8, 0x07, 0, false, 0).calculate(CHECK_MESSAGE, 0, 72));
+    }
+
+    @Test
+    void packedAndBitSetMessagesMatchAtAnyOffset() {
+        Random random = new Random(1);
+        CRCEngine engine = new CRCEngine(7, 0x09, 0x55, false, 0x7F);
+
+        for(int x = 0; x < 1000; x++) {
+            int offset = random.nextInt(16);
+            int length = random.nextInt(200);
+            BinaryMessage message = random(random, offset + length);
+
+            //Bit-wise long division of the message bits
+            long expected = engine.getInitialFill();
+            for(int y = 0; y < length; y++) {
+                boolean feedback = ((expected >>> 6) & 1) == 1 ^ message.get(offset + y);
+                expected = ((expected << 1) & 0x7F) ^ (feedback ? engine.getPolynomial() : 0);
+            }
+            expected ^= engine.getFinalXor();
+
+            assertEquals(expected, engine.calculate(message.toByteArray(), offset, length));
+            assertEquals(expected, engine.calculate(message, offset, length));
+        }
+    }
+
+    @Test
+    void syndromeTableCorrectsSingleAndDoubleBitErrors() {
+        Random random = new Random(2);
+        CRCEngine engine = new CRCEngine(32, 0x04C11DB7l, 0, false, 0);
+        CRCSyndromeTable table = engine.getSyndromeTable(64, 2);
+
+        for(int x = 0; x < 1000; x++) {
+            BinaryMessage message = random(random, 96);
+            message.load(64, 32, engine.calculate(message, 0, 64));
+            BinaryMessage original = message.copy();
+
+            int errors = 1 + (x % 2);
+            message.flip(random.nextInt(96));
+            if(errors == 2) {
+                int second;
+                do {
+                    second = random.nextInt(96);
+                }
+                while(message.get(second) != original.get(second));
+                message.flip(second);
+            }
+
+            long syndrome = engine.calculate(message, 0, 64) ^ message.getLong(64, 95);
+            assertEquals(errors, table.correct(message, 0, syndrome));
+            assertEquals(original, message);
+        }
+    }
+
+    @Test
+    void ccitt80CorrectsSingleBitErrors() {
+        Random random = new Random(3);
+        CRCEngine engine = new CRCEngine(16, 0x1021, 0, false, 0xFFFF);
+
+        for(int x = 0; x < 96; x++) {
+            CorrectedBinaryMessage message = (CorrectedBinaryMessage)random(random, 96);
+            message.load(80, 16, engine.calculate(message, 0, 80));
+            BinaryMessage original = message.copy();
+            assertEquals(0, CRCP25.correctCCITT80(message, 0, 80));
+
+            message.flip(x);
+            assertEquals(1, CRCP25.correctCCITT80(message, 0, 80));
+            assertEquals(original, message);
+            assertEquals(1, message.getCorrectedBitCount());
+        }
+    }
+}
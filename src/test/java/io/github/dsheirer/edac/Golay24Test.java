@@ -0,0 +1,99 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Golay24Test {
+    /**
+     * Encodes the 12-bit data value as a 24-bit Golay codeword with even overall parity
+     */
+    static int encode(int data) {
+        int checksum = 0;
+        for(int x = 0; x < 12; x++) {
+            if((data & (1 << (11 - x))) != 0) {
+                checksum ^= Golay24.CHECKSUMS[x];
+            }
+        }
+
+        int codeword = (data << 11) | checksum;
+        return (codeword << 1) | (Integer.bitCount(codeword) & 1);
+    }
+
+    @Test
+    void correctsAllErrorPatternsUpToThreeBits() {
+        Random random = new Random(1);
+        for(int a = 0; a < 24; a++) {
+            for(int b = a; b < 24; b++) {
+                for(int c = b; c < 24; c++) {
+                    int codeword = encode(random.nextInt(4096));
+                    int errors = (1 << a) ^ (1 << b) ^ (1 << c);
+                    int errorPattern = Golay24.getErrorPattern(codeword ^ errors);
+                    assertEquals(errors, errorPattern, "Error pattern for bits " + a + "," + b + "," + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void detectsFourBitErrors() {
+        Random random = new Random(2);
+        for(int x = 0; x < 10000; x++) {
+            int errors = 0;
+            while(Integer.bitCount(errors) < 4) {
+                errors |= 1 << random.nextInt(24);
+            }
+            assertEquals(Golay24.UNCORRECTABLE, Golay24.getErrorPattern(encode(random.nextInt(4096)) ^ errors));
+        }
+    }
+
+    @Test
+    void bulkDecodeMatchesMessageCorrection() {
+        Random random = new Random(3);
+        int count = 50;
+        int offset = 5;
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(offset + (count * 24));
+        int[] expected = new int[count];
+
+        for(int x = 0; x < count; x++) {
+            expected[x] = encode(random.nextInt(4096));
+            int errors = 0;
+            while(Integer.bitCount(errors) < x % 4) {
+                errors |= 1 << random.nextInt(24);
+            }
+            message.load(offset + (x * 24), 24, expected[x] ^ errors);
+        }
+
+        byte[] packed = message.toByteArray();
+        int[] decoded = new int[count];
+        assertEquals(0, Golay24.decode(packed, offset, count, decoded));
+        assertEquals(0, Golay24.checkAndCorrect(message, offset, count));
+
+        for(int x = 0; x < count; x++) {
+            assertEquals(expected[x], decoded[x], "Bulk decoded codeword " + x);
+            assertEquals(expected[x], message.getInt(offset + (x * 24), offset + (x * 24) + 23), "Codeword " + x);
+        }
+    }
+}
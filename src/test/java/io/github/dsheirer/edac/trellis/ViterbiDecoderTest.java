@@ -0,0 +1,89 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.edac.trellis;
+
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ViterbiDecoderTest {
+    private static final int SYMBOL_COUNT = 49;
+    private static final int ITERATIONS = 2000;
+
+    /**
+     * Verifies that the array-based decoder produces the same input values and error as the path-based decoder for
+     * encoded messages with random bit errors and for completely random symbols, which exercise path metric ties.
+     */
+    void verify(ViterbiDecoder decoder) {
+        Random random = new Random(1);
+        int[][] transitions = decoder.getTransitionMatrix();
+        int[] inputValues = new int[SYMBOL_COUNT];
+
+        for(int iteration = 0; iteration < ITERATIONS; iteration++) {
+            int[] symbols = new int[SYMBOL_COUNT];
+            int state = 0;
+
+            for(int x = 0; x < SYMBOL_COUNT; x++) {
+                int input = x < SYMBOL_COUNT - 1 ? random.nextInt(decoder.getInputValueCount()) : 0;
+                symbols[x] = transitions[state][input];
+                state = input;
+
+                if(iteration % 2 == 1) {
+                    symbols[x] = random.nextInt(16);
+                } else if(random.nextInt(8) == 0) {
+                    symbols[x] ^= 1 << random.nextInt(4);
+                }
+            }
+
+            Path path = decoder.decode(symbols);
+            List<Node> nodes = path.getNodes();
+            int error = decoder.decode(symbols, SYMBOL_COUNT, inputValues);
+            assertEquals(path.getError(), error, "Path error for iteration " + iteration);
+
+            BinaryMessage encoded = new BinaryMessage(SYMBOL_COUNT * 4);
+
+            for(int x = 0; x < SYMBOL_COUNT; x++) {
+                assertEquals(nodes.get(x + 1).getInputValue(), x < SYMBOL_COUNT - 1 ? inputValues[x] : 0,
+                        "Input value " + x + " for iteration " + iteration);
+                encoded.load(x * 4, 4, symbols[x]);
+            }
+
+            CorrectedBinaryMessage decoded = decoder.decodeMessage(encoded);
+            assertEquals(error, decoded.getCorrectedBitCount());
+
+            for(int x = 0; x < SYMBOL_COUNT - 1; x++) {
+                int bitLength = decoder.getInputBitLength();
+                assertEquals(inputValues[x], decoded.getInt(x * bitLength, (x + 1) * bitLength - 1));
+            }
+        }
+    }
+
+    @Test
+    void arrayDecoderMatchesPathDecoder() {
+        verify(new ViterbiDecoder_1_2_P25());
+        verify(new ViterbiDecoder_3_4_P25());
+        verify(new ViterbiDecoder_3_4_DMR());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.module.decode.p25.phase1;
+
+import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBuffer;
+import io.github.dsheirer.dsp.symbol.FrameSync;
+import io.github.dsheirer.message.StuffBitsMessage;
+import io.github.dsheirer.message.SyncLossMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class P25P1MessageFramerTest {
+    private static final int FRAME_COUNT = 200;
+    private static final int NAC = 0x293;
+
+    /**
+     * BCH(63,16,23) generator polynomial for the network identifier (NID)
+     */
+    private static final long NID_GENERATOR = 06331141367235453L;
+
+    private static final P25P1DataUnitID[] DATA_UNITS = {P25P1DataUnitID.HEADER_DATA_UNIT,
+        P25P1DataUnitID.LOGICAL_LINK_DATA_UNIT_1, P25P1DataUnitID.LOGICAL_LINK_DATA_UNIT_2,
+        P25P1DataUnitID.TERMINATOR_DATA_UNIT, P25P1DataUnitID.TERMINATOR_DATA_UNIT_LINK_CONTROL,
+        P25P1DataUnitID.TRUNKING_SIGNALING_BLOCK_1, P25P1DataUnitID.PACKET_HEADER_DATA_UNIT};
+
+    /**
+     * Encodes the NAC and data unit ID into a 64-bit NID with BCH parity and a trailing zero bit.
+     */
+    static long getNID(int nac, int duid) {
+        long information = ((long)nac << 4) | duid;
+        long remainder = information << 47;
+
+        for(int bit = 62; bit >= 47; bit--) {
+            if(((remainder >> bit) & 1) == 1) {
+                remainder ^= NID_GENERATOR << (bit - 47);
+            }
+        }
+
+        return ((information << 47) | remainder) << 1;
+    }
+
+    /**
+     * Accumulates the dibits of a frame and inserts a status dibit after every 35 frame dibits.
+     */
+    static class FrameBuilder {
+        private final List<Integer> mDibits;
+        private final Random mRandom;
+        private int mFrameDibitCount = 0;
+
+        FrameBuilder(List<Integer> dibits, Random random) {
+            mDibits = dibits;
+            mRandom = random;
+        }
+
+        void add(int dibit) {
+            if(mFrameDibitCount % 36 == 35) {
+                mDibits.add(mRandom.nextInt(4));
+                mFrameDibitCount++;
+            }
+
+            mDibits.add(dibit);
+            mFrameDibitCount++;
+        }
+
+        void add(long value, int bitCount) {
+            for(int shift = bitCount - 2; shift >= 0; shift -= 2) {
+                add((int)((value >> shift) & 0x3));
+            }
+        }
+    }
+
+    /**
+     * Creates a dibit stream of sync, NID and random payload frames for various data units, separated by random dibits.
+     */
+    List<Integer> getDibits() {
+        Random random = new Random(7);
+        List<Integer> dibits = new ArrayList<>();
+
+        for(int frame = 0; frame < FRAME_COUNT; frame++) {
+            int gap = random.nextInt(40);
+            for(int x = 0; x < gap; x++) {
+                dibits.add(random.nextInt(4));
+            }
+
+            P25P1DataUnitID dataUnit = DATA_UNITS[random.nextInt(DATA_UNITS.length)];
+            FrameBuilder builder = new FrameBuilder(dibits, random);
+            builder.add(FrameSync.P25_PHASE1_NORMAL.getSync(), 48);
+            builder.add(getNID(NAC, dataUnit.getValue()), 64);
+
+            for(int x = 0; x < dataUnit.getMessageLength() / 2; x++) {
+                builder.add(random.nextInt(4));
+            }
+        }
+
+        return dibits;
+    }
+
+    /**
+     * Creates a framer that captures a description of each message that it produces.
+     */
+    P25P1MessageFramer getFramer(List<String> messages) {
+        P25P1MessageFramer framer = new P25P1MessageFramer(9600);
+        framer.setCurrentTime(0);
+        framer.setListener(message -> messages.add(message.getClass().getSimpleName() + " " + message));
+        return framer;
+    }
+
+    @Test
+    void dibitBufferFramingMatchesPerDibitFraming() {
+        List<Integer> dibits = getDibits();
+
+        List<String> expected = new ArrayList<>();
+        P25P1MessageFramer expectedFramer = getFramer(expected);
+        for(int dibit: dibits) {
+            expectedFramer.receive(Dibit.fromValue(dibit));
+        }
+
+        List<String> actual = new ArrayList<>();
+        P25P1MessageFramer actualFramer = getFramer(actual);
+        Random random = new Random(11);
+        int x = 0;
+
+        while(x < dibits.size()) {
+            int size = Math.min(1 + random.nextInt(64), dibits.size() - x);
+            DibitBuffer buffer = new DibitBuffer(size);
+            for(int y = 0; y < size; y++) {
+                buffer.add(dibits.get(x++));
+            }
+            actualFramer.receive(buffer);
+        }
+
+        assertEquals(expected, actual);
+
+        long framed = expected.stream().filter(message -> !message.startsWith(SyncLossMessage.class.getSimpleName()) &&
+            !message.startsWith(StuffBitsMessage.class.getSimpleName())).count();
+        assertTrue(framed >= FRAME_COUNT * 0.9, "Framed messages: " + framed);
+    }
+}